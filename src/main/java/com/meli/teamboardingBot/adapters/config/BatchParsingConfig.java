@@ -1,17 +1,31 @@
 package com.meli.teamboardingBot.adapters.config;
 
 import com.meli.teamboardingBot.adapters.out.batch.TextParser;
+import com.meli.teamboardingBot.adapters.out.batch.impl.CompositeTextParser;
+import com.meli.teamboardingBot.adapters.out.batch.impl.DelimitedTextParsingService;
 import com.meli.teamboardingBot.adapters.out.batch.impl.IntelligentTextParsingService;
+import com.meli.teamboardingBot.adapters.out.batch.impl.RegexTextParsingService;
+import com.meli.teamboardingBot.core.domain.batch.BatchTextFormat;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.util.List;
+
 @Configuration
 public class BatchParsingConfig {
 
     @Bean
     @Primary
-    public TextParser intelligentTextParser() {
-        return new IntelligentTextParsingService();
+    public TextParser textParser(DelimitedTextParsingService delimitedTextParser,
+                                 IntelligentTextParsingService intelligentTextParser,
+                                 RegexTextParsingService regexTextParser,
+                                 MeterRegistry meterRegistry) {
+        return new CompositeTextParser(meterRegistry, List.of(
+                CompositeTextParser.route("delimited", delimitedTextParser, BatchTextFormat.DELIMITED),
+                CompositeTextParser.route("intelligent", intelligentTextParser, BatchTextFormat.DASHED, BatchTextFormat.NATURAL),
+                CompositeTextParser.route("regex", regexTextParser)
+        ));
     }
 }
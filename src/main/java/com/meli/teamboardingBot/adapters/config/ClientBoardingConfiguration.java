@@ -1,7 +1,20 @@
 package com.meli.teamboardingBot.adapters.config;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -12,8 +25,55 @@ import org.springframework.web.client.RestTemplate;
 })
 public class ClientBoardingConfiguration {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager apiConnectionManager(
+            @Value("${api.http.pool.max-total:50}") int maxTotal,
+            @Value("${api.http.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${api.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${api.http.read-timeout-ms:15000}") long readTimeoutMs,
+            @Value("${api.http.pool.time-to-live-seconds:300}") long timeToLiveSeconds) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient apiHttpClient(
+            PoolingHttpClientConnectionManager apiConnectionManager,
+            @Value("${api.http.connection-request-timeout-ms:3000}") long connectionRequestTimeoutMs,
+            @Value("${api.http.response-timeout-ms:15000}") long responseTimeoutMs,
+            @Value("${api.http.keep-alive-seconds:30}") long keepAliveSeconds) {
+        TimeValue maxKeepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        return HttpClients.custom()
+                .setConnectionManager(apiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .setConnectionKeepAlive(maxKeepAlive)
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isNonNegative(advertised) ? advertised.min(maxKeepAlive) : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient apiHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(apiHttpClient));
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public MeterBinder apiConnectionPoolMetrics(PoolingHttpClientConnectionManager apiConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(apiConnectionManager, "teamboarding-api");
     }
 }
@@ -0,0 +1,28 @@
+package com.meli.teamboardingBot.adapters.config;
+
+import com.meli.teamboardingBot.adapters.out.formstate.FileFormStateStore;
+import com.meli.teamboardingBot.adapters.out.formstate.InMemoryFormStateStore;
+import com.meli.teamboardingBot.core.ports.formstate.FormStateStore;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class FormStateStoreConfig {
+
+    @Bean
+    public FormStateStore formStateStore(@Value("${formstate.store.type:memory}") String type,
+                                         @Value("${formstate.store.path:data/formstate}") String path,
+                                         @Value("${formstate.store.compaction-interval-seconds:300}") long compactionIntervalSeconds,
+                                         MeterRegistry meterRegistry,
+                                         UserSessionPort userSessionPort) {
+        if ("file".equalsIgnoreCase(type)) {
+            return new FileFormStateStore(Path.of(path), compactionIntervalSeconds, meterRegistry, userSessionPort);
+        }
+        return new InMemoryFormStateStore(userSessionPort);
+    }
+}
@@ -6,12 +6,17 @@ import com.meli.teamboardingBot.core.ports.auth.GetUserTokenPort;
 import com.meli.teamboardingBot.core.ports.auth.api.GetApiTokenPort;
 import com.meli.teamboardingBot.core.ports.auth.api.GetManualApiTokenPort;
 import com.meli.teamboardingBot.core.ports.defaultclient.GetDefaultClientPort;
+import com.meli.teamboardingBot.core.ports.formstate.FormStateStore;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
+import com.meli.teamboardingBot.core.ports.rest.AsyncRestPort;
 import com.meli.teamboardingBot.core.ports.rest.RestPort;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
 import com.meli.teamboardingBot.core.usecase.auth.oath.GetIsUserAuthenticatedUseCase;
 import com.meli.teamboardingBot.core.usecase.auth.oath.GetUserAuthenticateUseCase;
 import com.meli.teamboardingBot.core.usecase.auth.oath.GetUserAuthenticateWithTokenUseCase;
 import com.meli.teamboardingBot.core.usecase.auth.oath.GetUserTokenUseCase;
+import com.meli.teamboardingBot.core.usecase.auth.oath.UserTokenManager;
+import com.meli.teamboardingBot.core.usecase.defaultclient.GetDefaultClientAsyncUseCase;
 import com.meli.teamboardingBot.core.usecase.defaultclient.GetDefaultClientUseCase;
 import com.meli.teamboardingBot.core.usecase.defaultclient.GetDefaultClientWithParamUseCase;
 import com.meli.teamboardingBot.core.usecase.defaultclient.PostDefaultClientUseCase;
@@ -26,23 +31,36 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class ImplBeansConfiguration {
 
     @Bean
-    public GetIsUserAuthenticatedUseCase getIsUserAuthenticatedUseCase(LoggerApiPort logger) {
-        return new GetIsUserAuthenticatedUseCase(logger);
+    public UserTokenManager userTokenManager(UserSessionPort userSessionPort,
+                                             @Value("${session.ttl.auth-token-seconds:86400}") long ttlSeconds) {
+        return new UserTokenManager(userSessionPort, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public GetIsUserAuthenticatedUseCase getIsUserAuthenticatedUseCase(LoggerApiPort logger, UserTokenManager userTokenManager) {
+        return new GetIsUserAuthenticatedUseCase(logger, userTokenManager);
     }
 
     @Bean
-    public GetUserTokenUseCase getUserTokenUseCase(LoggerApiPort logger, GetIsUserAuthenticatedPort isUserAuthenticated) {
-        return new GetUserTokenUseCase(logger, isUserAuthenticated);
+    public GetUserTokenUseCase getUserTokenUseCase(LoggerApiPort logger, GetIsUserAuthenticatedPort isUserAuthenticated, UserTokenManager userTokenManager) {
+        return new GetUserTokenUseCase(logger, isUserAuthenticated, userTokenManager);
     }
 
     @Bean
     public GetDefaultClientUseCase getDefaultClientUseCase(LoggerApiPort logger, DefaultAuthenticationService authService, GetUserTokenPort getUserTokenPort, @Value("${api.url}") String apiUrl, RestPort
             restPort) {
-        return new GetDefaultClientUseCase(logger, authService, getUserTokenPort, apiUrl, restPort);
+        return new GetDefaultClientUseCase(logger, authService, authService, getUserTokenPort, apiUrl, restPort);
+    }
+
+    @Bean
+    public GetDefaultClientAsyncUseCase getDefaultClientAsyncUseCase(LoggerApiPort logger, DefaultAuthenticationService authService, GetUserTokenPort getUserTokenPort, @Value("${api.url}") String apiUrl, AsyncRestPort asyncRestPort) {
+        return new GetDefaultClientAsyncUseCase(logger, authService, authService, getUserTokenPort, apiUrl, asyncRestPort);
     }
 
     @Bean
@@ -61,18 +79,18 @@ public class ImplBeansConfiguration {
     }
 
     @Bean
-    GetUserAuthenticateWithTokenUseCase getUserAuthenticateWithTokenUseCase(LoggerApiPort loggerApiPort) {
-        return new GetUserAuthenticateWithTokenUseCase(loggerApiPort);
+    GetUserAuthenticateWithTokenUseCase getUserAuthenticateWithTokenUseCase(LoggerApiPort loggerApiPort, UserTokenManager userTokenManager) {
+        return new GetUserAuthenticateWithTokenUseCase(loggerApiPort, userTokenManager);
     }
 
     @Bean
-    GetUserAuthenticateUseCase getUserAuthenticateUseCase(LoggerApiPort loggerApiPort, GetManualApiTokenPort getManualApiTokenPort) {
-        return new GetUserAuthenticateUseCase(loggerApiPort, getManualApiTokenPort);
+    GetUserAuthenticateUseCase getUserAuthenticateUseCase(LoggerApiPort loggerApiPort, GetManualApiTokenPort getManualApiTokenPort, UserTokenManager userTokenManager) {
+        return new GetUserAuthenticateUseCase(loggerApiPort, getManualApiTokenPort, userTokenManager);
     }
 
     @Bean
-    ManualAuthenticationUseCase putDiscordUserAuthenticationUseCase(LoggerApiPort loggerApiPort) {
-        return new ManualAuthenticationUseCase(loggerApiPort);
+    ManualAuthenticationUseCase putDiscordUserAuthenticationUseCase(LoggerApiPort loggerApiPort, UserTokenManager userTokenManager) {
+        return new ManualAuthenticationUseCase(loggerApiPort, userTokenManager);
     }
 
     @Bean
@@ -90,54 +108,65 @@ public class ImplBeansConfiguration {
         return new GoogleAuthManagementUseCase(loggerApiPort, restPort, restTemplate, googleConnectionUrl, googleLoginUrl);
     }
 
+    @Bean(initMethod = "discardStatesExpiredBeforeStartup")
+    public FormStateManager formStateManager(FormStateStore formStateStore,
+                                             @Value("${session.ttl.form-state-seconds:7200}") long ttlSeconds) {
+        return new FormStateManager(formStateStore, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public BatchStateManager batchStateManager(FormStateStore formStateStore) {
+        return new BatchStateManager(formStateStore);
+    }
+
     @Bean
-    public GetOrCreateFormStateUseCase getOrCreateFormStateUseCase(LoggerApiPort loggerApiPort, UserLanguageService userLanguageService) {
-        return new GetOrCreateFormStateUseCase( loggerApiPort, userLanguageService);
+    public GetOrCreateFormStateUseCase getOrCreateFormStateUseCase(LoggerApiPort loggerApiPort, UserLanguageService userLanguageService, FormStateManager formStateManager) {
+        return new GetOrCreateFormStateUseCase( loggerApiPort, userLanguageService, formStateManager);
     }
 
     @Bean
-    public PutFormStateUseCase putFormStateUseCase(LoggerApiPort loggerApiPort) {
-        return new PutFormStateUseCase(loggerApiPort);
+    public PutFormStateUseCase putFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
+        return new PutFormStateUseCase(loggerApiPort, formStateManager);
     }
 
     @Bean
-    public GetFormStateUseCase getFormStateUseCase(LoggerApiPort loggerApiPort) {
-        return new GetFormStateUseCase(loggerApiPort);
+    public GetFormStateUseCase getFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
+        return new GetFormStateUseCase(loggerApiPort, formStateManager);
     }
 
     @Bean
-    public SetBatchEntriesUseCase setBatchEntriesUseCase(LoggerApiPort loggerApiPort) {
-        return new SetBatchEntriesUseCase(loggerApiPort);
+    public SetBatchEntriesUseCase setBatchEntriesUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
+        return new SetBatchEntriesUseCase(loggerApiPort, batchStateManager);
     }
 
     @Bean
-    public SetBatchCurrentIndexUseCase setBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort) {
-        return new SetBatchCurrentIndexUseCase(loggerApiPort);
+    public SetBatchCurrentIndexUseCase setBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
+        return new SetBatchCurrentIndexUseCase(loggerApiPort, batchStateManager);
     }
 
     @Bean
-    public GetBatchEntriesUseCase getBatchEntriesUseCase(LoggerApiPort loggerApiPort) {
-        return new GetBatchEntriesUseCase(loggerApiPort);
+    public GetBatchEntriesUseCase getBatchEntriesUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
+        return new GetBatchEntriesUseCase(loggerApiPort, batchStateManager);
     }
 
     @Bean
-    public GetBatchCurrentIndexUseCase getBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort) {
-        return new GetBatchCurrentIndexUseCase(loggerApiPort);
+    public GetBatchCurrentIndexUseCase getBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
+        return new GetBatchCurrentIndexUseCase(loggerApiPort, batchStateManager);
     }
 
     @Bean
-    public ClearBatchStateUseCase clearBatchStateUseCase(LoggerApiPort loggerApiPort) {
-        return new ClearBatchStateUseCase(loggerApiPort);
+    public ClearBatchStateUseCase clearBatchStateUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
+        return new ClearBatchStateUseCase(loggerApiPort, batchStateManager);
     }
 
     @Bean
-    public DeleteFormStateUseCase deleteFormStateUseCase(LoggerApiPort loggerApiPort) {
-        return new DeleteFormStateUseCase(loggerApiPort);
+    public DeleteFormStateUseCase deleteFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
+        return new DeleteFormStateUseCase(loggerApiPort, formStateManager);
     }
 
     @Bean
-    public ResetFormStateUseCase resetFormStateUseCase(LoggerApiPort loggerApiPort) {
-        return new ResetFormStateUseCase(loggerApiPort);
+    public ResetFormStateUseCase resetFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
+        return new ResetFormStateUseCase(loggerApiPort, formStateManager);
     }
 
 }
@@ -6,6 +6,8 @@ public class AuthTokenResponseDTO {
     private String accessToken;
     @JsonProperty("token_type")
     private String tokenType;
+    @JsonProperty("expires_in")
+    private Long expiresIn;
     private UserDTO user;
     public AuthTokenResponseDTO(String accessToken, String tokenType, UserDTO user) {
         this.accessToken = accessToken;
@@ -37,6 +39,14 @@ public class AuthTokenResponseDTO {
         this.tokenType = tokenType;
     }
 
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
     public UserDTO getUser() {
         return user;
     }
@@ -0,0 +1,13 @@
+package com.meli.teamboardingBot.adapters.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogTypeDTO {
+    private Long id;
+    private String name;
+}
@@ -12,6 +12,7 @@ public class SquadUserDTO {
     private Long id;
     private String firstName;
     private String lastName;
+    private String name;
     private List<UserSquadDTO> userSquads;
     private String email;
     private String picture;
@@ -2,7 +2,7 @@ package com.meli.teamboardingBot.adapters.handler;
 
 import com.meli.teamboardingBot.core.context.UserContext;
 import com.meli.teamboardingBot.core.ports.formstate.*;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
@@ -40,48 +40,39 @@ public abstract class AbstractInteractionHandler implements InteractionHandler {
     }
 
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String userId = event.getUser().getId();
-        try {
-            UserContext.setCurrentUserId(userId);
+        UserContext.forUser(userId).run(() -> {
             loggerApiPort.debug("Button interaction received: {} from user {}", event.getComponentId(), userId);
             handleButtonInternal(event, state);
-        } finally {
-            UserContext.clear();
-        }
+        });
     }
     
-    protected void handleButtonInternal(ButtonInteractionEvent event, FormState state) {
+    protected void handleButtonInternal(ButtonInteractionEvent event, FormDraft state) {
         loggerApiPort.warn("Button handling not implemented for: {}", event.getComponentId());
     }
     @Override
-    public void handleStringSelect(StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(StringSelectInteractionEvent event, FormDraft state) {
         String userId = event.getUser().getId();
-        try {
-            UserContext.setCurrentUserId(userId);
+        UserContext.forUser(userId).run(() -> {
             loggerApiPort.debug("String select interaction received: {} from user {}", event.getComponentId(), userId);
             handleStringSelectInternal(event, state);
-        } finally {
-            UserContext.clear();
-        }
+        });
     }
     
-    protected void handleStringSelectInternal(StringSelectInteractionEvent event, FormState state) {
+    protected void handleStringSelectInternal(StringSelectInteractionEvent event, FormDraft state) {
         loggerApiPort.warn("String select handling not implemented for: {}", event.getComponentId());
     }
     @Override
-    public void handleModal(ModalInteractionEvent event, FormState state) {
+    public void handleModal(ModalInteractionEvent event, FormDraft state) {
         String userId = event.getUser().getId();
-        try {
-            UserContext.setCurrentUserId(userId);
+        UserContext.forUser(userId).run(() -> {
             loggerApiPort.debug("Modal interaction received: {} from user {}", event.getModalId(), userId);
             handleModalInternal(event, state);
-        } finally {
-            UserContext.clear();
-        }
+        });
     }
     
-    protected void handleModalInternal(ModalInteractionEvent event, FormState state) {
+    protected void handleModalInternal(ModalInteractionEvent event, FormDraft state) {
         loggerApiPort.warn("Modal handling not implemented for: {}", event.getModalId());
     }
     protected String formatToBrazilianDate(String date) {
@@ -102,29 +93,19 @@ public abstract class AbstractInteractionHandler implements InteractionHandler {
         }
         return date;
     }
-    protected void updateFormState(Long userId, FormState state) {
+    protected void updateFormState(Long userId, FormDraft state) {
         putFormStatePort.updateState(userId, state);
     }
-    protected FormState getFormState(Long userId) {
+    protected FormDraft getFormState(Long userId) {
         return getFormStatePort.getState(userId);
     }
     
 
     protected <T> T withUserContext(String userId, Supplier<T> operation) {
-        try {
-            UserContext.setCurrentUserId(userId);
-            return operation.get();
-        } finally {
-            UserContext.clear();
-        }
+        return UserContext.forUser(userId).call(operation);
     }
 
     protected void withUserContext(String userId, Runnable operation) {
-        try {
-            UserContext.setCurrentUserId(userId);
-            operation.run();
-        } finally {
-            UserContext.clear();
-        }
+        UserContext.forUser(userId).run(operation);
     }
 }
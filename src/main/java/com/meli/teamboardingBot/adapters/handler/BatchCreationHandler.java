@@ -1,21 +1,32 @@
 package com.meli.teamboardingBot.adapters.handler;
 
+import com.meli.teamboardingBot.adapters.in.listener.InteractionExecutor;
+import com.meli.teamboardingBot.adapters.out.batch.BatchRowLimitExceededException;
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
 import com.meli.teamboardingBot.adapters.out.session.ActiveFlowMessageService;
+import com.meli.teamboardingBot.core.domain.batch.BatchLineDiagnostic;
 import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
 import com.meli.teamboardingBot.core.domain.batch.BatchParsingResult;
+import com.meli.teamboardingBot.core.domain.batch.BatchSubmissionResult;
 import com.meli.teamboardingBot.core.ports.formstate.*;
-import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
+import com.meli.teamboardingBot.adapters.out.batch.BatchAttachmentImporter;
+import com.meli.teamboardingBot.adapters.out.batch.BatchSubmitter;
 import com.meli.teamboardingBot.adapters.out.batch.BatchValidator;
 import com.meli.teamboardingBot.adapters.out.batch.PreviewNavigator;
+import com.meli.teamboardingBot.adapters.out.ui.SignedComponentIds;
 import com.meli.teamboardingBot.adapters.out.batch.TextParser;
 import com.meli.teamboardingBot.adapters.out.batch.impl.EmbedPreviewNavigationService;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.components.text.TextInput;
@@ -28,11 +39,20 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.awt.Color;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -45,19 +65,29 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
     private final TextParser intelligentTextParser;
     private final BatchValidator batchValidator;
     private final PreviewNavigator previewNavigator;
-    private final SquadLogService squadLogService;
     private final ActiveFlowMessageService activeFlowMessageService;
-    
+    private final BatchSubmitter batchSubmitter;
+    private final MessageCleanupScheduler messageCleanupScheduler;
+    private final BatchAttachmentImporter batchAttachmentImporter;
+    private final SignedComponentIds signedComponentIds;
+    private final InteractionExecutor interactionExecutor;
+    private final Map<String, CompletableFuture<BatchParsingResult>> pendingValidations = new ConcurrentHashMap<>();
+    private static final String ATTACHMENT_OPTION = "arquivo";
+    private static final long PROGRESS_UPDATE_INTERVAL_MS = 1500;
 
     @Autowired
-    public BatchCreationHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, TextParser intelligentTextParser, BatchValidator batchValidator, PreviewNavigator previewNavigator, SquadLogService squadLogService, MessageSource messageSource, ActiveFlowMessageService activeFlowMessageService) {
+    public BatchCreationHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, TextParser intelligentTextParser, BatchValidator batchValidator, PreviewNavigator previewNavigator, MessageSource messageSource, ActiveFlowMessageService activeFlowMessageService, BatchSubmitter batchSubmitter, MessageCleanupScheduler messageCleanupScheduler, BatchAttachmentImporter batchAttachmentImporter, SignedComponentIds signedComponentIds, InteractionExecutor interactionExecutor) {
         super(getOrCreateFormStatePort, putFormStatePort, getFormStatePort, setBatchEntriesPort, setBatchCurrentIndexPort, getBatchEntriesPort, getBatchCurrentIndexPort, clearBatchStatePort, deleteFormStatePort, resetFormStatePort, loggerApiPort);
         this.intelligentTextParser = intelligentTextParser;
         this.batchValidator = batchValidator;
         this.previewNavigator = previewNavigator;
-        this.squadLogService = squadLogService;
         this.messageSource = messageSource;
         this.activeFlowMessageService = activeFlowMessageService;
+        this.batchSubmitter = batchSubmitter;
+        this.messageCleanupScheduler = messageCleanupScheduler;
+        this.batchAttachmentImporter = batchAttachmentImporter;
+        this.signedComponentIds = signedComponentIds;
+        this.interactionExecutor = interactionExecutor;
     }
 
 
@@ -71,22 +101,19 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return componentId.startsWith("batch-") || componentId.equals("batch-creation-modal") ||
-                componentId.equals("batch-edit-entry") || componentId.equals("batch-edit-modal") ||
-                componentId.equals("batch-edit-squad") || componentId.equals("batch-edit-person") ||
-                componentId.equals("batch-edit-type") || componentId.equals("batch-edit-categories") ||
-                componentId.equals("batch-edit-description") || componentId.equals("batch-edit-dates") ||
-                componentId.equals("batch-back-to-preview") || componentId.equals("batch-edit-page2") ||
-                componentId.equals("batch-edit-squad-modal") || componentId.equals("batch-edit-person-modal") ||
-                componentId.equals("batch-edit-type-modal") || componentId.equals("batch-edit-categories-modal") ||
-                componentId.equals("batch-edit-description-modal") || componentId.equals("batch-edit-dates-modal") ||
-                componentId.equals("batch-edit-modal-page1") || componentId.equals("batch-edit-modal-page2");
+    public Set<String> componentIds() {
+        return Set.of();
     }
 
     public void handleBatchCreationCommand(SlashCommandInteractionEvent event) {
         loggerApiPort.info("Iniciando comando /squad-log-lote para usuário: {}", event.getUser().getId());
 
+        OptionMapping attachmentOption = event.getOption(ATTACHMENT_OPTION);
+        if (attachmentOption != null) {
+            handleBatchAttachment(event, attachmentOption.getAsAttachment());
+            return;
+        }
+
         TextInput textInput = TextInput.create("batch-text", messageSource.getMessage("txt_digite_os_squad_logs", null, getUserLocale(event.getUser().getIdLong())), TextInputStyle.PARAGRAPH)
                 .setPlaceholder(messageSource.getMessage("txt_squad_pessoa_categoria_data_ex", null, getUserLocale(event.getUser().getIdLong())))
                 .setRequiredRange(10, 4000)
@@ -126,18 +153,65 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         processBatchModal(event);
     }
 
-    private void processBatchModal(ModalInteractionEvent event) {
-        String inputText = event.getValue("batch-text").getAsString();
+    private void handleBatchAttachment(SlashCommandInteractionEvent event, Message.Attachment attachment) {
+        java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
+        loggerApiPort.info("Importando arquivo {} ({} bytes) em lote", attachment.getFileName(), attachment.getSize());
 
-        if (!intelligentTextParser.canParse(inputText)) {
-            showParsingError(event);
+        if (!batchAttachmentImporter.isSupported(attachment)) {
+            replyAttachmentError(event, messageSource.getMessage("txt_arquivo_nao_suportado", null, locale));
             return;
         }
+        if (batchAttachmentImporter.exceedsSizeLimit(attachment)) {
+            replyAttachmentError(event, messageSource.getMessage("txt_arquivo_muito_grande",
+                    new Object[]{batchAttachmentImporter.getMaxBytes() / 1024}, locale));
+            return;
+        }
+
+        event.deferReply(true).queue();
+        batchAttachmentImporter.importAttachment(attachment).whenComplete((parseReport, error) ->
+                interactionExecutor.execute(event, () -> {
+                    if (error == null) {
+                        processParseReport(event, parseReport);
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    loggerApiPort.error("Erro ao importar arquivo em lote: {}", cause.getMessage());
+                    String message = cause instanceof BatchRowLimitExceededException limitExceeded
+                            ? messageSource.getMessage("txt_arquivo_excede_linhas", new Object[]{limitExceeded.getMaxRows()}, locale)
+                            : messageSource.getMessage("txt_erro_ao_ler_arquivo", null, locale);
+                    event.getHook().editOriginalEmbeds(attachmentErrorEmbed(message, locale).build()).queue();
+                }));
+    }
+
+    private void replyAttachmentError(SlashCommandInteractionEvent event, String message) {
+        java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
+        event.replyEmbeds(attachmentErrorEmbed(message, locale).build()).setEphemeral(true).queue();
+    }
+
+    private EmbedBuilder attachmentErrorEmbed(String message, java.util.Locale locale) {
+        return new EmbedBuilder()
+                .setTitle("❌ " + messageSource.getMessage("txt_arquivo_invalido", null, locale))
+                .setDescription(message)
+                .setColor(Color.RED);
+    }
+
+    private void processBatchModal(ModalInteractionEvent event) {
+        String inputText = event.getValue("batch-text").getAsString();
+        processParseReport(event, intelligentTextParser.parseWithDiagnostics(inputText));
+    }
 
-        List<BatchLogEntry> parsedEntries = intelligentTextParser.parseText(inputText);
+    private void processParseReport(IReplyCallback event, BatchParseReport parseReport) {
+        List<BatchLogEntry> parsedEntries = parseReport.getEntries();
+        List<String> parseErrors = parseReport.getFailures().stream()
+                .map(BatchLineDiagnostic::toString)
+                .toList();
 
         if (parsedEntries.isEmpty()) {
-            showNoEntriesError(event);
+            if (!parseReport.hasRecognizedLines()) {
+                showParsingError(event);
+            } else {
+                showNoEntriesError(event, parseErrors);
+            }
             return;
         }
 
@@ -148,44 +222,121 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                     i, entry.getSquadName(), entry.getPersonName(), entry.getLogType());
         }
 
-        BatchParsingResult validationResult;
-        try {
-            loggerApiPort.info("Iniciando validação com API...");
-            validationResult = batchValidator.validateEntries(parsedEntries);
-            loggerApiPort.info("Validação com API concluída");
-        } catch (RuntimeException e) {
-            loggerApiPort.error("Erro durante validação com API: {}", e.getMessage());
-            if (e.getMessage().contains("Timeout") || e.getMessage().contains("timeout")) {
-                showApiTimeoutError(event);
-            } else if (e.getMessage().contains("Credenciais") || e.getMessage().contains("autenticação") ||
-                    e.getMessage().contains("autenticacao") || e.getMessage().contains("Unauthorized")) {
-                showAuthenticationRequired(event);
+        String userId = event.getUser().getId();
+        List<BatchLogEntry> validEntries = new CopyOnWriteArrayList<>();
+        List<String> errors = new CopyOnWriteArrayList<>(parseErrors);
+        AtomicBoolean previewShown = new AtomicBoolean(false);
+
+        loggerApiPort.info("Iniciando validação com API...");
+        CompletableFuture<BatchParsingResult> validation = batchValidator.validateEntriesInChunks(parsedEntries,
+                (chunk, validated, total) -> {
+                    validEntries.addAll(chunk.getValidEntries());
+                    errors.addAll(chunk.getErrors());
+                    if (validated < total && !validEntries.isEmpty() && previewShown.compareAndSet(false, true)) {
+                        loggerApiPort.info("Primeiro lote validado ({} de {} linhas), exibindo preview", validated, total);
+                        List<BatchLogEntry> firstEntries = List.copyOf(validEntries);
+                        initializeBatchState(userId, firstEntries);
+                        showFirstPreview(event, new BatchParsingResult(firstEntries, new ArrayList<>(errors), validated), validated, total);
+                    }
+                });
+        CompletableFuture<BatchParsingResult> previous = pendingValidations.put(userId, validation);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        validation.whenComplete((result, error) -> {
+            pendingValidations.remove(userId, validation);
+            if (error instanceof CancellationException) {
+                return;
+            }
+            if (error != null) {
+                handleValidationFailure(event, error, previewShown.get());
+                return;
+            }
+            loggerApiPort.info("Validação com API concluída em fases (ms): {}", result.getPhaseTimingsMs());
+
+            List<BatchLogEntry> allValidEntries = List.copyOf(validEntries);
+            BatchParsingResult validationResult = new BatchParsingResult(allValidEntries, new ArrayList<>(errors), parsedEntries.size());
+            if (!validationResult.hasValidEntries()) {
+                showValidationErrors(event, validationResult);
+                return;
+            }
+
+            loggerApiPort.info("Valid entries after validation:");
+            for (int i = 0; i < allValidEntries.size(); i++) {
+                BatchLogEntry entry = allValidEntries.get(i);
+                loggerApiPort.info("Valid Entry {}: Squad='{}', Person='{}', Type='{}'",
+                        i, entry.getSquadName(), entry.getPersonName(), entry.getLogType());
+            }
+
+            if (previewShown.compareAndSet(false, true)) {
+                initializeBatchState(userId, allValidEntries);
+                showFirstPreview(event, validationResult);
             } else {
-                showApiConnectionError(event, e.getMessage());
+                completeBatchEntries(userId, allValidEntries);
+                showValidationCompleted(event, validationResult);
             }
+        });
+    }
+
+    private void handleValidationFailure(IReplyCallback event, Throwable error, boolean previewShown) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        loggerApiPort.error("Erro durante validação com API: {}", message);
+        if (previewShown) {
             return;
         }
+        if (message.contains("Timeout") || message.contains("timeout")) {
+            showApiTimeoutError(event);
+        } else if (message.contains("Credenciais") || message.contains("autenticação") ||
+                message.contains("autenticacao") || message.contains("Unauthorized")) {
+            showAuthenticationRequired(event);
+        } else {
+            showApiConnectionError(event, message);
+        }
+    }
 
-        if (!validationResult.hasValidEntries()) {
-            showValidationErrors(event, validationResult);
+    private void showValidationCompleted(IReplyCallback event, BatchParsingResult result) {
+        java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
+        EmbedBuilder embed = new EmbedBuilder()
+                .setTitle("✅ " + messageSource.getMessage("txt_validacao_concluida", null, locale))
+                .setDescription(messageSource.getMessage("txt_validacao_concluida_descricao",
+                        new Object[]{result.getValidCount(), result.getTotalProcessed(), result.getErrorCount()}, locale))
+                .setColor(result.hasErrors() ? Color.ORANGE : Color.GREEN);
+
+        event.getHook().sendMessageEmbeds(embed.build()).setEphemeral(true).queue();
+    }
+
+    private void awaitPendingValidation(String userId, Runnable action) {
+        CompletableFuture<BatchParsingResult> pending = pendingValidations.get(userId);
+        if (pending == null || pending.isDone()) {
+            action.run();
             return;
         }
+        loggerApiPort.info("Aguardando validação em andamento antes de continuar para usuário: {}", userId);
+        pending.handle((result, error) -> null).thenRun(action);
+    }
 
-        loggerApiPort.info("Valid entries after validation:");
-        List<BatchLogEntry> validEntries = validationResult.getValidEntries();
-        for (int i = 0; i < validEntries.size(); i++) {
-            BatchLogEntry entry = validEntries.get(i);
-            loggerApiPort.info("Valid Entry {}: Squad='{}', Person='{}', Type='{}'",
-                    i, entry.getSquadName(), entry.getPersonName(), entry.getLogType());
+    private void cancelPendingValidation(String userId) {
+        CompletableFuture<BatchParsingResult> pending = pendingValidations.remove(userId);
+        if (pending != null) {
+            pending.cancel(false);
         }
-
-        initializeBatchState(event.getUser().getId(), validEntries);
-        showFirstPreview(event, validationResult);
     }
 
     public void handleBatchNavigation(ButtonInteractionEvent event) {
         String userId = event.getUser().getId();
         String buttonId = event.getComponentId();
+        Integer signedIndex = null;
+        if (buttonId.indexOf(SignedComponentIds.SEPARATOR) >= 0) {
+            SignedComponentIds.Decoded decoded = signedComponentIds.verify(buttonId, event.getUser().getIdLong());
+            if (decoded == null) {
+                event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
+                return;
+            }
+            buttonId = decoded.base();
+            signedIndex = decoded.intValue(0);
+        }
 
         if (buttonId.equals("batch-create-more")) {
             showCreateMoreModal(event);
@@ -262,19 +413,21 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
 
         switch (buttonId) {
             case "batch-previous":
-                currentIndex = previewNavigator.getPreviousIndex(currentIndex);
+                currentIndex = signedIndex != null ? clampIndex(signedIndex, entries.size())
+                        : previewNavigator.getPreviousIndex(currentIndex);
                 setCurrentIndex(userId, currentIndex);
                 updatePreview(event, entries, currentIndex);
                 break;
 
             case "batch-next":
-                currentIndex = previewNavigator.getNextIndex(currentIndex, entries.size());
+                currentIndex = signedIndex != null ? clampIndex(signedIndex, entries.size())
+                        : previewNavigator.getNextIndex(currentIndex, entries.size());
                 setCurrentIndex(userId, currentIndex);
                 updatePreview(event, entries, currentIndex);
                 break;
 
             case "batch-create-all":
-                createAllLogs(event, entries);
+                awaitPendingValidation(userId, () -> createAllLogs(event, getBatchEntries(userId)));
                 break;
 
             case "batch-cancel":
@@ -287,7 +440,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         }
     }
 
-    private void showParsingError(ModalInteractionEvent event) {
+    private void showParsingError(IReplyCallback event) {
         java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("❌ " + messageSource.getMessage("txt_erro_no_formato", null, locale))
@@ -306,13 +459,22 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .queue();
     }
 
-    private void showNoEntriesError(ModalInteractionEvent event) {
+    private void showNoEntriesError(IReplyCallback event, List<String> parseErrors) {
         java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("❌ " + messageSource.getMessage("txt_nenhum_log_encontrado", null, locale))
                 .setDescription(messageSource.getMessage("txt_nao_foi_possivel_extrair_nenhum_squad_log_do_texto_fornecido", null, locale) + ".")
                 .setColor(Color.RED);
 
+        StringBuilder errorText = new StringBuilder();
+        for (String error : parseErrors) {
+            if (errorText.length() + error.length() > MessageEmbed.VALUE_MAX_LENGTH - 4) break;
+            errorText.append("• ").append(error).append("\n");
+        }
+        if (errorText.length() > 0) {
+            embed.addField(messageSource.getMessage("txt_erros_encontrados", null, locale), errorText.toString(), false);
+        }
+
         event.getHook().editOriginalEmbeds(embed.build())
                 .setActionRow(
                         Button.primary("open-batch-modal", "🔄 " + messageSource.getMessage("txt_preencher_novamente", null, locale)),
@@ -321,7 +483,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .queue();
     }
 
-    private void showValidationErrors(ModalInteractionEvent event, BatchParsingResult result) {
+    private void showValidationErrors(IReplyCallback event, BatchParsingResult result) {
         java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("❌ " + messageSource.getMessage("txt_erros_de_validacao", null, locale))
@@ -349,7 +511,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .queue();
     }
 
-    private void showApiTimeoutError(ModalInteractionEvent event) {
+    private void showApiTimeoutError(IReplyCallback event) {
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("⏰ " + messageSource.getMessage("txt_timeout_da_api", null, getUserLocale(event.getUser().getIdLong())))
                 .setDescription(messageSource.getMessage("txt_api_demorou_muito_para_responder", null, getUserLocale(event.getUser().getIdLong())) + ".\n\n**" +
@@ -364,7 +526,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         event.getHook().editOriginalEmbeds(embed.build()).queue();
     }
 
-    private void showAuthenticationRequired(ModalInteractionEvent event) {
+    private void showAuthenticationRequired(IReplyCallback event) {
         String title = messageSource.getMessage("txt_autenticacao_necessaria", null, getUserLocale(event.getUser().getIdLong()));
         String description = messageSource.getMessage("txt_faca_login_para_usar_os_comandos", null, getUserLocale(event.getUser().getIdLong())) +
                 "\n\n" + messageSource.getMessage("txt_escolha_o_metodo_de_autenticacao", null, getUserLocale(event.getUser().getIdLong()));
@@ -383,7 +545,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .queue();
     }
 
-    private void showApiConnectionError(ModalInteractionEvent event, String errorMessage) {
+    private void showApiConnectionError(IReplyCallback event, String errorMessage) {
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("❌ " + messageSource.getMessage("txt_erro_de_conexao_com_a_api", null, getUserLocale(event.getUser().getIdLong())))
                 .setDescription(messageSource.getMessage("txt_nao_foi_possivel_conectar_com_a_api_para_validar_os_dados", null, getUserLocale(event.getUser().getIdLong())) + ".\n\n**" +
@@ -395,7 +557,11 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         event.getHook().editOriginalEmbeds(embed.build()).queue();
     }
 
-    private void showFirstPreview(ModalInteractionEvent event, BatchParsingResult result) {
+    private void showFirstPreview(IReplyCallback event, BatchParsingResult result) {
+        showFirstPreview(event, result, result.getTotalProcessed(), result.getTotalProcessed());
+    }
+
+    private void showFirstPreview(IReplyCallback event, BatchParsingResult result, int validated, int total) {
         List<BatchLogEntry> entries = result.getValidEntries();
         BatchLogEntry firstEntry = entries.get(0);
 
@@ -418,6 +584,12 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                     false);
         }
 
+        if (validated < total) {
+            summaryEmbed.addField("⏳ " + messageSource.getMessage("txt_validacao_em_andamento", null, getUserLocale(event.getUser().getIdLong())),
+                    messageSource.getMessage("txt_validando_linhas", new Object[]{validated, total}, getUserLocale(event.getUser().getIdLong())),
+                    false);
+        }
+
         event.getHook().editOriginalEmbeds(summaryEmbed.build(), previewEmbed)
                 .setComponents(actionRows)
                 .queue(success -> {
@@ -446,9 +618,9 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         List<ActionRow> actionRows = new ArrayList<>();
         java.util.Locale locale = getUserLocale(userId);
 
-        Button previousButton = Button.secondary("batch-previous", "⬅️ " + messageSource.getMessage("txt_anterior", null, locale))
+        Button previousButton = Button.secondary(signedComponentIds.sign("batch-previous", userId, previewNavigator.getPreviousIndex(currentIndex)), "⬅️ " + messageSource.getMessage("txt_anterior", null, locale))
                 .withDisabled(!previewNavigator.hasPrevious(currentIndex));
-        Button nextButton = Button.secondary("batch-next", messageSource.getMessage("txt_proximo", null, locale) + " ➡️")
+        Button nextButton = Button.secondary(signedComponentIds.sign("batch-next", userId, previewNavigator.getNextIndex(currentIndex, totalCount)), messageSource.getMessage("txt_proximo", null, locale) + " ➡️")
                 .withDisabled(!previewNavigator.hasNext(currentIndex, totalCount));
         actionRows.add(ActionRow.of(previousButton, nextButton));
 
@@ -471,32 +643,64 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
 
     private void createAllLogs(ButtonInteractionEvent event, List<BatchLogEntry> entries) {
         loggerApiPort.info("Iniciando criação em lote de {} logs", entries.size());
+        java.util.Locale locale = getUserLocale(event.getUser().getIdLong());
 
         EmbedBuilder embed = new EmbedBuilder()
-                .setTitle("⏳ " + messageSource.getMessage("txt_criando_squad_logs", null, getUserLocale(event.getUser().getIdLong())) + "...")
-                .setDescription(String.format(messageSource.getMessage("txt_processando", null, getUserLocale(event.getUser().getIdLong())) + " %d logs...", entries.size()))
+                .setTitle("⏳ " + messageSource.getMessage("txt_criando_squad_logs", null, locale) + "...")
+                .setDescription(String.format(messageSource.getMessage("txt_processando", null, locale) + " %d logs...", entries.size()))
                 .setColor(Color.YELLOW);
 
         event.getHook().editOriginalEmbeds(embed.build())
                 .setComponents()
                 .queue();
 
-        List<String> successes = new ArrayList<>();
-        List<String> failures = new ArrayList<>();
-
-        for (BatchLogEntry entry : entries) {
-            try {
-                JSONObject payload = createSquadLogPayload(entry);
-                squadLogService.createSquadLog(payload.toString());
-                successes.add(String.format("✅ %s - %s", entry.getSquadName(), entry.getPersonName()));
-                loggerApiPort.info("Log criado com sucesso: Squad {} - {}", entry.getSquadName(), entry.getPersonName());
-            } catch (Exception e) {
-                failures.add(String.format("❌ %s - %s: %s", entry.getSquadName(), entry.getPersonName(), e.getMessage()));
-                loggerApiPort.error("Erro ao criar log: Squad {} - {}", entry.getSquadName(), entry.getPersonName(), e);
-            }
-        }
+        AtomicLong lastProgressUpdate = new AtomicLong(System.currentTimeMillis());
+
+        batchSubmitter.submitAll(event.getUser().getId(), entries,
+                        entry -> createSquadLogPayload(entry).toString(),
+                        (result, completed, total) -> {
+                            long now = System.currentTimeMillis();
+                            long last = lastProgressUpdate.get();
+                            if (completed < total && now - last >= PROGRESS_UPDATE_INTERVAL_MS
+                                    && lastProgressUpdate.compareAndSet(last, now)) {
+                                showCreationProgress(event, locale, completed, total);
+                            }
+                        })
+                .thenAccept(results -> {
+                    List<String> successes = new ArrayList<>();
+                    List<String> failures = new ArrayList<>();
+                    for (BatchSubmissionResult result : results) {
+                        BatchLogEntry entry = result.getEntry();
+                        if (result.isDuplicate()) {
+                            successes.add(String.format("♻️ %s - %s (%s #%s)", entry.getSquadName(), entry.getPersonName(),
+                                    messageSource.getMessage("txt_ja_criado_anteriormente", null, locale), result.getResponse()));
+                        } else if (result.isSuccess()) {
+                            successes.add(String.format("✅ %s - %s", entry.getSquadName(), entry.getPersonName()));
+                        } else if (result.isUncertain()) {
+                            failures.add(String.format("⚠️ %s - %s: %s", entry.getSquadName(), entry.getPersonName(),
+                                    messageSource.getMessage("txt_envio_sem_confirmacao", null, locale)));
+                        } else {
+                            failures.add(String.format("❌ %s - %s: %s", entry.getSquadName(), entry.getPersonName(), result.getErrorMessage()));
+                        }
+                    }
+                    showCreationResults(event, successes, failures);
+                })
+                .exceptionally(e -> {
+                    loggerApiPort.error("Erro inesperado na criação em lote: {}", e.getMessage(), e);
+                    showCreationResults(event, List.of(), List.of("❌ " + e.getMessage()));
+                    return null;
+                });
+    }
 
-        showCreationResults(event, successes, failures);
+    private void showCreationProgress(ButtonInteractionEvent event, java.util.Locale locale, int completed, int total) {
+        EmbedBuilder embed = new EmbedBuilder()
+                .setTitle("⏳ " + messageSource.getMessage("txt_criando_squad_logs", null, locale) + "...")
+                .setDescription(String.format(messageSource.getMessage("txt_processando", null, locale) + " %d/%d logs...", completed, total))
+                .setColor(Color.YELLOW);
+
+        event.getHook().editOriginalEmbeds(embed.build())
+                .setComponents()
+                .queue();
     }
 
     private JSONObject createSquadLogPayload(BatchLogEntry entry) {
@@ -576,7 +780,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .setComponents()
                 .queue();
 
-        event.getHook().deleteOriginal().queueAfter(10, TimeUnit.SECONDS);
+        messageCleanupScheduler.scheduleDelete(event.getHook(), Duration.ofSeconds(10));
     }
 
     private void showSessionExpiredError(ButtonInteractionEvent event) {
@@ -595,10 +799,33 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         setBatchCurrentIndexPort.setBatchCurrentIndex(userId, 0);
     }
 
+    private void completeBatchEntries(String userId, List<BatchLogEntry> entries) {
+        List<BatchLogEntry> previewEntries = getBatchEntries(userId);
+        if (previewEntries == null || previewEntries.isEmpty()) {
+            return;
+        }
+        List<BatchLogEntry> merged = new ArrayList<>(entries);
+        for (int i = 0; i < Math.min(previewEntries.size(), merged.size()); i++) {
+            merged.set(i, previewEntries.get(i));
+        }
+        setBatchEntriesPort.setBatchEntries(userId, merged);
+    }
+
+    private List<BatchLogEntry> replaceBatchEntry(String userId, List<BatchLogEntry> entries, int index, BatchLogEntry entry) {
+        List<BatchLogEntry> updated = new ArrayList<>(entries);
+        updated.set(index, entry);
+        setBatchEntriesPort.setBatchEntries(userId, updated);
+        return updated;
+    }
+
     private List<BatchLogEntry> getBatchEntries(String userId) {
         return getBatchEntriesPort.getBatchEntries(userId);
     }
 
+    private static int clampIndex(int index, int totalCount) {
+        return Math.max(0, Math.min(index, totalCount - 1));
+    }
+
     private int getCurrentIndex(String userId) {
         return getBatchCurrentIndexPort.getBatchCurrentIndex(userId);
     }
@@ -608,6 +835,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
     }
 
     private void clearBatchState(String userId) {
+        cancelPendingValidation(userId);
         clearBatchStatePort.clearBatchState(userId);
     }
 
@@ -787,7 +1015,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
         }
 
         BatchLogEntry validatedEntry = validationResult.getValidEntries().get(0);
-        entries.set(currentIndex, validatedEntry);
+        entries = replaceBatchEntry(userId, entries, currentIndex, validatedEntry);
 
         updatePreviewFromModal(event, entries, currentIndex, null);
     }
@@ -1075,9 +1303,9 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 return;
             }
 
-            BatchLogEntry validatedEntry = validationResult.getValidEntries().get(0);
-            entries.set(currentIndex, validatedEntry);
+            entry = validationResult.getValidEntries().get(0);
         }
+        entries = replaceBatchEntry(userId, entries, currentIndex, entry);
 
         updatePreviewFromModal(event, entries, currentIndex, modifiedField);
     }
@@ -1176,7 +1404,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .setComponents()
                 .queue();
 
-        event.getHook().deleteOriginal().queueAfter(10, TimeUnit.SECONDS);
+        messageCleanupScheduler.scheduleDelete(event.getHook(), Duration.ofSeconds(10));
 
         clearBatchState(event.getUser().getId());
     }
@@ -1211,7 +1439,7 @@ public class BatchCreationHandler extends AbstractInteractionHandler {
                 .setComponents()
                 .queue();
 
-        event.getHook().deleteOriginal().queueAfter(5, TimeUnit.SECONDS);
+        messageCleanupScheduler.scheduleDelete(event.getHook(), Duration.ofSeconds(5));
 
         clearBatchState(event.getUser().getId());
     }
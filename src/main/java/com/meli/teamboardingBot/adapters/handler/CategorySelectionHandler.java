@@ -1,7 +1,7 @@
 package com.meli.teamboardingBot.adapters.handler;
 
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -34,7 +35,7 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
 
     private Locale getUserLocale(long userId) {
         try {
-            FormState state = getOrCreateFormStatePort.getOrCreateState(userId);
+            FormDraft state = getOrCreateFormStatePort.getOrCreateState(userId);
             if (state != null && state.getLocale() != null) {
                 return state.getLocale();
             }
@@ -54,14 +55,15 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
 
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "category-select".equals(componentId) ||
-                "select-category".equals(componentId) ||
-                "edit-categorias".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "category-select",
+            "select-category",
+            "edit-categorias");
     }
 
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         if ("select-category".equals(buttonId)) {
             handleSelectCategoryButton(event, state);
@@ -71,20 +73,20 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public void handleStringSelect(StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(StringSelectInteractionEvent event, FormDraft state) {
         if ("category-select".equals(event.getComponentId())) {
             handleCategorySelect(event, state);
         }
     }
 
-    private void handleSelectCategoryButton(ButtonInteractionEvent event, FormState state) {
+    private void handleSelectCategoryButton(ButtonInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Iniciando seleção de categoria");
         state.setStep(FormStep.CATEGORY_SELECTION);
         updateFormState(event.getUser().getIdLong(), state);
         showCategorySelection(event);
     }
 
-    private void handleEditCategoriesButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditCategoriesButton(ButtonInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Editando categorias");
         state.setStep(FormStep.CATEGORY_MODIFY);
         updateFormState(event.getUser().getIdLong(), state);
@@ -92,7 +94,7 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
     }
 
 
-    private void handleCategorySelect(StringSelectInteractionEvent event, FormState state) {
+    private void handleCategorySelect(StringSelectInteractionEvent event, FormDraft state) {
         List<String> selectedCategoryIds = event.getValues();
            loggerApiPort.info("Categorias selecionadas: {}", selectedCategoryIds);
         try {
@@ -145,7 +147,7 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
     private void showCategorySelection(ButtonInteractionEvent event) {
         try {
             event.deferEdit().queue();
-            FormState state = getFormState(event.getUser().getIdLong());
+            FormDraft state = getFormState(event.getUser().getIdLong());
             if (state == null) {
                 EmbedBuilder errorEmbed = new EmbedBuilder()
                         .setTitle("❌ Sessão Expirada")
@@ -188,7 +190,7 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
             }
         } catch (Exception e) {
                loggerApiPort.error("Erro ao carregar categorias: {}", e.getMessage());
-            FormState state = getFormState(event.getUser().getIdLong());
+            FormDraft state = getFormState(event.getUser().getIdLong());
             EmbedBuilder errorEmbed = new EmbedBuilder()
                     .setTitle("❌ Erro ao Carregar Categorias")
                     .setDescription("Ocorreu um erro ao carregar as categorias. Tente novamente.")
@@ -210,7 +212,7 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
         }
     }
 
-    private void openDescriptionModal(StringSelectInteractionEvent event, FormState state) {
+    private void openDescriptionModal(StringSelectInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Abrindo modal de descrição e datas diretamente");
         try {
             TextInput descriptionInput = TextInput.create("description", "Descrição", TextInputStyle.PARAGRAPH)
@@ -283,7 +285,7 @@ public class CategorySelectionHandler extends AbstractInteractionHandler {
     }
 
     private void showSummary(StringSelectInteractionEvent event) {
-        FormState state = getFormState(event.getUser().getIdLong());
+        FormDraft state = getFormState(event.getUser().getIdLong());
         if (state != null) {
             summaryHandler.showUpdateSummary(event, state);
         }
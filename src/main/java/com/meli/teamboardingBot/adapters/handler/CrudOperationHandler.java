@@ -1,7 +1,9 @@
 package com.meli.teamboardingBot.adapters.handler;
 
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
+import com.meli.teamboardingBot.adapters.out.ui.SignedComponentIds;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.adapters.out.session.PendingAuthMessageService;
@@ -25,6 +27,10 @@ import org.springframework.stereotype.Component;
 
 import static net.dv8tion.jda.api.interactions.components.buttons.Button.*;
 
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
 @Slf4j
 @Component
 @Order(6)
@@ -34,15 +40,19 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
     private final SquadLogService squadLogService;
     private final GetIsUserAuthenticatedPort isUserAuthenticated;
     private final PendingAuthMessageService pendingAuthMessageService;
+    private final MessageCleanupScheduler messageCleanupScheduler;
+    private final SignedComponentIds signedComponentIds;
     private static final int LIMIT_PAGE = 15;
 
     @Autowired
-    public CrudOperationHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, SquadLogService squadLogService, GetIsUserAuthenticatedPort isUserAuthenticated, PendingAuthMessageService pendingAuthMessageService, MessageSource messageSource) {
+    public CrudOperationHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, SquadLogService squadLogService, GetIsUserAuthenticatedPort isUserAuthenticated, PendingAuthMessageService pendingAuthMessageService, MessageSource messageSource, MessageCleanupScheduler messageCleanupScheduler, SignedComponentIds signedComponentIds) {
         super(getOrCreateFormStatePort, putFormStatePort, getFormStatePort, setBatchEntriesPort, setBatchCurrentIndexPort, getBatchEntriesPort, getBatchCurrentIndexPort, clearBatchStatePort, deleteFormStatePort, resetFormStatePort, loggerApiPort);
         this.squadLogService = squadLogService;
         this.isUserAuthenticated = isUserAuthenticated;
         this.pendingAuthMessageService = pendingAuthMessageService;
         this.messageSource = messageSource;
+        this.messageCleanupScheduler = messageCleanupScheduler;
+        this.signedComponentIds = signedComponentIds;
     }
 
     private java.util.Locale getUserLocale(long userId) {
@@ -50,21 +60,38 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "criar-log".equals(componentId) ||
-                "confirmar-criacao".equals(componentId) ||
-                "confirmar-atualizacao".equals(componentId) ||
-                "criar-novo-log".equals(componentId) ||
-                "atualizar-log-existente".equals(componentId) ||
-                "atualizar".equals(componentId) ||
-                "sair-bot".equals(componentId) ||
-                "voltar-inicio".equals(componentId) ||
-                "voltar".equals(componentId) ||
-                "avancar".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "criar-log",
+            "confirmar-criacao",
+            "confirmar-atualizacao",
+            "criar-novo-log",
+            "atualizar-log-existente",
+            "atualizar",
+            "sair-bot",
+            "voltar-inicio",
+            "voltar",
+            "avancar");
+    }
+
+    @Override
+    public Set<String> statelessComponentPrefixes() {
+        return Set.of(SignedComponentIds.prefix("voltar"), SignedComponentIds.prefix("avancar"));
+    }
+
+    @Override
+    public void handleStatelessButton(ButtonInteractionEvent event) {
+        SignedComponentIds.Decoded page = signedComponentIds.verify(event.getComponentId(), event.getUser().getIdLong());
+        if (page == null) {
+            event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
+            return;
+        }
+        loggerApiPort.info("Navegando para página {} ({})", page.intValue(0), page.base());
+        refreshLogSelection(event, page.intValue(0), Locale.forLanguageTag(page.value(1)));
     }
 
     @Override
-    protected void handleButtonInternal(ButtonInteractionEvent event, FormState state) {
+    protected void handleButtonInternal(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
            loggerApiPort.info("Button clicked: {}", buttonId);
 
@@ -104,11 +131,11 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    protected void handleStringSelectInternal(StringSelectInteractionEvent event, FormState state) {
+    protected void handleStringSelectInternal(StringSelectInteractionEvent event, FormDraft state) {
            loggerApiPort.warn("String select handling not implemented for: {}", event.getComponentId());
     }
 
-    private void handleCreateSquadLog(ButtonInteractionEvent event, FormState state) {
+    private void handleCreateSquadLog(ButtonInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Criando squad log");
         event.deferEdit().queue();
         if (!isStateValidForCreation(state)) {
@@ -138,7 +165,7 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
         }
     }
 
-    private void handleUpdateSquadLog(ButtonInteractionEvent event, FormState state) {
+    private void handleUpdateSquadLog(ButtonInteractionEvent event, FormDraft state) {
         loggerApiPort.info("Atualizando squad log ID: {}", state.getSquadLogId());
         loggerApiPort.info("DEBUG Estado: squadId={}, userId={}, typeId={}, categoryIds={}, description={}, startDate={}, squadLogId={}",
                 state.getSquadId(), state.getUserId(), state.getTypeId(), 
@@ -179,7 +206,7 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
         }
     }
 
-    private boolean isStateValid(FormState state) {
+    private boolean isStateValid(FormDraft state) {
         return state.getSquadId() != null &&
                 state.getUserId() != null &&
                 state.getTypeId() != null &&
@@ -187,11 +214,11 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
                 state.getStartDate() != null;
     }
     
-    private boolean isStateValidForCreation(FormState state) {
+    private boolean isStateValidForCreation(FormDraft state) {
         return isStateValid(state) && !state.getCategoryIds().isEmpty();
     }
 
-    private String buildCreatePayload(FormState state) {
+    private String buildCreatePayload(FormDraft state) {
         JSONObject payload = new JSONObject();
 
         payload.put("squad_id", Integer.parseInt(state.getSquadId()));
@@ -214,7 +241,7 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
         return payload.toString();
     }
 
-    private String buildUpdatePayload(FormState state) {
+    private String buildUpdatePayload(FormDraft state) {
            loggerApiPort.info("DEBUG buildUpdatePayload: squadId={}, userId={}, typeId={}, categoryIds={}",
                 state.getSquadId(), state.getUserId(), state.getTypeId(), state.getCategoryIds());
         JSONObject payload = new JSONObject();
@@ -281,17 +308,17 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
     private void handleCreateNewLog(ButtonInteractionEvent event) {
            loggerApiPort.info("Iniciando criação de novo squad log");
         long userId = event.getUser().getIdLong();
-        FormState newState = getOrCreateFormStatePort.getOrCreateState(userId);
+        FormDraft newState = getOrCreateFormStatePort.getOrCreateState(userId);
         newState.reset();
         newState.setCreating(true);
         newState.setEditing(false);
         newState.setStep(FormStep.SQUAD_SELECTION);
-        putFormStatePort.updateState(userId, newState);
+        putFormStatePort.updateState(userId, newState, true);
         event.deferEdit().queue();
         showSquadSelectionDirectly(event, newState);
     }
 
-    private void showSquadSelectionDirectly(ButtonInteractionEvent event, FormState state) {
+    private void showSquadSelectionDirectly(ButtonInteractionEvent event, FormDraft state) {
         try {
             String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
             JSONObject obj = new JSONObject(squadsJson);
@@ -355,16 +382,16 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
 
            loggerApiPort.info("Iniciando atualização de squad log existente para usuário autenticado: {}", userId);
         long userIdLong = event.getUser().getIdLong();
-        FormState newState = getOrCreateFormStatePort.getOrCreateState(userIdLong);
+        FormDraft newState = getOrCreateFormStatePort.getOrCreateState(userIdLong);
         newState.reset();
         newState.setCreating(false);
         newState.setEditing(true);
         newState.setStep(FormStep.LOG_SELECTION);
-        putFormStatePort.updateState(userIdLong, newState);
+        putFormStatePort.updateState(userIdLong, newState, true);
         event.deferEdit().queue();
         try {
                loggerApiPort.info("Carregando lista de squad logs...");
-            FormState state = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+            FormDraft state = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
             String squadLogsJson = withUserContext(event.getUser().getId(),
                     () -> squadLogService.getSquadLogAll(state.getCurrentPage(), LIMIT_PAGE));
                loggerApiPort.info("Resposta da API getSquadLogAll (página {}): {}", state.getCurrentPage(), squadLogsJson);
@@ -391,25 +418,10 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
                     .setColor(0xFFAA00);
 
 
-            Button voltarBtn = secondary("voltar", "⬅️ " + messageSource.getMessage("txt_anterior", null, getUserLocale(event.getUser().getIdLong())));
-            Button avancarBtn = secondary("avancar", "➡️ " + messageSource.getMessage("txt_proxima", null, getUserLocale(event.getUser().getIdLong())));
-
-
-            if (state.getCurrentPage() <= 1) {
-                voltarBtn = voltarBtn.asDisabled();
-            }
-            if (state.getCurrentPage() >= state.getTotalPages()) {
-                avancarBtn = avancarBtn.asDisabled();
-            }
-
             event.getHook().editOriginalEmbeds(embed.build())
                     .setComponents(
                             ActionRow.of(logMenuBuilder.build()),
-                            ActionRow.of(
-                                    voltarBtn,
-                                    avancarBtn,
-                                    primary("voltar-inicio", "🏠 " + messageSource.getMessage("txt_voltar_inicio", null, getUserLocale(event.getUser().getIdLong())))
-                            )
+                            pageNavigationRow(event.getUser().getIdLong(), state.getCurrentPage(), state.getTotalPages(), getUserLocale(event.getUser().getIdLong()))
                     )
                     .queue();
 
@@ -479,35 +491,21 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
                 .setDescription(messageSource.getMessage("txt_esperamos_que_tenha_tido_uma_otima_experiencia", null, getUserLocale(event.getUser().getIdLong())) + "!")
                 .setColor(0x0099FF);
 
+        long userId = event.getUser().getIdLong();
         event.getHook().editOriginalEmbeds(thankYouEmbed.build())
                 .setComponents()
                 .queue(success -> {
-                    try {
-                        Thread.sleep(2000);
-
+                    messageCleanupScheduler.scheduleEdit(userId, event.getHook(), Duration.ofSeconds(2), () -> {
                         EmbedBuilder exitingEmbed = new EmbedBuilder()
-                                .setTitle("👋 " + messageSource.getMessage("txt_saindo", null, getUserLocale(event.getUser().getIdLong())) + "...")
-                                .setDescription(messageSource.getMessage("txt_finalizando_sessao", null, getUserLocale(event.getUser().getIdLong())) + "...")
+                                .setTitle("👋 " + messageSource.getMessage("txt_saindo", null, getUserLocale(userId)) + "...")
+                                .setDescription(messageSource.getMessage("txt_finalizando_sessao", null, getUserLocale(userId)) + "...")
                                 .setColor(0xFFAA00);
 
                         event.getHook().editOriginalEmbeds(exitingEmbed.build())
                                 .setComponents()
-                                .queue(success2 -> {
-                                    try {
-                                        Thread.sleep(2000);
-                                        event.getHook().deleteOriginal().queue(
-                                                deleteSuccess ->    loggerApiPort.info("Mensagem apagada com sucesso após saída do bot"),
-                                                deleteError ->    loggerApiPort.error("Erro ao apagar mensagem: {}", deleteError.getMessage())
-                                        );
-                                    } catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                           loggerApiPort.error("Thread interrompida durante sleep final: {}", e.getMessage());
-                                    }
-                                }, error2 ->    loggerApiPort.error("Erro ao mostrar mensagem 'Saindo...': {}", error2.getMessage()));
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                           loggerApiPort.error("Thread interrompida durante sleep inicial: {}", e.getMessage());
-                    }
+                                .queue(null, error2 ->    loggerApiPort.error("Erro ao mostrar mensagem 'Saindo...': {}", error2.getMessage()));
+                    });
+                    messageCleanupScheduler.scheduleDelete(userId, event.getHook(), Duration.ofSeconds(4));
                 }, error ->    loggerApiPort.error("Erro ao mostrar mensagem de agradecimento: {}", error.getMessage()));
     }
 
@@ -529,12 +527,12 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
     }
 
     private void handleVoltarPage(ButtonInteractionEvent event) {
-        FormState state = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft state = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
            loggerApiPort.info("Navegando para página anterior (atual: {})", state.getCurrentPage());
         if (state.getCurrentPage() > 1) {
             state.setCurrentPage(state.getCurrentPage() - 1);
             putFormStatePort.updateState(event.getUser().getIdLong(), state);
-            refreshLogSelection(event, state);
+            refreshLogSelection(event, state.getCurrentPage(), getUserLocale(event.getUser().getIdLong()));
         } else {
                loggerApiPort.warn("Tentativa de voltar da primeira página");
             event.reply("❌ " + messageSource.getMessage("txt_voce_ja_esta_na_primeira_pagina", null, getUserLocale(event.getUser().getIdLong())) + "!").setEphemeral(true).queue();
@@ -542,33 +540,32 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
     }
 
     private void handleAvancarPage(ButtonInteractionEvent event) {
-        FormState state = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft state = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
            loggerApiPort.info("Navegando para próxima página (atual: {})", state.getCurrentPage());
         if (state.getCurrentPage() < state.getTotalPages()) {
             state.setCurrentPage(state.getCurrentPage() + 1);
             putFormStatePort.updateState(event.getUser().getIdLong(), state);
-            refreshLogSelection(event, state);
+            refreshLogSelection(event, state.getCurrentPage(), getUserLocale(event.getUser().getIdLong()));
         } else {
                loggerApiPort.warn(messageSource.getMessage("txt_tentativa_de_avancar_da_ultima_pagina", null, getUserLocale(event.getUser().getIdLong())));
             event.reply("❌ " + messageSource.getMessage("txt_voce_ja_esta_na_ultima_pagina", null, getUserLocale(event.getUser().getIdLong())) + "!").setEphemeral(true).queue();
         }
     }
 
-    private void refreshLogSelection(ButtonInteractionEvent event, FormState state) {
+    private void refreshLogSelection(ButtonInteractionEvent event, int page, Locale locale) {
         event.deferEdit().queue();
         try {
-               loggerApiPort.info("Atualizando lista de squad logs para página {}", state.getCurrentPage());
+               loggerApiPort.info("Atualizando lista de squad logs para página {}", page);
             String squadLogsJson = withUserContext(event.getUser().getId(),
-                    () -> squadLogService.getSquadLogAll(state.getCurrentPage(), LIMIT_PAGE));
-               loggerApiPort.info("Resposta da API getSquadLogAll (página {}): {}", state.getCurrentPage(), squadLogsJson);
+                    () -> squadLogService.getSquadLogAll(page, LIMIT_PAGE));
+               loggerApiPort.info("Resposta da API getSquadLogAll (página {}): {}", page, squadLogsJson);
             org.json.JSONObject obj = new org.json.JSONObject(squadLogsJson);
             org.json.JSONArray squadLogsArray = obj.optJSONArray("items");
             int totalItems = obj.optInt("total", squadLogsArray != null ? squadLogsArray.length() : 0);
-            state.setTotalPages((int) Math.ceil((double) totalItems / (double) LIMIT_PAGE));
-            putFormStatePort.updateState(event.getUser().getIdLong(), state);
+            int totalPages = (int) Math.ceil((double) totalItems / (double) LIMIT_PAGE);
 
             if (squadLogsArray == null || squadLogsArray.length() == 0) {
-                event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_nenhum_squad_log_encontrado_nesta_pagina", null, getUserLocale(event.getUser().getIdLong())) + ".")
+                event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_nenhum_squad_log_encontrado_nesta_pagina", null, locale) + ".")
                         .setEmbeds()
                         .setComponents()
                         .queue();
@@ -577,46 +574,49 @@ public class CrudOperationHandler extends AbstractInteractionHandler {
 
             StringSelectMenu.Builder logMenuBuilder =
                     StringSelectMenu.create("log-select")
-                            .setPlaceholder(messageSource.getMessage("txt_selecione_um_squad_log_para_atualizar", null, getUserLocale(event.getUser().getIdLong())));
+                            .setPlaceholder(messageSource.getMessage("txt_selecione_um_squad_log_para_atualizar", null, locale));
 
             buildLogSelectMenu(squadLogsArray, logMenuBuilder);
 
             EmbedBuilder embed = new EmbedBuilder()
-                    .setTitle("📝 " + messageSource.getMessage("txt_atualizar_squad_log_existente", null, getUserLocale(event.getUser().getIdLong())))
-                    .setDescription(messageSource.getMessage("txt_escolha_o_squad_log_que_deseja_atualizar", null, getUserLocale(event.getUser().getIdLong())) + ":\n📄  " +
-                            messageSource.getMessage("txt_pagina", null, getUserLocale(event.getUser().getIdLong())) + state.getCurrentPage() + " de " + state.getTotalPages())
+                    .setTitle("📝 " + messageSource.getMessage("txt_atualizar_squad_log_existente", null, locale))
+                    .setDescription(messageSource.getMessage("txt_escolha_o_squad_log_que_deseja_atualizar", null, locale) + ":\n📄  " +
+                            messageSource.getMessage("txt_pagina", null, locale) + page + " de " + totalPages)
                     .setColor(0xFFAA00);
 
-            Button voltarBtn = secondary("voltar", "⬅️ " + messageSource.getMessage("txt_anterior", null, getUserLocale(event.getUser().getIdLong())));
-            Button avancarBtn = secondary("avancar", "➡️ " + messageSource.getMessage("txt_proxima", null, getUserLocale(event.getUser().getIdLong())));
-
-            if (state.getCurrentPage() <= 1) {
-                voltarBtn = voltarBtn.asDisabled();
-            }
-            if (state.getCurrentPage() >= state.getTotalPages()) {
-                avancarBtn = avancarBtn.asDisabled();
-            }
-
             event.getHook().editOriginalEmbeds(embed.build())
                     .setComponents(
                             ActionRow.of(logMenuBuilder.build()),
-                            ActionRow.of(
-                                    voltarBtn,
-                                    avancarBtn,
-                                    primary("voltar-inicio", "🏠 " + messageSource.getMessage("txt_voltar_inicio", null, getUserLocale(event.getUser().getIdLong())))
-                            )
+                            pageNavigationRow(event.getUser().getIdLong(), page, totalPages, locale)
                     )
                     .queue();
 
         } catch (Exception e) {
                loggerApiPort.error("Erro ao atualizar lista de Squad Logs: {}", e.getMessage(), e);
-            event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_squad_logs", null, getUserLocale(event.getUser().getIdLong())) + ": " + e.getMessage())
+            event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_squad_logs", null, locale) + ": " + e.getMessage())
                     .setEmbeds()
                     .setComponents()
                     .queue();
         }
     }
 
+    private ActionRow pageNavigationRow(long userId, int page, int totalPages, Locale locale) {
+        String language = locale != null ? locale.toLanguageTag() : "";
+        Button voltarBtn = secondary(signedComponentIds.sign("voltar", userId, page - 1, language), "⬅️ " + messageSource.getMessage("txt_anterior", null, locale));
+        Button avancarBtn = secondary(signedComponentIds.sign("avancar", userId, page + 1, language), "➡️ " + messageSource.getMessage("txt_proxima", null, locale));
+        if (page <= 1) {
+            voltarBtn = voltarBtn.asDisabled();
+        }
+        if (page >= totalPages) {
+            avancarBtn = avancarBtn.asDisabled();
+        }
+        return ActionRow.of(
+                voltarBtn,
+                avancarBtn,
+                primary("voltar-inicio", "🏠 " + messageSource.getMessage("txt_voltar_inicio", null, locale))
+        );
+    }
+
     @Override
     public int getPriority() {
         return 6;
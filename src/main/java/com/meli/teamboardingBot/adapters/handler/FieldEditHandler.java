@@ -3,7 +3,8 @@ package com.meli.teamboardingBot.adapters.handler;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
+import com.meli.teamboardingBot.adapters.out.client.SquadCatalog;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
@@ -20,6 +21,9 @@ import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+import java.util.Set;
+
 @Slf4j
 @Component
 @Order(9)
@@ -42,21 +46,21 @@ public class FieldEditHandler extends AbstractInteractionHandler {
 
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "edit-squad".equals(componentId) ||
-               "edit-user".equals(componentId) ||
-               "edit-type".equals(componentId) ||
-               "edit-categories".equals(componentId) ||
-               "edit-description".equals(componentId) ||
-               "edit-dates".equals(componentId) ||
-               "cancelar-edicao".equals(componentId) ||
-               "edit-squad-select".equals(componentId) ||
-               "edit-user-select".equals(componentId) ||
-               "edit-type-select".equals(componentId) ||
-               "edit-categories-select".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "edit-user",
+            "edit-type",
+            "edit-categories",
+            "edit-description",
+            "edit-dates",
+            "cancelar-edicao",
+            "edit-squad-select",
+            "edit-user-select",
+            "edit-type-select",
+            "edit-categories-select");
     }
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         switch (buttonId) {
             case "edit-squad":
@@ -83,7 +87,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
         }
     }
     @Override
-    public void handleStringSelect(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         String selectId = event.getComponentId();
         switch (selectId) {
             case "edit-squad-select":
@@ -100,7 +104,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
                 break;
         }
     }
-    private void handleSquadSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    private void handleSquadSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         String selectedSquadId = event.getValues().get(0);
         String selectedSquadName = event.getSelectedOptions().get(0).getLabel();
         log.info("Squad selecionada para edição: {} - {}", selectedSquadId, selectedSquadName);
@@ -112,7 +116,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         showEditSummary(event.getHook(), state, event.getUser().getIdLong());
     }
-    private void handleUserSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    private void handleUserSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         String selectedUserId = event.getValues().get(0);
         log.info("Usuário selecionado para edição: {}", selectedUserId);
         try {
@@ -135,32 +139,15 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             showEditSummary(event.getHook(), state, event.getUser().getIdLong());
         }
     }
-    private void loadUserFromSquad(FormState state, String selectedUserId) throws Exception {
-        String squadsJson = squadLogService.getSquads();
-        JSONObject obj = new JSONObject(squadsJson);
-        JSONArray squadsArray = obj.optJSONArray("items");
-        if (squadsArray != null) {
-            for (int i = 0; i < squadsArray.length(); i++) {
-                JSONObject squad = squadsArray.getJSONObject(i);
-                if (String.valueOf(squad.get("id")).equals(state.getSquadId())) {
-                    JSONArray userSquads = squad.optJSONArray("user_squads");
-                    if (userSquads != null) {
-                        for (int j = 0; j < userSquads.length(); j++) {
-                            JSONObject userSquad = userSquads.getJSONObject(j);
-                            JSONObject user = userSquad.optJSONObject("user");
-                            if (user != null && String.valueOf(user.get("id")).equals(selectedUserId)) {
-                                state.setUserId(selectedUserId);
-                                state.setUserName(user.optString("first_name", "") + " " + user.optString("last_name", ""));
-                                break;
-                            }
-                        }
-                    }
-                    break;
-                }
-            }
-        }
+    private void loadUserFromSquad(FormDraft state, String selectedUserId) throws Exception {
+        squadLogService.getSquadCatalog()
+                .findMember(state.getSquadId(), selectedUserId)
+                .ifPresent(user -> {
+                    state.setUserId(selectedUserId);
+                    state.setUserName(Objects.toString(user.firstName(), "") + " " + Objects.toString(user.lastName(), ""));
+                });
     }
-    private void handleTypeSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    private void handleTypeSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         String selectedTypeId = event.getValues().get(0);
         String selectedTypeName = event.getSelectedOptions().get(0).getLabel();
         log.info("Tipo selecionado para edição: {} - {}", selectedTypeId, selectedTypeName);
@@ -170,7 +157,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         showEditSummary(event.getHook(), state, event.getUser().getIdLong());
     }
-    private void handleCategoriesSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    private void handleCategoriesSelection(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         log.info("Categorias selecionadas para edição: {}", event.getValues());
         state.getCategoryIds().clear();
         state.getCategoryNames().clear();
@@ -184,7 +171,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         showEditSummary(event.getHook(), state, event.getUser().getIdLong());
     }
-    private void showEditSummary(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    private void showEditSummary(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         log.info("Atualizando mensagem com resumo dos dados após seleção...");
         EmbedBuilder embed = new EmbedBuilder()
             .setTitle("📝 " + messageSource.getMessage("txt_editar_squad_log", null, getUserLocale(event.getUser().getIdLong())))
@@ -231,7 +218,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
                 error -> log.error("Erro ao atualizar mensagem: {}", error.getMessage())
             );
     }
-    private void showEditSummary(net.dv8tion.jda.api.interactions.InteractionHook hook, FormState state, long userId) {
+    private void showEditSummary(net.dv8tion.jda.api.interactions.InteractionHook hook, FormDraft state, long userId) {
         log.info("Atualizando mensagem com resumo dos dados após seleção (via hook)...");
         java.util.Locale locale = getUserLocale(userId);
         EmbedBuilder embed = new EmbedBuilder()
@@ -279,7 +266,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
                 error -> log.error("Erro ao atualizar mensagem: {}", error.getMessage())
             );
     }
-    private void returnToEditSummary(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormState state) {
+    private void returnToEditSummary(net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent event, FormDraft state) {
         log.info("Retornando ao resumo de edição após alteração");
         log.info("Estado no resumo: squadName={}, userName={}, typeName={}", state.getSquadName(), state.getUserName(), state.getTypeName());
         EmbedBuilder embed = new EmbedBuilder()
@@ -332,14 +319,12 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             log.error("Exceção ao tentar editar mensagem: {}", e.getMessage(), e);
         }
     }
-    private void handleEditSquad(ButtonInteractionEvent event, FormState state) {
+    private void handleEditSquad(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando squad do log");
         try {
             event.deferEdit().queue();
-            String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
-            JSONObject obj = new JSONObject(squadsJson);
-            JSONArray squadsArray = obj.optJSONArray("items");
-            if (squadsArray == null || squadsArray.length() == 0) {
+            SquadCatalog catalog = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadCatalog());
+            if (catalog.isEmpty()) {
                 event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_nenhuma_squad_encontrada", null, getUserLocale(event.getUser().getIdLong())) + ".").queue();
                 return;
             }
@@ -347,10 +332,9 @@ public class FieldEditHandler extends AbstractInteractionHandler {
                 net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu.create("edit-squad-select")
                     .setPlaceholder(messageSource.getMessage("txt_selecione_uma_nova_squad", null, getUserLocale(event.getUser().getIdLong())));
             boolean hasSquads = false;
-            for (int i = 0; i < squadsArray.length(); i++) {
-                JSONObject squad = squadsArray.getJSONObject(i);
-                String squadId = String.valueOf(squad.get("id"));
-                String squadName = squad.optString("name", "");
+            for (SquadCatalog.Squad squad : catalog.getSquads()) {
+                String squadId = String.valueOf(squad.id());
+                String squadName = squad.name();
                 if (squadName != null && !squadName.trim().isEmpty()) {
                     squadMenuBuilder.addOption(squadName, squadId);
                     hasSquads = true;
@@ -374,13 +358,11 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_squads", null, getUserLocale(event.getUser().getIdLong()))  +".").queue();
         }
     }
-    private void handleEditUser(ButtonInteractionEvent event, FormState state) {
+    private void handleEditUser(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando usuário do log - Squad ID atual: {}", state.getSquadId());
         try {
             event.deferEdit().queue();
-            String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
-            JSONObject obj = new JSONObject(squadsJson);
-            JSONArray squadsArray = obj.optJSONArray("items");
+            SquadCatalog catalog = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadCatalog());
             net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu.Builder userMenuBuilder = 
                 net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu.create("edit-user-select")
                     .setPlaceholder(messageSource.getMessage("txt_selecione_um_novo_usuario", null, getUserLocale(event.getUser().getIdLong())));
@@ -389,45 +371,14 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             userMenuBuilder.addOption("All team", state.getSquadId());
             hasUsers = true;
             
-            if (squadsArray != null) {
-                for (int i = 0; i < squadsArray.length(); i++) {
-                    JSONObject squad = squadsArray.getJSONObject(i);
-                    String squadId = String.valueOf(squad.get("id"));
-                    
-                    if (squadId.equals(state.getSquadId())) {
-                        log.info("Encontrada squad correspondente: {} (ID: {})", squad.optString("name", ""), squadId);
-                        JSONArray userSquads = squad.optJSONArray("user_squads");
-                        if (userSquads != null) {
-                            for (int j = 0; j < userSquads.length(); j++) {
-                                JSONObject userSquad = userSquads.getJSONObject(j);
-                                JSONObject user = userSquad.optJSONObject("user");
-                                if (user != null) {
-                                    String userId = String.valueOf(user.get("id"));
-                                    String firstName = user.optString("first_name", "");
-                                    String lastName = user.optString("last_name", "");
-                                    String fullName = user.optString("name", "");
-                                    
-                                    String userName;
-                                    if (!fullName.isEmpty()) {
-                                        userName = fullName;
-                                    } else if (!firstName.isEmpty() || !lastName.isEmpty()) {
-                                        userName = (firstName + " " + lastName).trim();
-                                    } else {
-                                        userName = "Usuário " + userId;
-                                    }
-                                    
-                                    if (!userName.trim().isEmpty()) {
-                                        userMenuBuilder.addOption(userName, userId);
-                                        hasUsers = true;
-                                        log.info("Adicionado usuário: {} (ID: {})", userName, userId);
-                                    } else {
-                                        log.warn("Usuário com ID {} tem nome vazio, pulando...", userId);
-                                    }
-                                }
-                            }
-                        }
-                        break;
-                    }
+            SquadCatalog.Squad currentSquad = catalog.findSquad(state.getSquadId()).orElse(null);
+            if (currentSquad != null) {
+                log.info("Encontrada squad correspondente: {} (ID: {})", currentSquad.name(), currentSquad.id());
+                for (SquadCatalog.Member user : catalog.getMembers(currentSquad.id())) {
+                    String userId = String.valueOf(user.id());
+                    String userName = user.displayName();
+                    userMenuBuilder.addOption(userName, userId);
+                    log.info("Adicionado usuário: {} (ID: {})", userName, userId);
                 }
             }
             
@@ -448,7 +399,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_usuarios", null, getUserLocale(event.getUser().getIdLong())) + ".").queue();
         }
     }
-    private void handleEditType(ButtonInteractionEvent event, FormState state) {
+    private void handleEditType(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando tipo do log");
         try {
             event.deferEdit().queue();
@@ -502,7 +453,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_tipos", null, getUserLocale(event.getUser().getIdLong())) +": " + e.getMessage()).queue();
         }
     }
-    private void handleEditCategories(ButtonInteractionEvent event, FormState state) {
+    private void handleEditCategories(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando categorias do log");
         event.deferEdit().queue();
         try {
@@ -557,7 +508,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             event.getHook().editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_categorias", null, getUserLocale(event.getUser().getIdLong())) +".").queue();
         }
     }
-    private void handleEditDescription(ButtonInteractionEvent event, FormState state) {
+    private void handleEditDescription(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando descrição do log");
         TextInput.Builder descriptionBuilder = TextInput.create("description", messageSource.getMessage("txt_descricao", null, getUserLocale(event.getUser().getIdLong())), TextInputStyle.PARAGRAPH)
             .setPlaceholder(messageSource.getMessage("txt_digite_a_nova_descricao_do_log", null, getUserLocale(event.getUser().getIdLong())) + "...")
@@ -572,7 +523,7 @@ public class FieldEditHandler extends AbstractInteractionHandler {
             .build();
         event.replyModal(modal).queue();
     }
-    private void handleEditDates(ButtonInteractionEvent event, FormState state) {
+    private void handleEditDates(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando datas do log");
         TextInput.Builder startDateBuilder = TextInput.create("start_date", messageSource.getMessage("txt_data_de_inicio", null, getUserLocale(event.getUser().getIdLong())) + " (DD-MM-AAAA)", TextInputStyle.SHORT)
             .setPlaceholder(messageSource.getMessage("txt_exemplo_data", null, getUserLocale(event.getUser().getIdLong())))
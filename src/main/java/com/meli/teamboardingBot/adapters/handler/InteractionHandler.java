@@ -1,12 +1,21 @@
 package com.meli.teamboardingBot.adapters.handler;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import java.util.Set;
 public interface InteractionHandler {
-    boolean canHandle(String componentId);
-    void handleButton(ButtonInteractionEvent event, FormState state);
-    void handleStringSelect(StringSelectInteractionEvent event, FormState state);
-    void handleModal(ModalInteractionEvent event, FormState state);
+    Set<String> componentIds();
+    default Set<String> componentPrefixes() {
+        return Set.of();
+    }
+    default Set<String> statelessComponentPrefixes() {
+        return Set.of();
+    }
+    default void handleStatelessButton(ButtonInteractionEvent event) {
+    }
+    void handleButton(ButtonInteractionEvent event, FormDraft state);
+    void handleStringSelect(StringSelectInteractionEvent event, FormDraft state);
+    void handleModal(ModalInteractionEvent event, FormDraft state);
     int getPriority();
 }
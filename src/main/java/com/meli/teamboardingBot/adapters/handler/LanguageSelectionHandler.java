@@ -1,11 +1,11 @@
 package com.meli.teamboardingBot.adapters.handler;
 
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
 import com.meli.teamboardingBot.adapters.out.language.LanguageInterceptorService;
 import com.meli.teamboardingBot.adapters.out.language.UserLanguageService;
 import com.meli.teamboardingBot.adapters.out.session.ActiveFlowMessageService;
-import com.meli.teamboardingBot.core.domain.FormState;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
-import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
+import com.meli.teamboardingBot.core.ports.formstate.PutFormStatePort;
 import com.meli.teamboardingBot.core.usecase.auth.oath.UserTokenManager;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
@@ -28,24 +28,30 @@ public class LanguageSelectionHandler extends ListenerAdapter {
     
     private final UserLanguageService languageService;
     private final MessageSource messageSource;
-    private final GetOrCreateFormStatePort getOrCreateFormStatePort;
+    private final PutFormStatePort putFormStatePort;
     private final LanguageInterceptorService languageInterceptor;
     private final GetIsUserAuthenticatedPort isUserAuthenticated;
+    private final MessageCleanupScheduler messageCleanupScheduler;
     private final ActiveFlowMessageService activeFlowMessageService;
+    private final UserTokenManager userTokenManager;
 
     @Autowired
     public LanguageSelectionHandler(UserLanguageService languageService, 
                                    MessageSource messageSource, 
-                                   GetOrCreateFormStatePort getOrCreateFormStatePort,
+                                   PutFormStatePort putFormStatePort,
                                    LanguageInterceptorService languageInterceptor,
                                    GetIsUserAuthenticatedPort isUserAuthenticated,
-                                   ActiveFlowMessageService activeFlowMessageService) {
+                                   ActiveFlowMessageService activeFlowMessageService,
+                                   MessageCleanupScheduler messageCleanupScheduler,
+                                   UserTokenManager userTokenManager) {
         this.languageService = languageService;
         this.messageSource = messageSource;
-        this.getOrCreateFormStatePort = getOrCreateFormStatePort;
+        this.putFormStatePort = putFormStatePort;
         this.languageInterceptor = languageInterceptor;
         this.isUserAuthenticated = isUserAuthenticated;
         this.activeFlowMessageService = activeFlowMessageService;
+        this.messageCleanupScheduler = messageCleanupScheduler;
+        this.userTokenManager = userTokenManager;
     }
     
     @Override
@@ -76,8 +82,7 @@ public class LanguageSelectionHandler extends ListenerAdapter {
         
         languageService.saveUserLanguagePreference(userId, selectedLocale);
         
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
-        formState.setLocale(selectedLocale);
+        putFormStatePort.updateState(event.getUser().getIdLong(), state -> state.setLocale(selectedLocale));
         logger.info("FormState locale updated to: {}", selectedLocale);
         
         handleExecutePendingCommand(event);
@@ -92,8 +97,7 @@ public class LanguageSelectionHandler extends ListenerAdapter {
         
         languageService.saveUserLanguagePreference(userId, newLocale);
         
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
-        formState.setLocale(newLocale);
+        putFormStatePort.updateState(event.getUser().getIdLong(), state -> state.setLocale(newLocale));
         logger.info("FormState locale updated to: {}", newLocale);
         
         LanguageInterceptorService.PendingCommand pendingCommand = languageInterceptor.getPendingCommand(userId);
@@ -254,7 +258,7 @@ public class LanguageSelectionHandler extends ListenerAdapter {
             event.editMessageEmbeds(embed.build())
                 .setComponents()
                 .queue(success -> {
-                    event.getHook().deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS);
+                    messageCleanupScheduler.scheduleDelete(event.getHook(), java.time.Duration.ofSeconds(10));
                 });
         }
     }
@@ -382,7 +386,7 @@ public class LanguageSelectionHandler extends ListenerAdapter {
                 .setColor(0x3498db)
                 .build()
         ).setComponents().queue(hook -> {
-            hook.deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS);
+            messageCleanupScheduler.scheduleDelete(hook, java.time.Duration.ofSeconds(10));
         });
     }
     
@@ -455,7 +459,7 @@ public class LanguageSelectionHandler extends ListenerAdapter {
                 .setColor(0x3498db)
                 .build()
         ).setComponents().queue(success -> {
-            hook.deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS);
+            messageCleanupScheduler.scheduleDelete(hook, java.time.Duration.ofSeconds(10));
         });
     }
     
@@ -478,7 +482,7 @@ public class LanguageSelectionHandler extends ListenerAdapter {
                 )
                 .queue();
         } else {
-            String authMethod = UserTokenManager.getAuthMethod(userIdStr);
+            String authMethod = userTokenManager.getAuthMethod(userIdStr);
             String authMethodText = "manual".equals(authMethod) ?
                 messageSource.getMessage("status.auth.method.manual", null, userLocale) :
                 messageSource.getMessage("status.auth.method.google", null, userLocale);
@@ -4,7 +4,7 @@ import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
@@ -17,6 +17,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import java.util.Locale;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -24,7 +26,6 @@ import org.springframework.stereotype.Component;
 public class LogSelectionHandler extends AbstractInteractionHandler {
     private final SquadLogService squadLogService;
     private final MessageSource messageSource;
-    private final FormState formState;
 
     @Autowired
     public LogSelectionHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, 
@@ -32,29 +33,32 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
                                SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, 
                                GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, 
                                DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, 
-                               LoggerApiPort loggerApiPort, SquadLogService squadLogService, MessageSource messageSource, FormState formState) {
+                               LoggerApiPort loggerApiPort, SquadLogService squadLogService, MessageSource messageSource) {
         
         super(getOrCreateFormStatePort, putFormStatePort, getFormStatePort, setBatchEntriesPort, setBatchCurrentIndexPort, 
                 getBatchEntriesPort, getBatchCurrentIndexPort, clearBatchStatePort, deleteFormStatePort, resetFormStatePort, loggerApiPort);
         this.squadLogService = squadLogService;
         this.messageSource = messageSource;
-        this.formState = formState;
     }
 
 
+    private Locale getUserLocale(long userId) {
+        return getOrCreateFormStatePort.getOrCreateState(userId).getLocale();
+    }
+
     @Override
-    public boolean canHandle(String componentId) {
-        return "log-select".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of("log-select");
     }
 
     @Override
-    public void handleStringSelect(StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(StringSelectInteractionEvent event, FormDraft state) {
         if ("log-select".equals(event.getComponentId())) {
             handleLogSelect(event, state);
         }
     }
 
-    private void handleLogSelect(StringSelectInteractionEvent event, FormState state) {
+    private void handleLogSelect(StringSelectInteractionEvent event, FormDraft state) {
         String selectedLogId = event.getValues().get(0);
            loggerApiPort.info("Log selecionado: {}", selectedLogId);
         try {
@@ -88,7 +92,7 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
         }
     }
 
-    private void loadLogDataIntoState(JSONObject logJson, FormState state) {
+    private void loadLogDataIntoState(JSONObject logJson, FormDraft state) {
            loggerApiPort.info("Carregando dados do log no estado");
            loggerApiPort.info("DEBUG: JSON do log completo: {}", logJson.toString());
         state.setCreating(false);
@@ -180,7 +184,7 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
 
     public void showLogSelection(net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent event) {
         try {
-            FormState state = getFormState(event.getUser().getIdLong());
+            FormDraft state = getFormState(event.getUser().getIdLong());
             String squadLogsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadLogAll());
             JSONObject obj = new JSONObject(squadLogsJson);
             JSONArray squadLogsArray = obj.optJSONArray("items");
@@ -203,8 +207,8 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
                     .queue();
         } catch (Exception e) {
                loggerApiPort.error("Erro ao carregar questionários: {}", e.getMessage());
-            event.editMessage("❌ " + messageSource.getMessage("txt_erro_carregar_questionarios", null, formState.getLocale())
-                            + ". " + messageSource.getMessage("txt_tente_novamente", null, formState.getLocale()) + ".")
+            event.editMessage("❌ " + messageSource.getMessage("txt_erro_carregar_questionarios", null, getUserLocale(event.getUser().getIdLong()))
+                            + ". " + messageSource.getMessage("txt_tente_novamente", null, getUserLocale(event.getUser().getIdLong())) + ".")
                     .setEmbeds()
                     .setComponents()
                     .queue();
@@ -212,31 +216,32 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
     }
 
     public void showLogSelectionWithHook(net.dv8tion.jda.api.interactions.InteractionHook hook, String userId) {
+        Locale locale = getUserLocale(Long.parseLong(userId));
         try {
             String squadLogsJson = withUserContext(userId, () -> squadLogService.getSquadLogAll());
             JSONObject obj = new JSONObject(squadLogsJson);
             JSONArray squadLogsArray = obj.optJSONArray("items");
             if (squadLogsArray == null || squadLogsArray.length() == 0) {
-                hook.editOriginal("❌ " + messageSource.getMessage("txt_nenhum_questionario_encontrado", null, formState.getLocale()) + ".")
+                hook.editOriginal("❌ " + messageSource.getMessage("txt_nenhum_questionario_encontrado", null, locale) + ".")
                         .setEmbeds()
                         .setComponents()
                         .queue();
                 return;
             }
             StringSelectMenu.Builder logMenuBuilder = StringSelectMenu.create("log-select")
-                    .setPlaceholder(messageSource.getMessage("txt_selecione_um_questionario", null, formState.getLocale()));
+                    .setPlaceholder(messageSource.getMessage("txt_selecione_um_questionario", null, locale));
             buildLogSelectMenu(squadLogsArray, logMenuBuilder);
             EmbedBuilder embed = new EmbedBuilder()
-                    .setTitle("📋 " + messageSource.getMessage("txt_selecione_um_questionario", null, formState.getLocale()))
-                    .setDescription(messageSource.getMessage("txt_escolha_o_questionario_que_deseja_atualizar", null, formState.getLocale()) + ":")
+                    .setTitle("📋 " + messageSource.getMessage("txt_selecione_um_questionario", null, locale))
+                    .setDescription(messageSource.getMessage("txt_escolha_o_questionario_que_deseja_atualizar", null, locale) + ":")
                     .setColor(0x0099FF);
             hook.editOriginalEmbeds(embed.build())
                     .setActionRow(logMenuBuilder.build())
                     .queue();
         } catch (Exception e) {
                loggerApiPort.error("Erro ao carregar questionários: {}", e.getMessage());
-            hook.editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_questionarios", null, formState.getLocale()) + ". "
-                            + messageSource.getMessage("txt_tente_novamente", null, formState.getLocale()) + ".")
+            hook.editOriginal("❌ " + messageSource.getMessage("txt_erro_carregar_questionarios", null, locale) + ". "
+                            + messageSource.getMessage("txt_tente_novamente", null, locale) + ".")
                     .setEmbeds()
                     .setComponents()
                     .queue();
@@ -269,7 +274,7 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
         }
     }
 
-    private void showUpdateSummary(StringSelectInteractionEvent event, FormState state) {
+    private void showUpdateSummary(StringSelectInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Mostrando resumo para edição do squad log ID: {}", state.getSquadLogId());
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("📝 " + messageSource.getMessage("txt_editar_squad_log", null, state.getLocale()))
@@ -315,7 +320,7 @@ public class LogSelectionHandler extends AbstractInteractionHandler {
                 .queue();
     }
 
-    private void showUpdateSummaryWithHook(net.dv8tion.jda.api.interactions.InteractionHook hook, FormState state) {
+    private void showUpdateSummaryWithHook(net.dv8tion.jda.api.interactions.InteractionHook hook, FormDraft state) {
            loggerApiPort.info("Mostrando resumo para edição do squad log ID: {}", state.getSquadLogId());
         EmbedBuilder embed = new EmbedBuilder()
                 .setTitle("📝 " + messageSource.getMessage("txt_editar_squad_log", null, state.getLocale()))
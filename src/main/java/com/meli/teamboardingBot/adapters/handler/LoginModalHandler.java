@@ -1,6 +1,7 @@
 package com.meli.teamboardingBot.adapters.handler;
 
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.auth.GetUserAuthenticatePort;
 import com.meli.teamboardingBot.core.ports.auth.GetUserAuthenticateWithTokenPort;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
@@ -8,6 +9,7 @@ import com.meli.teamboardingBot.adapters.out.oauth.googleoauth.ports.ExchangeCod
 import com.meli.teamboardingBot.adapters.out.oauth.googleoauth.ports.GetGoogleLoginUrlPort;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import com.meli.teamboardingBot.core.usecase.auth.oath.UserTokenAbstract;
+import com.meli.teamboardingBot.adapters.in.listener.InteractionExecutor;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import com.meli.teamboardingBot.adapters.out.session.UserInteractionChannelService;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -25,6 +27,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class LoginModalHandler extends ListenerAdapter {
     private static final Logger logger = LoggerFactory.getLogger(LoginModalHandler.class);
@@ -36,6 +40,8 @@ public class LoginModalHandler extends ListenerAdapter {
     private final ExchangeCodeForTokenPort exchangeCodeForTokenPort;
     private final UserInteractionChannelService channelService;
     private final GetIsUserAuthenticatedPort getIsUserAuthenticatedPort;
+    private final InteractionExecutor interactionExecutor;
+    private final MessageCleanupScheduler messageCleanupScheduler;
 
     @Autowired
     public LoginModalHandler(GetUserAuthenticatePort getUserAuthenticatePort,
@@ -45,7 +51,9 @@ public class LoginModalHandler extends ListenerAdapter {
                              ExchangeCodeForTokenPort exchangeCodeForTokenPort,
                              UserInteractionChannelService channelService,
                              GetUserAuthenticateWithTokenPort getUserAuthenticateWithTokenPort,
-                             GetIsUserAuthenticatedPort getIsUserAuthenticatedPort) {
+                             GetIsUserAuthenticatedPort getIsUserAuthenticatedPort,
+                             InteractionExecutor interactionExecutor,
+                             MessageCleanupScheduler messageCleanupScheduler) {
         this.getUserAuthenticatePort = getUserAuthenticatePort;
         this.getOrCreateFormStatePort = getOrCreateFormStatePort;
         this.squadLogService = squadLogService;
@@ -54,12 +62,18 @@ public class LoginModalHandler extends ListenerAdapter {
         this.channelService = channelService;
         this.getUserAuthenticateWithTokenPort = getUserAuthenticateWithTokenPort;
         this.getIsUserAuthenticatedPort = getIsUserAuthenticatedPort;
+        this.interactionExecutor = interactionExecutor;
+        this.messageCleanupScheduler = messageCleanupScheduler;
     }
     @Autowired
     private MessageSource messageSource;
 
     @Override
     public void onButtonInteraction(@NotNull ButtonInteractionEvent event) {
+        interactionExecutor.execute(event, () -> dispatchButton(event));
+    }
+
+    private void dispatchButton(ButtonInteractionEvent event) {
         String buttonId = event.getComponentId();
 
         try {
@@ -150,7 +164,7 @@ public class LoginModalHandler extends ListenerAdapter {
 
     private void handleAuthenticationMethodSelection(ButtonInteractionEvent event) {
         logger.info("Botão autenticar clicado pelo usuário: {}", event.getUser().getId());
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         event.deferEdit().queue(hook -> {
             EmbedBuilder embed = new EmbedBuilder()
@@ -172,7 +186,7 @@ public class LoginModalHandler extends ListenerAdapter {
 
     private void showManualLoginConfirmation(ButtonInteractionEvent event) {
         logger.info("Exibindo confirmação de login manual para usuário: {}", event.getUser().getId());
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         event.deferEdit().queue(hook -> {
             EmbedBuilder embed = new EmbedBuilder()
@@ -193,7 +207,7 @@ public class LoginModalHandler extends ListenerAdapter {
 
     private void handleManualAuthButton(ButtonInteractionEvent event) {
         logger.info("Autenticação manual selecionada pelo usuário: {}", event.getUser().getId());
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         TextInput username = TextInput.create("username", messageSource.getMessage("txt_email", null, formState.getLocale()) , TextInputStyle.SHORT)
                 .setPlaceholder(messageSource.getMessage("txt_digite_seu_email", null, formState.getLocale()) )
@@ -219,7 +233,7 @@ public class LoginModalHandler extends ListenerAdapter {
 
     private void handleGoogleAuthButton(ButtonInteractionEvent event) {
         logger.info("Autenticação Google selecionada pelo usuário: {}", event.getUser().getId());
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         String userId = event.getUser().getId();
         String channelId = event.getChannel().getId();
@@ -251,10 +265,7 @@ public class LoginModalHandler extends ListenerAdapter {
                                 Button.secondary("voltar-para-escolha", "🏠 " + messageSource.getMessage("txt_voltar", null, formState.getLocale()) )
                         )
                         .queue(success -> {
-                            hook.deleteOriginal().queueAfter(60, java.util.concurrent.TimeUnit.SECONDS,
-                                deleteSuccess -> logger.info("Mensagem de autenticação Google removida após 60 segundos para usuário: {}", userId),
-                                deleteError -> logger.debug("Mensagem de autenticação já foi removida ou não existe mais: {}", deleteError.getMessage())
-                            );
+                            messageCleanupScheduler.scheduleDelete(event.getUser().getIdLong(), hook, Duration.ofSeconds(60));
                         });
 
             } catch (Exception e) {
@@ -275,7 +286,7 @@ public class LoginModalHandler extends ListenerAdapter {
 
     private void handleGoogleCodeSubmission(ButtonInteractionEvent event) {
         logger.info("Botão inserir código Google clicado pelo usuário: {}", event.getUser().getId());
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         TextInput codeInput = TextInput.create("google-code", messageSource.getMessage("txt_codigo_de_autorizacao", null, formState.getLocale()) , TextInputStyle.PARAGRAPH)
                 .setPlaceholder(messageSource.getMessage("txt_cole_aqui_o_codigo_obtido_apos_autenticacao", null, formState.getLocale()) )
@@ -293,6 +304,10 @@ public class LoginModalHandler extends ListenerAdapter {
 
     @Override
     public void onModalInteraction(@NotNull ModalInteractionEvent event) {
+        interactionExecutor.execute(event, () -> dispatchModal(event));
+    }
+
+    private void dispatchModal(ModalInteractionEvent event) {
         if ("modal-google-code".equals(event.getModalId())) {
             handleGoogleCodeModal(event);
             return;
@@ -305,7 +320,7 @@ public class LoginModalHandler extends ListenerAdapter {
         String userId = event.getUser().getId();
         String username = event.getValue("username").getAsString();
         String password = event.getValue("password").getAsString();
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         logger.info("Processando modal de login para usuário Discord: {}", userId);
 
@@ -330,16 +345,7 @@ public class LoginModalHandler extends ListenerAdapter {
                 hook.editOriginalEmbeds(successEmbed.build())
                         .setComponents()
                         .queue(success -> {
-                            try {
-                                Thread.sleep(10000);
-                                hook.deleteOriginal().queue(
-                                    deleteSuccess -> logger.info("✅ Mensagem de sucesso deletada após 10s"),
-                                    deleteError -> logger.warn("⚠️ Não foi possível deletar mensagem: {}", deleteError.getMessage())
-                                );
-                            } catch (InterruptedException e) {
-                                Thread.currentThread().interrupt();
-                                logger.error("Thread interrompida durante sleep: {}", e.getMessage());
-                            }
+                            messageCleanupScheduler.scheduleDelete(event.getUser().getIdLong(), hook, Duration.ofSeconds(10));
                         });
             } else {
                 EmbedBuilder errorEmbed = new EmbedBuilder()
@@ -359,7 +365,7 @@ public class LoginModalHandler extends ListenerAdapter {
     private void handleGoogleCodeModal(ModalInteractionEvent event) {
         String userId = event.getUser().getId();
         String code = event.getValue("google-code").getAsString().trim();
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
 
         logger.info("Processando código Google para usuário Discord: {}", userId);
         logger.info("Código recebido (primeiros 20 chars): {}...", code.substring(0, Math.min(20, code.length())));
@@ -389,16 +395,7 @@ public class LoginModalHandler extends ListenerAdapter {
                         .setComponents()
                         .queue(success -> {
                             logger.info("✅ Mensagem de sucesso com comandos enviada ao usuário");
-                            try {
-                                Thread.sleep(10000);
-                                hook.deleteOriginal().queue(
-                                    deleteSuccess -> logger.info("✅ Mensagem de sucesso deletada após 10s"),
-                                    deleteError -> logger.warn("⚠️ Não foi possível deletar mensagem: {}", deleteError.getMessage())
-                                );
-                            } catch (InterruptedException e) {
-                                Thread.currentThread().interrupt();
-                                logger.error("Thread interrompida durante sleep: {}", e.getMessage());
-                            }
+                            messageCleanupScheduler.scheduleDelete(event.getUser().getIdLong(), hook, Duration.ofSeconds(10));
                         });
 
             } catch (Exception e) {
@@ -432,7 +429,7 @@ public class LoginModalHandler extends ListenerAdapter {
 
     private void handleCancelAuth(ButtonInteractionEvent event) {
         logger.info("Usuário {} cancelou a autenticação", event.getUser().getId());
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
         
         event.deferEdit().queue(hook -> {
             EmbedBuilder embed = new EmbedBuilder()
@@ -457,7 +454,7 @@ public class LoginModalHandler extends ListenerAdapter {
         channelService.clearUserChannel(userId);
         logger.info("🧹 Canal limpo ao cancelar autenticação: userId={}", userId);
         
-        FormState formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft formState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
         
         event.deferEdit().queue(hook -> {
             EmbedBuilder embed = new EmbedBuilder()
@@ -470,16 +467,7 @@ public class LoginModalHandler extends ListenerAdapter {
             hook.editOriginalEmbeds(embed.build())
                 .setComponents()
                 .queue(success -> {
-                    try {
-                        Thread.sleep(10000);
-                        hook.deleteOriginal().queue(
-                            deleteSuccess -> logger.info("✅ Mensagem de cancelamento deletada após 10s"),
-                            deleteError -> logger.warn("⚠️ Não foi possível deletar mensagem: {}", deleteError.getMessage())
-                        );
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        logger.error("Thread interrompida durante sleep: {}", e.getMessage());
-                    }
+                    messageCleanupScheduler.scheduleDelete(event.getUser().getIdLong(), hook, Duration.ofSeconds(10));
                 });
         });
     }
@@ -1,6 +1,6 @@
 package com.meli.teamboardingBot.adapters.handler;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +18,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.Set;
 @Slf4j
 @Component
 @Order(5)
@@ -30,20 +31,21 @@ public class ModalInputHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "create-complete-modal".equals(componentId) ||
-               "modal-edit-description".equals(componentId) ||
-               "modal-edit-dates".equals(componentId) ||
-               "edit-descricao".equals(componentId) ||
-               "edit-datas".equals(componentId) ||
-               "edit-description-modal".equals(componentId) ||
-               "edit-dates-modal".equals(componentId) ||
-               "retry-create-modal".equals(componentId) ||
-               "retry-edit-dates-modal".equals(componentId) ||
-               "retry-field-edit-dates-modal".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "create-complete-modal",
+            "modal-edit-description",
+            "modal-edit-dates",
+            "edit-descricao",
+            "edit-datas",
+            "edit-description-modal",
+            "edit-dates-modal",
+            "retry-create-modal",
+            "retry-edit-dates-modal",
+            "retry-field-edit-dates-modal");
     }
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         if ("edit-descricao".equals(buttonId)) {
             handleEditDescriptionButton(event, state);
@@ -58,7 +60,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         }
     }
     @Override
-    public void handleModal(ModalInteractionEvent event, FormState state) {
+    public void handleModal(ModalInteractionEvent event, FormDraft state) {
         String modalId = event.getModalId();
         if ("create-complete-modal".equals(modalId)) {
             handleCreateCompleteModal(event, state);
@@ -78,7 +80,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
     private java.util.Locale getUserLocale(long userId) {
         return getOrCreateFormStatePort.getOrCreateState(userId).getLocale();
     }
-    private void handleEditDescriptionButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditDescriptionButton(ButtonInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Editando descrição");
         TextInput.Builder descriptionBuilder = TextInput.create("description", messageSource.getMessage("txt_descricao", null, getUserLocale(event.getUser().getIdLong())), TextInputStyle.PARAGRAPH)
             .setPlaceholder(messageSource.getMessage("txt_digite_a_descricao_do_log", null, getUserLocale(event.getUser().getIdLong())) + "...")
@@ -93,7 +95,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
             .build();
         event.replyModal(modal).queue();
     }
-    private void handleEditDatesButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditDatesButton(ButtonInteractionEvent event, FormDraft state) {
         loggerApiPort.info("Editando datas");
         TextInput.Builder startDateBuilder = TextInput.create("start_date", messageSource.getMessage("txt_data_de_inicio", null, getUserLocale(event.getUser().getIdLong())) + " (DD-MM-AAAA)", TextInputStyle.SHORT)
             .setPlaceholder(messageSource.getMessage("txt_exemplo_data", null, getUserLocale(event.getUser().getIdLong())))
@@ -124,7 +126,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
             .build();
         event.replyModal(modal).queue();
     }
-    private void handleCreateCompleteModal(ModalInteractionEvent event, FormState state) {
+    private void handleCreateCompleteModal(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Processando modal de criação completa");
         String description = event.getValue("description").getAsString();
         String startDate = event.getValue("start_date").getAsString();
@@ -196,7 +198,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         showCreateSummary(event, state);
     }
-    private void handleEditDescriptionModal(ModalInteractionEvent event, FormState state) {
+    private void handleEditDescriptionModal(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Processando edição de descrição");
         String description = event.getValue("description").getAsString();
         state.setDescription(description);
@@ -204,7 +206,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         showSummary(event, state);
     }
-    private void handleEditDatesModal(ModalInteractionEvent event, FormState state) {
+    private void handleEditDatesModal(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Processando edição de datas");
         String startDate = event.getValue("start_date").getAsString();
         String endDate = event.getValue("end_date") != null ? event.getValue("end_date").getAsString() : null;
@@ -335,7 +337,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
             return false;
         }
     }
-    private void showCreateSummary(ModalInteractionEvent event, FormState state) {
+    private void showCreateSummary(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Mostrando resumo após preenchimento do modal");
         long userId = event.getUser().getIdLong();
         net.dv8tion.jda.api.EmbedBuilder embed = buildCompleteSummaryEmbed(state, userId);
@@ -346,7 +348,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    private void showSummary(ModalInteractionEvent event, FormState state) {
+    private void showSummary(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Mostrando resumo após edição via modal");
         if (state.isCreating()) {
             showCreateSummary(event, state);
@@ -362,7 +364,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
                 .queue();
         }
     }
-    private EmbedBuilder buildCompleteSummaryEmbed(FormState state, long userId) {
+    private EmbedBuilder buildCompleteSummaryEmbed(FormDraft state, long userId) {
         java.util.Locale locale = getUserLocale(userId);
         EmbedBuilder embed = new EmbedBuilder()
             .setTitle("📋 " + messageSource.getMessage("txt_resumo_completo_do_squad_log", null, locale))
@@ -387,7 +389,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         embed.addField("📅 " + messageSource.getMessage("txt_data_fim", null, locale) , endDateText, false);
         return embed;
     }
-    private void handleFieldEditDescriptionModal(ModalInteractionEvent event, FormState state) {
+    private void handleFieldEditDescriptionModal(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Processando edição de descrição via modal de campo");
         String description = event.getValue("description").getAsString();
         state.setDescription(description);
@@ -395,7 +397,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         returnToFieldEditSummaryWithHook(event, state);
     }
-    private void handleFieldEditDatesModal(ModalInteractionEvent event, FormState state) {
+    private void handleFieldEditDatesModal(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Processando edição de datas via modal de campo");
         String startDate = event.getValue("start_date").getAsString();
         String endDate = event.getValue("end_date") != null ? event.getValue("end_date").getAsString() : null;
@@ -466,7 +468,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         event.deferEdit().queue();
         returnToFieldEditSummaryWithHook(event, state);
     }
-    private void returnToFieldEditSummary(ModalInteractionEvent event, FormState state) {
+    private void returnToFieldEditSummary(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Retornando ao resumo de edição após modal (descrição/datas)");
         EmbedBuilder embed = new EmbedBuilder()
             .setTitle("📝 " + messageSource.getMessage("txt_editar_squad_log", null, getUserLocale(event.getUser().getIdLong())))
@@ -511,7 +513,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    private void returnToFieldEditSummaryWithHook(ModalInteractionEvent event, FormState state) {
+    private void returnToFieldEditSummaryWithHook(ModalInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Retornando ao resumo de edição após modal (descrição/datas) via hook");
         EmbedBuilder embed = new EmbedBuilder()
             .setTitle("📝 " + messageSource.getMessage("txt_editar_squad_log", null, getUserLocale(event.getUser().getIdLong())))
@@ -555,7 +557,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    private void handleRetryCreateModal(ButtonInteractionEvent event, FormState state) {
+    private void handleRetryCreateModal(ButtonInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Reabrindo modal de criação após erro de data");
         
         TextInput.Builder descriptionBuilder = TextInput.create("description", messageSource.getMessage("txt_descricao", null, getUserLocale(event.getUser().getIdLong())), TextInputStyle.PARAGRAPH)
@@ -592,7 +594,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         event.replyModal(modal).queue();
     }
 
-    private void handleRetryEditDatesModal(ButtonInteractionEvent event, FormState state) {
+    private void handleRetryEditDatesModal(ButtonInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Reabrindo modal de edição de datas após erro");
         
         TextInput.Builder startDateBuilder = TextInput.create("start_date", messageSource.getMessage("txt_data_de_inicio", null, getUserLocale(event.getUser().getIdLong())) + " (DD-MM-AAAA)", TextInputStyle.SHORT)
@@ -626,7 +628,7 @@ public class ModalInputHandler extends AbstractInteractionHandler {
         event.replyModal(modal).queue();
     }
 
-    private void handleRetryFieldEditDatesModal(ButtonInteractionEvent event, FormState state) {
+    private void handleRetryFieldEditDatesModal(ButtonInteractionEvent event, FormDraft state) {
          loggerApiPort.info("Reabrindo modal de edição de datas de campo após erro");
         
         TextInput.Builder startDateBuilder = TextInput.create("start_date", messageSource.getMessage("txt_data_de_inicio", null, getUserLocale(event.getUser().getIdLong())) + " (DD-MM-AAAA)", TextInputStyle.SHORT)
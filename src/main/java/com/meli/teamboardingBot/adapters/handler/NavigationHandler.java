@@ -1,6 +1,7 @@
 package com.meli.teamboardingBot.adapters.handler;
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
@@ -12,31 +13,34 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import java.util.Set;
 @Slf4j
 @Component
 @Order(7)
 public class NavigationHandler extends AbstractInteractionHandler {
 
     private MessageSource messageSource;
+    private final MessageCleanupScheduler messageCleanupScheduler;
 
     @Autowired
-    public NavigationHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, MessageSource messageSource) {
+    public NavigationHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, MessageSource messageSource, MessageCleanupScheduler messageCleanupScheduler) {
         super(getOrCreateFormStatePort, putFormStatePort, getFormStatePort, setBatchEntriesPort, setBatchCurrentIndexPort, getBatchEntriesPort, getBatchCurrentIndexPort, clearBatchStatePort, deleteFormStatePort, resetFormStatePort, loggerApiPort);
         this.messageSource = messageSource;
+        this.messageCleanupScheduler = messageCleanupScheduler;
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "atualizar".equals(componentId) ||
-               "editar-log".equals(componentId) ||
-               "voltar-logs".equals(componentId) ||
-               "criar-novo".equals(componentId) ||
-               "atualizar-existente".equals(componentId) ||
-               "sair".equals(componentId) ||
-               "voltar-resumo".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "editar-log",
+            "voltar-logs",
+            "criar-novo",
+            "atualizar-existente",
+            "sair",
+            "voltar-resumo");
     }
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         switch (buttonId) {
             case "atualizar" -> handleUpdateButton(event, state);
@@ -53,7 +57,7 @@ public class NavigationHandler extends AbstractInteractionHandler {
         return getOrCreateFormStatePort.getOrCreateState(userId).getLocale();
     }
 
-    private void handleUpdateButton(ButtonInteractionEvent event, FormState state) {
+    private void handleUpdateButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Iniciando fluxo de atualização");
         state.setCreating(false);
         state.setEditing(true);
@@ -61,23 +65,23 @@ public class NavigationHandler extends AbstractInteractionHandler {
         updateFormState(event.getUser().getIdLong(), state);
         showLogSelection(event);
     }
-    private void handleEditButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Mostrando menu de edição");
         state.setEditing(true);
         state.setStep(FormStep.EDIT_MENU);
         updateFormState(event.getUser().getIdLong(), state);
         showEditFieldsMenu(event);
     }
-    private void handleBackToLogsButton(ButtonInteractionEvent event, FormState state) {
+    private void handleBackToLogsButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Voltando para seleção de logs");
         state.setStep(FormStep.LOG_SELECTION);
         updateFormState(event.getUser().getIdLong(), state);
         showLogSelection(event);
     }
-    private void handleCreateNewButton(ButtonInteractionEvent event, FormState state) {
+    private void handleCreateNewButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Iniciando novo fluxo de criação");
         resetFormStatePort.resetState(event.getUser().getIdLong());
-        FormState newState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
+        FormDraft newState = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong());
         newState.setCreating(true);
         newState.setEditing(false);
         newState.setStep(FormStep.SQUAD_SELECTION);
@@ -85,7 +89,7 @@ public class NavigationHandler extends AbstractInteractionHandler {
         event.deferReply(true).queue();
         showSquadSelectionWithHook(event.getHook());
     }
-    private void handleUpdateExistingButton(ButtonInteractionEvent event, FormState state) {
+    private void handleUpdateExistingButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Iniciando fluxo de atualização");
         state.setCreating(false);
         state.setEditing(true);
@@ -94,12 +98,12 @@ public class NavigationHandler extends AbstractInteractionHandler {
         event.deferReply(true).queue();
         showLogSelectionWithHook(event.getHook(), event.getUser().getId());
     }
-    private void handleExitButton(ButtonInteractionEvent event, FormState state) {
+    private void handleExitButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Usuário saindo do bot");
         event.deferEdit().queue();
         exitBotWithTimer(event.getHook(), event.getUser().getIdLong());
     }
-    private void handleBackToSummaryButton(ButtonInteractionEvent event, FormState state) {
+    private void handleBackToSummaryButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Voltando ao resumo - isEditing={}, isCreating={}", state.isEditing(), state.isCreating());
         if (state.isEditing() && !state.isCreating()) {
             log.info("Voltando ao resumo de atualização");
@@ -161,14 +165,9 @@ public class NavigationHandler extends AbstractInteractionHandler {
         
         hook.editOriginalEmbeds(embed.build())
             .setComponents()
-            .queue(success -> {
-                hook.deleteOriginal().queueAfter(8, java.util.concurrent.TimeUnit.SECONDS, 
-                    deleteSuccess -> log.info("Mensagem de saída removida após 8 segundos"),
-                    deleteError -> log.warn("Erro ao remover mensagem de saída: {}", deleteError.getMessage())
-                );
-            });
-    }
-    private void showCreateSummary(ButtonInteractionEvent event, FormState state) {
+            .queue(success -> messageCleanupScheduler.scheduleDelete(userId, hook, java.time.Duration.ofSeconds(8)));
+    }
+    private void showCreateSummary(ButtonInteractionEvent event, FormDraft state) {
         log.info("Mostrando resumo de criação");
         event.deferEdit().queue();
         long userId = event.getUser().getIdLong();
@@ -180,7 +179,7 @@ public class NavigationHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    private void showUpdateSummary(ButtonInteractionEvent event, FormState state) {
+    private void showUpdateSummary(ButtonInteractionEvent event, FormDraft state) {
         log.info("Mostrando resumo de atualização");
         event.deferEdit().queue();
         long userId = event.getUser().getIdLong();
@@ -193,7 +192,7 @@ public class NavigationHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    private EmbedBuilder buildSummaryEmbed(FormState state, long userId, String title, String description) {
+    private EmbedBuilder buildSummaryEmbed(FormDraft state, long userId, String title, String description) {
         EmbedBuilder embed = new EmbedBuilder()
             .setTitle(title)
             .setDescription(description)
@@ -1,10 +1,10 @@
 package com.meli.teamboardingBot.adapters.handler;
-import com.meli.teamboardingBot.core.context.UserContext;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.adapters.out.session.PendingAuthMessageService;
+import com.meli.teamboardingBot.adapters.out.client.SquadCatalog;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
@@ -13,13 +13,15 @@ import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 @Slf4j
 @Component
 @Order(1)
@@ -45,13 +47,14 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "criar".equals(componentId) || 
-               "squad-select".equals(componentId) ||
-               "edit-squad".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "criar",
+            "squad-select",
+            "edit-squad");
     }
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         if ("criar".equals(buttonId)) {
             handleCreateButton(event, state);
@@ -60,12 +63,12 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
         }
     }
     @Override
-    public void handleStringSelect(StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(StringSelectInteractionEvent event, FormDraft state) {
         if ("squad-select".equals(event.getComponentId())) {
             handleSquadSelect(event, state);
         }
     }
-    private void handleCreateButton(ButtonInteractionEvent event, FormState state) {
+    private void handleCreateButton(ButtonInteractionEvent event, FormDraft state) {
         String userId = event.getUser().getId();
         
         if (!isUserAuthenticated.isUserAuthenticated(userId)) {
@@ -85,35 +88,28 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
         }
         
         log.info("Iniciando fluxo de criação para usuário autenticado: {}", userId);
+        withUserContext(userId, () -> squadLogService.prefetch());
         state.setCreating(true);
         state.setEditing(false);
         state.setStep(FormStep.SQUAD_SELECTION);
         updateFormState(event.getUser().getIdLong(), state);
         showSquadSelection(event);
     }
-    private void handleEditSquadButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditSquadButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando squad");
         state.setStep(FormStep.SQUAD_MODIFY);
         updateFormState(event.getUser().getIdLong(), state);
         showSquadSelection(event);
     }
-    private void handleSquadSelect(StringSelectInteractionEvent event, FormState state) {
+    private void handleSquadSelect(StringSelectInteractionEvent event, FormDraft state) {
         String selectedSquadId = event.getValues().get(0);
         log.info("Squad selecionada: {}", selectedSquadId);
         try {
-            String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
-            JSONObject obj = new JSONObject(squadsJson);
-            JSONArray squadsArray = obj.optJSONArray("items");
-            if (squadsArray != null) {
-                for (int i = 0; i < squadsArray.length(); i++) {
-                    JSONObject squad = squadsArray.getJSONObject(i);
-                    if (String.valueOf(squad.get("id")).equals(selectedSquadId)) {
-                        state.setSquadId(selectedSquadId);
-                        state.setSquadName(squad.optString("name", ""));
-                        break;
-                    }
-                }
-            }
+            SquadCatalog catalog = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadCatalog());
+            catalog.findSquad(selectedSquadId).ifPresent(squad -> {
+                state.setSquadId(selectedSquadId);
+                state.setSquadName(Objects.toString(squad.name(), ""));
+            });
             event.deferEdit().queue();
             updateFormState(event.getUser().getIdLong(), state);
             if (state.getStep() == FormStep.SQUAD_MODIFY) {
@@ -130,11 +126,9 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
     }
     private void showSquadSelection(ButtonInteractionEvent event) {
         try {
-            String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
-            JSONObject obj = new JSONObject(squadsJson);
-            JSONArray squadsArray = obj.optJSONArray("items");
+            SquadCatalog catalog = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadCatalog());
             event.deferEdit().queue();
-            if (squadsArray == null || squadsArray.length() == 0) {
+            if (catalog.isEmpty()) {
                 EmbedBuilder errorEmbed = new EmbedBuilder()
                     .setTitle("❌ " + messageSource.getMessage("txt_nenhuma_squad_encontrada", null, getUserLocale(event.getUser().getIdLong())))
                     .setDescription(messageSource.getMessage("txt_nao_ha_squads_disponiveis_no_momento", null, getUserLocale(event.getUser().getIdLong())) + ".")
@@ -146,12 +140,9 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
             }
             StringSelectMenu.Builder squadMenuBuilder = StringSelectMenu.create("squad-select")
                     .setPlaceholder(messageSource.getMessage("txt_selecione_uma_squad", null, getUserLocale(event.getUser().getIdLong())));
-            for (int i = 0; i < squadsArray.length(); i++) {
-                JSONObject squad = squadsArray.getJSONObject(i);
-                String squadName = squad.optString("name", "");
-                String squadId = String.valueOf(squad.get("id"));
-                if (!squadName.isEmpty()) {
-                    squadMenuBuilder.addOption(squadName, squadId);
+            for (SquadCatalog.Squad squad : catalog.getSquads()) {
+                if (squad.name() != null && !squad.name().isEmpty()) {
+                    squadMenuBuilder.addOption(squad.name(), String.valueOf(squad.id()));
                 }
             }
             EmbedBuilder embed = new EmbedBuilder()
@@ -173,30 +164,21 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
                 .queue();
         }
     }
-    private void showUserSelectionAfterSquad(StringSelectInteractionEvent event, FormState state) {
+    private void showUserSelectionAfterSquad(StringSelectInteractionEvent event, FormDraft state) {
         try {
             String squadId = state.getSquadId();
-            String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
-            JSONObject obj = new JSONObject(squadsJson);
-            JSONArray squadsArray = obj.optJSONArray("items");
-            if (squadsArray == null || squadsArray.length() == 0) {
+            SquadCatalog catalog = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadCatalog());
+            if (catalog.isEmpty()) {
                 showError(event, messageSource.getMessage("txt_nenhuma_squad_encontrada_na_resposta_da_api", null, getUserLocale(event.getUser().getIdLong())) + ".");
                 return;
             }
-            JSONObject selectedSquad = null;
-            for (int i = 0; i < squadsArray.length(); i++) {
-                JSONObject squad = squadsArray.getJSONObject(i);
-                if (String.valueOf(squad.get("id")).equals(squadId)) {
-                    selectedSquad = squad;
-                    break;
-                }
-            }
+            SquadCatalog.Squad selectedSquad = catalog.findSquad(squadId).orElse(null);
             if (selectedSquad == null) {
                 showError(event, messageSource.getMessage("txt_squad_selecionada_nao_encontrada", null, getUserLocale(event.getUser().getIdLong())) + ".");
                 return;
             }
-            JSONArray userSquads = selectedSquad.optJSONArray("user_squads");
-            if (userSquads == null || userSquads.length() == 0) {
+            List<SquadCatalog.Member> members = catalog.getMembers(selectedSquad.id());
+            if (members.isEmpty()) {
                 showError(event, messageSource.getMessage("txt_nenhum_usuario_encontrado_na_squad_selecionada", null, getUserLocale(event.getUser().getIdLong())) + ".");
                 return;
             }
@@ -209,25 +191,11 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
             
             menuBuilder.addOption("All team", squadId);
             
-            for (int i = 0; i < userSquads.length(); i++) {
-                JSONObject userSquad = userSquads.getJSONObject(i);
-                JSONObject user = userSquad.optJSONObject("user");
-                if (user != null) {
-                    String userId = String.valueOf(user.get("id"));
-                    String firstName = user.optString("first_name", "");
-                    String lastName = user.optString("last_name", "");
-                    String fullName = user.optString("name", ""); 
-                    String userName;
-                    if (!fullName.isEmpty()) {
-                        userName = fullName;
-                    } else if (!firstName.isEmpty() || !lastName.isEmpty()) {
-                        userName = (firstName + " " + lastName).trim();
-                    } else {
-                        userName = "Usuário " + userId;
-                    }
-                    menuBuilder.addOption(userName, userId);
-                    log.debug("Adicionado usuário: {} (ID: {})", userName, userId);
-                }
+            for (SquadCatalog.Member user : members) {
+                String userId = String.valueOf(user.id());
+                String userName = user.displayName();
+                menuBuilder.addOption(userName, userId);
+                log.debug("Adicionado usuário: {} (ID: {})", userName, userId);
             }
             event.getHook().editOriginalEmbeds(embed.build())
                 .setActionRow(menuBuilder.build())
@@ -235,12 +203,10 @@ public class SquadSelectionHandler extends AbstractInteractionHandler {
         } catch (Exception e) {
             log.error("Erro ao exibir seleção de usuário: {}", e.getMessage());
             showError(event, messageSource.getMessage("txt_erro_carregar_selecao_de_usuario", null, getUserLocale(event.getUser().getIdLong())) + ".");
-        } finally {
-            UserContext.clear();
         }
     }
     private void showSummary(StringSelectInteractionEvent event) {
-        FormState state = getFormState(event.getUser().getIdLong());
+        FormDraft state = getFormState(event.getUser().getIdLong());
         if (state != null) {
             summaryHandler.showUpdateSummary(event, state);
         }
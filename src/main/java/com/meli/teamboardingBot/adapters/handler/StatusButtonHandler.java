@@ -1,6 +1,8 @@
 package com.meli.teamboardingBot.adapters.handler;
 
 
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
+import com.meli.teamboardingBot.adapters.out.client.ReferenceDataCache;
 import com.meli.teamboardingBot.core.ports.discorduserauthentication.LogoutDiscordUserPort;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import com.meli.teamboardingBot.adapters.out.language.UserLanguageService;
@@ -14,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Locale;
 
 @Component
@@ -23,17 +26,21 @@ public class StatusButtonHandler extends ListenerAdapter {
     private final UserLanguageService languageService;
     private final MessageSource messageSource;
     private final GetOrCreateFormStatePort getOrCreateFormStatePort;
+    private final ReferenceDataCache referenceDataCache;
+    private final MessageCleanupScheduler messageCleanupScheduler;
 
     private java.util.Locale getUserLocale(long userId) {
         return getOrCreateFormStatePort.getOrCreateState(userId).getLocale();
     }
 
     @Autowired
-    public StatusButtonHandler(LogoutDiscordUserPort authService, UserLanguageService languageService, MessageSource messageSource, GetOrCreateFormStatePort getOrCreateFormStatePort) {
+    public StatusButtonHandler(LogoutDiscordUserPort authService, UserLanguageService languageService, MessageSource messageSource, GetOrCreateFormStatePort getOrCreateFormStatePort, ReferenceDataCache referenceDataCache, MessageCleanupScheduler messageCleanupScheduler) {
         this.authService = authService;
         this.languageService = languageService;
         this.messageSource = messageSource;
         this.getOrCreateFormStatePort = getOrCreateFormStatePort;
+        this.referenceDataCache = referenceDataCache;
+        this.messageCleanupScheduler = messageCleanupScheduler;
     }
 
     @Override
@@ -71,6 +78,7 @@ public class StatusButtonHandler extends ListenerAdapter {
         logger.info("Usuário {} solicitou logout", userId);
 
         authService.logoutUser(userId);
+        referenceDataCache.invalidateScope(userId);
         languageService.clearUserLanguagePreference(userId);
         logger.info("Language preference cleared for user {} on logout", userId);
 
@@ -84,14 +92,7 @@ public class StatusButtonHandler extends ListenerAdapter {
         event.deferEdit().queue(hook -> {
             hook.editOriginalEmbeds(embed.build())
                     .setComponents()
-                    .queue(message -> {
-                        try {
-                            Thread.sleep(3000);
-                            hook.deleteOriginal().queue();
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    });
+                    .queue(message -> messageCleanupScheduler.scheduleDelete(event.getUser().getIdLong(), hook, Duration.ofSeconds(3)));
         });
     }
 }
@@ -1,5 +1,5 @@
 package com.meli.teamboardingBot.adapters.handler;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +11,7 @@ import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import java.util.Set;
 @Slf4j
 @Component
 @Order(9)
@@ -24,10 +25,10 @@ public class SummaryHandler extends AbstractInteractionHandler {
         this.messageSource = messageSource;
     }
     @Override
-    public boolean canHandle(String componentId) {
-        return false;
+    public Set<String> componentIds() {
+        return Set.of();
     }
-    public void showCreateSummary(ModalInteractionEvent event, FormState state) {
+    public void showCreateSummary(ModalInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Mostrando resumo de criação via modal");
         EmbedBuilder embed = buildSummaryEmbed(state, "📋 " + messageSource.getMessage("txt_resumo_do_squad_log", null, state.getLocale()), messageSource.getMessage("txt_confirme_os_dados_antes_de_criar", null, state.getLocale()) + ":");
         Button createButton = Button.success("confirmar-criacao", "✅ " + messageSource.getMessage("txt_criar", null, state.getLocale()));
@@ -37,7 +38,7 @@ public class SummaryHandler extends AbstractInteractionHandler {
             .queue();
     }
 
-    public void showCreateSummary(net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent event, FormState state) {
+    public void showCreateSummary(net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Mostrando resumo de criação");
         event.deferEdit().queue();
         EmbedBuilder embed = buildSummaryEmbed(state, "📋 " + messageSource.getMessage("txt_resumo_do_que_foi_preenchido", null, state.getLocale()), messageSource.getMessage("txt_verifique_todos_os_dados_antes_de_criar_o_log", null, state.getLocale())+":");
@@ -48,7 +49,7 @@ public class SummaryHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    public void showUpdateSummary(net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent event, FormState state) {
+    public void showUpdateSummary(net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Mostrando resumo de atualização");
         event.deferEdit().queue();
         EmbedBuilder embed = buildSummaryEmbed(state, "📋 "+messageSource.getMessage("txt_resumo_do_questionario_selecionado", null, state.getLocale()), messageSource.getMessage("txt_dados_atuais_do_questionario", null, state.getLocale())+":");
@@ -60,7 +61,7 @@ public class SummaryHandler extends AbstractInteractionHandler {
             )
             .queue();
     }
-    public void showUpdateSummary(StringSelectInteractionEvent event, FormState state) {
+    public void showUpdateSummary(StringSelectInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Mostrando resumo de atualização via select");
         EmbedBuilder embed = buildSummaryEmbed(state, "📋 " + messageSource.getMessage("txt_resumo_do_questionario_selecionado", null, state.getLocale()), messageSource.getMessage("txt_dados_atuais_do_questionario", null, state.getLocale())+":");
         event.getHook().editOriginalEmbeds(embed.build())
@@ -71,7 +72,7 @@ public class SummaryHandler extends AbstractInteractionHandler {
             ))
             .queue();
     }
-    public void showSummary(ModalInteractionEvent event, FormState state) {
+    public void showSummary(ModalInteractionEvent event, FormDraft state) {
            loggerApiPort.info("Mostrando resumo após modal");
         if (state.isCreating()) {
             showCreateSummary(event, state);
@@ -89,7 +90,7 @@ public class SummaryHandler extends AbstractInteractionHandler {
     public void showSummary(StringSelectInteractionEvent event) {
            loggerApiPort.warn("Método showSummary(StringSelectInteractionEvent) chamado mas não implementado");
     }
-    private EmbedBuilder buildSummaryEmbed(FormState state, String title, String description) {
+    private EmbedBuilder buildSummaryEmbed(FormDraft state, String title, String description) {
         EmbedBuilder embed = new EmbedBuilder()
             .setTitle(title)
             .setDescription(description)
@@ -1,6 +1,6 @@
 package com.meli.teamboardingBot.adapters.handler;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.*;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -37,13 +38,14 @@ public class TypeSelectionHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "type-select".equals(componentId) || 
-               "select-type".equals(componentId) ||
-               "edit-tipo".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "type-select",
+            "select-type",
+            "edit-tipo");
     }
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         if ("select-type".equals(buttonId)) {
             handleSelectTypeButton(event, state);
@@ -52,24 +54,24 @@ public class TypeSelectionHandler extends AbstractInteractionHandler {
         }
     }
     @Override
-    public void handleStringSelect(StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(StringSelectInteractionEvent event, FormDraft state) {
         if ("type-select".equals(event.getComponentId())) {
             handleTypeSelect(event, state);
         }
     }
-    private void handleSelectTypeButton(ButtonInteractionEvent event, FormState state) {
+    private void handleSelectTypeButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Iniciando seleção de tipo");
         state.setStep(FormStep.TYPE_SELECTION);
         updateFormState(event.getUser().getIdLong(), state);
         showTypeSelection(event);
     }
-    private void handleEditTypeButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditTypeButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando tipo");
         state.setStep(FormStep.TYPE_MODIFY);
         updateFormState(event.getUser().getIdLong(), state);
         showTypeSelection(event);
     }
-    private void handleTypeSelect(StringSelectInteractionEvent event, FormState state) {
+    private void handleTypeSelect(StringSelectInteractionEvent event, FormDraft state) {
         String selectedTypeId = event.getValues().get(0);
         log.info("Tipo selecionado: {}", selectedTypeId);
         try {
@@ -183,7 +185,7 @@ public class TypeSelectionHandler extends AbstractInteractionHandler {
         }
     }
     private void showSummary(StringSelectInteractionEvent event) {
-        FormState state = getFormState(event.getUser().getIdLong());
+        FormDraft state = getFormState(event.getUser().getIdLong());
         if (state != null) {
             summaryHandler.showUpdateSummary(event, state);
         }
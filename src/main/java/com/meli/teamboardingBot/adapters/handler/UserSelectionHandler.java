@@ -1,20 +1,25 @@
 package com.meli.teamboardingBot.adapters.handler;
 import com.meli.teamboardingBot.core.domain.enums.FormStep;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.*;
+import com.meli.teamboardingBot.adapters.out.client.ReferenceItem;
+import com.meli.teamboardingBot.adapters.out.client.SquadCatalog;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
+import com.meli.teamboardingBot.adapters.out.ui.SignedComponentIds;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.context.MessageSource;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 @Slf4j
 @Component
 @Order(2)
@@ -22,12 +27,14 @@ public class UserSelectionHandler extends AbstractInteractionHandler {
     private final SquadLogService squadLogService;
     private SummaryHandler summaryHandler;
     private MessageSource messageSource;
+    private final SignedComponentIds signedComponentIds;
 
-    public UserSelectionHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, SquadLogService squadLogService, SummaryHandler summaryHandler, MessageSource messageSource) {
+    public UserSelectionHandler(GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, GetFormStatePort getFormStatePort, SetBatchEntriesPort setBatchEntriesPort, SetBatchCurrentIndexPort setBatchCurrentIndexPort, GetBatchEntriesPort getBatchEntriesPort, GetBatchCurrentIndexPort getBatchCurrentIndexPort, ClearBatchStatePort clearBatchStatePort, DeleteFormStatePort deleteFormStatePort, ResetFormStatePort resetFormStatePort, LoggerApiPort loggerApiPort, SquadLogService squadLogService, SummaryHandler summaryHandler, MessageSource messageSource, SignedComponentIds signedComponentIds) {
         super(getOrCreateFormStatePort, putFormStatePort, getFormStatePort, setBatchEntriesPort, setBatchCurrentIndexPort, getBatchEntriesPort, getBatchCurrentIndexPort, clearBatchStatePort, deleteFormStatePort, resetFormStatePort, loggerApiPort);
         this.squadLogService = squadLogService;
         this.summaryHandler = summaryHandler;
         this.messageSource = messageSource;
+        this.signedComponentIds = signedComponentIds;
     }
 
     private java.util.Locale getUserLocale(long userId) {
@@ -35,13 +42,18 @@ public class UserSelectionHandler extends AbstractInteractionHandler {
     }
 
     @Override
-    public boolean canHandle(String componentId) {
-        return "user-select".equals(componentId) || 
-               "select-user".equals(componentId) ||
-               "edit-pessoa".equals(componentId);
+    public Set<String> componentIds() {
+        return Set.of(
+            "user-select",
+            "select-user",
+            "edit-pessoa");
+    }
+    @Override
+    public Set<String> componentPrefixes() {
+        return Set.of(SignedComponentIds.prefix("user-select"));
     }
     @Override
-    public void handleButton(ButtonInteractionEvent event, FormState state) {
+    public void handleButton(ButtonInteractionEvent event, FormDraft state) {
         String buttonId = event.getComponentId();
         if ("select-user".equals(buttonId)) {
             handleSelectUserButton(event, state);
@@ -50,34 +62,44 @@ public class UserSelectionHandler extends AbstractInteractionHandler {
         }
     }
     @Override
-    public void handleStringSelect(StringSelectInteractionEvent event, FormState state) {
+    public void handleStringSelect(StringSelectInteractionEvent event, FormDraft state) {
         if ("user-select".equals(event.getComponentId())) {
-            handleUserSelect(event, state);
+            handleUserSelect(event, state, state.getSquadId());
+            return;
+        }
+        SignedComponentIds.Decoded select = signedComponentIds.verify(event.getComponentId(), event.getUser().getIdLong());
+        if (select == null) {
+            event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
+            return;
         }
+        if (state.getSquadId() == null) {
+            state.setSquadId(select.value(0));
+        }
+        handleUserSelect(event, state, select.value(0));
     }
-    private void handleSelectUserButton(ButtonInteractionEvent event, FormState state) {
+    private void handleSelectUserButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Iniciando seleção de usuário");
         state.setStep(FormStep.USER_SELECTION);
         updateFormState(event.getUser().getIdLong(), state);
         showUserSelection(event, state.getSquadId());
     }
-    private void handleEditUserButton(ButtonInteractionEvent event, FormState state) {
+    private void handleEditUserButton(ButtonInteractionEvent event, FormDraft state) {
         log.info("Editando usuário");
         state.setStep(FormStep.USER_MODIFY);
         updateFormState(event.getUser().getIdLong(), state);
         showUserSelection(event, state.getSquadId());
     }
-    private void handleUserSelect(StringSelectInteractionEvent event, FormState state) {
+    private void handleUserSelect(StringSelectInteractionEvent event, FormDraft state, String squadId) {
         String selectedUserId = event.getValues().get(0);
         log.info("Usuário selecionado: {}", selectedUserId);
         try {
             withUserContext(event.getUser().getId(), () -> {
-                if (selectedUserId.equals(state.getSquadId())) {
+                if (selectedUserId.equals(squadId)) {
                     state.setUserId(selectedUserId);
                     state.setUserName("All team");
                 } else {
                     try {
-                        loadUserFromSquad(state, selectedUserId);
+                        loadUserFromSquad(state, squadId, selectedUserId);
                     } catch (Exception e) {
                         throw new RuntimeException(e);
                     }
@@ -98,75 +120,41 @@ public class UserSelectionHandler extends AbstractInteractionHandler {
             showError(event,  messageSource.getMessage("txt_erro_processar_selecao_do_usuario", null, getUserLocale(event.getUser().getIdLong()))+".");
         }
     }
-    private void loadUserFromSquad(FormState state, String selectedUserId) throws Exception {
-        String squadsJson = squadLogService.getSquads();
-        JSONObject obj = new JSONObject(squadsJson);
-        JSONArray squadsArray = obj.optJSONArray("items");
-        if (squadsArray != null) {
-            for (int i = 0; i < squadsArray.length(); i++) {
-                JSONObject squad = squadsArray.getJSONObject(i);
-                if (String.valueOf(squad.get("id")).equals(state.getSquadId())) {
-                    JSONArray userSquads = squad.optJSONArray("user_squads");
-                    if (userSquads != null) {
-                        for (int j = 0; j < userSquads.length(); j++) {
-                            JSONObject userSquad = userSquads.getJSONObject(j);
-                            JSONObject user = userSquad.optJSONObject("user");
-                            if (user != null && String.valueOf(user.get("id")).equals(selectedUserId)) {
-                                state.setUserId(selectedUserId);
-                                state.setUserName(user.optString("first_name", "") + " " + user.optString("last_name", ""));
-                                break;
-                            }
-                        }
-                    }
-                    break;
-                }
-            }
-        }
+    private void loadUserFromSquad(FormDraft state, String squadId, String selectedUserId) throws Exception {
+        squadLogService.getSquadCatalog()
+                .findMember(squadId, selectedUserId)
+                .ifPresent(user -> {
+                    state.setUserId(selectedUserId);
+                    state.setUserName(Objects.toString(user.firstName(), "") + " " + Objects.toString(user.lastName(), ""));
+                });
     }
     private void showUserSelection(ButtonInteractionEvent event, String squadId) {
         try {
             event.deferEdit().queue();
             log.info("Carregando usuários para squad: {}", squadId);
-            String squadsJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquads());
-            JSONObject obj = new JSONObject(squadsJson);
-            JSONArray squadsArray = obj.optJSONArray("items");
-            if (squadsArray == null || squadsArray.length() == 0) {
+            SquadCatalog catalog = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadCatalog());
+            if (catalog.isEmpty()) {
                 log.error("Nenhuma squad encontrada na resposta da API");
                 showUserSelectionError(event,  messageSource.getMessage("txt_nenhuma_squad_encontrada", null, getUserLocale(event.getUser().getIdLong()))+".");
                 return;
             }
-            JSONObject selectedSquad = null;
-            for (int i = 0; i < squadsArray.length(); i++) {
-                JSONObject squad = squadsArray.getJSONObject(i);
-                if (String.valueOf(squad.get("id")).equals(squadId)) {
-                    selectedSquad = squad;
-                    break;
-                }
-            }
+            SquadCatalog.Squad selectedSquad = catalog.findSquad(squadId).orElse(null);
             if (selectedSquad == null) {
                 log.error("Squad com ID {} não encontrada", squadId);
                 showUserSelectionError(event, messageSource.getMessage("txt_squad_nao_encontrada", null, getUserLocale(event.getUser().getIdLong()))+".");
                 return;
             }
-            StringSelectMenu.Builder userMenuBuilder = StringSelectMenu.create("user-select")
+            StringSelectMenu.Builder userMenuBuilder = StringSelectMenu.create(signedComponentIds.sign("user-select", event.getUser().getIdLong(), squadId))
                     .setPlaceholder(messageSource.getMessage("txt_selecione_uma_pessoa", null, getUserLocale(event.getUser().getIdLong())));
             userMenuBuilder.addOption("All team", squadId);
-            JSONArray userSquads = selectedSquad.optJSONArray("user_squads");
             int userCount = 0;
-            if (userSquads != null) {
-                for (int i = 0; i < userSquads.length(); i++) {
-                    JSONObject userSquad = userSquads.getJSONObject(i);
-                    JSONObject user = userSquad.optJSONObject("user");
-                    if (user != null) {
-                        String firstName = user.optString("first_name", "");
-                        String lastName = user.optString("last_name", "");
-                        String name = (firstName + " " + lastName).trim();
-                        String userIdStr = String.valueOf(user.opt("id"));
-                        if (!name.isEmpty() && !userIdStr.equals("null")) {
-                            userMenuBuilder.addOption(name, userIdStr);
-                            userCount++;
-                        }
-                    }
+            for (SquadCatalog.Member user : catalog.getMembers(selectedSquad.id())) {
+                String firstName = user.firstName() != null ? user.firstName() : "";
+                String lastName = user.lastName() != null ? user.lastName() : "";
+                String name = (firstName + " " + lastName).trim();
+                if (!name.isEmpty()) {
+                    userMenuBuilder.addOption(name, String.valueOf(user.id()));
+                    userCount++;
                 }
             }
             log.info("Encontrados {} usuários na squad {}", userCount, squadId);
@@ -216,17 +204,13 @@ public class UserSelectionHandler extends AbstractInteractionHandler {
     }
     private void showTypeSelectionAfterUser(StringSelectInteractionEvent event) {
         try {
-            String logTypesJson = withUserContext(event.getUser().getId(), () -> squadLogService.getSquadLogTypes());
-            JSONArray logTypesArray = new JSONArray(logTypesJson);
+            List<ReferenceItem> logTypes = withUserContext(event.getUser().getId(), () -> squadLogService.getLogTypes());
             StringSelectMenu.Builder typeMenuBuilder = StringSelectMenu.create("type-select")
                     .setPlaceholder(messageSource.getMessage("txt_selecione_o_tipo", null, getUserLocale(event.getUser().getIdLong())));
             boolean hasTypes = false;
-            for (int i = 0; i < logTypesArray.length(); i++) {
-                JSONObject type = logTypesArray.getJSONObject(i);
-                String typeName = type.optString("name", "");
-                String typeId = String.valueOf(type.get("id"));
-                if (!typeName.isEmpty()) {
-                    typeMenuBuilder.addOption(typeName, typeId);
+            for (ReferenceItem type : logTypes) {
+                if (type.name() != null && !type.name().isEmpty()) {
+                    typeMenuBuilder.addOption(type.name(), String.valueOf(type.id()));
                     hasTypes = true;
                 }
             }
@@ -254,7 +238,7 @@ public class UserSelectionHandler extends AbstractInteractionHandler {
         }
     }
     private void showSummary(StringSelectInteractionEvent event) {
-        FormState state = getFormState(event.getUser().getIdLong());
+        FormDraft state = getFormState(event.getUser().getIdLong());
         if (state != null) {
             summaryHandler.showUpdateSummary(event, state);
         }
@@ -0,0 +1,30 @@
+package com.meli.teamboardingBot.adapters.in.actuator;
+
+import com.meli.teamboardingBot.adapters.out.session.SessionCacheRegistry;
+import com.meli.teamboardingBot.adapters.out.session.UserSessionRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Endpoint(id = "sessions")
+public class SessionFootprintEndpoint {
+
+    private final SessionCacheRegistry sessionCacheRegistry;
+    private final UserSessionRegistry userSessionRegistry;
+
+    public SessionFootprintEndpoint(SessionCacheRegistry sessionCacheRegistry, UserSessionRegistry userSessionRegistry) {
+        this.sessionCacheRegistry = sessionCacheRegistry;
+        this.userSessionRegistry = userSessionRegistry;
+    }
+
+    @ReadOperation
+    public List<SessionCacheRegistry.CacheFootprint> footprint() {
+        List<SessionCacheRegistry.CacheFootprint> report = new ArrayList<>(sessionCacheRegistry.footprint());
+        report.add(0, userSessionRegistry.footprint());
+        return report;
+    }
+}
@@ -1,7 +1,7 @@
 package com.meli.teamboardingBot.adapters.in.listener;
 import com.meli.teamboardingBot.adapters.handler.BatchCreationHandler;
 import com.meli.teamboardingBot.adapters.handler.InteractionHandler;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.context.UserContext;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import com.meli.teamboardingBot.core.ports.formstate.PutFormStatePort;
@@ -9,208 +9,181 @@ import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import java.util.List;
+import java.util.function.Consumer;
 @Component
 public class ComponentInteractionListener extends ListenerAdapter {
+    private static final String LANGUAGE_OWNER = "LanguageSelectionHandler";
+    private static final String AUTH_OWNER = "LoginModalHandler";
+    private static final String BATCH_OWNER = "BatchCreationHandler";
+    private static final List<String> LANGUAGE_BUTTON_PREFIXES = List.of("confirm-language-", "change-language-");
+    private static final List<String> LANGUAGE_BUTTONS = List.of("continue-to-auth", "execute-pending-command");
+    private static final List<String> AUTHENTICATION_BUTTONS = List.of(
+            "btn-autenticar", "btn-auth-manual", "btn-auth-google", "btn-confirm-manual-login",
+            "btn-switch-to-google", "btn-submit-google-code", "auth-manual", "auth-google", "start-auth",
+            "cancel-auth", "voltar-para-escolha", "cancelar-escolha", "status-close", "status-logout", "help-close");
+    private static final List<String> AUTHENTICATION_MODALS = List.of("login-modal", "modal-google-code");
+    private static final List<String> BATCH_FIELD_EDIT_MODALS = List.of(
+            "batch-edit-squad-modal", "batch-edit-person-modal", "batch-edit-type-modal",
+            "batch-edit-categories-modal", "batch-edit-description-modal", "batch-edit-dates-modal");
+
     private final Logger logger = LoggerFactory.getLogger(ComponentInteractionListener.class);
-    private final List<InteractionHandler> handlers;
     private final GetOrCreateFormStatePort getOrCreateFormStatePort;
     private final PutFormStatePort putFormStatePort;
     private final BatchCreationHandler batchCreationHandler;
+    private final InteractionExecutor interactionExecutor;
+    private final ComponentRouter<Consumer<ButtonInteractionEvent>> buttonRoutes;
+    private final ComponentRouter<Consumer<StringSelectInteractionEvent>> selectRoutes;
+    private final ComponentRouter<Consumer<ModalInteractionEvent>> modalRoutes;
     @Autowired
-    public ComponentInteractionListener(List<InteractionHandler> handlers, GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, BatchCreationHandler batchCreationHandler) {
-        this.handlers = handlers;
+    public ComponentInteractionListener(List<InteractionHandler> handlers, GetOrCreateFormStatePort getOrCreateFormStatePort, PutFormStatePort putFormStatePort, BatchCreationHandler batchCreationHandler, InteractionExecutor interactionExecutor) {
+        this.interactionExecutor = interactionExecutor;
         this.getOrCreateFormStatePort = getOrCreateFormStatePort;
         this.putFormStatePort = putFormStatePort;
         this.batchCreationHandler = batchCreationHandler;
-        this.handlers.sort((h1, h2) -> Integer.compare(h1.getPriority(), h2.getPriority()));
-        logger.info("Initialized with {} handlers", handlers.size());
+        this.buttonRoutes = buildButtonRoutes(handlers);
+        this.selectRoutes = buildSelectRoutes(handlers);
+        this.modalRoutes = buildModalRoutes(handlers);
+        logger.info("Initialized with {} handlers ({} button, {} select, {} modal routes)", handlers.size(),
+                buttonRoutes.size(), selectRoutes.size(), modalRoutes.size());
     }
     @Override
     public void onButtonInteraction(ButtonInteractionEvent event) {
+        interactionExecutor.execute(event, () -> dispatchButton(event));
+    }
+    private void dispatchButton(ButtonInteractionEvent event) {
         String buttonId = event.getComponentId();
-        long userId = event.getUser().getIdLong();
-        logger.info("Button interaction: {} from user: {}", buttonId, userId);
+        logger.info("Button interaction: {} from user: {}", buttonId, event.getUser().getIdLong());
+        dispatch(event, buttonId, buttonRoutes);
+    }
+    @Override
+    public void onStringSelectInteraction(StringSelectInteractionEvent event) {
+        interactionExecutor.execute(event, () -> dispatchStringSelect(event));
+    }
+    private void dispatchStringSelect(StringSelectInteractionEvent event) {
+        String selectId = event.getComponentId();
+        logger.info("String select interaction: {} from user: {}", selectId, event.getUser().getIdLong());
+        dispatch(event, selectId, selectRoutes);
+    }
+    @Override
+    public void onModalInteraction(ModalInteractionEvent event) {
+        interactionExecutor.execute(event, () -> dispatchModal(event));
+    }
+    private void dispatchModal(ModalInteractionEvent event) {
+        String modalId = event.getModalId();
+        logger.info("Modal interaction: {} from user: {}", modalId, event.getUser().getIdLong());
+        dispatch(event, modalId, modalRoutes);
+    }
 
-        if (isLanguageButton(buttonId)) {
-            logger.debug("Botão de idioma será processado por LanguageSelectionHandler");
+    private <E extends IReplyCallback> void dispatch(E event, String componentId, ComponentRouter<Consumer<E>> routes) {
+        Consumer<E> route = routes.route(componentId);
+        if (route == null) {
+            logger.warn("No {} route found for: {}", routes.getName(), componentId);
+            event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
             return;
         }
+        route.accept(event);
+    }
 
-        if (isAuthenticationButton(buttonId)) {
-            logger.debug("Botão de autenticação será processado por LoginModalHandler");
-            return;
-        }
-        
-        if (buttonId.equals("open-batch-modal")) {
-            try {
-                UserContext.setCurrentUserId(String.valueOf(userId));
-                batchCreationHandler.handleOpenBatchModalButton(event);
-                return;
-            } catch (Exception e) {
-                logger.error("Error opening batch modal: {}", e.getMessage());
-                event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
-                return;
-            } finally {
-                UserContext.clear();
-            }
-        }
-        
-        if (isBatchButton(buttonId)) {
-            try {
-                UserContext.setCurrentUserId(String.valueOf(userId));
-                batchCreationHandler.handleBatchNavigation(event);
-                return;
-            } catch (Exception e) {
-                logger.error("Error handling batch button {}: {}", buttonId, e.getMessage());
-                event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
-                return;
-            } finally {
-                UserContext.clear();
-            }
-        }
-        
-        FormState state = getOrCreateFormStatePort.getOrCreateState(userId);
-        if (state == null) {
-            event.reply("❌ Sessão expirada. Use /squad-log para começar novamente.").setEphemeral(true).queue();
-            return;
-        }
+    private ComponentRouter<Consumer<ButtonInteractionEvent>> buildButtonRoutes(List<InteractionHandler> handlers) {
+        ComponentRouter.Builder<Consumer<ButtonInteractionEvent>> routes = ComponentRouter.builder("button");
+        Consumer<ButtonInteractionEvent> language = event ->
+                logger.debug("Botão de idioma será processado por LanguageSelectionHandler");
+        Consumer<ButtonInteractionEvent> authentication = event ->
+                logger.debug("Botão de autenticação será processado por LoginModalHandler");
+        LANGUAGE_BUTTON_PREFIXES.forEach(prefix -> routes.prefix(prefix, LANGUAGE_OWNER, language));
+        LANGUAGE_BUTTONS.forEach(id -> routes.exact(id, LANGUAGE_OWNER, language));
+        AUTHENTICATION_BUTTONS.forEach(id -> routes.exact(id, AUTH_OWNER, authentication));
+        routes.exact("open-batch-modal", BATCH_OWNER,
+                event -> withUserContext(event, "opening batch modal", batchCreationHandler::handleOpenBatchModalButton));
+        routes.prefix("batch-", BATCH_OWNER,
+                event -> withUserContext(event, "handling batch button " + event.getComponentId(), batchCreationHandler::handleBatchNavigation));
+        registerHandlers(routes, handlers, InteractionHandler::handleButton);
         for (InteractionHandler handler : handlers) {
-            if (handler.canHandle(buttonId)) {
-                try {
-                    handler.handleButton(event, state);
-                    putFormStatePort.updateState(userId, state);
-                    return;
-                } catch (Exception e) {
-                    logger.error("Error handling button {} with handler {}: {}", buttonId, handler.getClass().getSimpleName(), e.getMessage());
-                    event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
-                    return;
-                }
-            }
+            String owner = handler.getClass().getSimpleName();
+            handler.statelessComponentPrefixes().forEach(prefix -> routes.prefix(prefix, owner,
+                    event -> withUserContext(event, "handling stateless button " + event.getComponentId(), handler::handleStatelessButton)));
         }
-        logger.warn("No handler found for button: {}", buttonId);
-        event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
+        return routes.build();
     }
-    @Override
-    public void onStringSelectInteraction(StringSelectInteractionEvent event) {
-        String selectId = event.getComponentId();
-        long userId = event.getUser().getIdLong();
-        logger.info("String select interaction: {} from user: {}", selectId, userId);
-        FormState state = getOrCreateFormStatePort.getOrCreateState(userId);
-        if (state == null) {
-            event.reply("❌ Sessão expirada. Use /squad-log para começar novamente.").setEphemeral(true).queue();
-            return;
+
+    private ComponentRouter<Consumer<StringSelectInteractionEvent>> buildSelectRoutes(List<InteractionHandler> handlers) {
+        ComponentRouter.Builder<Consumer<StringSelectInteractionEvent>> routes = ComponentRouter.builder("select");
+        registerHandlers(routes, handlers, InteractionHandler::handleStringSelect);
+        return routes.build();
+    }
+
+    private ComponentRouter<Consumer<ModalInteractionEvent>> buildModalRoutes(List<InteractionHandler> handlers) {
+        ComponentRouter.Builder<Consumer<ModalInteractionEvent>> routes = ComponentRouter.builder("modal");
+        Consumer<ModalInteractionEvent> authentication = event ->
+                logger.debug("Modal de login/autenticação será processado por LoginModalHandler");
+        AUTHENTICATION_MODALS.forEach(id -> routes.exact(id, AUTH_OWNER, authentication));
+        routes.exact("batch-creation-modal", BATCH_OWNER,
+                event -> withUserContext(event, "handling batch modal batch-creation-modal", batchCreationHandler::handleBatchCreationModal));
+        routes.exact("batch-creation-modal-retry", BATCH_OWNER,
+                event -> withUserContext(event, "handling batch modal batch-creation-modal-retry", batchCreationHandler::handleBatchCreationModalRetry));
+        for (String modalId : List.of("batch-edit-modal", "batch-edit-modal-page1", "batch-edit-modal-page2")) {
+            routes.exact(modalId, BATCH_OWNER,
+                    event -> withUserContext(event, "handling batch modal " + modalId, batchCreationHandler::handleEditEntryModal));
         }
+        for (String modalId : BATCH_FIELD_EDIT_MODALS) {
+            routes.exact(modalId, BATCH_OWNER,
+                    event -> withUserContext(event, "handling batch modal " + modalId, batchCreationHandler::handleFieldEditModal));
+        }
+        registerHandlers(routes, handlers, InteractionHandler::handleModal);
+        return routes.build();
+    }
+
+    private <E extends IReplyCallback> void registerHandlers(ComponentRouter.Builder<Consumer<E>> routes,
+                                                             List<InteractionHandler> handlers,
+                                                             HandlerMethod<E> method) {
         for (InteractionHandler handler : handlers) {
-            if (handler.canHandle(selectId)) {
-                try {
-                    handler.handleStringSelect(event, state);
-                    putFormStatePort.updateState(userId, state);
-                    return;
-                } catch (Exception e) {
-                    logger.error("Error handling select {} with handler {}: {}", selectId, handler.getClass().getSimpleName(), e.getMessage());
-                    event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
-                    return;
-                }
-            }
+            String owner = handler.getClass().getSimpleName();
+            Consumer<E> route = event -> withFormState(event, handler, method);
+            handler.componentIds().forEach(id -> routes.exact(id, owner, route));
+            handler.componentPrefixes().forEach(prefix -> routes.prefix(prefix, owner, route));
         }
-        logger.warn("No handler found for select: {}", selectId);
-        event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
     }
-    @Override
-    public void onModalInteraction(ModalInteractionEvent event) {
-        String modalId = event.getModalId();
+
+    private <E extends IReplyCallback> void withFormState(E event, InteractionHandler handler, HandlerMethod<E> method) {
         long userId = event.getUser().getIdLong();
-        logger.info("Modal interaction: {} from user: {}", modalId, userId);
-        
-        if ("login-modal".equals(modalId) || "modal-google-code".equals(modalId)) {
-            logger.debug("Modal de login/autenticação será processado por LoginModalHandler");
-            return;
-        }
-        
-        if (isBatchModal(modalId)) {
-            try {
-                UserContext.setCurrentUserId(String.valueOf(userId));
-                if (modalId.equals("batch-creation-modal")) {
-                    batchCreationHandler.handleBatchCreationModal(event);
-                } else if (modalId.equals("batch-creation-modal-retry")) {
-                    batchCreationHandler.handleBatchCreationModalRetry(event);
-                } else if (modalId.equals("batch-edit-modal")) {
-                    batchCreationHandler.handleEditEntryModal(event);
-                } else if (modalId.equals("batch-edit-modal-page1") || modalId.equals("batch-edit-modal-page2")) {
-                    batchCreationHandler.handleEditEntryModal(event);
-                } else if (modalId.endsWith("-modal") && modalId.startsWith("batch-edit-")) {
-                    batchCreationHandler.handleFieldEditModal(event);
-                }
-                return;
-            } catch (Exception e) {
-                logger.error("Error handling batch modal {}: {}", modalId, e.getMessage());
-                event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
-                return;
-            } finally {
-                UserContext.clear();
-            }
-        }
-        
-        FormState state = getOrCreateFormStatePort.getOrCreateState(userId);
+        FormDraft state = getOrCreateFormStatePort.getOrCreateState(userId);
         if (state == null) {
             event.reply("❌ Sessão expirada. Use /squad-log para começar novamente.").setEphemeral(true).queue();
             return;
         }
-        for (InteractionHandler handler : handlers) {
-            if (handler.canHandle(modalId)) {
-                try {
-                    handler.handleModal(event, state);
-                    putFormStatePort.updateState(userId, state);
-                    return;
-                } catch (Exception e) {
-                    logger.error("Error handling modal {} with handler {}: {}", modalId, handler.getClass().getSimpleName(), e.getMessage());
-                    event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
-                    return;
-                }
-            }
+        try {
+            method.handle(handler, event, state);
+            putFormStatePort.updateState(userId, state);
+        } catch (Exception e) {
+            logger.error("Error handling {} with handler {}: {}", componentId(event), handler.getClass().getSimpleName(), e.getMessage());
+            event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
         }
-        logger.warn("No handler found for modal: {}", modalId);
-        event.reply("❌ Componente não reconhecido.").setEphemeral(true).queue();
     }
 
-    private boolean isBatchButton(String buttonId) {
-        return buttonId.startsWith("batch-");
-    }
-
-    private boolean isBatchModal(String modalId) {
-        return modalId.equals("batch-creation-modal") || modalId.equals("batch-creation-modal-retry") ||
-               modalId.equals("batch-edit-modal") ||
-               modalId.equals("batch-edit-modal-page1") || modalId.equals("batch-edit-modal-page2") ||
-               (modalId.startsWith("batch-edit-") && modalId.endsWith("-modal"));
+    private <E extends IReplyCallback> void withUserContext(E event, String action, Consumer<E> handler) {
+        try {
+            UserContext.forUser(event.getUser().getId()).run(() -> handler.accept(event));
+        } catch (Exception e) {
+            logger.error("Error {}: {}", action, e.getMessage());
+            event.reply("❌ Erro interno. Tente novamente.").setEphemeral(true).queue();
+        }
     }
 
-    private boolean isLanguageButton(String buttonId) {
-        return buttonId.startsWith("confirm-language-") ||
-                buttonId.startsWith("change-language-") ||
-                "continue-to-auth".equals(buttonId) ||
-                "execute-pending-command".equals(buttonId);
+    private static String componentId(IReplyCallback event) {
+        return event instanceof ModalInteractionEvent modal ? modal.getModalId()
+                : event instanceof ButtonInteractionEvent button ? button.getComponentId()
+                : event instanceof StringSelectInteractionEvent select ? select.getComponentId()
+                : "interaction";
     }
 
-    private boolean isAuthenticationButton(String buttonId) {
-        return "btn-autenticar".equals(buttonId) ||
-                "btn-auth-manual".equals(buttonId) ||
-                "btn-auth-google".equals(buttonId) ||
-                "btn-confirm-manual-login".equals(buttonId) ||
-                "btn-switch-to-google".equals(buttonId) ||
-                "btn-submit-google-code".equals(buttonId) ||
-                "auth-manual".equals(buttonId) ||
-                "auth-google".equals(buttonId) ||
-                "start-auth".equals(buttonId) ||
-                "cancel-auth".equals(buttonId) ||
-                "voltar-para-escolha".equals(buttonId) ||
-                "cancelar-escolha".equals(buttonId) ||
-                "status-close".equals(buttonId) ||
-                "status-logout".equals(buttonId) ||
-                "help-close".equals(buttonId);
+    @FunctionalInterface
+    private interface HandlerMethod<E> {
+        void handle(InteractionHandler handler, E event, FormDraft state);
     }
 }
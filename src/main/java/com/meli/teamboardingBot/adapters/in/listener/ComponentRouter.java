@@ -0,0 +1,157 @@
+package com.meli.teamboardingBot.adapters.in.listener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class ComponentRouter<T> {
+
+    private final String name;
+    private final Map<String, T> exact;
+    private final Node<T> prefixes;
+
+    private ComponentRouter(String name, Map<String, T> exact, Node<T> prefixes) {
+        this.name = name;
+        this.exact = exact;
+        this.prefixes = prefixes;
+    }
+
+    static <T> Builder<T> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    T route(String componentId) {
+        T target = exact.get(componentId);
+        if (target != null) {
+            return target;
+        }
+        Node<T> node = prefixes;
+        T longest = node.target;
+        for (int i = 0; i < componentId.length() && node != null; i++) {
+            node = node.child(componentId.charAt(i));
+            if (node != null && node.target != null) {
+                longest = node.target;
+            }
+        }
+        return longest;
+    }
+
+    int size() {
+        return exact.size() + prefixes.count();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    static final class Builder<T> {
+        private final String name;
+        private final Map<String, Entry<T>> exact = new HashMap<>();
+        private final TreeMap<String, Entry<T>> prefixes = new TreeMap<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        Builder<T> exact(String componentId, String owner, T target) {
+            Entry<T> previous = exact.putIfAbsent(componentId, new Entry<>(owner, target));
+            if (previous != null) {
+                throw collision("id", componentId, previous.owner, owner);
+            }
+            return this;
+        }
+
+        Builder<T> prefix(String prefix, String owner, T target) {
+            if (prefix.isEmpty()) {
+                throw new IllegalStateException("Prefixo vazio registrado por " + owner + " em " + name);
+            }
+            Entry<T> previous = prefixes.putIfAbsent(prefix, new Entry<>(owner, target));
+            if (previous != null) {
+                throw collision("prefixo", prefix, previous.owner, owner);
+            }
+            return this;
+        }
+
+        ComponentRouter<T> build() {
+            for (Map.Entry<String, Entry<T>> entry : prefixes.entrySet()) {
+                String prefix = entry.getKey();
+                Entry<T> enclosing = longestPrefix(prefix.substring(0, prefix.length() - 1));
+                if (enclosing != null && !enclosing.owner.equals(entry.getValue().owner)) {
+                    throw collision("prefixo", prefix, enclosing.owner, entry.getValue().owner);
+                }
+            }
+            for (Map.Entry<String, Entry<T>> entry : exact.entrySet()) {
+                Entry<T> shadowing = longestPrefix(entry.getKey());
+                if (shadowing != null && !shadowing.owner.equals(entry.getValue().owner)) {
+                    throw collision("id", entry.getKey(), shadowing.owner, entry.getValue().owner);
+                }
+            }
+            Map<String, T> exactTargets = new HashMap<>();
+            exact.forEach((componentId, entry) -> exactTargets.put(componentId, entry.target));
+            Node<T> root = new Node<>();
+            prefixes.forEach((prefix, entry) -> root.insert(prefix, 0, entry.target));
+            return new ComponentRouter<>(name, Map.copyOf(exactTargets), root.freeze());
+        }
+
+        private Entry<T> longestPrefix(String componentId) {
+            for (int length = componentId.length(); length > 0; length--) {
+                Entry<T> entry = prefixes.get(componentId.substring(0, length));
+                if (entry != null) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private IllegalStateException collision(String kind, String componentId, String first, String second) {
+            return new IllegalStateException("Colisão de rota em " + name + ": " + kind + " '" + componentId
+                    + "' registrado por " + first + " e " + second);
+        }
+    }
+
+    private record Entry<T>(String owner, T target) {
+    }
+
+    private static final class Node<T> {
+        private final TreeMap<Character, Node<T>> building = new TreeMap<>();
+        private char[] keys = new char[0];
+        private Node<T>[] children;
+        private T target;
+
+        void insert(String prefix, int index, T value) {
+            if (index == prefix.length()) {
+                target = value;
+                return;
+            }
+            building.computeIfAbsent(prefix.charAt(index), key -> new Node<>()).insert(prefix, index + 1, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> freeze() {
+            keys = new char[building.size()];
+            children = (Node<T>[]) new Node<?>[building.size()];
+            int i = 0;
+            for (Map.Entry<Character, Node<T>> entry : building.entrySet()) {
+                keys[i] = entry.getKey();
+                children[i] = entry.getValue().freeze();
+                i++;
+            }
+            building.clear();
+            return this;
+        }
+
+        Node<T> child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        int count() {
+            int count = target != null ? 1 : 0;
+            for (Node<T> child : children) {
+                count += child.count();
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.meli.teamboardingBot.adapters.in.listener;
+
+import com.meli.teamboardingBot.adapters.out.language.UserLanguageService;
+import com.meli.teamboardingBot.core.context.UserContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class InteractionExecutor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(InteractionExecutor.class);
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("interaction-", 0).factory());
+    private final Map<String, CompletableFuture<Void>> userQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer dispatchLatency;
+    private final Timer handlerDuration;
+    private final UserLanguageService userLanguageService;
+
+    public InteractionExecutor(MeterRegistry meterRegistry, UserLanguageService userLanguageService) {
+        this.userLanguageService = userLanguageService;
+        this.dispatchLatency = meterRegistry.timer("teamboarding.interaction.dispatch.latency");
+        this.handlerDuration = meterRegistry.timer("teamboarding.interaction.handler.duration");
+        meterRegistry.gauge("teamboarding.interaction.queue.depth", pending);
+        meterRegistry.gaugeMapSize("teamboarding.interaction.queue.users", List.of(), userQueues);
+    }
+
+    public void execute(GenericInteractionCreateEvent event, Runnable task) {
+        String userId = event.getUser().getId();
+        pending.incrementAndGet();
+
+        CompletableFuture<Void> next = userQueues.compute(userId, (key, tail) -> {
+            CompletableFuture<Void> previous = tail != null ? tail.exceptionally(error -> null) : CompletableFuture.completedFuture(null);
+            return previous.thenRunAsync(() -> run(event, task), executor);
+        });
+        next.whenComplete((ignored, error) -> userQueues.remove(userId, next));
+    }
+
+    private void run(GenericInteractionCreateEvent event, Runnable task) {
+        pending.decrementAndGet();
+        dispatchLatency.record(Duration.between(event.getTimeCreated(), OffsetDateTime.now()));
+        long start = System.nanoTime();
+        String userId = event.getUser().getId();
+        try {
+            UserContext.of(userId, resolveLocale(event), event.getId()).run(task);
+        } catch (Exception e) {
+            logger.error("Erro ao processar interação do usuário {}: {}", userId, e.getMessage(), e);
+        } finally {
+            handlerDuration.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private Locale resolveLocale(GenericInteractionCreateEvent event) {
+        Locale preference = userLanguageService.getUserLanguagePreference(event.getUser().getId());
+        return preference != null ? preference : Locale.forLanguageTag(event.getUserLocale().getLocale());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -48,8 +48,15 @@ public class SlashCommandListener extends ListenerAdapter {
     @Autowired
     private LanguageInterceptorService languageInterceptor;
 
+    @Autowired
+    private InteractionExecutor interactionExecutor;
+
     @Override
     public void onSlashCommandInteraction(SlashCommandInteractionEvent event) {
+        interactionExecutor.execute(event, () -> dispatchSlashCommand(event));
+    }
+
+    private void dispatchSlashCommand(SlashCommandInteractionEvent event) {
         String commandName = event.getName();
         
         if (commandName.equals("language")) {
@@ -0,0 +1,14 @@
+package com.meli.teamboardingBot.adapters.out.batch;
+
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
+import net.dv8tion.jda.api.entities.Message;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface BatchAttachmentImporter {
+    boolean isSupported(Message.Attachment attachment);
+    boolean exceedsSizeLimit(Message.Attachment attachment);
+    long getMaxBytes();
+    int getMaxRows();
+    CompletableFuture<BatchParseReport> importAttachment(Message.Attachment attachment);
+}
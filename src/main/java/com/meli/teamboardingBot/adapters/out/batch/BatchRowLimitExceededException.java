@@ -0,0 +1,17 @@
+package com.meli.teamboardingBot.adapters.out.batch;
+
+public class BatchRowLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxRows;
+
+    public BatchRowLimitExceededException(int maxRows) {
+        super("Arquivo excede o limite de " + maxRows + " linhas");
+        this.maxRows = maxRows;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+}
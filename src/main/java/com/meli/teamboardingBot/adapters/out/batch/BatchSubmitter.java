@@ -0,0 +1,20 @@
+package com.meli.teamboardingBot.adapters.out.batch;
+
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchSubmissionResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public interface BatchSubmitter {
+    CompletableFuture<List<BatchSubmissionResult>> submitAll(String discordUserId,
+                                                             List<BatchLogEntry> entries,
+                                                             Function<BatchLogEntry, String> payloadFactory,
+                                                             BatchProgressListener progressListener);
+
+    @FunctionalInterface
+    interface BatchProgressListener {
+        void onProgress(BatchSubmissionResult result, int completed, int total);
+    }
+}
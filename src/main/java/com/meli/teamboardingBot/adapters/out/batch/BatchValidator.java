@@ -3,11 +3,18 @@ package com.meli.teamboardingBot.adapters.out.batch;
 import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
 import com.meli.teamboardingBot.core.domain.batch.BatchParsingResult;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface BatchValidator {
     BatchParsingResult validateEntries(List<BatchLogEntry> entries);
+    CompletableFuture<BatchParsingResult> validateEntriesInChunks(List<BatchLogEntry> entries, BatchValidationListener listener);
     boolean isValidSquad(String squadName);
     boolean isValidUser(String userName, Long squadId);
     boolean isValidType(String typeName);
     boolean isValidCategory(String categoryName);
+
+    @FunctionalInterface
+    interface BatchValidationListener {
+        void onChunk(BatchParsingResult chunk, int validated, int total);
+    }
 }
@@ -0,0 +1,15 @@
+package com.meli.teamboardingBot.adapters.out.batch;
+
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+
+import java.util.Optional;
+
+public interface SubmissionLedger {
+    String fingerprint(BatchLogEntry entry);
+    Optional<String> findCreated(String fingerprint);
+    boolean reserve(String fingerprint);
+    void recordCreated(String fingerprint, String squadLogId);
+    void recordUnknown(String fingerprint);
+    boolean isUnknown(String fingerprint);
+    void release(String fingerprint);
+}
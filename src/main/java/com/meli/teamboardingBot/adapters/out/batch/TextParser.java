@@ -1,10 +1,19 @@
 package com.meli.teamboardingBot.adapters.out.batch;
 
 import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
 import java.util.List;
 
 public interface TextParser {
     List<BatchLogEntry> parseText(String inputText);
     boolean canParse(String inputText);
     String getParserName();
+
+    default BatchParseReport parseWithDiagnostics(String inputText) {
+        return new BatchParseReport(parseText(inputText), List.of());
+    }
+
+    default BatchParseReport parseLines(List<String> lines) {
+        return parseWithDiagnostics(String.join("\n", lines));
+    }
 }
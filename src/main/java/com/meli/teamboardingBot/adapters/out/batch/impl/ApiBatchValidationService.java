@@ -3,39 +3,117 @@ package com.meli.teamboardingBot.adapters.out.batch.impl;
 import com.meli.teamboardingBot.adapters.out.batch.BatchValidator;
 import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
 import com.meli.teamboardingBot.core.domain.batch.BatchParsingResult;
+import com.meli.teamboardingBot.adapters.out.client.ReferenceItem;
+import com.meli.teamboardingBot.adapters.out.client.SquadCatalog;
 import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.meli.teamboardingBot.core.context.UserContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.text.Normalizer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
-public class ApiBatchValidationService implements BatchValidator {
+public class ApiBatchValidationService implements BatchValidator, DisposableBean {
     
-    private final SquadLogService squadLogService;
-    private final Map<String, Long> squadCache = new HashMap<>();
-    private final Map<String, Long> typeCache = new HashMap<>();
-    private final Map<String, Long> categoryCache = new HashMap<>();
-    private final Map<Long, Map<String, Long>> userCache = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(ApiBatchValidationService.class);
 
-    public ApiBatchValidationService(SquadLogService squadLogService) {
+    private final SquadLogService squadLogService;
+    private final AtomicReference<ValidationSnapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final long snapshotTtlNanos;
+    private final int chunkSize;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ApiBatchValidationService(SquadLogService squadLogService,
+                                     @Value("${batch.validation.snapshot-ttl-seconds:300}") long snapshotTtlSeconds,
+                                     @Value("${batch.validation.chunk-size:25}") int chunkSize) {
         this.squadLogService = squadLogService;
+        this.snapshotTtlNanos = TimeUnit.SECONDS.toNanos(snapshotTtlSeconds);
+        this.chunkSize = Math.max(1, chunkSize);
     }
 
     @Override
     public BatchParsingResult validateEntries(List<BatchLogEntry> entries) {
+        long validationStart = System.nanoTime();
+        ValidationSnapshot current = currentSnapshot();
+
+        BatchParsingResult result = validateChunk(entries, current);
+        Map<String, Long> timings = new LinkedHashMap<>(current.loadTimingsMs());
+        timings.put("validation", elapsedMillis(validationStart));
+        result.setPhaseTimingsMs(timings);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<BatchParsingResult> validateEntriesInChunks(List<BatchLogEntry> entries, BatchValidationListener listener) {
+        CompletableFuture<BatchParsingResult> result = new CompletableFuture<>();
+        executor.execute(UserContext.wrap(() -> {
+            try {
+                validateInChunks(entries, listener, result);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }));
+        return result;
+    }
+
+    private void validateInChunks(List<BatchLogEntry> entries, BatchValidationListener listener,
+                                  CompletableFuture<BatchParsingResult> result) {
+        long validationStart = System.nanoTime();
+        ValidationSnapshot current = currentSnapshot();
         List<BatchLogEntry> validEntries = new ArrayList<>();
         List<String> errors = new ArrayList<>();
+        Long firstChunkMs = null;
+
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            if (result.isDone()) {
+                logger.info("Validação em lote interrompida após {} de {} linhas", from, entries.size());
+                return;
+            }
+            int to = Math.min(from + chunkSize, entries.size());
+            BatchParsingResult chunk = validateChunk(entries.subList(from, to), current);
+            validEntries.addAll(chunk.getValidEntries());
+            errors.addAll(chunk.getErrors());
+            if (firstChunkMs == null) {
+                firstChunkMs = elapsedMillis(validationStart);
+            }
+            try {
+                listener.onChunk(chunk, to, entries.size());
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao notificar progresso da validação: {}", e.getMessage());
+            }
+        }
+
+        BatchParsingResult aggregated = new BatchParsingResult(validEntries, errors, entries.size());
+        Map<String, Long> timings = new LinkedHashMap<>(current.loadTimingsMs());
+        timings.put("first_chunk", firstChunkMs != null ? firstChunkMs : 0L);
+        timings.put("validation", elapsedMillis(validationStart));
+        aggregated.setPhaseTimingsMs(timings);
+        result.complete(aggregated);
+    }
 
-        loadCacheData();
+    private BatchParsingResult validateChunk(List<BatchLogEntry> entries, ValidationSnapshot current) {
+        List<BatchLogEntry> validEntries = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
 
         for (BatchLogEntry entry : entries) {
-            List<String> entryErrors = validateSingleEntry(entry);
+            List<String> entryErrors = validateSingleEntry(entry, current);
             
             if (entryErrors.isEmpty()) {
                 validEntries.add(entry);
@@ -47,25 +125,25 @@ public class ApiBatchValidationService implements BatchValidator {
         return new BatchParsingResult(validEntries, errors, entries.size());
     }
 
-    private List<String> validateSingleEntry(BatchLogEntry entry) {
+    private List<String> validateSingleEntry(BatchLogEntry entry, ValidationSnapshot current) {
         List<String> errors = new ArrayList<>();
 
-        if (!validateAndSetSquad(entry)) {
+        if (!validateAndSetSquad(entry, current)) {
             errors.add(String.format("Linha %d: Squad '%s' não encontrada", 
                 entry.getLineNumber(), entry.getSquadName()));
         }
 
-        if (entry.getSquadId() != null && !validateAndSetUser(entry)) {
+        if (entry.getSquadId() != null && !validateAndSetUser(entry, current)) {
             errors.add(String.format("Linha %d: Pessoa '%s' não encontrada na squad '%s'", 
                 entry.getLineNumber(), entry.getPersonName(), entry.getSquadName()));
         }
 
-        if (!validateAndSetType(entry)) {
+        if (!validateAndSetType(entry, current)) {
             errors.add(String.format("Linha %d: Tipo '%s' não encontrado", 
                 entry.getLineNumber(), entry.getLogType()));
         }
 
-        if (!validateAndSetCategories(entry)) {
+        if (!validateAndSetCategories(entry, current)) {
             errors.add(String.format("Linha %d: Uma ou mais categorias não foram encontradas: %s", 
                 entry.getLineNumber(), String.join(", ", entry.getCategories())));
         }
@@ -79,12 +157,12 @@ public class ApiBatchValidationService implements BatchValidator {
         return errors;
     }
 
-    private boolean validateAndSetSquad(BatchLogEntry entry) {
+    private boolean validateAndSetSquad(BatchLogEntry entry, ValidationSnapshot current) {
         String squadName = entry.getSquadName();
-        String bestMatch = findBestMatch(squadName, squadCache);
+        String bestMatch = current.squads().findBestMatch(squadName);
         
         if (bestMatch != null) {
-            Long squadId = squadCache.get(bestMatch);
+            Long squadId = current.squads().get(bestMatch);
             entry.setSquadId(squadId);
             entry.setSquadName(bestMatch);
             return true;
@@ -93,19 +171,19 @@ public class ApiBatchValidationService implements BatchValidator {
         return false;
     }
 
-    private boolean validateAndSetUser(BatchLogEntry entry) {
+    private boolean validateAndSetUser(BatchLogEntry entry, ValidationSnapshot current) {
         Long squadId = entry.getSquadId();
         String userName = entry.getPersonName();
         
-        Map<String, Long> squadUsers = userCache.get(squadId);
+        NameMatchIndex<Long> squadUsers = current.users().get(squadId);
         if (squadUsers != null) {
             String bestMatch = findBestUserMatch(userName, squadUsers);
             if (bestMatch != null) {
                 Long userId = squadUsers.get(bestMatch);
-                System.out.println("[DEBUG] UPDATING USER: '" + userName + "' -> '" + bestMatch + "' (ID: " + userId + ")");
+                logger.debug("Atualizando usuário: '{}' -> '{}' (ID: {})", userName, bestMatch, userId);
                 entry.setUserId(userId);
                 entry.setPersonName(bestMatch);
-                System.out.println("[DEBUG] AFTER UPDATE: entry.getPersonName() = '" + entry.getPersonName() + "'");
+                logger.debug("Nome da pessoa após atualização: '{}'", entry.getPersonName());
                 return true;
             }
         }
@@ -113,12 +191,12 @@ public class ApiBatchValidationService implements BatchValidator {
         return false;
     }
 
-    private boolean validateAndSetType(BatchLogEntry entry) {
+    private boolean validateAndSetType(BatchLogEntry entry, ValidationSnapshot current) {
         String typeName = entry.getLogType();
-        String bestMatch = findBestMatch(typeName, typeCache);
+        String bestMatch = current.types().findBestMatch(typeName);
         
         if (bestMatch != null) {
-            Long typeId = typeCache.get(bestMatch);
+            Long typeId = current.types().get(bestMatch);
             entry.setTypeId(typeId);
             entry.setLogType(bestMatch);
             return true;
@@ -127,15 +205,15 @@ public class ApiBatchValidationService implements BatchValidator {
         return false;
     }
 
-    private boolean validateAndSetCategories(BatchLogEntry entry) {
+    private boolean validateAndSetCategories(BatchLogEntry entry, ValidationSnapshot current) {
         List<Long> categoryIds = new ArrayList<>();
         List<String> correctedCategories = new ArrayList<>();
         
         for (String categoryName : entry.getCategories()) {
-            String bestMatch = findBestMatch(categoryName, categoryCache);
+            String bestMatch = current.categories().findBestMatch(categoryName);
             
             if (bestMatch != null) {
-                Long categoryId = categoryCache.get(bestMatch);
+                Long categoryId = current.categories().get(bestMatch);
                 categoryIds.add(categoryId);
                 correctedCategories.add(bestMatch);
             } else {
@@ -148,252 +226,181 @@ public class ApiBatchValidationService implements BatchValidator {
         return true;
     }
 
-    private void loadCacheData() {
-        loadSquadsCache();
-        loadTypesCache();
-        loadCategoriesCache();
-        loadUsersCache();
-    }
-
-    private void loadSquadsCache() {
-        try {
-            String squadsResponse = squadLogService.getSquads();
-            System.out.println("[DEBUG] Squads Response: " + squadsResponse);
-            
-            JSONObject obj = new JSONObject(squadsResponse);
-            JSONArray squadsArray = obj.optJSONArray("items");
-            
-            if (squadsArray != null) {
-                System.out.println("[DEBUG] Found " + squadsArray.length() + " squads");
-                for (int i = 0; i < squadsArray.length(); i++) {
-                    JSONObject squad = squadsArray.getJSONObject(i);
-                    String name = squad.getString("name");
-                    Long id = squad.getLong("id");
-                    squadCache.put(name, id);
-                    System.out.println("[DEBUG] Loaded squad: " + name + " (ID: " + id + ")");
-                }
-            } else {
-                System.out.println("[DEBUG] No 'items' array found in squads response");
+    private ValidationSnapshot currentSnapshot() {
+        ValidationSnapshot current = snapshot.get();
+        if (current != null && !current.isExpired(snapshotTtlNanos)) {
+            return current;
+        }
+        if (!refreshLock.tryLock()) {
+            if (current != null) {
+                return current;
             }
-        } catch (RuntimeException e) {
-            System.out.println("[DEBUG] Error loading squads: " + e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            System.out.println("[DEBUG] Error loading squads: " + e.getMessage());
-            e.printStackTrace();
+            refreshLock.lock();
         }
-    }
-
-    private void loadTypesCache() {
         try {
-            String typesResponse = squadLogService.getSquadLogTypes();
-            JSONArray typesArray = new JSONArray(typesResponse);
-            
-            for (int i = 0; i < typesArray.length(); i++) {
-                JSONObject type = typesArray.getJSONObject(i);
-                String name = type.getString("name");
-                Long id = type.getLong("id");
-                typeCache.put(name, id);
+            ValidationSnapshot latest = snapshot.get();
+            if (latest != null && !latest.isExpired(snapshotTtlNanos)) {
+                return latest;
             }
+            ValidationSnapshot rebuilt = buildSnapshot();
+            snapshot.set(rebuilt);
+            return rebuilt;
         } catch (RuntimeException e) {
+            if (current != null) {
+                logger.warn("Falha ao atualizar dados de validação, usando versão anterior: {}", e.getMessage());
+                return current;
+            }
             throw e;
-        } catch (Exception e) {
+        } finally {
+            refreshLock.unlock();
         }
     }
 
-    private void loadCategoriesCache() {
+    private ValidationSnapshot buildSnapshot() {
+        Map<String, Long> phaseTimings = new ConcurrentHashMap<>();
+        long loadStart = System.nanoTime();
+        CompletableFuture<SquadCatalog> squadsFuture = timedPhase("squads", loadStart, phaseTimings, squadLogService.getSquadCatalogAsync());
+        CompletableFuture<List<ReferenceItem>> typesFuture = timedPhase("types", loadStart, phaseTimings, squadLogService.getLogTypesAsync());
+        CompletableFuture<List<ReferenceItem>> categoriesFuture = timedPhase("categories", loadStart, phaseTimings, squadLogService.getCategoriesAsync());
         try {
-            String categoriesResponse = squadLogService.getSquadCategories();
-            JSONArray categoriesArray = new JSONArray(categoriesResponse);
-            
-            for (int i = 0; i < categoriesArray.length(); i++) {
-                JSONObject category = categoriesArray.getJSONObject(i);
-                String name = category.getString("name");
-                Long id = category.getLong("id");
-                categoryCache.put(name, id);
+            CompletableFuture.allOf(squadsFuture, typesFuture, categoriesFuture).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-        } catch (RuntimeException e) {
             throw e;
-        } catch (Exception e) {
         }
-    }
 
-    private void loadUsersCache() {
-        try {
-            String squadsResponse = squadLogService.getSquads();
-            JSONObject obj = new JSONObject(squadsResponse);
-            JSONArray squadsArray = obj.optJSONArray("items");
-            
-            if (squadsArray != null) {
-                for (int i = 0; i < squadsArray.length(); i++) {
-                    JSONObject squad = squadsArray.getJSONObject(i);
-                    Long squadId = squad.getLong("id");
-                    JSONArray userSquads = squad.optJSONArray("user_squads");
-                    
-                    Map<String, Long> squadUsers = new HashMap<>();
-                    
-                    if (userSquads != null) {
-                        System.out.println("[DEBUG] Loading users for squad " + squadId + ": " + userSquads.length() + " users");
-                        
-                        for (int j = 0; j < userSquads.length(); j++) {
-                            JSONObject userSquad = userSquads.getJSONObject(j);
-                            JSONObject user = userSquad.getJSONObject("user");
-                            
-                            String firstName = user.optString("first_name", "");
-                            String lastName = user.optString("last_name", "");
-                            Long userId = user.getLong("id");
-                            
-                            if (!firstName.trim().isEmpty()) {
-                                squadUsers.put(firstName, userId);
-                                System.out.println("[DEBUG] Added user: " + firstName + " (ID: " + userId + ")");
-                            }
-                            if (!lastName.trim().isEmpty()) {
-                                squadUsers.put(lastName, userId);
-                                System.out.println("[DEBUG] Added user: " + lastName + " (ID: " + userId + ")");
-                            }
-                            if (!firstName.trim().isEmpty() && !lastName.trim().isEmpty()) {
-                                String fullName = firstName + " " + lastName;
-                                squadUsers.put(fullName, userId);
-                                System.out.println("[DEBUG] Added user: " + fullName + " (ID: " + userId + ")");
-                            }
-                        }
-                        
-                        squadUsers.put("All team", 0L);
-                        squadUsers.put("all team", 0L);
-                        System.out.println("[DEBUG] Added 'All team' option");
-                    }
-                    
-                    userCache.put(squadId, squadUsers);
+        long indexStart = System.nanoTime();
+        Map<String, Long> squadCache = new HashMap<>();
+        Map<Long, NameMatchIndex<Long>> userIndexes = new HashMap<>();
+        SquadCatalog catalog = squadsFuture.join();
+        logger.debug("{} squads encontradas", catalog.getSquads().size());
+        for (SquadCatalog.Squad squad : catalog.getSquads()) {
+            if (squad.id() == null || squad.name() == null) {
+                continue;
+            }
+            squadCache.put(squad.name(), squad.id());
+
+            Map<String, Long> squadUsers = new HashMap<>();
+            for (SquadCatalog.Member user : catalog.getMembers(squad.id())) {
+                String firstName = user.firstName() != null ? user.firstName() : "";
+                String lastName = user.lastName() != null ? user.lastName() : "";
+                Long userId = user.id();
+
+                if (!firstName.trim().isEmpty()) {
+                    squadUsers.put(firstName, userId);
+                }
+                if (!lastName.trim().isEmpty()) {
+                    squadUsers.put(lastName, userId);
+                }
+                if (!firstName.trim().isEmpty() && !lastName.trim().isEmpty()) {
+                    squadUsers.put(firstName + " " + lastName, userId);
                 }
             }
-        } catch (RuntimeException e) {
-            System.out.println("[DEBUG] Error loading users: " + e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            System.out.println("[DEBUG] Error loading users: " + e.getMessage());
-            e.printStackTrace();
+            if (squad.hasRoster()) {
+                squadUsers.put("All team", 0L);
+                squadUsers.put("all team", 0L);
+            }
+            userIndexes.put(squad.id(), new NameMatchIndex<>(squadUsers));
+        }
+
+        Map<String, Long> typeCache = new HashMap<>();
+        for (ReferenceItem type : typesFuture.join()) {
+            if (type.id() != null && type.name() != null) {
+                typeCache.put(type.name(), type.id());
+            }
+        }
+
+        Map<String, Long> categoryCache = new HashMap<>();
+        for (ReferenceItem category : categoriesFuture.join()) {
+            if (category.id() != null && category.name() != null) {
+                categoryCache.put(category.name(), category.id());
+            }
+        }
+
+        ValidationSnapshot built = new ValidationSnapshot(new NameMatchIndex<>(squadCache), new NameMatchIndex<>(typeCache),
+                new NameMatchIndex<>(categoryCache), Map.copyOf(userIndexes), orderedTimings(phaseTimings, indexStart, loadStart),
+                System.nanoTime());
+        logger.info("Dados de validação carregados: {}", built.loadTimingsMs());
+        return built;
+    }
+
+    private <T> CompletableFuture<T> timedPhase(String phase, long start, Map<String, Long> timings, CompletableFuture<T> future) {
+        return future.whenComplete((value, error) -> timings.put(phase, elapsedMillis(start)));
+    }
+
+    private Map<String, Long> orderedTimings(Map<String, Long> phaseTimings, long indexStart, long loadStart) {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String phase : List.of("squads", "types", "categories")) {
+            ordered.put(phase, phaseTimings.getOrDefault(phase, 0L));
         }
+        ordered.put("indexes", elapsedMillis(indexStart));
+        ordered.put("load", elapsedMillis(loadStart));
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    private long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
     }
 
     @Override
     public boolean isValidSquad(String squadName) {
-        return squadCache.containsKey(squadName.toLowerCase().trim());
+        ValidationSnapshot current = snapshot.get();
+        return current != null && current.squads().containsKey(squadName.toLowerCase().trim());
     }
 
     @Override
     public boolean isValidUser(String userName, Long squadId) {
-        Map<String, Long> squadUsers = userCache.get(squadId);
+        ValidationSnapshot current = snapshot.get();
+        NameMatchIndex<Long> squadUsers = current != null ? current.users().get(squadId) : null;
         return squadUsers != null && squadUsers.containsKey(userName.toLowerCase().trim());
     }
 
     @Override
     public boolean isValidType(String typeName) {
-        return typeCache.containsKey(typeName.toLowerCase().trim());
+        ValidationSnapshot current = snapshot.get();
+        return current != null && current.types().containsKey(typeName.toLowerCase().trim());
     }
 
     @Override
     public boolean isValidCategory(String categoryName) {
-        return categoryCache.containsKey(categoryName.toLowerCase().trim());
+        ValidationSnapshot current = snapshot.get();
+        return current != null && current.categories().containsKey(categoryName.toLowerCase().trim());
     }
 
-    private String normalizeText(String text) {
-        if (text == null) return "";
-        
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("[\\p{InCombiningDiacriticalMarks}]", "");
-        normalized = normalized.toLowerCase().trim();
-        normalized = normalized.replaceAll("\\s+", " ");
-        
-        return normalized;
-    }
-
-    private String findBestMatch(String input, Map<String, ?> cache) {
-        String normalizedInput = normalizeText(input);
-        
-        String exactMatch = cache.keySet().stream()
-                .filter(key -> normalizeText(key).equals(normalizedInput))
-                .findFirst()
-                .orElse(null);
-        
-        if (exactMatch != null) {
-            return exactMatch;
+    private String findBestUserMatch(String input, NameMatchIndex<Long> userIndex) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Procurando usuário: '{}' (normalizado: '{}')", input, NameMatchIndex.normalize(input));
         }
         
-        return cache.keySet().stream()
-                .filter(key -> {
-                    String normalizedKey = normalizeText(key);
-                    return normalizedKey.contains(normalizedInput) || normalizedInput.contains(normalizedKey);
-                })
-                .min((a, b) -> {
-                    String normalizedA = normalizeText(a);
-                    String normalizedB = normalizeText(b);
-                    int distanceA = calculateLevenshteinDistance(normalizedInput, normalizedA);
-                    int distanceB = calculateLevenshteinDistance(normalizedInput, normalizedB);
-                    return Integer.compare(distanceA, distanceB);
-                })
-                .orElse(null);
-    }
-
-    private String findBestUserMatch(String input, Map<String, Long> userMap) {
-        String normalizedInput = normalizeText(input);
-        System.out.println("[DEBUG] Looking for user: '" + input + "' (normalized: '" + normalizedInput + "')");
-        
-        List<String> allMatches = userMap.keySet().stream()
-                .filter(key -> {
-                    String normalizedKey = normalizeText(key);
-                    
-                    if (normalizedKey.equals(normalizedInput)) {
-                        return true;
-                    }
-                    
-                    String[] keyParts = normalizedKey.split("\\s+");
-                    for (String part : keyParts) {
-                        if (part.equals(normalizedInput) || part.startsWith(normalizedInput)) {
-                            return true;
-                        }
-                    }
-                    
-                    return false;
-                })
-                .collect(java.util.stream.Collectors.toList());
+        List<String> allMatches = userIndex.findTokenPrefixMatches(input);
         
         if (!allMatches.isEmpty()) {
-            String bestMatch = selectBestFullName(allMatches, userMap);
-            System.out.println("[DEBUG] Found matches: " + allMatches + " -> Selected: " + bestMatch);
+            String bestMatch = selectBestFullName(allMatches, userIndex);
+            logger.debug("Correspondências encontradas: {} -> selecionada: {}", allMatches, bestMatch);
             return bestMatch;
         }
         
-        String fuzzyMatch = userMap.keySet().stream()
-                .filter(key -> {
-                    String normalizedKey = normalizeText(key);
-                    return normalizedKey.contains(normalizedInput) || normalizedInput.contains(normalizedKey);
-                })
-                .min((a, b) -> {
-                    String normalizedA = normalizeText(a);
-                    String normalizedB = normalizeText(b);
-                    int distanceA = calculateLevenshteinDistance(normalizedInput, normalizedA);
-                    int distanceB = calculateLevenshteinDistance(normalizedInput, normalizedB);
-                    return Integer.compare(distanceA, distanceB);
-                })
-                .orElse(null);
+        String fuzzyMatch = userIndex.findBestMatch(input);
         
         if (fuzzyMatch != null) {
-            System.out.println("[DEBUG] Found fuzzy match: " + fuzzyMatch);
+            logger.debug("Correspondência aproximada encontrada: {}", fuzzyMatch);
         } else {
-            System.out.println("[DEBUG] No match found for: " + input);
-            System.out.println("[DEBUG] Available users: " + userMap.keySet());
+            logger.debug("Nenhuma correspondência encontrada para: {}", input);
+            logger.debug("Usuários disponíveis: {}", userIndex.keys());
         }
         
         return fuzzyMatch;
     }
 
-    private String selectBestFullName(List<String> matches, Map<String, Long> userMap) {
+    private String selectBestFullName(List<String> matches, NameMatchIndex<Long> userIndex) {
         if (matches.isEmpty()) return null;
         if (matches.size() == 1) return matches.get(0);
         
         Map<Long, List<String>> groupedByUserId = new java.util.HashMap<>();
         for (String match : matches) {
-            Long userId = userMap.get(match);
+            Long userId = userIndex.get(match);
             groupedByUserId.computeIfAbsent(userId, k -> new java.util.ArrayList<>()).add(match);
         }
         
@@ -426,40 +433,34 @@ public class ApiBatchValidationService implements BatchValidator {
             }
         }
         
-        System.out.println("[DEBUG] Selected best full name from " + matches + " -> " + bestMatch);
+        logger.debug("Melhor nome completo selecionado entre {} -> {}", matches, bestMatch);
         return bestMatch != null ? bestMatch : matches.get(0);
     }
 
-    private int calculateLevenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
-        }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
-        }
-        
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = 1 + Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]);
-                }
-            }
-        }
-        
-        return dp[s1.length()][s2.length()];
-    }
-
     private void updateDefaultDescriptionIfNeeded(BatchLogEntry entry) {
         String description = entry.getDescription();
         
         if (description != null && description.matches("Log de .+ para .+")) {
             String newDescription = String.format("Log de %s para %s", entry.getLogType(), entry.getPersonName());
             entry.setDescription(newDescription);
-            System.out.println("[DEBUG] Updated description: '" + description + "' -> '" + newDescription + "'");
+            logger.debug("Descrição atualizada: '{}' -> '{}'", description, newDescription);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private record ValidationSnapshot(NameMatchIndex<Long> squads,
+                                      NameMatchIndex<Long> types,
+                                      NameMatchIndex<Long> categories,
+                                      Map<Long, NameMatchIndex<Long>> users,
+                                      Map<String, Long> loadTimingsMs,
+                                      long builtAt) {
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - builtAt >= ttlNanos;
         }
     }
 }
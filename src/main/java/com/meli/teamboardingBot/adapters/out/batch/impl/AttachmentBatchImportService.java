@@ -0,0 +1,105 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.BatchAttachmentImporter;
+import com.meli.teamboardingBot.adapters.out.batch.BatchRowLimitExceededException;
+import com.meli.teamboardingBot.adapters.out.batch.TextParser;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.dv8tion.jda.api.entities.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class AttachmentBatchImportService implements BatchAttachmentImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentBatchImportService.class);
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of("csv", "tsv", "txt");
+    private static final char BYTE_ORDER_MARK = '﻿';
+
+    private final TextParser textParser;
+    private final MeterRegistry meterRegistry;
+    private final long maxBytes;
+    private final int maxRows;
+
+    public AttachmentBatchImportService(TextParser textParser,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${batch.import.max-bytes:1048576}") long maxBytes,
+                                        @Value("${batch.import.max-rows:500}") int maxRows) {
+        this.textParser = textParser;
+        this.meterRegistry = meterRegistry;
+        this.maxBytes = maxBytes;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public boolean isSupported(Message.Attachment attachment) {
+        String extension = attachment.getFileExtension();
+        return extension != null && SUPPORTED_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public boolean exceedsSizeLimit(Message.Attachment attachment) {
+        return attachment.getSize() > maxBytes;
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    @Override
+    public CompletableFuture<BatchParseReport> importAttachment(Message.Attachment attachment) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return attachment.getProxy().download()
+                .thenApply(this::readAndParse)
+                .whenComplete((report, error) -> {
+                    sample.stop(meterRegistry.timer("teamboarding.batch.import", "outcome", error == null ? "success" : "failure"));
+                    if (error == null) {
+                        logger.info("Arquivo {} importado: {} entradas, {} linhas com erro",
+                                attachment.getFileName(), report.getEntries().size(), report.getFailures().size());
+                    } else {
+                        logger.warn("Falha ao importar arquivo {}: {}", attachment.getFileName(), error.getMessage());
+                    }
+                });
+    }
+
+    private BatchParseReport readAndParse(InputStream content) {
+        List<String> lines = new ArrayList<>();
+        int rows = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (lines.isEmpty() && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                    line = line.substring(1);
+                }
+                if (!line.isBlank() && ++rows > maxRows) {
+                    throw new BatchRowLimitExceededException(maxRows);
+                }
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return textParser.parseLines(lines);
+    }
+}
@@ -0,0 +1,86 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Slf4j
+final class BatchEntryFields {
+
+    private static final DateTimeFormatter BRAZILIAN_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String[] CATEGORY_SEPARATORS = {",", ";", " e ", " y ", " and ", " & "};
+
+    private BatchEntryFields() {
+    }
+
+    static String cleanAndNormalize(String text) {
+        if (text == null) return "";
+        
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text.trim(), Normalizer.Form.NFD)).replaceAll("");
+        
+        String[] words = WHITESPACE.split(normalized.toLowerCase());
+        StringBuilder result = new StringBuilder();
+        
+        for (String word : words) {
+            if (word.length() > 0) {
+                if (result.length() > 0) result.append(" ");
+                result.append(Character.toUpperCase(word.charAt(0)))
+                      .append(word.substring(1));
+            }
+        }
+        
+        return result.toString();
+    }
+
+    static List<String> parseCategories(String categoriesStr) {
+        List<String> categories = new ArrayList<>();
+        
+        if (categoriesStr == null || categoriesStr.trim().isEmpty()) {
+            return categories;
+        }
+        
+        String normalizedStr = categoriesStr;
+        for (String separator : CATEGORY_SEPARATORS) {
+            normalizedStr = normalizedStr.replace(separator, ",");
+        }
+        
+        for (String part : normalizedStr.split(",")) {
+            String category = cleanAndNormalize(part);
+            if (!category.isEmpty()) {
+                categories.add(category);
+            }
+        }
+        
+        return categories;
+    }
+
+    static LocalDate parseDate(String dateStr) {
+        if (dateStr == null || dateStr.trim().isEmpty()) {
+            return null;
+        }
+        
+        String normalized = dateStr.trim().replace('/', '-');
+        try {
+            return LocalDate.parse(normalized, BRAZILIAN_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE);
+            } catch (DateTimeParseException ignored) {
+                log.warn("Failed to parse date '{}': {}", dateStr, e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    static String defaultDescription(String logType, String personName) {
+        return String.format("Log de %s para %s", logType, personName);
+    }
+}
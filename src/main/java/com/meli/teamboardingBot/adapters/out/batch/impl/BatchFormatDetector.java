@@ -0,0 +1,69 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.impl.BatchLineLexer.Token;
+import com.meli.teamboardingBot.adapters.out.batch.impl.BatchLineLexer.TokenType;
+import com.meli.teamboardingBot.core.domain.batch.BatchTextFormat;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BatchFormatDetector {
+
+    private static final int SAMPLE_LINES = 5;
+    private static final int DASHED_SEPARATORS = 4;
+
+    private BatchFormatDetector() {
+    }
+
+    public static BatchTextFormat detect(String inputText) {
+        if (inputText == null || inputText.isBlank()) {
+            return BatchTextFormat.UNKNOWN;
+        }
+        return detect(Arrays.asList(inputText.split("\n")));
+    }
+
+    public static BatchTextFormat detect(List<String> lines) {
+        Map<BatchTextFormat, Integer> votes = new EnumMap<>(BatchTextFormat.class);
+        int sampled = 0;
+        for (int i = 0; i < lines.size() && sampled < SAMPLE_LINES; i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty()) continue;
+
+            votes.merge(classify(line), 1, Integer::sum);
+            sampled++;
+        }
+
+        BatchTextFormat best = BatchTextFormat.UNKNOWN;
+        int bestVotes = 0;
+        for (Map.Entry<BatchTextFormat, Integer> vote : votes.entrySet()) {
+            if (vote.getKey() != BatchTextFormat.UNKNOWN && vote.getValue() > bestVotes) {
+                best = vote.getKey();
+                bestVotes = vote.getValue();
+            }
+        }
+        return best;
+    }
+
+    static BatchTextFormat classify(String line) {
+        char separator = DelimitedTextParsingService.detectSeparator(line);
+        if (separator == '\t') {
+            return BatchTextFormat.DELIMITED;
+        }
+
+        int dashes = 0;
+        boolean hasDate = false;
+        for (Token token : BatchLineLexer.tokenize(line)) {
+            if (token.type() == TokenType.DASH) dashes++;
+            if (token.type() == TokenType.DATE) hasDate = true;
+        }
+        if (dashes >= DASHED_SEPARATORS) {
+            return BatchTextFormat.DASHED;
+        }
+        if (separator != 0) {
+            return BatchTextFormat.DELIMITED;
+        }
+        return hasDate ? BatchTextFormat.NATURAL : BatchTextFormat.UNKNOWN;
+    }
+}
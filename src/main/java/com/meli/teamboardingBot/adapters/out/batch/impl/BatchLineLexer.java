@@ -0,0 +1,71 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BatchLineLexer {
+
+    public enum TokenType { TEXT, DASH, DATE }
+
+    public record Token(TokenType type, String text, int start, int end) {
+    }
+
+    private static final int DATE_LENGTH = 10;
+
+    private BatchLineLexer() {
+    }
+
+    public static List<Token> tokenize(String line) {
+        List<Token> tokens = new ArrayList<>();
+        int length = line.length();
+        int i = 0;
+        while (i < length) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (isDateAt(line, i)) {
+                String date = line.substring(i, i + DATE_LENGTH).replace('/', '-');
+                tokens.add(new Token(TokenType.DATE, date, i, i + DATE_LENGTH));
+                i += DATE_LENGTH;
+            } else if (c == '-') {
+                tokens.add(new Token(TokenType.DASH, "-", i, i + 1));
+                i++;
+            } else {
+                int start = i;
+                while (i < length && line.charAt(i) != '-' && !isDateAt(line, i)) {
+                    i++;
+                }
+                int end = i;
+                while (end > start && Character.isWhitespace(line.charAt(end - 1))) {
+                    end--;
+                }
+                tokens.add(new Token(TokenType.TEXT, line.substring(start, end), start, end));
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isDateAt(String line, int i) {
+        if (i + DATE_LENGTH > line.length()) {
+            return false;
+        }
+        if (i > 0 && Character.isLetterOrDigit(line.charAt(i - 1))) {
+            return false;
+        }
+        if (i + DATE_LENGTH < line.length() && Character.isDigit(line.charAt(i + DATE_LENGTH))) {
+            return false;
+        }
+        return isDigit(line, i) && isDigit(line, i + 1) && isDateSeparator(line.charAt(i + 2))
+                && isDigit(line, i + 3) && isDigit(line, i + 4) && isDateSeparator(line.charAt(i + 5))
+                && isDigit(line, i + 6) && isDigit(line, i + 7) && isDigit(line, i + 8) && isDigit(line, i + 9);
+    }
+
+    private static boolean isDigit(String line, int i) {
+        char c = line.charAt(i);
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDateSeparator(char c) {
+        return c == '-' || c == '/';
+    }
+}
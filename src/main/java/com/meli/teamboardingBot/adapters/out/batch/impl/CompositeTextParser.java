@@ -0,0 +1,110 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.TextParser;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
+import com.meli.teamboardingBot.core.domain.batch.BatchTextFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+public class CompositeTextParser implements TextParser {
+
+    private final List<Route> routes;
+    private final MeterRegistry meterRegistry;
+
+    public CompositeTextParser(MeterRegistry meterRegistry, List<Route> routes) {
+        this.meterRegistry = meterRegistry;
+        this.routes = List.copyOf(routes);
+    }
+
+    public static Route route(String name, TextParser parser, BatchTextFormat... formats) {
+        return new Route(name, parser, Set.of(formats));
+    }
+
+    @Override
+    public List<BatchLogEntry> parseText(String inputText) {
+        return parseWithDiagnostics(inputText).getEntries();
+    }
+
+    @Override
+    public BatchParseReport parseWithDiagnostics(String inputText) {
+        if (inputText == null || inputText.isBlank()) {
+            return new BatchParseReport(new ArrayList<>(), new ArrayList<>());
+        }
+        return parseLines(Arrays.asList(inputText.split("\n")));
+    }
+
+    @Override
+    public BatchParseReport parseLines(List<String> lines) {
+        BatchTextFormat format = BatchFormatDetector.detect(lines);
+        meterRegistry.counter("teamboarding.batch.parse.format", "format", format.getTag()).increment();
+
+        BatchParseReport best = null;
+        Route bestRoute = null;
+        for (Route route : routesFor(format)) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            BatchParseReport report = route.parser().parseLines(lines);
+            boolean hit = !report.getEntries().isEmpty();
+            sample.stop(meterRegistry.timer("teamboarding.batch.parse",
+                    "parser", route.name(), "format", format.getTag(), "outcome", hit ? "hit" : "miss"));
+            if (isBetter(report, best)) {
+                best = report;
+                bestRoute = route;
+            }
+            if (hit && report.getFailures().isEmpty()) {
+                break;
+            }
+        }
+        if (best == null) {
+            return new BatchParseReport(new ArrayList<>(), new ArrayList<>());
+        }
+        if (!best.getEntries().isEmpty() && !bestRoute.formats().contains(format)) {
+            log.info("Formato {} interpretado pelo parser de fallback {}", format.getTag(), bestRoute.name());
+        }
+        return best;
+    }
+
+    private static boolean isBetter(BatchParseReport candidate, BatchParseReport best) {
+        if (best == null) {
+            return true;
+        }
+        int parsed = candidate.getEntries().size();
+        int bestParsed = best.getEntries().size();
+        if (parsed != bestParsed) {
+            return parsed > bestParsed;
+        }
+        return bestParsed == 0 && best.getDiagnostics().isEmpty() && !candidate.getDiagnostics().isEmpty();
+    }
+
+    private List<Route> routesFor(BatchTextFormat format) {
+        List<Route> ordered = new ArrayList<>(routes.size());
+        for (Route route : routes) {
+            if (route.formats().contains(format)) ordered.add(route);
+        }
+        for (Route route : routes) {
+            if (!route.formats().contains(format)) ordered.add(route);
+        }
+        return ordered;
+    }
+
+    @Override
+    public boolean canParse(String inputText) {
+        return BatchFormatDetector.detect(inputText) != BatchTextFormat.UNKNOWN
+                || routes.stream().anyMatch(route -> route.parser().canParse(inputText));
+    }
+
+    @Override
+    public String getParserName() {
+        return "Composite Text Parser";
+    }
+
+    public record Route(String name, TextParser parser, Set<BatchTextFormat> formats) {
+    }
+}
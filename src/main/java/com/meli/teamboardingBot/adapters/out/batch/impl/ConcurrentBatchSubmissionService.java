@@ -0,0 +1,264 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.BatchSubmitter;
+import com.meli.teamboardingBot.adapters.out.batch.SubmissionLedger;
+import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
+import com.meli.teamboardingBot.core.context.UserContext;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchSubmissionResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+@Service
+public class ConcurrentBatchSubmissionService implements BatchSubmitter, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentBatchSubmissionService.class);
+
+    private final SquadLogService squadLogService;
+    private final SubmissionLedger submissionLedger;
+    private final MessageSource messageSource;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore globalPermits;
+    private final Map<String, UserPermits> userPermits = new ConcurrentHashMap<>();
+    private final int permitsPerUser;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public ConcurrentBatchSubmissionService(SquadLogService squadLogService,
+                                            SubmissionLedger submissionLedger,
+                                            MessageSource messageSource,
+                                            @Value("${batch.submit.max-concurrency:8}") int maxConcurrency,
+                                            @Value("${batch.submit.max-concurrency-per-user:4}") int permitsPerUser,
+                                            @Value("${batch.submit.max-attempts:3}") int maxAttempts,
+                                            @Value("${batch.submit.backoff-base-ms:250}") long baseBackoffMs,
+                                            @Value("${batch.submit.backoff-max-ms:4000}") long maxBackoffMs) {
+        this.squadLogService = squadLogService;
+        this.submissionLedger = submissionLedger;
+        this.messageSource = messageSource;
+        this.globalPermits = new Semaphore(maxConcurrency, true);
+        this.permitsPerUser = permitsPerUser;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @Override
+    public CompletableFuture<List<BatchSubmissionResult>> submitAll(String discordUserId,
+                                                                    List<BatchLogEntry> entries,
+                                                                    Function<BatchLogEntry, String> payloadFactory,
+                                                                    BatchProgressListener progressListener) {
+        int total = entries.size();
+        BatchSubmissionResult[] results = new BatchSubmissionResult[total];
+        AtomicInteger completed = new AtomicInteger();
+        Semaphore userSemaphore = acquireUserPermits(discordUserId);
+        UserContext context = UserContext.forUser(discordUserId);
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            int index = i;
+            BatchLogEntry entry = entries.get(i);
+            tasks.add(CompletableFuture.runAsync(() -> {
+                BatchSubmissionResult result;
+                try {
+                    result = context.call(() -> submitWithPermits(userSemaphore, index, entry, payloadFactory));
+                } catch (RuntimeException e) {
+                    logger.error("Erro inesperado ao enviar linha {} do lote", entry.getLineNumber(), e);
+                    result = BatchSubmissionResult.failure(index, entry, e.getMessage(), 0);
+                }
+                results[index] = result;
+                int done = completed.incrementAndGet();
+                if (progressListener != null) {
+                    try {
+                        progressListener.onProgress(result, done, total);
+                    } catch (RuntimeException e) {
+                        logger.warn("Falha ao notificar progresso do lote: {}", e.getMessage());
+                    }
+                }
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new))
+                .whenComplete((ignored, error) -> releaseUserPermits(discordUserId))
+                .thenApply(ignored -> Arrays.asList(results));
+    }
+
+    private Semaphore acquireUserPermits(String discordUserId) {
+        return userPermits.compute(discordUserId, (id, permits) -> {
+            UserPermits active = permits != null ? permits : new UserPermits(new Semaphore(permitsPerUser, true));
+            active.batches++;
+            return active;
+        }).semaphore;
+    }
+
+    private void releaseUserPermits(String discordUserId) {
+        userPermits.computeIfPresent(discordUserId, (id, permits) -> --permits.batches == 0 ? null : permits);
+    }
+
+    private BatchSubmissionResult submitWithPermits(Semaphore userSemaphore, int index,
+                                                    BatchLogEntry entry, Function<BatchLogEntry, String> payloadFactory) {
+        try {
+            userSemaphore.acquire();
+            try {
+                globalPermits.acquire();
+                try {
+                    return submitIdempotently(index, entry, payloadFactory);
+                } finally {
+                    globalPermits.release();
+                }
+            } finally {
+                userSemaphore.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BatchSubmissionResult.failure(index, entry, message("txt_envio_interrompido"), 0);
+        }
+    }
+
+    private BatchSubmissionResult submitIdempotently(int index, BatchLogEntry entry,
+                                                      Function<BatchLogEntry, String> payloadFactory) throws InterruptedException {
+        String fingerprint = submissionLedger.fingerprint(entry);
+        Optional<String> existing = submissionLedger.findCreated(fingerprint);
+        if (existing.isPresent()) {
+            logger.info("Linha {} já enviada anteriormente (log {}), ignorando", entry.getLineNumber(), existing.get());
+            return BatchSubmissionResult.duplicate(index, entry, existing.get());
+        }
+        if (submissionLedger.isUnknown(fingerprint)) {
+            logger.warn("Linha {} tem envio anterior sem confirmação, não será reenviada", entry.getLineNumber());
+            return BatchSubmissionResult.uncertain(index, entry, message("txt_envio_anterior_sem_confirmacao"), 0);
+        }
+        if (!submissionLedger.reserve(fingerprint)) {
+            return submissionLedger.findCreated(fingerprint)
+                    .map(id -> BatchSubmissionResult.duplicate(index, entry, id))
+                    .orElseGet(() -> BatchSubmissionResult.failure(index, entry, message("txt_entrada_identica_em_envio"), 0));
+        }
+
+        BatchSubmissionResult result = null;
+        try {
+            result = submitWithRetry(index, entry, payloadFactory);
+            return result;
+        } finally {
+            if (result != null && result.isSuccess()) {
+                submissionLedger.recordCreated(fingerprint, extractSquadLogId(result.getResponse()));
+            } else if (result != null && result.isUncertain()) {
+                submissionLedger.recordUnknown(fingerprint);
+            } else {
+                submissionLedger.release(fingerprint);
+            }
+        }
+    }
+
+    private String extractSquadLogId(String response) {
+        if (response == null || response.isBlank()) {
+            return null;
+        }
+        try {
+            Object id = new JSONObject(response).opt("id");
+            return id != null ? String.valueOf(id) : null;
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private BatchSubmissionResult submitWithRetry(int index, BatchLogEntry entry,
+                                                  Function<BatchLogEntry, String> payloadFactory) throws InterruptedException {
+        String payload = payloadFactory.apply(entry);
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                String response = squadLogService.createSquadLog(payload).getBody();
+                logger.info("Log criado com sucesso: Squad {} - {} (tentativa {})", entry.getSquadName(), entry.getPersonName(), attempt);
+                return BatchSubmissionResult.success(index, entry, response, attempt);
+            } catch (RuntimeException e) {
+                boolean notSent = neverReachedServer(e);
+                if (!notSent && !rejectedByServer(e)) {
+                    logger.error("Resultado desconhecido ao criar log: Squad {} - {} (tentativa {}), verificar antes de reenviar",
+                            entry.getSquadName(), entry.getPersonName(), attempt, e);
+                    return BatchSubmissionResult.uncertain(index, entry, e.getMessage(), attempt);
+                }
+                if (attempt >= maxAttempts || !notSent) {
+                    logger.error("Erro ao criar log: Squad {} - {} após {} tentativa(s)", entry.getSquadName(), entry.getPersonName(), attempt, e);
+                    return BatchSubmissionResult.failure(index, entry, e.getMessage(), attempt);
+                }
+                long delay = backoffDelay(attempt);
+                logger.warn("Falha transitória ao criar log da linha {}, nova tentativa em {} ms: {}", entry.getLineNumber(), delay, e.getMessage());
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    private String message(String key) {
+        Locale locale = UserContext.getCurrentLocale();
+        return messageSource.getMessage(key, null, locale != null ? locale : Locale.getDefault());
+    }
+
+    private long backoffDelay(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    static boolean neverReachedServer(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException status) {
+                return status.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+                        || status.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+            }
+            if (cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean rejectedByServer(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException status) {
+                return status.getStatusCode().is4xxClientError();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class UserPermits {
+        private final Semaphore semaphore;
+        private int batches;
+
+        private UserPermits(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.TextParser;
+import com.meli.teamboardingBot.core.domain.batch.BatchLineDiagnostic;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class DelimitedTextParsingService implements TextParser {
+
+    private static final String FORMAT = "planilha";
+    private static final char[] SEPARATORS = {'\t', ';', ','};
+    private static final int REQUIRED_COLUMNS = 5;
+    private static final int MIN_HEADER_MATCHES = 3;
+
+    private static final int SQUAD = 0;
+    private static final int PERSON = 1;
+    private static final int TYPE = 2;
+    private static final int CATEGORIES = 3;
+    private static final int START = 4;
+    private static final int END = 5;
+    private static final int DESCRIPTION = 6;
+    private static final String[] COLUMN_NAMES = {"squad", "pessoa", "tipo", "categorias", "data início", "data fim", "descrição"};
+
+    private static final Map<String, Integer> HEADER_ALIASES = new HashMap<>();
+
+    static {
+        aliases(SQUAD, "squad", "equipe", "equipo", "time");
+        aliases(PERSON, "pessoa", "person", "usuario", "user", "nome", "name", "persona", "nombre");
+        aliases(TYPE, "tipo", "type", "logtype");
+        aliases(CATEGORIES, "categorias", "categoria", "categories", "category");
+        aliases(START, "inicio", "datainicio", "start", "startdate", "fechainicio", "data", "fecha");
+        aliases(END, "fim", "datafim", "end", "enddate", "fechafin", "fin");
+        aliases(DESCRIPTION, "descricao", "description", "descripcion");
+    }
+
+    @Override
+    public List<BatchLogEntry> parseText(String inputText) {
+        return parseWithDiagnostics(inputText).getEntries();
+    }
+
+    @Override
+    public BatchParseReport parseWithDiagnostics(String inputText) {
+        if (inputText == null || inputText.trim().isEmpty()) {
+            return new BatchParseReport(new ArrayList<>(), new ArrayList<>());
+        }
+
+        return parseLines(Arrays.asList(inputText.split("\n")));
+    }
+
+    @Override
+    public BatchParseReport parseLines(List<String> lines) {
+        List<BatchLogEntry> entries = new ArrayList<>();
+        List<BatchLineDiagnostic> diagnostics = new ArrayList<>();
+        char separator = 0;
+        int[] columns = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty()) continue;
+
+            int lineNumber = i + 1;
+            if (separator == 0) {
+                separator = detectSeparator(line);
+                if (separator == 0) {
+                    return new BatchParseReport(entries, diagnostics);
+                }
+                List<String> firstRow = splitRow(line, separator);
+                columns = headerColumns(firstRow);
+                if (columns != null) continue;
+                columns = new int[] {SQUAD, PERSON, TYPE, CATEGORIES, START, END, DESCRIPTION};
+            }
+
+            BatchLineDiagnostic failure = parseRow(splitRow(line, separator), columns, lineNumber, entries);
+            diagnostics.add(failure != null ? failure : BatchLineDiagnostic.parsed(lineNumber, FORMAT));
+            if (failure != null) {
+                log.warn("Failed to parse line {}: {}", lineNumber, failure.getMessage());
+            }
+        }
+
+        return new BatchParseReport(entries, diagnostics);
+    }
+
+    private BatchLineDiagnostic parseRow(List<String> cells, int[] columns, int lineNumber, List<BatchLogEntry> entries) {
+        String[] values = new String[COLUMN_NAMES.length];
+        for (int cell = 0; cell < cells.size() && cell < columns.length; cell++) {
+            if (columns[cell] >= 0) {
+                values[columns[cell]] = cells.get(cell).strip();
+            }
+        }
+
+        for (int field = 0; field < REQUIRED_COLUMNS; field++) {
+            if (values[field] == null || values[field].isEmpty()) {
+                return BatchLineDiagnostic.failed(lineNumber, FORMAT, "coluna '" + COLUMN_NAMES[field] + "' vazia");
+            }
+        }
+
+        LocalDate startDate = BatchEntryFields.parseDate(values[START]);
+        if (startDate == null) {
+            return BatchLineDiagnostic.failed(lineNumber, FORMAT, "data de início '" + values[START] + "' inválida (use dd-MM-aaaa)");
+        }
+        LocalDate endDate = null;
+        if (values[END] != null && !values[END].isEmpty()) {
+            endDate = BatchEntryFields.parseDate(values[END]);
+            if (endDate == null) {
+                return BatchLineDiagnostic.failed(lineNumber, FORMAT, "data de fim '" + values[END] + "' inválida (use dd-MM-aaaa)");
+            }
+        }
+
+        String personName = BatchEntryFields.cleanAndNormalize(values[PERSON]);
+        String logType = BatchEntryFields.cleanAndNormalize(values[TYPE]);
+        String description = values[DESCRIPTION];
+        if (description == null || description.isEmpty()) {
+            description = BatchEntryFields.defaultDescription(logType, personName);
+        }
+
+        entries.add(new BatchLogEntry(BatchEntryFields.cleanAndNormalize(values[SQUAD]), personName, logType,
+                BatchEntryFields.parseCategories(values[CATEGORIES]), description, startDate, endDate, lineNumber));
+        return null;
+    }
+
+    private int[] headerColumns(List<String> row) {
+        int[] columns = new int[row.size()];
+        Arrays.fill(columns, -1);
+        int matches = 0;
+        for (int cell = 0; cell < row.size(); cell++) {
+            Integer column = HEADER_ALIASES.get(headerKey(row.get(cell)));
+            if (column != null) {
+                columns[cell] = column;
+                matches++;
+            }
+        }
+        return matches >= MIN_HEADER_MATCHES ? columns : null;
+    }
+
+    static char detectSeparator(String line) {
+        char best = 0;
+        int bestCount = REQUIRED_COLUMNS - 2;
+        for (char separator : SEPARATORS) {
+            int count = splitRow(line, separator).size() - 1;
+            if (count > bestCount) {
+                best = separator;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    static List<String> splitRow(String line, char separator) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == separator && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static String headerKey(String cell) {
+        return BatchEntryFields.cleanAndNormalize(cell).toLowerCase().replaceAll("[^a-z]", "");
+    }
+
+    private static void aliases(int column, String... names) {
+        for (String name : names) {
+            HEADER_ALIASES.put(name, column);
+        }
+    }
+
+    @Override
+    public boolean canParse(String inputText) {
+        if (inputText == null || inputText.trim().isEmpty()) {
+            return false;
+        }
+
+        for (String line : inputText.split("\n")) {
+            if (!line.isBlank()) {
+                return detectSeparator(line.strip()) != 0;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getParserName() {
+        return "Delimited (CSV/TSV) Text Parser";
+    }
+}
@@ -0,0 +1,119 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.SubmissionLedger;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class InMemorySubmissionLedger implements SubmissionLedger {
+
+    private final Map<String, LedgerRecord> records = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt;
+    private final Duration window;
+    private final long purgeIntervalNanos;
+
+    public InMemorySubmissionLedger(@Value("${batch.ledger.window-minutes:1440}") long windowMinutes,
+                                    @Value("${batch.ledger.purge-interval-seconds:60}") long purgeIntervalSeconds) {
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.purgeIntervalNanos = TimeUnit.SECONDS.toNanos(purgeIntervalSeconds);
+        this.nextPurgeAt = new AtomicLong(System.nanoTime() + purgeIntervalNanos);
+    }
+
+    @Override
+    public String fingerprint(BatchLogEntry entry) {
+        List<Long> categoryIds = entry.getCategoryIds() == null ? List.of()
+                : entry.getCategoryIds().stream().filter(Objects::nonNull).sorted().toList();
+        String canonical = String.join("|",
+                String.valueOf(entry.getSquadId()),
+                String.valueOf(entry.getUserId()),
+                String.valueOf(entry.getTypeId()),
+                categoryIds.toString(),
+                String.valueOf(entry.getStartDate()),
+                String.valueOf(entry.getEndDate()),
+                entry.getDescription() == null ? "" : entry.getDescription().trim());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    @Override
+    public Optional<String> findCreated(String fingerprint) {
+        LedgerRecord record = records.get(fingerprint);
+        if (record == null || record.squadLogId == null || record.unknown) {
+            return Optional.empty();
+        }
+        if (isExpired(record)) {
+            records.remove(fingerprint, record);
+            return Optional.empty();
+        }
+        return Optional.of(record.squadLogId);
+    }
+
+    @Override
+    public boolean reserve(String fingerprint) {
+        purgeExpiredIfDue();
+        LedgerRecord pending = new LedgerRecord(null, false, Instant.now());
+        LedgerRecord existing = records.putIfAbsent(fingerprint, pending);
+        if (existing == null) {
+            return true;
+        }
+        if (isExpired(existing) && records.replace(fingerprint, existing, pending)) {
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void recordCreated(String fingerprint, String squadLogId) {
+        records.put(fingerprint, new LedgerRecord(squadLogId != null ? squadLogId : "?", false, Instant.now()));
+    }
+
+    @Override
+    public void recordUnknown(String fingerprint) {
+        records.put(fingerprint, new LedgerRecord(null, true, Instant.now()));
+    }
+
+    @Override
+    public boolean isUnknown(String fingerprint) {
+        LedgerRecord record = records.get(fingerprint);
+        return record != null && record.unknown && !isExpired(record);
+    }
+
+    @Override
+    public void release(String fingerprint) {
+        records.computeIfPresent(fingerprint, (key, record) -> record.squadLogId == null && !record.unknown ? null : record);
+    }
+
+    private boolean isExpired(LedgerRecord record) {
+        return record.recordedAt.plus(window).isBefore(Instant.now());
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = System.nanoTime();
+        long due = nextPurgeAt.get();
+        if (now - due >= 0 && nextPurgeAt.compareAndSet(due, now + purgeIntervalNanos)) {
+            records.values().removeIf(this::isExpired);
+        }
+    }
+
+    private record LedgerRecord(String squadLogId, boolean unknown, Instant recordedAt) {
+    }
+}
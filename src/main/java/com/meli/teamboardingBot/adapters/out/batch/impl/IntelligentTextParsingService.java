@@ -1,250 +1,218 @@
 package com.meli.teamboardingBot.adapters.out.batch.impl;
 
 import com.meli.teamboardingBot.adapters.out.batch.TextParser;
+import com.meli.teamboardingBot.adapters.out.batch.impl.BatchLineLexer.Token;
+import com.meli.teamboardingBot.adapters.out.batch.impl.BatchLineLexer.TokenType;
+import com.meli.teamboardingBot.core.domain.batch.BatchLineDiagnostic;
 import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.text.Normalizer;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Locale;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 public class IntelligentTextParsingService implements TextParser {
     
-    private static final DateTimeFormatter BRAZILIAN_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-    
-    private static final Pattern INTELLIGENT_PATTERN = Pattern.compile(
-        "([\\w\\s]+?)\\s*-\\s*([\\w\\s]+?)\\s*-\\s*([\\w\\s]+?)\\s*-\\s*([\\w\\s,]+?)\\s*-\\s*(\\d{2}-\\d{2}-\\d{4})(?:\\s*-\\s*(\\d{2}-\\d{2}-\\d{4}))?(?:\\s*-\\s*(.+))?",
-        Pattern.MULTILINE | Pattern.CASE_INSENSITIVE
-    );
-    
-    private static final Pattern NATURAL_PATTERN = Pattern.compile(
-        "(?i)([\\w\\s]+?)(?:\\s+da\\s+squad\\s+|\\s+do\\s+squad\\s+|\\s+squad\\s+)?([\\w\\s]+?)(?:\\s+fazendo\\s+|\\s+fez\\s+|\\s+sobre\\s+|\\s+)?([\\w\\s]+?)(?:\\s+sobre\\s+|\\s+com\\s+|\\s+usando\\s+)?([\\w\\s,]+?)(?:\\s+em\\s+|\\s+de\\s+|\\s+para\\s+)(\\d{2}[-/]\\d{2}[-/]\\d{4})(?:\\s*(?:a|até)\\s*(\\d{2}[-/]\\d{2}[-/]\\d{4}))?",
-        Pattern.MULTILINE
-    );
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String DASHED_FORMAT = "traços";
+    private static final String NATURAL_FORMAT = "natural";
+    private static final String[] DASHED_FIELDS = {"squad", "pessoa", "tipo", "categorias"};
+    private static final int PARALLEL_LINE_THRESHOLD = 200;
+
+    private static final Set<String> SQUAD_MARKERS = Set.of("squad");
+    private static final Set<String> SQUAD_ARTICLES = Set.of("da", "do", "de", "del", "la");
+    private static final Set<String> TYPE_MARKERS = Set.of("fazendo", "fez", "haciendo", "hizo", "sobre");
+    private static final Set<String> CATEGORY_MARKERS = Set.of("sobre", "com", "con", "usando");
+    private static final Set<String> DATE_MARKERS = Set.of("em", "en", "de", "para");
+    private static final Set<String> RANGE_MARKERS = Set.of("a", "ate", "até", "hasta");
 
     @Override
     public List<BatchLogEntry> parseText(String inputText) {
-        List<BatchLogEntry> entries = new ArrayList<>();
-        
+        return parseWithDiagnostics(inputText).getEntries();
+    }
+
+    @Override
+    public BatchParseReport parseWithDiagnostics(String inputText) {
         if (inputText == null || inputText.trim().isEmpty()) {
-            return entries;
+            return new BatchParseReport(new ArrayList<>(), new ArrayList<>());
         }
 
-        String[] lines = inputText.split("\n");
-        
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].trim();
-            if (line.isEmpty()) continue;
-            
-            BatchLogEntry entry = parseLineIntelligently(line, i + 1);
+        return parseLines(Arrays.asList(inputText.split("\n")));
+    }
+
+    @Override
+    public BatchParseReport parseLines(List<String> lines) {
+        LineResult[] results = new LineResult[lines.size()];
+        IntStream indexes = IntStream.range(0, lines.size());
+        if (lines.size() >= PARALLEL_LINE_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> results[i] = parseLine(lines.get(i).trim(), i + 1));
+
+        List<BatchLogEntry> entries = new ArrayList<>();
+        List<BatchLineDiagnostic> diagnostics = new ArrayList<>();
+        for (LineResult result : results) {
+            if (result == null) continue;
+
+            diagnostics.add(result.diagnostic());
+            BatchLogEntry entry = result.entry();
             if (entry != null) {
                 entries.add(entry);
-                log.info("Parsed line {}: Squad='{}', Person='{}', Type='{}', Categories='{}'", 
-                    i + 1, entry.getSquadName(), entry.getPersonName(), entry.getLogType(), entry.getCategories());
+                log.info("Parsed line {}: Squad='{}', Person='{}', Type='{}', Categories='{}'",
+                    entry.getLineNumber(), entry.getSquadName(), entry.getPersonName(), entry.getLogType(), entry.getCategories());
             } else {
-                log.warn("Failed to parse line {}: '{}'", i + 1, line);
+                log.warn("Failed to parse line {}: {}", result.diagnostic().getLineNumber(), result.diagnostic().getMessage());
             }
         }
-        
-        return entries;
+
+        return new BatchParseReport(entries, diagnostics);
     }
 
-    private BatchLogEntry parseLineIntelligently(String line, int lineNumber) {
-        BatchLogEntry entry = tryStructuredFormat(line, lineNumber);
-        if (entry != null) {
-            return entry;
-        }
-        
-        entry = tryNaturalFormat(line, lineNumber);
-        if (entry != null) {
-            return entry;
+    private LineResult parseLine(String line, int lineNumber) {
+        if (line.isEmpty()) return null;
+
+        List<Token> tokens = BatchLineLexer.tokenize(line);
+        int dashes = 0;
+        boolean hasDate = false;
+        for (Token token : tokens) {
+            if (token.type() == TokenType.DASH) dashes++;
+            if (token.type() == TokenType.DATE) hasDate = true;
         }
-        
-        return tryFlexibleParsing(line, lineNumber);
-    }
 
-    private BatchLogEntry tryStructuredFormat(String line, int lineNumber) {
-        Matcher matcher = INTELLIGENT_PATTERN.matcher(line);
-        
-        if (matcher.find()) {
-            try {
-                String squadName = cleanAndNormalize(matcher.group(1));
-                String personName = cleanAndNormalize(matcher.group(2));
-                String logType = cleanAndNormalize(matcher.group(3));
-                String categoriesStr = cleanAndNormalize(matcher.group(4));
-                String startDateStr = matcher.group(5).trim();
-                String endDateStr = matcher.group(6);
-                String description = matcher.group(7);
-
-                List<String> categories = parseCategories(categoriesStr);
-                LocalDate startDate = parseDate(startDateStr);
-                LocalDate endDate = endDateStr != null ? parseDate(endDateStr.trim()) : null;
-
-                if (description == null || description.trim().isEmpty()) {
-                    description = generateDefaultDescription(logType, personName);
-                }
-
-                return new BatchLogEntry(squadName, personName, logType, categories, 
-                                       description.trim(), startDate, endDate, lineNumber);
-                                       
-            } catch (Exception e) {
-                log.error("Error parsing structured format for line {}: {}", lineNumber, e.getMessage());
-                return null;
-            }
+        if (dashes >= DASHED_FIELDS.length) {
+            return parseDashed(line, tokens, lineNumber);
         }
-        
-        return null;
+        if (hasDate) {
+            return parseNatural(tokens, lineNumber);
+        }
+        return LineResult.failed(lineNumber, null,
+            "formato não reconhecido (use 'Squad - Pessoa - Tipo - Categorias - dd-MM-aaaa')");
     }
 
-    private BatchLogEntry tryNaturalFormat(String line, int lineNumber) {
-        Matcher matcher = NATURAL_PATTERN.matcher(line);
-        
-        if (matcher.find()) {
-            try {
-                String personName = cleanAndNormalize(matcher.group(1));
-                String squadName = cleanAndNormalize(matcher.group(2));
-                String logType = cleanAndNormalize(matcher.group(3));
-                String categoriesStr = cleanAndNormalize(matcher.group(4));
-                String startDateStr = normalizeDate(matcher.group(5));
-                String endDateStr = matcher.group(6) != null ? normalizeDate(matcher.group(6)) : null;
-
-                List<String> categories = parseCategories(categoriesStr);
-                LocalDate startDate = parseDate(startDateStr);
-                LocalDate endDate = endDateStr != null ? parseDate(endDateStr) : null;
-
-                String description = generateDefaultDescription(logType, personName);
-
-                return new BatchLogEntry(squadName, personName, logType, categories, 
-                                       description, startDate, endDate, lineNumber);
-                                       
-            } catch (Exception e) {
-                log.error("Error parsing natural format for line {}: {}", lineNumber, e.getMessage());
-                return null;
+    private LineResult parseDashed(String line, List<Token> tokens, int lineNumber) {
+        String[] fields = new String[DASHED_FIELDS.length];
+        int position = 0;
+        for (int field = 0; field < DASHED_FIELDS.length; field++) {
+            if (!isTokenAt(tokens, position, TokenType.TEXT)) {
+                return LineResult.failed(lineNumber, DASHED_FORMAT, "campo '" + DASHED_FIELDS[field] + "' vazio");
+            }
+            fields[field] = tokens.get(position++).text();
+            if (!isTokenAt(tokens, position, TokenType.DASH)) {
+                return LineResult.failed(lineNumber, DASHED_FORMAT, "separador '-' ausente após '" + DASHED_FIELDS[field] + "'");
             }
+            position++;
         }
-        
-        return null;
-    }
 
-    private BatchLogEntry tryFlexibleParsing(String line, int lineNumber) {
-        String[] parts = line.split("-");
-        
-        if (parts.length >= 5) {
-            try {
-                String squadName = cleanAndNormalize(parts[0]);
-                String personName = cleanAndNormalize(parts[1]);
-                String logType = cleanAndNormalize(parts[2]);
-                String categoriesStr = cleanAndNormalize(parts[3]);
-                String startDateStr = parts[4].trim();
-                
-                Pattern datePattern = Pattern.compile("\\d{2}[-/]\\d{2}[-/]\\d{4}");
-                
-                if (datePattern.matcher(startDateStr).matches()) {
-                    LocalDate startDate = parseDate(normalizeDate(startDateStr));
-                    LocalDate endDate = null;
-                    String description;
-                    
-                    if (parts.length >= 6) {
-                        String potentialEndDate = parts[5].trim();
-                        if (datePattern.matcher(potentialEndDate).matches()) {
-                            endDate = parseDate(normalizeDate(potentialEndDate));
-                            description = parts.length > 6 ? parts[6].trim() : generateDefaultDescription(logType, personName);
-                        } else {
-                            description = potentialEndDate;
-                        }
-                    } else {
-                        description = generateDefaultDescription(logType, personName);
-                    }
-                    
-                    List<String> categories = parseCategories(categoriesStr);
-                    
-                    return new BatchLogEntry(squadName, personName, logType, categories, 
-                                           description, startDate, endDate, lineNumber);
-                }
-                
-            } catch (Exception e) {
-                log.error("Error in flexible parsing for line {}: {}", lineNumber, e.getMessage());
-            }
+        if (!isTokenAt(tokens, position, TokenType.DATE)) {
+            return LineResult.failed(lineNumber, DASHED_FORMAT, "data de início ausente ou fora do formato dd-MM-aaaa");
+        }
+        String startDate = tokens.get(position++).text();
+        String endDate = null;
+        if ((isTokenAt(tokens, position, TokenType.DASH) || isRangeMarkerAt(tokens, position))
+                && isTokenAt(tokens, position + 1, TokenType.DATE)) {
+            endDate = tokens.get(position + 1).text();
+            position += 2;
         }
-        
-        return null;
-    }
 
-    private String cleanAndNormalize(String text) {
-        if (text == null) return "";
-        
-        String normalized = Normalizer.normalize(text.trim(), Normalizer.Form.NFD)
-                                    .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-        
-        String[] words = normalized.toLowerCase().split("\\s+");
-        StringBuilder result = new StringBuilder();
-        
-        for (String word : words) {
-            if (word.length() > 0) {
-                if (result.length() > 0) result.append(" ");
-                result.append(Character.toUpperCase(word.charAt(0)))
-                      .append(word.substring(1));
+        String description = null;
+        if (position < tokens.size()) {
+            description = line.substring(tokens.get(position).start()).trim();
+            if (description.startsWith("-")) {
+                description = description.substring(1).trim();
             }
         }
-        
-        return result.toString();
-    }
 
-    private String normalizeDate(String dateStr) {
-        if (dateStr == null) return null;
-        
-        return dateStr.replace("/", "-");
+        return buildEntry(DASHED_FORMAT, fields[0], fields[1], fields[2], fields[3], startDate, endDate, description, lineNumber);
     }
 
-    private List<String> parseCategories(String categoriesStr) {
-        List<String> categories = new ArrayList<>();
-        
-        if (categoriesStr == null || categoriesStr.trim().isEmpty()) {
-            return categories;
+    private LineResult parseNatural(List<Token> tokens, int lineNumber) {
+        if (tokens.size() < 2 || tokens.get(0).type() != TokenType.TEXT || tokens.get(1).type() != TokenType.DATE) {
+            return LineResult.failed(lineNumber, NATURAL_FORMAT,
+                "use 'Pessoa da squad Squad fazendo Tipo sobre Categorias em dd-MM-aaaa'");
         }
-        
-        String[] separators = {",", ";", " e ", " and ", " & "};
-        String normalizedStr = categoriesStr;
-        
-        for (String separator : separators) {
-            normalizedStr = normalizedStr.replace(separator, ",");
+
+        String[] words = WHITESPACE.split(tokens.get(0).text());
+        int squadMarker = indexOfMarker(words, SQUAD_MARKERS, 1);
+        if (squadMarker < 0) {
+            return LineResult.failed(lineNumber, NATURAL_FORMAT, "squad não informada (esperado '... da squad <nome> ...')");
         }
-        
-        String[] parts = normalizedStr.split(",");
-        
-        for (String part : parts) {
-            String category = cleanAndNormalize(part);
-            if (!category.isEmpty()) {
-                categories.add(category);
-            }
+        int typeMarker = indexOfMarker(words, TYPE_MARKERS, squadMarker + 2);
+        if (typeMarker < 0) {
+            return LineResult.failed(lineNumber, NATURAL_FORMAT, "tipo não informado (esperado 'fazendo <tipo>')");
         }
-        
-        return categories;
+        int categoryMarker = indexOfMarker(words, CATEGORY_MARKERS, typeMarker + 2);
+        if (categoryMarker < 0) {
+            return LineResult.failed(lineNumber, NATURAL_FORMAT, "categorias não informadas (esperado 'sobre <categorias>')");
+        }
+        int dateMarker = words.length - 1;
+        if (dateMarker <= categoryMarker + 1 || !isMarker(words[dateMarker], DATE_MARKERS)) {
+            return LineResult.failed(lineNumber, NATURAL_FORMAT, "data não introduzida por 'em', 'de' ou 'para'");
+        }
+
+        int personEnd = squadMarker;
+        while (personEnd > 1 && isMarker(words[personEnd - 1], SQUAD_ARTICLES)) {
+            personEnd--;
+        }
+        String personName = join(words, 0, personEnd);
+        String squadName = join(words, squadMarker + 1, typeMarker);
+        String logType = join(words, typeMarker + 1, categoryMarker);
+        String categories = join(words, categoryMarker + 1, dateMarker);
+
+        String startDate = tokens.get(1).text();
+        String endDate = isRangeMarkerAt(tokens, 2) && isTokenAt(tokens, 3, TokenType.DATE) ? tokens.get(3).text() : null;
+
+        return buildEntry(NATURAL_FORMAT, squadName, personName, logType, categories, startDate, endDate, null, lineNumber);
     }
 
-    private LocalDate parseDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
+    private LineResult buildEntry(String format, String rawSquad, String rawPerson, String rawType, String rawCategories,
+                                  String startDateStr, String endDateStr, String description, int lineNumber) {
+        String squadName = BatchEntryFields.cleanAndNormalize(rawSquad);
+        String personName = BatchEntryFields.cleanAndNormalize(rawPerson);
+        String logType = BatchEntryFields.cleanAndNormalize(rawType);
+        List<String> categories = BatchEntryFields.parseCategories(rawCategories);
+        LocalDate startDate = BatchEntryFields.parseDate(startDateStr);
+        LocalDate endDate = endDateStr != null ? BatchEntryFields.parseDate(endDateStr) : null;
+
+        if (description == null || description.isEmpty()) {
+            description = BatchEntryFields.defaultDescription(logType, personName);
         }
-        
-        try {
-            return LocalDate.parse(dateStr.trim(), BRAZILIAN_DATE_FORMAT);
-        } catch (DateTimeParseException e) {
-            log.warn("Failed to parse date '{}': {}", dateStr, e.getMessage());
-            return null;
+
+        BatchLogEntry entry = new BatchLogEntry(squadName, personName, logType, categories,
+                                               description, startDate, endDate, lineNumber);
+        return new LineResult(entry, BatchLineDiagnostic.parsed(lineNumber, format));
+    }
+
+    private static boolean isTokenAt(List<Token> tokens, int position, TokenType type) {
+        return position < tokens.size() && tokens.get(position).type() == type;
+    }
+
+    private static boolean isRangeMarkerAt(List<Token> tokens, int position) {
+        return isTokenAt(tokens, position, TokenType.TEXT) && isMarker(tokens.get(position).text(), RANGE_MARKERS);
+    }
+
+    private static int indexOfMarker(String[] words, Set<String> markers, int from) {
+        for (int i = from; i < words.length; i++) {
+            if (isMarker(words[i], markers)) return i;
         }
+        return -1;
+    }
+
+    private static boolean isMarker(String word, Set<String> markers) {
+        return markers.contains(word.toLowerCase(Locale.ROOT));
     }
 
-    private String generateDefaultDescription(String logType, String personName) {
-        return String.format("Log de %s para %s", logType, personName);
+    private static String join(String[] words, int from, int to) {
+        return String.join(" ", Arrays.asList(words).subList(from, to));
     }
 
     @Override
@@ -253,14 +221,13 @@ public class IntelligentTextParsingService implements TextParser {
             return false;
         }
         
-        String[] lines = inputText.split("\n");
-        for (String line : lines) {
+        for (String line : inputText.split("\n")) {
             if (line.trim().isEmpty()) continue;
-            
-            if (INTELLIGENT_PATTERN.matcher(line).find() || 
-                NATURAL_PATTERN.matcher(line).find() ||
-                line.split("-").length >= 5) {
-                return true;
+
+            int dashes = 0;
+            for (Token token : BatchLineLexer.tokenize(line)) {
+                if (token.type() == TokenType.DATE) return true;
+                if (token.type() == TokenType.DASH && ++dashes >= DASHED_FIELDS.length) return true;
             }
         }
         
@@ -275,8 +242,8 @@ public class IntelligentTextParsingService implements TextParser {
     public double calculateSimilarity(String s1, String s2) {
         if (s1 == null || s2 == null) return 0.0;
         
-        String str1 = cleanAndNormalize(s1).toLowerCase();
-        String str2 = cleanAndNormalize(s2).toLowerCase();
+        String str1 = BatchEntryFields.cleanAndNormalize(s1).toLowerCase();
+        String str2 = BatchEntryFields.cleanAndNormalize(s2).toLowerCase();
         
         if (str1.equals(str2)) return 1.0;
         if (str1.contains(str2) || str2.contains(str1)) return 0.8;
@@ -307,4 +274,10 @@ public class IntelligentTextParsingService implements TextParser {
         
         return dp[s1.length()][s2.length()];
     }
+
+    private record LineResult(BatchLogEntry entry, BatchLineDiagnostic diagnostic) {
+        static LineResult failed(int lineNumber, String format, String message) {
+            return new LineResult(null, BatchLineDiagnostic.failed(lineNumber, format, message));
+        }
+    }
 }
@@ -0,0 +1,209 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+public final class NameMatchIndex<V> {
+
+    private static final Pattern DIACRITICS = Pattern.compile("[\\p{InCombiningDiacriticalMarks}]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int GRAM_SIZE = 3;
+
+    private final List<String> keys;
+    private final String[] normalizedKeys;
+    private final Map<String, V> values;
+    private final Map<String, int[]> exact;
+    private final Map<String, int[]> grams;
+    private final NavigableMap<String, int[]> tokens;
+    private final BitSet shortKeys;
+    private final int maxKeyLength;
+
+    public NameMatchIndex(Map<String, V> source) {
+        this.keys = List.copyOf(source.keySet());
+        this.values = new HashMap<>(source);
+        this.normalizedKeys = new String[keys.size()];
+
+        Map<String, List<Integer>> exactBuilder = new HashMap<>();
+        Map<String, List<Integer>> gramBuilder = new HashMap<>();
+        Map<String, List<Integer>> tokenBuilder = new TreeMap<>();
+        BitSet shortBuilder = new BitSet(keys.size());
+        int longest = 0;
+
+        for (int i = 0; i < keys.size(); i++) {
+            String normalized = normalize(keys.get(i));
+            normalizedKeys[i] = normalized;
+            longest = Math.max(longest, normalized.length());
+            exactBuilder.computeIfAbsent(normalized, k -> new ArrayList<>()).add(i);
+            for (String token : WHITESPACE.split(normalized)) {
+                List<Integer> posting = tokenBuilder.computeIfAbsent(token, k -> new ArrayList<>());
+                if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+                    posting.add(i);
+                }
+            }
+            if (normalized.length() < GRAM_SIZE) {
+                shortBuilder.set(i);
+                continue;
+            }
+            for (int start = 0; start + GRAM_SIZE <= normalized.length(); start++) {
+                List<Integer> posting = gramBuilder.computeIfAbsent(normalized.substring(start, start + GRAM_SIZE), k -> new ArrayList<>());
+                if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+                    posting.add(i);
+                }
+            }
+        }
+
+        this.exact = toPostings(exactBuilder, new HashMap<>());
+        this.grams = toPostings(gramBuilder, new HashMap<>());
+        this.tokens = toPostings(tokenBuilder, new TreeMap<>());
+        this.shortKeys = shortBuilder;
+        this.maxKeyLength = longest;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        normalized = DIACRITICS.matcher(normalized).replaceAll("");
+        normalized = normalized.toLowerCase().trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    public V get(String key) {
+        return values.get(key);
+    }
+
+    public boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    public List<String> keys() {
+        return keys;
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    public String findBestMatch(String input) {
+        String query = normalize(input);
+        int[] exactHits = exact.get(query);
+        if (exactHits != null) {
+            return keys.get(exactHits[0]);
+        }
+
+        int[] previousRow = new int[maxKeyLength + 1];
+        int[] currentRow = new int[maxKeyLength + 1];
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        BitSet candidates = containmentCandidates(query);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            String key = normalizedKeys[i];
+            if (!key.contains(query) && !query.contains(key)) {
+                continue;
+            }
+            int limit = best < 0 ? Integer.MAX_VALUE : bestDistance - 1;
+            int distance = boundedDistance(query, key, limit, previousRow, currentRow);
+            if (distance <= limit) {
+                best = i;
+                bestDistance = distance;
+                if (distance == 0) {
+                    break;
+                }
+            }
+        }
+        return best < 0 ? null : keys.get(best);
+    }
+
+    public List<String> findTokenPrefixMatches(String input) {
+        String query = normalize(input);
+        BitSet matches = new BitSet(keys.size());
+        int[] exactHits = exact.get(query);
+        if (exactHits != null) {
+            for (int index : exactHits) {
+                matches.set(index);
+            }
+        }
+        for (int[] posting : tokens.subMap(query, true, query + Character.MAX_VALUE, true).values()) {
+            for (int index : posting) {
+                matches.set(index);
+            }
+        }
+
+        List<String> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(keys.get(i));
+        }
+        return result;
+    }
+
+    private BitSet containmentCandidates(String query) {
+        BitSet candidates = new BitSet(keys.size());
+        if (query.length() < GRAM_SIZE) {
+            candidates.set(0, keys.size());
+            return candidates;
+        }
+        candidates.or(shortKeys);
+        for (int start = 0; start + GRAM_SIZE <= query.length(); start++) {
+            int[] posting = grams.get(query.substring(start, start + GRAM_SIZE));
+            if (posting != null) {
+                for (int index : posting) {
+                    candidates.set(index);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    static int boundedDistance(String source, String target, int limit, int[] previousRow, int[] currentRow) {
+        int n = source.length();
+        int m = target.length();
+        limit = Math.min(limit, Math.max(n, m));
+        int outOfBand = limit + 1;
+        if (Math.abs(n - m) > limit) {
+            return outOfBand;
+        }
+
+        for (int j = 0; j <= m; j++) {
+            previousRow[j] = j <= limit ? j : outOfBand;
+        }
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - limit);
+            int to = Math.min(m, i + limit);
+            currentRow[0] = i <= limit ? i : outOfBand;
+            if (from > 1) {
+                currentRow[from - 1] = outOfBand;
+            }
+            int rowMin = from == 1 ? currentRow[0] : outOfBand;
+            char sourceChar = source.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = sourceChar == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previousRow[j] + 1, currentRow[j - 1] + 1), previousRow[j - 1] + cost);
+                value = Math.min(value, outOfBand);
+                currentRow[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (to < m) {
+                currentRow[to + 1] = outOfBand;
+            }
+            if (rowMin > limit) {
+                return outOfBand;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return Math.min(previousRow[m], outOfBand);
+    }
+
+    private static <M extends Map<String, int[]>> M toPostings(Map<String, List<Integer>> builder, M target) {
+        builder.forEach((key, posting) -> target.put(key, posting.stream().mapToInt(Integer::intValue).toArray()));
+        return target;
+    }
+}
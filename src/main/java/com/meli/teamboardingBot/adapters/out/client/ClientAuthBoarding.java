@@ -1,8 +1,12 @@
 package com.meli.teamboardingBot.adapters.out.client;
 
 import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -13,66 +17,139 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
-public class ClientAuthBoarding {
+public class ClientAuthBoarding implements DisposableBean {
     @Value("${api.url}")
     private String apiUrl;
-    private String username;
-    private String password;
     @Value("${api.client.id:}")
     private String clientId;
     @Value("${api.client.secret:}")
     private String clientSecret;
-    
+    @Value("${api.auth.default-expires-in-seconds:3600}")
+    private long defaultExpiresInSeconds;
+    @Value("${api.auth.refresh-ahead-ratio:0.8}")
+    private double refreshAheadRatio;
+
     private final String authUrl = "/auth/login";
     private final Logger logger = LoggerFactory.getLogger(ClientAuthBoarding.class);
     private final RestTemplate restTemplate;
-    private AuthTokenResponseDTO cachedToken;
-    private long tokenExpirationTime;
-    
-    public ClientAuthBoarding() {
-        this.restTemplate = new RestTemplateBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .readTimeout(Duration.ofSeconds(15))
-            .build();
+    private final ExecutorService refreshExecutor;
+    private final AtomicReference<CompletableFuture<AuthTokenResponseDTO>> inFlightLogin = new AtomicReference<>();
+    private final LoginMeters serviceLogin;
+    private final LoginMeters manualLogin;
+    private volatile Credentials credentials;
+    private volatile CachedToken cachedToken;
+
+    public ClientAuthBoarding(MeterRegistry meterRegistry, RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auth-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.serviceLogin = LoginMeters.register(meterRegistry, "service");
+        this.manualLogin = LoginMeters.register(meterRegistry, "manual");
     }
 
     public String getUsername() {
-        return username;
+        Credentials current = credentials;
+        return current != null ? current.username() : null;
     }
 
     public String getPassword() {
-        return password;
+        Credentials current = credentials;
+        return current != null ? current.password() : null;
     }
 
     public void setCredentials(String username, String password) {
         logger.info("Definindo novas credenciais para o usuário: {}", username);
-        this.username = username;
-        this.password = password;
+        this.credentials = new Credentials(username, password);
         this.cachedToken = null;
-        this.tokenExpirationTime = 0; // Força renovação do token
     }
 
     public AuthTokenResponseDTO getToken() {
-        if (cachedToken != null && System.currentTimeMillis() < tokenExpirationTime) {
+        CachedToken current = cachedToken;
+        long now = System.currentTimeMillis();
+        if (current != null && now < current.expiresAt()) {
+            if (now >= current.refreshAt()) {
+                logger.debug("Token próximo da expiração, renovando em segundo plano");
+                startLogin(true);
+            }
             logger.debug("Retornando token em cache");
-            return cachedToken;
+            return current.token();
         }
+        return awaitLogin(startLogin(false));
+    }
 
-        if (username == null || password == null) {
-            throw new IllegalStateException("Credenciais não configuradas. Por favor, faça login primeiro.");
+    public AuthTokenResponseDTO refreshToken(String rejectedAccessToken) {
+        CachedToken current = cachedToken;
+        if (current != null && System.currentTimeMillis() < current.expiresAt()
+                && !current.token().getAccessToken().equals(rejectedAccessToken)) {
+            logger.debug("Token já renovado por outra requisição");
+            return current.token();
         }
+        logger.info("Token recusado pela API, forçando nova autenticação");
+        cachedToken = null;
+        return awaitLogin(startLogin(false));
+    }
 
-        return getToken(username, password);
+    private CompletableFuture<AuthTokenResponseDTO> startLogin(boolean background) {
+        Credentials current = credentials;
+        if (current == null) {
+            throw new IllegalStateException("Credenciais não configuradas. Por favor, faça login primeiro.");
+        }
+        while (true) {
+            CompletableFuture<AuthTokenResponseDTO> existing = inFlightLogin.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<AuthTokenResponseDTO> login = new CompletableFuture<>();
+            if (!inFlightLogin.compareAndSet(null, login)) {
+                continue;
+            }
+            Runnable task = () -> {
+                try {
+                    login.complete(requestToken(current.username(), current.password(), serviceLogin));
+                } catch (RuntimeException e) {
+                    login.completeExceptionally(e);
+                } finally {
+                    inFlightLogin.compareAndSet(login, null);
+                }
+            };
+            if (background) {
+                refreshExecutor.execute(task);
+            } else {
+                task.run();
+            }
+            return login;
+        }
     }
 
+    private AuthTokenResponseDTO awaitLogin(CompletableFuture<AuthTokenResponseDTO> login) {
+        try {
+            return login.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
     public AuthTokenResponseDTO getToken(String username, String password) {
+        return requestToken(username, password, manualLogin);
+    }
+
+    private AuthTokenResponseDTO requestToken(String username, String password, LoginMeters meters) {
         MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
         requestBody.add("grant_type", "password");
         requestBody.add("username", username);
@@ -84,42 +161,80 @@ public class ClientAuthBoarding {
         if (clientSecret != null && !clientSecret.trim().isEmpty()) {
             requestBody.add("client_secret", clientSecret);
         }
-        
+
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        
+
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(requestBody, headers);
         logger.info("Fazendo requisição de autenticação para: {}", apiUrl + authUrl);
-        
+
         long startTime = System.currentTimeMillis();
         try {
             AuthTokenResponseDTO response = restTemplate.exchange(
-                apiUrl + authUrl, 
-                HttpMethod.POST, 
-                request, 
+                apiUrl + authUrl,
+                HttpMethod.POST,
+                request,
                 AuthTokenResponseDTO.class
             ).getBody();
-            
+
             long duration = System.currentTimeMillis() - startTime;
+            meters.latency().record(Duration.ofMillis(duration));
+            meters.success().increment();
             logger.info("Autenticação realizada com sucesso em {}ms", duration);
-            
-            if (username.equals(this.username) && password.equals(this.password)) {
-                this.cachedToken = response;
-                this.tokenExpirationTime = System.currentTimeMillis() + (3600 * 1000L);
+
+            Credentials current = credentials;
+            if (response != null && current != null
+                    && username.equals(current.username()) && password.equals(current.password())) {
+                this.cachedToken = cache(response);
             }
-            
+
             return response;
-            
+
         } catch (ResourceAccessException e) {
             long duration = System.currentTimeMillis() - startTime;
+            meters.latency().record(Duration.ofMillis(duration));
+            meters.failure().increment();
             logger.error("Timeout na autenticação após {}ms: {}", duration, e.getMessage());
             throw new RuntimeException("Timeout na conexão com a API (" + duration + "ms): " + e.getMessage(), e);
-            
+
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
+            meters.latency().record(Duration.ofMillis(duration));
+            meters.failure().increment();
             logger.error("Erro na autenticação após {}ms: {}", duration, e.getMessage());
             throw new RuntimeException("Falha na autenticação: " + e.getMessage(), e);
         }
     }
+
+    private CachedToken cache(AuthTokenResponseDTO response) {
+        long expiresInSeconds = response.getExpiresIn() != null && response.getExpiresIn() > 0
+                ? response.getExpiresIn()
+                : defaultExpiresInSeconds;
+        long issuedAt = System.currentTimeMillis();
+        long expiresAt = issuedAt + expiresInSeconds * 1000L;
+        long refreshAt = issuedAt + (long) (expiresInSeconds * 1000L * refreshAheadRatio);
+        return new CachedToken(response, refreshAt, expiresAt);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record Credentials(String username, String password) {
+    }
+
+    private record CachedToken(AuthTokenResponseDTO token, long refreshAt, long expiresAt) {
+    }
+
+    private record LoginMeters(Counter success, Counter failure, Timer latency) {
+
+        static LoginMeters register(MeterRegistry meterRegistry, String flow) {
+            return new LoginMeters(
+                    meterRegistry.counter("teamboarding.auth.login", "result", "success", "flow", flow),
+                    meterRegistry.counter("teamboarding.auth.login", "result", "failure", "flow", flow),
+                    meterRegistry.timer("teamboarding.auth.refresh", "flow", flow));
+        }
+    }
 }
@@ -1,50 +1,89 @@
 package com.meli.teamboardingBot.adapters.out.client;
+
 import com.meli.teamboardingBot.adapters.out.client.constants.ApiEndpoints;
+import com.meli.teamboardingBot.core.context.UserContext;
+import com.meli.teamboardingBot.core.ports.defaultclient.GetDefaultClientAsyncPort;
 import com.meli.teamboardingBot.core.ports.defaultclient.GetDefaultClientPort;
 import com.meli.teamboardingBot.core.ports.defaultclient.GetDefaultClientWithParamPort;
+import com.meli.teamboardingBot.core.ports.defaultclient.PostDefaultClientAsyncPort;
 import com.meli.teamboardingBot.core.ports.defaultclient.PostDefaultClientPort;
 import com.meli.teamboardingBot.core.ports.defaultclient.PutDefaultClientPort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
 @Component
 public class ClientBoarding {
     private final GetDefaultClientPort getDefaultClientPort;
     private final GetDefaultClientWithParamPort getDefaultClientWithParamPort;
     private final PostDefaultClientPort postDefaultClientPort;
     private final PutDefaultClientPort putDefaultClientPort;
+    private final GetDefaultClientAsyncPort getDefaultClientAsyncPort;
+    private final PostDefaultClientAsyncPort postDefaultClientAsyncPort;
+    private final ReferenceDataCache referenceDataCache;
     
     private final Integer limit = 15;
     
     @Autowired
-    public ClientBoarding(GetDefaultClientPort getDefaultClientPort, GetDefaultClientWithParamPort getDefaultClientWithParamPort, PostDefaultClientPort postDefaultClientPort, PutDefaultClientPort putDefaultClientPort) {
+    public ClientBoarding(GetDefaultClientPort getDefaultClientPort, GetDefaultClientWithParamPort getDefaultClientWithParamPort, PostDefaultClientPort postDefaultClientPort, PutDefaultClientPort putDefaultClientPort, GetDefaultClientAsyncPort getDefaultClientAsyncPort, PostDefaultClientAsyncPort postDefaultClientAsyncPort, ReferenceDataCache referenceDataCache) {
         this.getDefaultClientPort = getDefaultClientPort;
         this.getDefaultClientWithParamPort = getDefaultClientWithParamPort;
         this.postDefaultClientPort = postDefaultClientPort;
         this.putDefaultClientPort = putDefaultClientPort;
+        this.getDefaultClientAsyncPort = getDefaultClientAsyncPort;
+        this.postDefaultClientAsyncPort = postDefaultClientAsyncPort;
+        this.referenceDataCache = referenceDataCache;
     }
     
     public String getSquads() {
-        return getDefaultClientPort.get(ApiEndpoints.SQUAD_LIST);
+        return referenceDataCache.get(ApiEndpoints.SQUAD_LIST, () -> getDefaultClientPort.get(ApiEndpoints.SQUAD_LIST));
     }
     
     public String getSquadLogTypes() {
-        return getDefaultClientPort.get(ApiEndpoints.SQUAD_LOG_TYPES);
+        return referenceDataCache.get(ApiEndpoints.SQUAD_LOG_TYPES, () -> getDefaultClientPort.get(ApiEndpoints.SQUAD_LOG_TYPES));
     }
     
     public String getSquadCategories() {
-        return getDefaultClientPort.get(ApiEndpoints.SQUAD_CATEGORIES);
+        return referenceDataCache.get(ApiEndpoints.SQUAD_CATEGORIES, () -> getDefaultClientPort.get(ApiEndpoints.SQUAD_CATEGORIES));
     }
     
+    public boolean isReferenceDataCached(String endpoint) {
+        return referenceDataCache.isFresh(endpoint);
+    }
+
+    public CompletableFuture<String> getSquadsAsync() {
+        return referenceDataCache.getAsync(ApiEndpoints.SQUAD_LIST, () -> getDefaultClientAsyncPort.getAsync(ApiEndpoints.SQUAD_LIST));
+    }
+
+    public CompletableFuture<String> getSquadLogTypesAsync() {
+        return referenceDataCache.getAsync(ApiEndpoints.SQUAD_LOG_TYPES, () -> getDefaultClientAsyncPort.getAsync(ApiEndpoints.SQUAD_LOG_TYPES));
+    }
+
+    public CompletableFuture<String> getSquadCategoriesAsync() {
+        return referenceDataCache.getAsync(ApiEndpoints.SQUAD_CATEGORIES, () -> getDefaultClientAsyncPort.getAsync(ApiEndpoints.SQUAD_CATEGORIES));
+    }
+
     public ResponseEntity<String> createSquadLog(String payload) {
         String result = postDefaultClientPort.post(ApiEndpoints.SQUAD_LOG, payload);
+        referenceDataCache.invalidate(ApiEndpoints.SQUAD_BASE);
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
     
+    public CompletableFuture<String> createSquadLogAsync(String payload) {
+        Runnable invalidate = UserContext.wrap(() -> referenceDataCache.invalidate(ApiEndpoints.SQUAD_BASE));
+        return postDefaultClientAsyncPort.postAsync(ApiEndpoints.SQUAD_LOG, payload)
+                .thenApply(result -> {
+                    invalidate.run();
+                    return result;
+                });
+    }
+
     public ResponseEntity<String> updateSquadLog(Long squadLogId, String payload) {
         String endpoint = ApiEndpoints.SQUAD_LOG + "/" + squadLogId;
         String result = putDefaultClientPort.put(endpoint, payload);
+        referenceDataCache.invalidate(ApiEndpoints.SQUAD_BASE);
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
@@ -57,6 +96,11 @@ public class ClientBoarding {
         String endpoint = ApiEndpoints.buildSquadLogListUrl(offset, limit);
         return getDefaultClientPort.get(endpoint);
     }
+    public CompletableFuture<String> getSquadLogAllAsync(int page, int limit) {
+        int offset = (page - 1) * limit;
+        return getDefaultClientAsyncPort.getAsync(ApiEndpoints.buildSquadLogListUrl(offset, limit));
+    }
+
     public String getSquadLogId(String id) {
         String endpoint = ApiEndpoints.SQUAD_LOG_BY_ID + id;
         return getDefaultClientPort.get(endpoint);
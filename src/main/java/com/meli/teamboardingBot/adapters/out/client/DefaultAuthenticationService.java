@@ -2,12 +2,13 @@ package com.meli.teamboardingBot.adapters.out.client;
 
 import com.meli.teamboardingBot.core.ports.auth.api.GetApiTokenPort;
 import com.meli.teamboardingBot.core.ports.auth.api.GetManualApiTokenPort;
+import com.meli.teamboardingBot.core.ports.auth.api.RefreshApiTokenPort;
 import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
-public class DefaultAuthenticationService implements GetApiTokenPort, GetManualApiTokenPort {
+public class DefaultAuthenticationService implements GetApiTokenPort, GetManualApiTokenPort, RefreshApiTokenPort {
     private final ClientAuthBoarding authBoarding;
     @Autowired
     public DefaultAuthenticationService(ClientAuthBoarding authBoarding) {
@@ -23,4 +24,9 @@ public class DefaultAuthenticationService implements GetApiTokenPort, GetManualA
     public AuthTokenResponseDTO getAuthManualToken(String username, String password) {
         return authBoarding.getToken(username, password);
     }
+
+    @Override
+    public AuthTokenResponseDTO refreshAuthToken(String rejectedAccessToken) {
+        return authBoarding.refreshToken(rejectedAccessToken);
+    }
 }
@@ -0,0 +1,310 @@
+package com.meli.teamboardingBot.adapters.out.client;
+
+import com.meli.teamboardingBot.core.context.UserContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class ReferenceDataCache implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+    private static final String DEFAULT_SCOPE = "default";
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+    private final ScheduledExecutorService sweeper;
+    private final ReentrantLock trimLock = new ReentrantLock();
+    private final int maxEntries;
+    private final long sweepIntervalSeconds;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final long maxStaleNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleServed;
+    private final Counter refreshes;
+    private final Counter evictions;
+    private final Timer loadLatency;
+
+    public ReferenceDataCache(MeterRegistry meterRegistry,
+                              @Value("${api.cache.reference.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${api.cache.reference.refresh-ahead-ratio:0.8}") double refreshAheadRatio,
+                              @Value("${api.cache.reference.max-stale-seconds:3600}") long maxStaleSeconds,
+                              @Value("${api.cache.reference.max-entries:5000}") int maxEntries,
+                              @Value("${api.cache.reference.sweep-interval-seconds:300}") long sweepIntervalSeconds) {
+        this(meterRegistry, ttlSeconds, refreshAheadRatio, maxStaleSeconds, maxEntries, sweepIntervalSeconds,
+                Executors.newFixedThreadPool(2, runnable -> {
+                    Thread thread = new Thread(runnable, "reference-data-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ReferenceDataCache(MeterRegistry meterRegistry, long ttlSeconds, double refreshAheadRatio, long maxStaleSeconds,
+                       int maxEntries, long sweepIntervalSeconds, ExecutorService refreshExecutor) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.refreshAheadNanos = (long) (ttlNanos * refreshAheadRatio);
+        this.maxStaleNanos = TimeUnit.SECONDS.toNanos(maxStaleSeconds);
+        this.maxEntries = maxEntries;
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+        this.refreshExecutor = refreshExecutor;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reference-data-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hits = meterRegistry.counter("teamboarding.reference.cache", "result", "hit");
+        this.misses = meterRegistry.counter("teamboarding.reference.cache", "result", "miss");
+        this.staleServed = meterRegistry.counter("teamboarding.reference.cache", "result", "stale");
+        this.refreshes = meterRegistry.counter("teamboarding.reference.cache.refresh");
+        this.evictions = meterRegistry.counter("teamboarding.reference.cache.evictions");
+        this.loadLatency = meterRegistry.timer("teamboarding.reference.cache.load");
+        meterRegistry.gaugeMapSize("teamboarding.reference.cache.size", List.of(), entries);
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public String get(String endpoint, Supplier<String> loader) {
+        CacheKey key = new CacheKey(endpoint, currentScope());
+        CacheEntry entry = entries.get(key);
+        long now = System.nanoTime();
+
+        if (entry != null && entry.ageNanos(now) < ttlNanos) {
+            hits.increment();
+            if (entry.ageNanos(now) >= refreshAheadNanos) {
+                scheduleRefresh(key, entry, loader);
+            }
+            return entry.value;
+        }
+
+        misses.increment();
+        CompletableFuture<String> promise = new CompletableFuture<>();
+        CompletableFuture<String> pending = inFlight.computeIfAbsent(key, ignored -> promise);
+        if (pending != promise) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            String value = loadLatency.record(loader);
+            if (inFlight.remove(key, promise)) {
+                store(key, value);
+            }
+            promise.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            inFlight.remove(key, promise);
+            if (entry != null && entry.ageNanos(now) < maxStaleNanos) {
+                staleServed.increment();
+                logger.warn("Falha ao atualizar {} (escopo {}), servindo cópia antiga: {}", key.endpoint, key.scope, e.getMessage());
+                promise.complete(entry.value);
+                return entry.value;
+            }
+            promise.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public CompletableFuture<String> getAsync(String endpoint, Supplier<CompletableFuture<String>> loader) {
+        CacheKey key = new CacheKey(endpoint, currentScope());
+        CacheEntry entry = entries.get(key);
+        long now = System.nanoTime();
+
+        if (entry != null && entry.ageNanos(now) < ttlNanos) {
+            hits.increment();
+            if (entry.ageNanos(now) >= refreshAheadNanos) {
+                scheduleRefresh(key, entry, () -> loader.get().join());
+            }
+            return CompletableFuture.completedFuture(entry.value);
+        }
+
+        misses.increment();
+        CompletableFuture<String> existing = inFlight.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<String> promise = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return existing;
+        }
+
+        Timer.Sample sample = Timer.start();
+        CompletableFuture<String> pending;
+        try {
+            pending = loader.get();
+        } catch (RuntimeException e) {
+            pending = CompletableFuture.failedFuture(e);
+        }
+        pending.whenComplete((value, error) -> {
+            boolean current = inFlight.remove(key, promise);
+            if (error == null) {
+                sample.stop(loadLatency);
+                if (current) {
+                    store(key, value);
+                }
+                promise.complete(value);
+            } else if (entry != null && entry.ageNanos(now) < maxStaleNanos) {
+                staleServed.increment();
+                logger.warn("Falha ao atualizar {} (escopo {}), servindo cópia antiga: {}", key.endpoint, key.scope, error.getMessage());
+                promise.complete(entry.value);
+            } else {
+                promise.completeExceptionally(error);
+            }
+        });
+        return promise;
+    }
+
+    public boolean isFresh(String endpoint) {
+        CacheEntry entry = entries.get(new CacheKey(endpoint, currentScope()));
+        return entry != null && entry.ageNanos(System.nanoTime()) < ttlNanos;
+    }
+
+    public void invalidate(String endpointPrefix) {
+        String scope = currentScope();
+        entries.keySet().removeIf(key -> key.scope.equals(scope) && key.endpoint.startsWith(endpointPrefix));
+        inFlight.keySet().removeIf(key -> key.scope.equals(scope) && key.endpoint.startsWith(endpointPrefix));
+    }
+
+    public void invalidateScope(String discordUserId) {
+        entries.keySet().removeIf(key -> key.scope.equals(discordUserId));
+        inFlight.keySet().removeIf(key -> key.scope.equals(discordUserId));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        inFlight.clear();
+    }
+
+    private void store(CacheKey key, String value) {
+        entries.put(key, new CacheEntry(value, System.nanoTime()));
+        if (entries.size() > maxEntries) {
+            trimToSize();
+        }
+    }
+
+    void sweep() {
+        long now = System.nanoTime();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.ageNanos(now) >= maxStaleNanos);
+        int removed = before - entries.size();
+        if (removed > 0) {
+            logger.debug("{} entradas de dados de referência expiradas removidas ({} ativas)", removed, entries.size());
+        }
+    }
+
+    private void trimToSize() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            sweep();
+            int excess = entries.size() - maxEntries;
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<CacheKey, CacheEntry>> oldest = new ArrayList<>(entries.entrySet());
+            oldest.sort((a, b) -> Long.compare(a.getValue().loadedAt - b.getValue().loadedAt, 0));
+            for (int i = 0; i < excess && i < oldest.size(); i++) {
+                Map.Entry<CacheKey, CacheEntry> candidate = oldest.get(i);
+                if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private void scheduleRefresh(CacheKey key, CacheEntry entry, Supplier<String> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture<String> promise = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, promise) != null) {
+            entry.refreshing.set(false);
+            return;
+        }
+        refreshes.increment();
+        Runnable refresh = () -> {
+            try {
+                String value = loadLatency.record(loader);
+                if (inFlight.remove(key, promise)) {
+                    store(key, value);
+                }
+                promise.complete(value);
+            } catch (RuntimeException e) {
+                inFlight.remove(key, promise);
+                logger.warn("Refresh antecipado falhou para {} (escopo {}): {}", key.endpoint, key.scope, e.getMessage());
+                promise.complete(entry.value);
+            } finally {
+                entry.refreshing.set(false);
+            }
+        };
+        try {
+            refreshExecutor.execute(UserContext.wrap(refresh));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, promise);
+            promise.complete(entry.value);
+            entry.refreshing.set(false);
+        }
+    }
+
+    private String currentScope() {
+        String userId = UserContext.getCurrentUserId();
+        return userId != null ? userId : DEFAULT_SCOPE;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+        sweeper.shutdownNow();
+    }
+
+    private record CacheKey(String endpoint, String scope) {
+    }
+
+    private static final class CacheEntry {
+        final String value;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        CacheEntry(String value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        long ageNanos(long now) {
+            return now - loadedAt;
+        }
+    }
+}
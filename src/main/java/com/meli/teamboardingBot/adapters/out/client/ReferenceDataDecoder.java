@@ -0,0 +1,151 @@
+package com.meli.teamboardingBot.adapters.out.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.meli.teamboardingBot.adapters.dto.SquadDTO;
+import com.meli.teamboardingBot.adapters.dto.SquadMemberDTO;
+import com.meli.teamboardingBot.adapters.dto.SquadUserDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ReferenceDataDecoder {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public SquadCatalog decodeSquads(String json) {
+        List<SquadDTO> squads = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new SquadCatalog(squads);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("items".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        squads.add(readSquad(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resposta de squads inválida", e);
+        }
+        return new SquadCatalog(squads);
+    }
+
+    public List<ReferenceItem> decodeLogTypes(String json) {
+        return decodeNamedArray(json);
+    }
+
+    public List<ReferenceItem> decodeCategories(String json) {
+        return decodeNamedArray(json);
+    }
+
+    private List<ReferenceItem> decodeNamedArray(String json) {
+        List<ReferenceItem> result = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return List.copyOf(result);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Long id = null;
+                String name = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "id" -> id = readLong(parser);
+                        case "name" -> name = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+                result.add(new ReferenceItem(id, name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resposta de referência inválida", e);
+        }
+        return List.copyOf(result);
+    }
+
+    private SquadDTO readSquad(JsonParser parser) throws IOException {
+        SquadDTO squad = new SquadDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> squad.setId(readLong(parser));
+                case "name" -> squad.setName(parser.getValueAsString());
+                case "user_squads" -> squad.setUserSquads(readMembers(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return squad;
+    }
+
+    private List<SquadMemberDTO> readMembers(JsonParser parser) throws IOException {
+        List<SquadMemberDTO> members = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return members;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            SquadMemberDTO member = new SquadMemberDTO();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "user" -> member.setUser(readUser(parser));
+                    case "role_id" -> member.setRoleId(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+            members.add(member);
+        }
+        return members;
+    }
+
+    private SquadUserDTO readUser(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        SquadUserDTO user = new SquadUserDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> user.setId(readLong(parser));
+                case "first_name" -> user.setFirstName(parser.getValueAsString());
+                case "last_name" -> user.setLastName(parser.getValueAsString());
+                case "name" -> user.setName(parser.getValueAsString());
+                case "email" -> user.setEmail(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return user;
+    }
+
+    private Long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Long.valueOf(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -0,0 +1,4 @@
+package com.meli.teamboardingBot.adapters.out.client;
+
+public record ReferenceItem(Long id, String name) {
+}
@@ -0,0 +1,100 @@
+package com.meli.teamboardingBot.adapters.out.client;
+
+import com.meli.teamboardingBot.adapters.dto.SquadDTO;
+import com.meli.teamboardingBot.adapters.dto.SquadMemberDTO;
+import com.meli.teamboardingBot.adapters.dto.SquadUserDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class SquadCatalog {
+
+    private final List<Squad> squads;
+    private final Map<Long, Squad> squadsById;
+    private final Map<Long, Map<Long, Member>> membersBySquad;
+
+    public SquadCatalog(List<SquadDTO> squads) {
+        List<Squad> all = new ArrayList<>(squads.size());
+        Map<Long, Squad> byId = new LinkedHashMap<>();
+        Map<Long, Map<Long, Member>> members = new LinkedHashMap<>();
+        for (SquadDTO dto : squads) {
+            Squad squad = new Squad(dto.getId(), dto.getName(), dto.getUserSquads() != null);
+            all.add(squad);
+            if (squad.id() == null) {
+                continue;
+            }
+            byId.put(squad.id(), squad);
+            Map<Long, Member> users = new LinkedHashMap<>();
+            if (dto.getUserSquads() != null) {
+                for (SquadMemberDTO member : dto.getUserSquads()) {
+                    SquadUserDTO user = member.getUser();
+                    if (user != null && user.getId() != null) {
+                        users.put(user.getId(), new Member(user.getId(), user.getFirstName(), user.getLastName(), user.getName()));
+                    }
+                }
+            }
+            members.put(squad.id(), Collections.unmodifiableMap(users));
+        }
+        this.squads = List.copyOf(all);
+        this.squadsById = Collections.unmodifiableMap(byId);
+        this.membersBySquad = Collections.unmodifiableMap(members);
+    }
+
+    public List<Squad> getSquads() {
+        return squads;
+    }
+
+    public boolean isEmpty() {
+        return squads.isEmpty();
+    }
+
+    public Optional<Squad> findSquad(String squadId) {
+        Long id = toId(squadId);
+        return id == null ? Optional.empty() : Optional.ofNullable(squadsById.get(id));
+    }
+
+    public List<Member> getMembers(Long squadId) {
+        Map<Long, Member> users = membersBySquad.get(squadId);
+        return users == null ? List.of() : List.copyOf(users.values());
+    }
+
+    public Optional<Member> findMember(String squadId, String userId) {
+        Long squad = toId(squadId);
+        Long user = toId(userId);
+        if (squad == null || user == null) {
+            return Optional.empty();
+        }
+        Map<Long, Member> users = membersBySquad.get(squad);
+        return users == null ? Optional.empty() : Optional.ofNullable(users.get(user));
+    }
+
+    private static Long toId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public record Squad(Long id, String name, boolean hasRoster) {
+    }
+
+    public record Member(Long id, String firstName, String lastName, String name) {
+
+        public String displayName() {
+            if (name != null && !name.isEmpty()) {
+                return name;
+            }
+            String fullName = (Objects.toString(firstName, "") + " " + Objects.toString(lastName, "")).trim();
+            return fullName.isEmpty() ? "Usuário " + id : fullName;
+        }
+    }
+}
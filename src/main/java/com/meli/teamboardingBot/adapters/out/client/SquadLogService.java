@@ -1,35 +1,127 @@
 package com.meli.teamboardingBot.adapters.out.client;
 
+import com.meli.teamboardingBot.adapters.out.client.constants.ApiEndpoints;
+import com.meli.teamboardingBot.adapters.out.session.ExpiringMap;
+import com.meli.teamboardingBot.adapters.out.session.SessionExpiryRegistry;
+import com.meli.teamboardingBot.core.context.UserContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 @Service
 public class SquadLogService {
+    private static final Logger logger = LoggerFactory.getLogger(SquadLogService.class);
+
     private final ClientBoarding clientBoarding;
+    private final ReferenceDataDecoder referenceDataDecoder;
+    private final MeterRegistry meterRegistry;
+    private final ExpiringMap<String, Decoded> decoded;
+    private final ExpiringMap<String, PrefetchedPage> prefetchedPages;
+    private final int prefetchPageSize;
+    private final long prefetchTtlNanos;
 
     @Autowired
-    public SquadLogService(ClientBoarding clientBoarding) {
+    public SquadLogService(ClientBoarding clientBoarding,
+                           ReferenceDataDecoder referenceDataDecoder,
+                           MeterRegistry meterRegistry,
+                           SessionExpiryRegistry sessionExpiryRegistry,
+                           @Value("${api.prefetch.logs-page-size:15}") int prefetchPageSize,
+                           @Value("${api.prefetch.logs-ttl-seconds:60}") long prefetchTtlSeconds,
+                           @Value("${api.prefetch.logs-max-entries:1000}") long prefetchMaxEntries,
+                           @Value("${api.cache.reference.ttl-seconds:300}") long decodedTtlSeconds,
+                           @Value("${api.cache.reference.decoded-max-entries:64}") long decodedMaxEntries) {
         this.clientBoarding = clientBoarding;
+        this.referenceDataDecoder = referenceDataDecoder;
+        this.meterRegistry = meterRegistry;
+        this.prefetchPageSize = prefetchPageSize;
+        this.prefetchTtlNanos = TimeUnit.SECONDS.toNanos(prefetchTtlSeconds);
+        this.prefetchedPages = sessionExpiryRegistry.map("prefetched-logs-page", Duration.ofSeconds(prefetchTtlSeconds), prefetchMaxEntries);
+        this.decoded = sessionExpiryRegistry.map("decoded-reference-data", Duration.ofSeconds(decodedTtlSeconds), decodedMaxEntries);
+    }
+
+    public void prefetch() {
+        String scope = currentScope();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PrefetchedPage pending = prefetchedPages.get(scope);
+        CompletableFuture<String> firstPage;
+        if (pending != null && System.nanoTime() - pending.startedAt() < prefetchTtlNanos) {
+            firstPage = pending.page();
+        } else {
+            firstPage = clientBoarding.getSquadLogAllAsync(1, prefetchPageSize);
+            prefetchedPages.put(scope, new PrefetchedPage(firstPage, System.nanoTime()));
+        }
+        CompletableFuture.allOf(
+                clientBoarding.getSquadsAsync(),
+                clientBoarding.getSquadLogTypesAsync(),
+                clientBoarding.getSquadCategoriesAsync(),
+                firstPage
+        ).whenComplete((ignored, error) -> {
+            sample.stop(meterRegistry.timer("teamboarding.flow.prefetch", "outcome", error == null ? "success" : "failure"));
+            if (error != null) {
+                logger.warn("Pré-carregamento incompleto para escopo {}: {}", scope, error.getMessage());
+            }
+        });
     }
 
     public String getSquads() {
-        return clientBoarding.getSquads();
+        return timedReference("squads", ApiEndpoints.SQUAD_LIST, clientBoarding::getSquads);
     }
 
     public String getSquadLogTypes() {
-        return clientBoarding.getSquadLogTypes();
+        return timedReference("types", ApiEndpoints.SQUAD_LOG_TYPES, clientBoarding::getSquadLogTypes);
     }
 
     public String getSquadCategories() {
-        return clientBoarding.getSquadCategories();
+        return timedReference("categories", ApiEndpoints.SQUAD_CATEGORIES, clientBoarding::getSquadCategories);
+    }
+
+    public SquadCatalog getSquadCatalog() {
+        return decodeOnce("squads", getSquads(), referenceDataDecoder::decodeSquads);
+    }
+
+    public List<ReferenceItem> getLogTypes() {
+        return decodeOnce("types", getSquadLogTypes(), referenceDataDecoder::decodeLogTypes);
+    }
+
+    public List<ReferenceItem> getCategories() {
+        return decodeOnce("categories", getSquadCategories(), referenceDataDecoder::decodeCategories);
+    }
+
+    public CompletableFuture<SquadCatalog> getSquadCatalogAsync() {
+        return clientBoarding.getSquadsAsync()
+                .thenApply(raw -> decodeOnce("squads", raw, referenceDataDecoder::decodeSquads));
+    }
+
+    public CompletableFuture<List<ReferenceItem>> getLogTypesAsync() {
+        return clientBoarding.getSquadLogTypesAsync()
+                .thenApply(raw -> decodeOnce("types", raw, referenceDataDecoder::decodeLogTypes));
+    }
+
+    public CompletableFuture<List<ReferenceItem>> getCategoriesAsync() {
+        return clientBoarding.getSquadCategoriesAsync()
+                .thenApply(raw -> decodeOnce("categories", raw, referenceDataDecoder::decodeCategories));
     }
 
     public ResponseEntity<String> createSquadLog(String payload) {
+        prefetchedPages.remove(currentScope());
         return clientBoarding.createSquadLog(payload);
     }
 
     public ResponseEntity<String> updateSquadLog(Long squadLogId, String payload) {
+        prefetchedPages.remove(currentScope());
         return clientBoarding.updateSquadLog(squadLogId, payload);
     }
 
@@ -38,7 +130,16 @@ public class SquadLogService {
     }
 
     public String getSquadLogAll(int page, int limit) {
-        return clientBoarding.getSquadLogAll(page, limit);
+        PrefetchedPage prefetched = prefetchedPages.remove(currentScope());
+        if (page == 1 && limit == prefetchPageSize && prefetched != null
+                && System.nanoTime() - prefetched.startedAt() < prefetchTtlNanos) {
+            try {
+                return timed("logs", "prefetch", () -> prefetched.page().join());
+            } catch (CompletionException e) {
+                logger.debug("Página pré-carregada indisponível, buscando novamente: {}", e.getMessage());
+            }
+        }
+        return timed("logs", "upstream", () -> clientBoarding.getSquadLogAll(page, limit));
     }
 
     public String getSquadLogId(String id) {
@@ -48,4 +149,35 @@ public class SquadLogService {
     public String getUsersBySquad(String squadId) {
         return clientBoarding.getUsersBySquad(squadId);
     }
-}
\ No newline at end of file
+
+    private String timedReference(String step, String endpoint, Supplier<String> fetch) {
+        return timed(step, clientBoarding.isReferenceDataCached(endpoint) ? "cache" : "upstream", fetch);
+    }
+
+    private String timed(String step, String source, Supplier<String> fetch) {
+        return meterRegistry.timer("teamboarding.flow.step.fetch", "step", step, "source", source).record(fetch);
+    }
+
+    private String currentScope() {
+        String userId = UserContext.getCurrentUserId();
+        return userId != null ? userId : "default";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decodeOnce(String kind, String raw, Function<String, T> decoder) {
+        String key = kind + ":" + (raw != null ? raw.hashCode() : 0);
+        Decoded current = decoded.get(key);
+        if (current != null && (current.raw() == raw || (raw != null && raw.equals(current.raw())))) {
+            return (T) current.value();
+        }
+        T value = decoder.apply(raw);
+        decoded.put(key, new Decoded(raw, value));
+        return value;
+    }
+
+    private record Decoded(String raw, Object value) {
+    }
+
+    private record PrefetchedPage(CompletableFuture<String> page, long startedAt) {
+    }
+}
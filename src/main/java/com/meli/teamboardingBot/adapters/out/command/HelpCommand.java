@@ -1,6 +1,6 @@
 package com.meli.teamboardingBot.adapters.out.command;
 
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 
 import java.util.Locale;
 
@@ -37,7 +37,7 @@ public class HelpCommand implements SlashCommandHandler {
     @Override
     public void execute(SlashCommandInteractionEvent event) {
         long userIdLong = event.getUser().getIdLong();
-        FormState userFormState = getOrCreateState.getOrCreateState(userIdLong);
+        FormDraft userFormState = getOrCreateState.getOrCreateState(userIdLong);
         Locale locale = userFormState.getLocale();
         
         EmbedBuilder embed = new EmbedBuilder()
@@ -1,7 +1,7 @@
 package com.meli.teamboardingBot.adapters.out.command;
 
-import com.meli.teamboardingBot.core.domain.FormState;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
+import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -12,20 +12,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 @Component
 public class LoginCommand implements SlashCommandHandler {
     private final GetIsUserAuthenticatedPort isUserAuthenticated;
+    private final GetOrCreateFormStatePort getOrCreateFormStatePort;
 
-    public LoginCommand(GetIsUserAuthenticatedPort isUserAuthenticated) {
+    public LoginCommand(GetIsUserAuthenticatedPort isUserAuthenticated, GetOrCreateFormStatePort getOrCreateFormStatePort) {
         this.isUserAuthenticated = isUserAuthenticated;
+        this.getOrCreateFormStatePort = getOrCreateFormStatePort;
     }
 
     @Autowired
     private MessageSource messageSource;
 
-    @Autowired
-    private FormState formState;
-
     @Override
     public String getName() {
         return "login";
@@ -39,29 +40,30 @@ public class LoginCommand implements SlashCommandHandler {
     @Override
     public void execute(SlashCommandInteractionEvent event) {
         String userId = event.getUser().getId();
+        Locale locale = getOrCreateFormStatePort.getOrCreateState(event.getUser().getIdLong()).getLocale();
         
         if (isUserAuthenticated.isUserAuthenticated(userId)) {
-            event.reply("✅ " +  messageSource.getMessage("txt_vc_ja_esta_autenticado_use_o_comando_para_comecar", null, formState.getLocale()) + ".")
+            event.reply("✅ " +  messageSource.getMessage("txt_vc_ja_esta_autenticado_use_o_comando_para_comecar", null, locale) + ".")
                 .setEphemeral(true)
                 .queue();
             return;
         }
 
-        TextInput username = TextInput.create("username", messageSource.getMessage("txt_email", null, formState.getLocale()), TextInputStyle.SHORT)
-                .setPlaceholder(messageSource.getMessage("txt_digite_seu_email", null, formState.getLocale()))
+        TextInput username = TextInput.create("username", messageSource.getMessage("txt_email", null, locale), TextInputStyle.SHORT)
+                .setPlaceholder(messageSource.getMessage("txt_digite_seu_email", null, locale))
                 .setRequired(true)
                 .setMinLength(5)
                 .setMaxLength(100)
                 .build();
 
-        TextInput password = TextInput.create("password", messageSource.getMessage("txt_senha", null, formState.getLocale()), TextInputStyle.SHORT)
-                .setPlaceholder(messageSource.getMessage("txt_digite_sua_senha", null, formState.getLocale()))
+        TextInput password = TextInput.create("password", messageSource.getMessage("txt_senha", null, locale), TextInputStyle.SHORT)
+                .setPlaceholder(messageSource.getMessage("txt_digite_sua_senha", null, locale))
                 .setRequired(true)
                 .setMinLength(1)
                 .setMaxLength(100)
                 .build();
 
-        Modal modal = Modal.create("login-modal", "🔐 " + messageSource.getMessage("txt_login_squad_log", null, formState.getLocale()))
+        Modal modal = Modal.create("login-modal", "🔐 " + messageSource.getMessage("txt_login_squad_log", null, locale))
                 .addActionRow(username)
                 .addActionRow(password)
                 .build();
@@ -1,34 +1,35 @@
 package com.meli.teamboardingBot.adapters.out.command;
-import com.meli.teamboardingBot.core.domain.FormState;
 import jakarta.annotation.PostConstruct;
 import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
+
+import java.util.Locale;
 @Component
 public class SlashCommandRegister {
     @Autowired
     private MessageSource messageSource;
 
-    @Autowired
-    private FormState formState;
-
     @Autowired
     private JDA jda;
     @Value("${discord.guild.id}")
     private String guildId;
     @PostConstruct
     public void registerCommands() {
+        Locale locale = Locale.getDefault();
         jda.getGuildById(guildId).updateCommands().addCommands(
-                Commands.slash("start",  messageSource.getMessage("txt_iniciar_e_fazer_autenticacao_no_bot", null, formState.getLocale())),
-                Commands.slash("squad-log", messageSource.getMessage("txt_squad_log", null, formState.getLocale())),
-                Commands.slash("squad-log-lote", messageSource.getMessage("txt_criar_multiplos_squad_logs_de_uma_vez_usando_texto_livre", null, formState.getLocale())),
-                Commands.slash("status", messageSource.getMessage("txt_status", null, formState.getLocale())),
+                Commands.slash("start",  messageSource.getMessage("txt_iniciar_e_fazer_autenticacao_no_bot", null, locale)),
+                Commands.slash("squad-log", messageSource.getMessage("txt_squad_log", null, locale)),
+                Commands.slash("squad-log-lote", messageSource.getMessage("txt_criar_multiplos_squad_logs_de_uma_vez_usando_texto_livre", null, locale))
+                        .addOption(OptionType.ATTACHMENT, "arquivo", messageSource.getMessage("txt_arquivo_csv_tsv_ou_txt_com_os_squad_logs", null, locale), false),
+                Commands.slash("status", messageSource.getMessage("txt_status", null, locale)),
                 Commands.slash("language", "Alterar idioma do bot / Cambiar idioma del bot"),
-                Commands.slash("stop", messageSource.getMessage("txt_stop", null, formState.getLocale())),
-                Commands.slash("help", messageSource.getMessage("txt_help", null, formState.getLocale()))
+                Commands.slash("stop", messageSource.getMessage("txt_stop", null, locale)),
+                Commands.slash("help", messageSource.getMessage("txt_help", null, locale))
         ).queue();
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.meli.teamboardingBot.adapters.out.command;
+import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
 import com.meli.teamboardingBot.adapters.out.session.ActiveFlowMessageService;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import com.meli.teamboardingBot.adapters.out.session.PendingAuthMessageService;
@@ -21,17 +22,20 @@ public class SquadLogCommand implements SlashCommandHandler {
     private final MessageSource messageSource;
     private final GetOrCreateFormStatePort getOrCreateState;
     private final ActiveFlowMessageService activeFlowMessageService;
+    private final SquadLogService squadLogService;
 
     public SquadLogCommand(GetIsUserAuthenticatedPort isUserAuthenticated,
                           PendingAuthMessageService pendingAuthMessageService,
                           MessageSource messageSource,
                            GetOrCreateFormStatePort getOrCreateState,
-                           ActiveFlowMessageService activeFlowMessageService) {
+                           ActiveFlowMessageService activeFlowMessageService,
+                           SquadLogService squadLogService) {
         this.isUserAuthenticated = isUserAuthenticated;
         this.pendingAuthMessageService = pendingAuthMessageService;
         this.messageSource = messageSource;
         this.getOrCreateState = getOrCreateState;
         this.activeFlowMessageService = activeFlowMessageService;
+        this.squadLogService = squadLogService;
     }
 
     @Override
@@ -48,7 +52,7 @@ public class SquadLogCommand implements SlashCommandHandler {
     public void execute(SlashCommandInteractionEvent event) {
         String userId = event.getUser().getId();
         long userIdLong = event.getUser().getIdLong();
-        FormState userFormState = getOrCreateState.getOrCreateState(userIdLong);
+        FormDraft userFormState = getOrCreateState.getOrCreateState(userIdLong);
         Locale locale = userFormState.getLocale();
         
         if (!isUserAuthenticated.isUserAuthenticated(userId)) {
@@ -68,7 +72,7 @@ public class SquadLogCommand implements SlashCommandHandler {
                 ));
             return;
         }
-        
+
         event.deferReply(true).queue(hook -> {
                 activeFlowMessageService.registerFlowHook(userIdLong, hook);
                 hook.editOriginalEmbeds(
@@ -79,5 +83,6 @@ public class SquadLogCommand implements SlashCommandHandler {
                         Button.danger("sair", "🚪 " + messageSource.getMessage("txt_sair", null, locale))
                 ).queue();
         });
+        squadLogService.prefetch();
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.meli.teamboardingBot.adapters.out.command;
 
 import com.meli.teamboardingBot.adapters.handler.BatchCreationHandler;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
 import com.meli.teamboardingBot.adapters.out.session.PendingAuthMessageService;
 
@@ -10,6 +10,7 @@ import java.util.Locale;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
@@ -44,14 +45,15 @@ public class SquadLogLoteCommand implements SlashCommandHandler {
 
     @Override
     public CommandData getCommandData() {
-        return Commands.slash("squad-log-lote", "Criar múltiplos squad logs de uma vez usando texto livre");
+        return Commands.slash("squad-log-lote", "Criar múltiplos squad logs de uma vez usando texto livre")
+                .addOption(OptionType.ATTACHMENT, "arquivo", "Arquivo CSV, TSV ou TXT com os squad logs", false);
     }
 
     @Override
     public void execute(SlashCommandInteractionEvent event) {
         String userId = event.getUser().getId();
         long userIdLong = event.getUser().getIdLong();
-        FormState userFormState = getOrCreateFormStatePort.getOrCreateState(userIdLong);
+        FormDraft userFormState = getOrCreateFormStatePort.getOrCreateState(userIdLong);
         Locale locale = userFormState.getLocale();
         
         if (!isUserAuthenticated.isUserAuthenticated(userId)) {
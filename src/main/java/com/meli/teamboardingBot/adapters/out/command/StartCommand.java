@@ -1,6 +1,6 @@
 package com.meli.teamboardingBot.adapters.out.command;
 
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
 import com.meli.teamboardingBot.adapters.out.session.PendingAuthMessageService;
 import com.meli.teamboardingBot.adapters.out.language.UserLanguageService;
@@ -26,20 +26,20 @@ public class StartCommand implements SlashCommandHandler {
     private final GetIsUserAuthenticatedPort isUserAuthenticated;
     private final PendingAuthMessageService pendingAuthMessageService;
     private final UserLanguageService languageService;
+    private final MessageCleanupScheduler messageCleanupScheduler;
 
     public StartCommand(GetIsUserAuthenticatedPort isUserAuthenticated,
                        PendingAuthMessageService pendingAuthMessageService,
-                       UserLanguageService languageService) {
+                       UserLanguageService languageService,
+                       MessageCleanupScheduler messageCleanupScheduler) {
         this.isUserAuthenticated = isUserAuthenticated;
         this.pendingAuthMessageService = pendingAuthMessageService;
         this.languageService = languageService;
+        this.messageCleanupScheduler = messageCleanupScheduler;
     }
     @Autowired
     private MessageSource messageSource;
 
-    @Autowired
-    private FormState formState;
-
     @Override
     public String getName() {
         return "start";
@@ -127,7 +127,7 @@ public class StartCommand implements SlashCommandHandler {
         
         event.replyEmbeds(embed.build())
             .setEphemeral(true)
-            .queue(hook -> hook.deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS));
+            .queue(hook -> messageCleanupScheduler.scheduleDelete(hook, java.time.Duration.ofSeconds(10)));
     }
     
     private void showAuthenticationScreen(SlashCommandInteractionEvent event, String userId, Locale userLocale) {
@@ -1,6 +1,6 @@
 package com.meli.teamboardingBot.adapters.out.command;
 
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.auth.GetIsUserAuthenticatedPort;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
@@ -22,12 +22,14 @@ public class StatusCommand implements SlashCommandHandler{
     private final GetIsUserAuthenticatedPort isUserAuthenticated;
     private final MessageSource messageSource;
     private final GetOrCreateFormStatePort getOrCreateFormStatePort;
+    private final UserTokenManager userTokenManager;
 
-    public StatusCommand(LoggerApiPort loggerApiPort, GetIsUserAuthenticatedPort isUserAuthenticated, MessageSource messageSource, GetOrCreateFormStatePort getOrCreateFormStatePort) {
+    public StatusCommand(LoggerApiPort loggerApiPort, GetIsUserAuthenticatedPort isUserAuthenticated, MessageSource messageSource, GetOrCreateFormStatePort getOrCreateFormStatePort, UserTokenManager userTokenManager) {
         this.loggerApiPort = loggerApiPort;
         this.isUserAuthenticated = isUserAuthenticated;
         this.messageSource = messageSource;
         this.getOrCreateFormStatePort = getOrCreateFormStatePort;
+        this.userTokenManager = userTokenManager;
     }
 
     @Override
@@ -44,7 +46,7 @@ public class StatusCommand implements SlashCommandHandler{
     public void execute(SlashCommandInteractionEvent event) {
         String userId = event.getUser().getId();
         long userIdLong = event.getUser().getIdLong();
-        FormState userFormState = getOrCreateFormStatePort.getOrCreateState(userIdLong);
+        FormDraft userFormState = getOrCreateFormStatePort.getOrCreateState(userIdLong);
         Locale locale = userFormState.getLocale();
 
         if (!isUserAuthenticated.isUserAuthenticated(userId)) {
@@ -56,7 +58,7 @@ public class StatusCommand implements SlashCommandHandler{
     }
 
     private void showAuthenticatedStatus(SlashCommandInteractionEvent event, String userId, Locale locale) {
-        String authMethod = UserTokenManager.getAuthMethod(userId);
+        String authMethod = userTokenManager.getAuthMethod(userId);
         String authMethodText = "manual".equals(authMethod) ?
                 messageSource.getMessage("status.auth.method.manual", null, locale) :
                 messageSource.getMessage("status.auth.method.google", null, locale);
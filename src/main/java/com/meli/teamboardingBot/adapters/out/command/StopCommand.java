@@ -1,7 +1,8 @@
 package com.meli.teamboardingBot.adapters.out.command;
 
+import com.meli.teamboardingBot.adapters.out.session.MessageCleanupScheduler;
 import com.meli.teamboardingBot.adapters.out.session.ActiveFlowMessageService;
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.DeleteFormStatePort;
 import com.meli.teamboardingBot.core.ports.formstate.GetFormStatePort;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
@@ -24,13 +25,15 @@ public class StopCommand implements SlashCommandHandler {
     private final DeleteFormStatePort deleteFormStatePort;
     private final MessageSource messageSource;
     private final ActiveFlowMessageService activeFlowMessageService;
+    private final MessageCleanupScheduler messageCleanupScheduler;
 
-    public StopCommand(GetOrCreateFormStatePort getOrCreateFormStatePort, GetFormStatePort getFormStatePort, DeleteFormStatePort deleteFormStatePort, MessageSource messageSource, ActiveFlowMessageService activeFlowMessageService) {
+    public StopCommand(GetOrCreateFormStatePort getOrCreateFormStatePort, GetFormStatePort getFormStatePort, DeleteFormStatePort deleteFormStatePort, MessageSource messageSource, ActiveFlowMessageService activeFlowMessageService, MessageCleanupScheduler messageCleanupScheduler) {
         this.getOrCreateFormStatePort = getOrCreateFormStatePort;
         this.getFormStatePort = getFormStatePort;
         this.deleteFormStatePort = deleteFormStatePort;
         this.messageSource = messageSource;
         this.activeFlowMessageService = activeFlowMessageService;
+        this.messageCleanupScheduler = messageCleanupScheduler;
     }
 
     @Override
@@ -46,7 +49,7 @@ public class StopCommand implements SlashCommandHandler {
     @Override
     public void execute(SlashCommandInteractionEvent event) {
         long userId = event.getUser().getIdLong();
-        FormState userFormState = getOrCreateFormStatePort.getOrCreateState(userId);
+        FormDraft userFormState = getOrCreateFormStatePort.getOrCreateState(userId);
         java.util.Locale locale = userFormState.getLocale();
         
         logger.info("🛑 Comando /stop executado por usuário: {}", userId);
@@ -62,7 +65,7 @@ public class StopCommand implements SlashCommandHandler {
             
             event.replyEmbeds(embed.build())
                 .setEphemeral(true)
-                .queue(hook -> hook.deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS));
+                .queue(hook -> messageCleanupScheduler.scheduleDelete(hook, java.time.Duration.ofSeconds(10)));
             
             logger.info("ℹ️ Usuário {} não tinha fluxo ativo", userId);
             return;
@@ -98,10 +101,7 @@ public class StopCommand implements SlashCommandHandler {
                     .queue(
                         success -> {
                             logger.info("✅ Mensagem do fluxo editada com sucesso para usuário {}", userId);
-                            flowHook.deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS,
-                                deleteSuccess -> logger.info("🗑️ Mensagem deletada após 10 segundos para usuário {}", userId),
-                                deleteError -> logger.warn("⚠️ Erro ao deletar mensagem para usuário {}: {}", userId, deleteError.getMessage())
-                            );
+                            messageCleanupScheduler.scheduleDelete(userId, flowHook, java.time.Duration.ofSeconds(10));
                         },
                         error -> logger.warn("⚠️ Erro ao editar mensagem do fluxo para usuário {}: {}", userId, error.getMessage())
                     );
@@ -115,7 +115,7 @@ public class StopCommand implements SlashCommandHandler {
             logger.warn("⚠️ Nenhum hook ativo encontrado para usuário {}, criando nova mensagem", userId);
             event.replyEmbeds(embed.build())
                 .setEphemeral(true)
-                .queue(hook -> hook.deleteOriginal().queueAfter(10, java.util.concurrent.TimeUnit.SECONDS));
+                .queue(hook -> messageCleanupScheduler.scheduleDelete(hook, java.time.Duration.ofSeconds(10)));
         }
         
         logger.info("✅ Fluxo de {} encerrado para usuário {}", fluxoTipo, userId);
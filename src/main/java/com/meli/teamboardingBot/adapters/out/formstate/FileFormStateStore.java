@@ -0,0 +1,380 @@
+package com.meli.teamboardingBot.adapters.out.formstate;
+
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+public class FileFormStateStore extends InMemoryFormStateStore implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileFormStateStore.class);
+
+    private static final int MAGIC = 0x54424653;
+    private static final int VERSION = 3;
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    private static final byte PUT_FORM = 1;
+    private static final byte REMOVE_FORM = 2;
+    private static final byte PUT_BATCH = 3;
+    private static final byte PUT_INDEX = 4;
+    private static final byte REMOVE_BATCH = 5;
+
+    private final Path logFile;
+    private final Path compactFile;
+    private final MeterRegistry meterRegistry;
+    private final long compactionIntervalSeconds;
+    private final ScheduledExecutorService compactionExecutor;
+    private final Object lock = new Object();
+    private DataOutputStream log;
+    private long appendedSinceCompaction;
+
+    public FileFormStateStore(Path directory, long compactionIntervalSeconds, MeterRegistry meterRegistry,
+                              UserSessionPort sessions) {
+        super(sessions);
+        this.logFile = directory.resolve("formstate.log");
+        this.compactFile = directory.resolve("formstate.log.compact");
+        this.meterRegistry = meterRegistry;
+        this.compactionIntervalSeconds = compactionIntervalSeconds;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível criar o diretório de estado: " + directory, e);
+        }
+        this.compactionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "formstate-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    @PostConstruct
+    public void start() {
+        super.start();
+        restore();
+        compact();
+        compactionExecutor.scheduleWithFixedDelay(this::compactIfNeeded,
+                compactionIntervalSeconds, compactionIntervalSeconds, TimeUnit.SECONDS);
+        meterRegistry.gauge("teamboarding.formstate.sessions", Tags.of("kind", "form"), this,
+                store -> store.formStateUserIds().size());
+    }
+
+    @Override
+    public void putFormState(Long userId, FormState state) {
+        synchronized (lock) {
+            super.putFormState(userId, state);
+            append(PUT_FORM, out -> {
+                out.writeLong(userId);
+                FormStateCodec.writeFormState(out, state);
+            });
+        }
+    }
+
+    @Override
+    public boolean compareAndSetFormState(Long userId, FormState expected, FormState updated) {
+        synchronized (lock) {
+            if (!super.compareAndSetFormState(userId, expected, updated)) {
+                return false;
+            }
+            if (updated == null) {
+                append(REMOVE_FORM, out -> out.writeLong(userId));
+            } else {
+                append(PUT_FORM, out -> {
+                    out.writeLong(userId);
+                    FormStateCodec.writeFormState(out, updated);
+                });
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void removeFormState(Long userId) {
+        synchronized (lock) {
+            super.removeFormState(userId);
+            append(REMOVE_FORM, out -> out.writeLong(userId));
+        }
+    }
+
+    @Override
+    protected void onFormStateEvicted(Long userId) {
+        synchronized (lock) {
+            // Evictions are reported after the fact; a state written since then is already logged after it.
+            if (super.getFormState(userId) == null) {
+                append(REMOVE_FORM, out -> out.writeLong(userId));
+            }
+        }
+    }
+
+    @Override
+    protected void onBatchEvicted(Long userId) {
+        synchronized (lock) {
+            if (super.getBatchEntries(userId) == null && super.getBatchCurrentIndex(userId) == null) {
+                append(REMOVE_BATCH, out -> out.writeLong(userId));
+            }
+        }
+    }
+
+    @Override
+    public void putBatchEntries(Long userId, List<BatchLogEntry> entries) {
+        synchronized (lock) {
+            super.putBatchEntries(userId, entries);
+            append(PUT_BATCH, out -> {
+                out.writeLong(userId);
+                FormStateCodec.writeBatchEntries(out, entries);
+            });
+        }
+    }
+
+    @Override
+    public void putBatchCurrentIndex(Long userId, int index) {
+        synchronized (lock) {
+            super.putBatchCurrentIndex(userId, index);
+            append(PUT_INDEX, out -> {
+                out.writeLong(userId);
+                FormStateCodec.writeVarInt(out, index);
+            });
+        }
+    }
+
+    @Override
+    public void removeBatch(Long userId) {
+        synchronized (lock) {
+            super.removeBatch(userId);
+            append(REMOVE_BATCH, out -> out.writeLong(userId));
+        }
+    }
+
+    void compactIfNeeded() {
+        boolean dirty;
+        synchronized (lock) {
+            dirty = appendedSinceCompaction > 0;
+        }
+        if (dirty) {
+            compact();
+        }
+    }
+
+    void compact() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        synchronized (lock) {
+            try (DataOutputStream out = openLog(compactFile, StandardOpenOption.TRUNCATE_EXISTING)) {
+                List<UserSession> snapshot = new ArrayList<>();
+                sessions.forEach(snapshot::add);
+                for (UserSession session : snapshot) {
+                    long userId = session.getUserId();
+                    FormState state = session.getFormState();
+                    if (state != null) {
+                        writeRecord(out, PUT_FORM, data -> {
+                            data.writeLong(userId);
+                            FormStateCodec.writeFormState(data, state);
+                        });
+                    }
+                    List<BatchLogEntry> entries = session.getBatchEntries();
+                    if (entries != null) {
+                        writeRecord(out, PUT_BATCH, data -> {
+                            data.writeLong(userId);
+                            FormStateCodec.writeBatchEntries(data, entries);
+                        });
+                    }
+                    Integer index = session.getBatchCurrentIndex();
+                    if (index != null) {
+                        writeRecord(out, PUT_INDEX, data -> {
+                            data.writeLong(userId);
+                            FormStateCodec.writeVarInt(data, index);
+                        });
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.error("Falha ao compactar log de estado {}: {}", logFile, e.getMessage());
+                return;
+            }
+            closeLog();
+            try {
+                Files.move(compactFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                appendedSinceCompaction = 0;
+            } catch (IOException e) {
+                logger.error("Falha ao substituir log de estado {}: {}", logFile, e.getMessage());
+            }
+            try {
+                log = openLog(logFile, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                logger.error("Falha ao reabrir log de estado {}: {}", logFile, e.getMessage());
+            }
+        }
+        sample.stop(meterRegistry.timer("teamboarding.formstate.compaction"));
+    }
+
+    private void restore() {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        long started = System.nanoTime();
+        int records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile)))) {
+            int format = in.readInt() == MAGIC ? in.readUnsignedByte() : -1;
+            if (format < 1 || format > VERSION) {
+                logger.warn("Log de estado {} com formato desconhecido, ignorando conteúdo", logFile);
+                return;
+            }
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                long checksum = in.readInt() & 0xFFFFFFFFL;
+                if (length <= 0 || length > MAX_RECORD_BYTES) {
+                    logger.warn("Registro inválido após {} registros em {}, descartando o restante", records, logFile);
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (crc(payload) != checksum) {
+                    logger.warn("Checksum inválido após {} registros em {}, descartando o restante", records, logFile);
+                    break;
+                }
+                try {
+                    replay(new DataInputStream(new ByteArrayInputStream(payload)), format);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Registro {} ilegível em {}: {}", records, logFile, e.getMessage());
+                }
+                records++;
+            }
+        } catch (EOFException e) {
+            logger.warn("Log de estado {} truncado após {} registros", logFile, records);
+        } catch (IOException e) {
+            logger.error("Falha ao restaurar log de estado {}: {}", logFile, e.getMessage());
+        }
+        long elapsed = System.nanoTime() - started;
+        meterRegistry.timer("teamboarding.formstate.restore").record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Estado restaurado de {}: {} registros, {} formulários, {} lotes em {} ms",
+                logFile, records, formStateUserIds().size(), batchUserIds().size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private void replay(DataInputStream in, int format) throws IOException {
+        byte op = in.readByte();
+        switch (op) {
+            case PUT_FORM -> {
+                long userId = in.readLong();
+                FormState state = FormStateCodec.readFormState(in, format);
+                FormState current = super.getFormState(userId);
+                if (current == null || state.version() >= current.version()) {
+                    super.putFormState(userId, state);
+                }
+            }
+            case REMOVE_FORM -> super.removeFormState(in.readLong());
+            case PUT_BATCH -> {
+                long userId = readBatchUserId(in, format);
+                super.putBatchEntries(userId, FormStateCodec.readBatchEntries(in));
+            }
+            case PUT_INDEX -> {
+                long userId = readBatchUserId(in, format);
+                super.putBatchCurrentIndex(userId, FormStateCodec.readVarInt(in));
+            }
+            case REMOVE_BATCH -> super.removeBatch(readBatchUserId(in, format));
+            default -> throw new IOException("Operação desconhecida: " + op);
+        }
+    }
+
+    private static long readBatchUserId(DataInputStream in, int format) throws IOException {
+        return format >= 3 ? in.readLong() : Long.parseLong(FormStateCodec.readString(in));
+    }
+
+    private void append(byte op, RecordWriter writer) {
+        synchronized (lock) {
+            if (log == null) {
+                return;
+            }
+            try {
+                writeRecord(log, op, writer);
+                log.flush();
+                appendedSinceCompaction++;
+            } catch (IOException | RuntimeException e) {
+                logger.error("Falha ao gravar log de estado {}: {}", logFile, e.getMessage());
+            }
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, byte op, RecordWriter writer) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        DataOutputStream data = new DataOutputStream(buffer);
+        data.writeByte(op);
+        writer.write(data);
+        byte[] payload = buffer.toByteArray();
+        out.writeInt(payload.length);
+        out.writeInt((int) crc(payload));
+        out.write(payload);
+    }
+
+    private DataOutputStream openLog(Path file, StandardOpenOption mode) throws IOException {
+        boolean fresh = mode == StandardOpenOption.TRUNCATE_EXISTING || !Files.exists(file) || Files.size(file) == 0;
+        OutputStream stream = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        if (fresh) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+        }
+        return out;
+    }
+
+    private void closeLog() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            logger.warn("Falha ao fechar log de estado {}: {}", logFile, e.getMessage());
+        }
+        log = null;
+    }
+
+    private static long crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    @Override
+    public void destroy() {
+        compactionExecutor.shutdownNow();
+        compact();
+        synchronized (lock) {
+            closeLog();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
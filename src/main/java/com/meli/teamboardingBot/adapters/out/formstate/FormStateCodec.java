@@ -0,0 +1,222 @@
+package com.meli.teamboardingBot.adapters.out.formstate;
+
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.enums.FormStep;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+final class FormStateCodec {
+
+    private static final int FLAG_CREATING = 1;
+    private static final int FLAG_EDITING = 1 << 1;
+
+    private FormStateCodec() {
+    }
+
+    static void writeFormState(DataOutput out, FormState state) throws IOException {
+        out.writeLong(state.version());
+        writeString(out, state.step() != null ? state.step().name() : null);
+        out.writeByte((state.creating() ? FLAG_CREATING : 0) | (state.editing() ? FLAG_EDITING : 0));
+        out.writeLong(state.lastActivity().toInstant(ZoneOffset.UTC).toEpochMilli());
+        writeString(out, state.squadId());
+        writeString(out, state.squadName());
+        writeString(out, state.userId());
+        writeString(out, state.userName());
+        writeString(out, state.typeId());
+        writeString(out, state.typeName());
+        writeStrings(out, state.categoryIds());
+        writeStrings(out, state.categoryNames());
+        writeString(out, state.description());
+        writeString(out, state.startDate());
+        writeString(out, state.endDate());
+        writeLong(out, state.squadLogId());
+        writeString(out, state.language());
+        writeString(out, state.locale() != null ? state.locale().toLanguageTag() : null);
+        writeVarInt(out, state.currentPage());
+        writeVarInt(out, state.totalPages());
+    }
+
+    static FormState readFormState(DataInput in, int format) throws IOException {
+        long version = format >= 2 ? in.readLong() : 0;
+        String step = readString(in);
+        int flags = in.readUnsignedByte();
+        LocalDateTime lastActivity = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneOffset.UTC);
+        String squadId = readString(in);
+        String squadName = readString(in);
+        String userId = readString(in);
+        String userName = readString(in);
+        String typeId = readString(in);
+        String typeName = readString(in);
+        List<String> categoryIds = readStrings(in);
+        List<String> categoryNames = readStrings(in);
+        String description = readString(in);
+        String startDate = readString(in);
+        String endDate = readString(in);
+        Long squadLogId = readLong(in);
+        String language = readString(in);
+        String locale = readString(in);
+        int currentPage = readVarInt(in);
+        int totalPages = readVarInt(in);
+        return new FormState(version, step != null ? FormStep.valueOf(step) : null,
+                (flags & FLAG_CREATING) != 0, (flags & FLAG_EDITING) != 0, lastActivity,
+                squadId, squadName, userId, userName, typeId, typeName, categoryIds, categoryNames,
+                description, startDate, endDate, squadLogId, language,
+                locale != null ? Locale.forLanguageTag(locale) : null, currentPage, totalPages);
+    }
+
+    static void writeBatchEntries(DataOutput out, List<BatchLogEntry> entries) throws IOException {
+        List<BatchLogEntry> snapshot = List.copyOf(entries);
+        writeVarInt(out, snapshot.size());
+        for (BatchLogEntry entry : snapshot) {
+            writeBatchEntry(out, entry);
+        }
+    }
+
+    static List<BatchLogEntry> readBatchEntries(DataInput in) throws IOException {
+        int size = readVarInt(in);
+        List<BatchLogEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(readBatchEntry(in));
+        }
+        return entries;
+    }
+
+    private static void writeBatchEntry(DataOutput out, BatchLogEntry entry) throws IOException {
+        writeString(out, entry.getSquadName());
+        writeString(out, entry.getPersonName());
+        writeString(out, entry.getLogType());
+        writeStrings(out, entry.getCategories());
+        writeString(out, entry.getDescription());
+        writeLong(out, entry.getStartDate() != null ? entry.getStartDate().toEpochDay() : null);
+        writeLong(out, entry.getEndDate() != null ? entry.getEndDate().toEpochDay() : null);
+        writeVarInt(out, entry.getLineNumber());
+        writeLong(out, entry.getSquadId());
+        writeLong(out, entry.getUserId());
+        writeLong(out, entry.getTypeId());
+        List<Long> categoryIds = entry.getCategoryIds();
+        if (categoryIds == null) {
+            writeVarInt(out, 0);
+        } else {
+            writeVarInt(out, categoryIds.size() + 1);
+            for (Long categoryId : categoryIds) {
+                writeLong(out, categoryId);
+            }
+        }
+        writeStrings(out, List.copyOf(entry.getModifiedFields()));
+    }
+
+    private static BatchLogEntry readBatchEntry(DataInput in) throws IOException {
+        BatchLogEntry entry = new BatchLogEntry();
+        entry.setSquadName(readString(in));
+        entry.setPersonName(readString(in));
+        entry.setLogType(readString(in));
+        entry.setCategories(readStrings(in));
+        entry.setDescription(readString(in));
+        Long startDate = readLong(in);
+        entry.setStartDate(startDate != null ? LocalDate.ofEpochDay(startDate) : null);
+        Long endDate = readLong(in);
+        entry.setEndDate(endDate != null ? LocalDate.ofEpochDay(endDate) : null);
+        entry.setLineNumber(readVarInt(in));
+        entry.setSquadId(readLong(in));
+        entry.setUserId(readLong(in));
+        entry.setTypeId(readLong(in));
+        int categoryIds = readVarInt(in);
+        if (categoryIds > 0) {
+            List<Long> ids = new ArrayList<>(categoryIds - 1);
+            for (int i = 1; i < categoryIds; i++) {
+                ids.add(readLong(in));
+            }
+            entry.setCategoryIds(ids);
+        }
+        List<String> modifiedFields = readStrings(in);
+        if (modifiedFields != null) {
+            modifiedFields.forEach(entry::addModifiedField);
+        }
+        return entry;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        if (values == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, values.size() + 1);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int size = readVarInt(in);
+        if (size == 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size - 1);
+        for (int i = 1; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt malformado");
+    }
+}
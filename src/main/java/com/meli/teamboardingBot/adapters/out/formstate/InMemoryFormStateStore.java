@@ -0,0 +1,168 @@
+package com.meli.teamboardingBot.adapters.out.formstate;
+
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import com.meli.teamboardingBot.core.ports.formstate.FormStateStore;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class InMemoryFormStateStore implements FormStateStore {
+
+    protected final UserSessionPort sessions;
+
+    public InMemoryFormStateStore(UserSessionPort sessions) {
+        this.sessions = sessions;
+    }
+
+    @PostConstruct
+    public void start() {
+        sessions.onEviction(session -> {
+            if (session.getFormState() != null) {
+                onFormStateEvicted(session.getUserId());
+            }
+            if (session.hasBatch()) {
+                onBatchEvicted(session.getUserId());
+            }
+        });
+    }
+
+    @Override
+    public FormState getFormState(Long userId) {
+        UserSession session = sessions.find(userId);
+        return session != null ? session.getFormState() : null;
+    }
+
+    @Override
+    public void putFormState(Long userId, FormState state) {
+        sessions.update(userId, session -> session.setFormState(state));
+    }
+
+    @Override
+    public boolean compareAndSetFormState(Long userId, FormState expected, FormState updated) {
+        return swapFormState(userId, expected, updated);
+    }
+
+    protected final boolean swapFormState(Long userId, FormState expected, FormState updated) {
+        if (expected != null && sessions.find(userId) == null) {
+            return false;
+        }
+        boolean[] swapped = {false};
+        sessions.update(userId, session -> {
+            if (session.getFormState() == expected) {
+                session.setFormState(updated);
+                swapped[0] = true;
+            }
+        });
+        return swapped[0];
+    }
+
+    @Override
+    public void removeFormState(Long userId) {
+        if (sessions.find(userId) != null) {
+            sessions.update(userId, session -> session.setFormState(null));
+        }
+    }
+
+    @Override
+    public void removeFormStatesIf(Predicate<FormState> predicate) {
+        Map<Long, FormState> matched = new HashMap<>();
+        sessions.forEach(session -> {
+            FormState state = session.getFormState();
+            if (state != null && predicate.test(state)) {
+                matched.put(session.getUserId(), state);
+            }
+        });
+        matched.forEach((userId, state) -> {
+            if (swapFormState(userId, state, null)) {
+                onFormStateEvicted(userId);
+            }
+        });
+    }
+
+    @Override
+    public int removeFormStatesIdleFor(Duration idle) {
+        long now = System.nanoTime();
+        long idleNanos = idle.toNanos();
+        Map<Long, FormState> matched = new HashMap<>();
+        sessions.forEach(session -> {
+            FormState state = session.getFormState();
+            if (state != null && session.isFormIdle(now, idleNanos)) {
+                matched.put(session.getUserId(), state);
+            }
+        });
+        int removed = 0;
+        for (Map.Entry<Long, FormState> entry : matched.entrySet()) {
+            if (swapFormState(entry.getKey(), entry.getValue(), null)) {
+                onFormStateEvicted(entry.getKey());
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public Set<Long> formStateUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        sessions.forEach(session -> {
+            if (session.getFormState() != null) {
+                userIds.add(session.getUserId());
+            }
+        });
+        return userIds;
+    }
+
+    @Override
+    public List<BatchLogEntry> getBatchEntries(Long userId) {
+        UserSession session = sessions.find(userId);
+        return session != null ? session.getBatchEntries() : null;
+    }
+
+    @Override
+    public void putBatchEntries(Long userId, List<BatchLogEntry> entries) {
+        sessions.update(userId, session -> session.setBatchEntries(entries));
+    }
+
+    @Override
+    public Integer getBatchCurrentIndex(Long userId) {
+        UserSession session = sessions.find(userId);
+        return session != null ? session.getBatchCurrentIndex() : null;
+    }
+
+    @Override
+    public void putBatchCurrentIndex(Long userId, int index) {
+        sessions.update(userId, session -> session.setBatchCurrentIndex(index));
+    }
+
+    @Override
+    public void removeBatch(Long userId) {
+        if (sessions.find(userId) != null) {
+            sessions.update(userId, UserSession::clearBatch);
+        }
+    }
+
+    @Override
+    public Set<Long> batchUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        sessions.forEach(session -> {
+            if (session.hasBatch()) {
+                userIds.add(session.getUserId());
+            }
+        });
+        return userIds;
+    }
+
+    protected void onFormStateEvicted(Long userId) {
+    }
+
+    protected void onBatchEvicted(Long userId) {
+    }
+}
@@ -1,18 +1,20 @@
 package com.meli.teamboardingBot.adapters.out.language;
 
 import com.meli.teamboardingBot.adapters.out.command.SlashCommandHandler;
+import com.meli.teamboardingBot.adapters.out.session.ExpiringMap;
+import com.meli.teamboardingBot.adapters.out.session.SessionExpiryRegistry;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class LanguageInterceptorService {
@@ -20,11 +22,15 @@ public class LanguageInterceptorService {
     
     private final UserLanguageService languageService;
     private final MessageSource messageSource;
-    private final Map<String, PendingCommand> pendingCommands = new ConcurrentHashMap<>();
+    private final ExpiringMap<String, PendingCommand> pendingCommands;
     
-    public LanguageInterceptorService(UserLanguageService languageService, MessageSource messageSource) {
+    public LanguageInterceptorService(UserLanguageService languageService, MessageSource messageSource,
+                                      SessionExpiryRegistry sessionExpiryRegistry,
+                                      @Value("${session.ttl.pending-command-seconds:900}") long ttlSeconds,
+                                      @Value("${session.max-entries.pending-command:5000}") long maxEntries) {
         this.languageService = languageService;
         this.messageSource = messageSource;
+        this.pendingCommands = sessionExpiryRegistry.map("pending-command", Duration.ofSeconds(ttlSeconds), maxEntries);
     }
     
     public static class PendingCommand {
@@ -11,13 +11,14 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class UserLanguageService {
     private static final Logger logger = LoggerFactory.getLogger(UserLanguageService.class);
-    
-    private final Map<String, Locale> userLanguagePreferences = new ConcurrentHashMap<>();
-    
+
+    // Preferences outlive user sessions: they are not subject to session TTL or capacity eviction.
+    private final Map<Long, Locale> userLanguagePreferences = new ConcurrentHashMap<>();
+
     private static final Locale PORTUGUESE = Locale.forLanguageTag("pt-BR");
     private static final Locale SPANISH = Locale.forLanguageTag("es-ES");
     private static final Locale DEFAULT_LOCALE = SPANISH;
-    
+
     public Locale detectUserLocale(String discordLocale) {
         if (discordLocale == null || discordLocale.isEmpty()) {
             logger.info("Discord locale is null or empty, using default: {}", DEFAULT_LOCALE);
@@ -41,20 +42,20 @@ public class UserLanguageService {
     }
     
     public void saveUserLanguagePreference(String userId, Locale locale) {
-        userLanguagePreferences.put(userId, locale);
+        userLanguagePreferences.put(Long.parseLong(userId), locale);
         logger.info("Language preference saved for user {}: {}", userId, locale);
     }
     
     public Locale getUserLanguagePreference(String userId) {
-        return userLanguagePreferences.get(userId);
+        return userLanguagePreferences.get(Long.parseLong(userId));
     }
     
     public boolean hasLanguagePreference(String userId) {
-        return userLanguagePreferences.containsKey(userId);
+        return getUserLanguagePreference(userId) != null;
     }
     
     public void clearUserLanguagePreference(String userId) {
-        userLanguagePreferences.remove(userId);
+        userLanguagePreferences.remove(Long.parseLong(userId));
         logger.info("Language preference cleared for user: {}", userId);
     }
     
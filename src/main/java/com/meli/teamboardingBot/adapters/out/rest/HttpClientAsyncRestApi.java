@@ -0,0 +1,121 @@
+package com.meli.teamboardingBot.adapters.out.rest;
+
+import com.meli.teamboardingBot.adapters.config.http.HttpHeadersFactory;
+import com.meli.teamboardingBot.core.ports.rest.AsyncRestPort;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class HttpClientAsyncRestApi implements AsyncRestPort, DisposableBean {
+
+    private final HttpHeadersFactory headersFactory;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("api-async-", 0).factory());
+
+    private final HttpClient httpClient;
+
+    private final Duration requestTimeout;
+
+    public HttpClientAsyncRestApi(HttpHeadersFactory headersFactory,
+                                  @Value("${api.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                  @Value("${api.http.response-timeout-ms:15000}") long responseTimeoutMs) {
+        this.headersFactory = headersFactory;
+        this.requestTimeout = Duration.ofMillis(responseTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<String> getExchangeAsync(String url, String token) {
+        HttpRequest request = request(url, headersFactory.createAuthHeaders(token)).GET().build();
+        return send(request);
+    }
+
+    @Override
+    public CompletableFuture<String> postExchangeAsync(String url, String token, String payload) {
+        HttpRequest request = request(url, headersFactory.createJsonHeaders(token))
+                .POST(HttpRequest.BodyPublishers.ofString(payload, StandardCharsets.UTF_8))
+                .build();
+        return send(request).exceptionallyCompose(this::wrapHttpError);
+    }
+
+    @Override
+    public CompletableFuture<String> putExchangeAsync(String url, String token, String payload) {
+        HttpRequest request = request(url, headersFactory.createJsonHeaders(token))
+                .PUT(HttpRequest.BodyPublishers.ofString(payload, StandardCharsets.UTF_8))
+                .build();
+        return send(request).exceptionallyCompose(this::wrapHttpError);
+    }
+
+    private HttpRequest.Builder request(String url, HttpHeaders headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(requestTimeout);
+        headers.forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        return builder;
+    }
+
+    private CompletableFuture<String> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        if (cause instanceof IOException ioException) {
+                            throw new ResourceAccessException("I/O error on " + request.method() + " request for \"" + request.uri() + "\": " + cause.getMessage(), ioException);
+                        }
+                        throw new CompletionException(cause);
+                    }
+                    return toBody(response);
+                });
+    }
+
+    private String toBody(HttpResponse<String> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (!status.isError()) {
+            return response.body();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        byte[] body = response.body() != null ? response.body().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        String statusText = String.valueOf(response.statusCode());
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, statusText, headers, body, StandardCharsets.UTF_8);
+        }
+        throw HttpServerErrorException.create(status, statusText, headers, body, StandardCharsets.UTF_8);
+    }
+
+    private CompletableFuture<String> wrapHttpError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpStatusCodeException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("HTTP Error " + e.getStatusCode() + ": " + e.getResponseBodyAsString(), e));
+        }
+        return CompletableFuture.failedFuture(cause);
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.shutdownNow();
+        executor.shutdown();
+    }
+}
@@ -15,10 +15,11 @@ public class RestTemplateApi implements RestPort {
 
     private final HttpHeadersFactory headersFactory;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
-    public RestTemplateApi(HttpHeadersFactory headersFactory) {
+    public RestTemplateApi(HttpHeadersFactory headersFactory, RestTemplate restTemplate) {
         this.headersFactory = headersFactory;
+        this.restTemplate = restTemplate;
     }
 
     @Override
@@ -1,34 +1,59 @@
 package com.meli.teamboardingBot.adapters.out.session;
 
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
 @Service
 public class ActiveFlowMessageService {
 
     private static final Logger logger = LoggerFactory.getLogger(ActiveFlowMessageService.class);
-    private final Map<Long, InteractionHook> activeFlowHooks = new ConcurrentHashMap<>();
+    private final UserSessionPort sessions;
+    private final MessageCleanupScheduler messageCleanupScheduler;
+    private final long ttlNanos;
+
+    public ActiveFlowMessageService(MessageCleanupScheduler messageCleanupScheduler,
+                                    UserSessionPort sessions,
+                                    @Value("${session.ttl.flow-hook-seconds:900}") long ttlSeconds) {
+        this.messageCleanupScheduler = messageCleanupScheduler;
+        this.sessions = sessions;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    }
 
     public void registerFlowHook(Long userId, InteractionHook hook) {
-        activeFlowHooks.put(userId, hook);
+        messageCleanupScheduler.flushPending(userId);
+        UserSession.FlowHook flowHook = new UserSession.FlowHook(hook, System.nanoTime());
+        sessions.update(userId, session -> session.setFlowHook(flowHook));
         logger.info("📌 Hook de fluxo registrado para usuário: {}", userId);
     }
 
     public InteractionHook getFlowHook(Long userId) {
-        return activeFlowHooks.get(userId);
+        UserSession session = sessions.find(userId);
+        UserSession.FlowHook flowHook = session != null ? session.getFlowHook() : null;
+        if (flowHook == null) {
+            return null;
+        }
+        if (System.nanoTime() - flowHook.registeredAt() > ttlNanos) {
+            sessions.update(userId, current -> current.setFlowHook(null));
+            return null;
+        }
+        return (InteractionHook) flowHook.hook();
     }
 
     public void clearFlowHook(Long userId) {
-        activeFlowHooks.remove(userId);
+        if (sessions.find(userId) != null) {
+            sessions.update(userId, session -> session.setFlowHook(null));
+        }
         logger.info("🧹 Hook de fluxo removido para usuário: {}", userId);
     }
 
     public boolean hasActiveFlow(Long userId) {
-        return activeFlowHooks.containsKey(userId);
+        return getFlowHook(userId) != null;
     }
 }
@@ -0,0 +1,181 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import com.meli.teamboardingBot.core.ports.session.SessionCache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+public class BoundedCache<K, V> implements SessionCache<K, V> {
+
+    private final String name;
+    private final long maxWeight;
+    private final ToIntFunction<V> weigher;
+    private final BiConsumer<K, V> onEvict;
+    private final Map<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+    private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicInteger deadNodes = new AtomicInteger();
+    private final LongAdder evictions = new LongAdder();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    BoundedCache(String name, long maxWeight, ToIntFunction<V> weigher, BiConsumer<K, V> onEvict) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.onEvict = onEvict;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.referenced = true;
+        if (reweigh(node)) {
+            evictIfNeeded();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        node.weight.set(weigher.applyAsInt(value));
+        weight.addAndGet(node.weight.get());
+        Node<K, V> previous = nodes.put(key, node);
+        clock.add(node);
+        if (previous != null) {
+            retire(previous);
+        }
+        evictIfNeeded();
+        return previous != null ? previous.value : null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        retire(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        nodes.forEach((key, node) -> action.accept(key, node.value));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    int deadNodeCount() {
+        return deadNodes.get();
+    }
+
+    int queuedNodeCount() {
+        return clock.size();
+    }
+
+    private boolean reweigh(Node<K, V> node) {
+        int current = weigher.applyAsInt(node.value);
+        if (node.removed || node.weight.get() == current) {
+            return false;
+        }
+        int previous = node.weight.getAndSet(current);
+        weight.addAndGet(current - previous);
+        if (node.removed) {
+            weight.addAndGet(-node.weight.getAndSet(0));
+        }
+        return current > previous;
+    }
+
+    private void retire(Node<K, V> node) {
+        node.removed = true;
+        weight.addAndGet(-node.weight.getAndSet(0));
+        deadNodes.incrementAndGet();
+    }
+
+    private void evictIfNeeded() {
+        if (weight.get() <= maxWeight && deadNodes.get() <= nodes.size()) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            while (weight.get() > maxWeight) {
+                Node<K, V> candidate = clock.poll();
+                if (candidate == null) {
+                    break;
+                }
+                if (candidate.removed) {
+                    deadNodes.decrementAndGet();
+                    continue;
+                }
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    clock.add(candidate);
+                    continue;
+                }
+                if (nodes.remove(candidate.key, candidate)) {
+                    retire(candidate);
+                    evictions.increment();
+                    onEvict.accept(candidate.key, candidate.value);
+                }
+                // retired here or by a racing put/remove; either way it has left the clock for good
+                deadNodes.decrementAndGet();
+            }
+            if (deadNodes.get() > nodes.size()) {
+                int[] purged = {0};
+                clock.removeIf(node -> node.removed && ++purged[0] > 0);
+                deadNodes.addAndGet(-purged[0]);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final AtomicInteger weight = new AtomicInteger();
+        volatile boolean referenced;
+        volatile boolean removed;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
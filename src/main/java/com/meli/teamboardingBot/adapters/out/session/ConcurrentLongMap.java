@@ -0,0 +1,229 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+public class ConcurrentLongMap<V> {
+
+    private static final int SEGMENTS = 16;
+    private static final int MIN_CAPACITY = 16;
+    private static final long EMPTY = 0L;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int expectedSize) {
+        int perSegment = MIN_CAPACITY;
+        while (perSegment * 3 < (expectedSize / SEGMENTS) * 4) {
+            perSegment <<= 1;
+        }
+        this.segments = (Segment<V>[]) new Segment<?>[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+    }
+
+    public V get(long key) {
+        long hash = hash(key);
+        return segmentFor(hash).get(key, (int) hash);
+    }
+
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        long hash = hash(key);
+        return segmentFor(hash).computeIfAbsent(key, (int) hash, factory);
+    }
+
+    public boolean remove(long key, V expected) {
+        long hash = hash(key);
+        return segmentFor(hash).remove(key, (int) hash, expected);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public void forEach(Consumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            segment.snapshot().forEach(action);
+        }
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> 32) & (SEGMENTS - 1)];
+    }
+
+    private static long hash(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Chave 0 não é suportada");
+        }
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) hash(key) & mask;
+    }
+
+    private static final class Table {
+        final long[] keys;
+        final Object[] values;
+        final int mask;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table;
+        private volatile int size;
+
+        Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        V get(long key, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            V value = find(table, key, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(table, key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        V computeIfAbsent(long key, int hash, LongFunction<? extends V> factory) {
+            V existing = get(key, hash);
+            if (existing != null) {
+                return existing;
+            }
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int index = hash & current.mask;
+                while (current.keys[index] != EMPTY) {
+                    if (current.keys[index] == key) {
+                        @SuppressWarnings("unchecked")
+                        V value = (V) current.values[index];
+                        return value;
+                    }
+                    index = (index + 1) & current.mask;
+                }
+                V created = factory.apply(key);
+                current.values[index] = created;
+                current.keys[index] = key;
+                size++;
+                if (size * 4 > current.keys.length * 3) {
+                    table = resize(current);
+                }
+                return created;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean remove(long key, int hash, V expected) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int index = hash & current.mask;
+                while (current.keys[index] != EMPTY) {
+                    if (current.keys[index] == key) {
+                        if (current.values[index] != expected) {
+                            return false;
+                        }
+                        shiftBack(current, index);
+                        size--;
+                        return true;
+                    }
+                    index = (index + 1) & current.mask;
+                }
+                return false;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        List<V> snapshot() {
+            long stamp = lock.readLock();
+            try {
+                Table current = table;
+                List<V> values = new ArrayList<>(size);
+                for (int i = 0; i < current.keys.length; i++) {
+                    if (current.keys[i] != EMPTY) {
+                        @SuppressWarnings("unchecked")
+                        V value = (V) current.values[i];
+                        values.add(value);
+                    }
+                }
+                return values;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V find(Table current, long key, int hash) {
+            int index = hash & current.mask;
+            for (int probes = 0; probes < current.keys.length; probes++) {
+                long candidate = current.keys[index];
+                if (candidate == key) {
+                    return (V) current.values[index];
+                }
+                if (candidate == EMPTY) {
+                    return null;
+                }
+                index = (index + 1) & current.mask;
+            }
+            return null;
+        }
+
+        private static void shiftBack(Table current, int index) {
+            int mask = current.mask;
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (current.keys[next] != EMPTY) {
+                int home = slot(current.keys[next], mask);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    current.keys[gap] = current.keys[next];
+                    current.values[gap] = current.values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            current.keys[gap] = EMPTY;
+            current.values[gap] = null;
+        }
+
+        private static Table resize(Table current) {
+            Table resized = new Table(current.keys.length * 2);
+            for (int i = 0; i < current.keys.length; i++) {
+                long key = current.keys[i];
+                if (key == EMPTY) {
+                    continue;
+                }
+                int index = slot(key, resized.mask);
+                while (resized.keys[index] != EMPTY) {
+                    index = (index + 1) & resized.mask;
+                }
+                resized.keys[index] = key;
+                resized.values[index] = current.values[i];
+            }
+            return resized;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import com.meli.teamboardingBot.core.ports.session.SessionCache;
+import com.meli.teamboardingBot.core.ports.session.SessionExpiryPort;
+
+import java.time.Duration;
+
+public class ExpiringMap<K, V> {
+
+    private final SessionCache<K, V> values;
+    private final SessionExpiryPort.ExpiryTracker<K> tracker;
+
+    ExpiringMap(SessionExpiryPort expiry, SessionCacheRegistry caches, String name, Duration ttl, long maxEntries) {
+        this.tracker = expiry.tracker(name, ttl, this::expire);
+        this.values = caches.boundedCache(name, maxEntries, (key, value) -> tracker.forget(key));
+    }
+
+    private void expire(K key) {
+        values.remove(key);
+    }
+
+    public V get(K key) {
+        return values.get(key);
+    }
+
+    public V put(K key, V value) {
+        tracker.touch(key);
+        return values.put(key, value);
+    }
+
+    public V remove(K key) {
+        V removed = values.remove(key);
+        tracker.forget(key);
+        return removed;
+    }
+
+    public boolean containsKey(K key) {
+        return values.containsKey(key);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
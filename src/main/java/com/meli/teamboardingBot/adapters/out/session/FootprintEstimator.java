@@ -0,0 +1,84 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+
+import java.util.Collection;
+import java.util.Locale;
+
+final class FootprintEstimator {
+
+    static final long ENTRY_OVERHEAD = 96;
+    private static final long OBJECT_HEADER = 16;
+    private static final long REFERENCE = 8;
+    private static final long STRING_BASE = 40;
+    private static final long BOXED = 16;
+    private static final long MESSAGE = 4096;
+    private static final long INTERACTION_HOOK = 512;
+
+    private FootprintEstimator() {
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String text) {
+            return STRING_BASE + text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return BOXED;
+        }
+        if (value instanceof Locale) {
+            return OBJECT_HEADER + 4 * (REFERENCE + STRING_BASE);
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = OBJECT_HEADER + REFERENCE * (collection.size() + 2);
+            for (Object element : collection) {
+                total += estimate(element);
+            }
+            return total;
+        }
+        if (value instanceof BatchLogEntry entry) {
+            return OBJECT_HEADER + 13 * REFERENCE
+                    + estimate(entry.getSquadName()) + estimate(entry.getPersonName()) + estimate(entry.getLogType())
+                    + estimate(entry.getCategories()) + estimate(entry.getDescription())
+                    + 2 * (OBJECT_HEADER + 8) + 3 * BOXED
+                    + estimate(entry.getCategoryIds()) + estimate(entry.getModifiedFields());
+        }
+        if (value instanceof UserSession session) {
+            return OBJECT_HEADER + 9 * REFERENCE + 16 + estimate(session.getFormState())
+                    + estimate(session.getBatchEntries()) + estimate(session.getBatchCurrentIndex())
+                    + estimate(session.getAuth())
+                    + estimate(session.getFlowHook()) + estimate(session.getChannel());
+        }
+        if (value instanceof UserSession.Auth auth) {
+            return OBJECT_HEADER + 2 * REFERENCE + 8 + estimate(auth.authMethod()) + estimate(auth.token());
+        }
+        if (value instanceof UserSession.FlowHook flowHook) {
+            return OBJECT_HEADER + REFERENCE + 8 + estimate(flowHook.hook());
+        }
+        if (value instanceof UserSession.Channel channel) {
+            return OBJECT_HEADER + 2 * REFERENCE + estimate(channel.channelId()) + estimate(channel.messageId());
+        }
+        if (value instanceof FormState formState) {
+            return OBJECT_HEADER + 20 * REFERENCE + 8 * STRING_BASE
+                    + estimate(formState.categoryIds()) + estimate(formState.categoryNames())
+                    + estimate(formState.description());
+        }
+        if (value instanceof AuthTokenResponseDTO token) {
+            return OBJECT_HEADER + 3 * REFERENCE + estimate(token.getAccessToken()) + estimate(token.getTokenType()) + BOXED;
+        }
+        if (value instanceof Message) {
+            return MESSAGE;
+        }
+        if (value instanceof InteractionHook) {
+            return INTERACTION_HOOK;
+        }
+        return OBJECT_HEADER + 4 * REFERENCE;
+    }
+}
@@ -0,0 +1,118 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class MessageCleanupScheduler implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageCleanupScheduler.class);
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<Long, Map<String, PendingTask>> pendingByUser = new ConcurrentHashMap<>();
+
+    public MessageCleanupScheduler(MeterRegistry meterRegistry) {
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "message-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        meterRegistry.gauge("teamboarding.cleanup.pending", timer, executor -> executor.getQueue().size());
+    }
+
+    public void scheduleDelete(InteractionHook hook, Duration delay) {
+        scheduleDelete(hook.getInteraction().getUser().getIdLong(), hook, delay);
+    }
+
+    public void scheduleDelete(long userId, InteractionHook hook, Duration delay) {
+        schedule(userId, hookKey(hook), delay, true, () -> hook.deleteOriginal().queue(
+                success -> logger.debug("Mensagem removida para usuário {}", userId),
+                error -> logger.debug("Mensagem já removida ou inexistente para usuário {}: {}", userId, error.getMessage())));
+    }
+
+    public void scheduleEdit(long userId, InteractionHook hook, Duration delay, Runnable edit) {
+        schedule(userId, hookKey(hook) + ":edit", delay, false, edit);
+    }
+
+    public void schedule(long userId, String key, Duration delay, boolean runOnFlush, Runnable action) {
+        PendingTask task = new PendingTask(action, runOnFlush);
+        pendingByUser.compute(userId, (id, userTasks) -> {
+            Map<String, PendingTask> tasks = userTasks != null ? userTasks : new HashMap<>();
+            PendingTask previous = tasks.put(key, task);
+            if (previous != null) {
+                previous.future.cancel(false);
+            }
+            task.future = timer.schedule(() -> fire(userId, key, task), delay.toMillis(), TimeUnit.MILLISECONDS);
+            return tasks;
+        });
+    }
+
+    public void flushPending(long userId) {
+        Map<String, PendingTask> userTasks = pendingByUser.remove(userId);
+        if (userTasks == null) {
+            return;
+        }
+        userTasks.forEach((key, task) -> {
+            task.future.cancel(false);
+            if (task.runOnFlush) {
+                run(userId, task.action);
+            }
+        });
+    }
+
+    public int getPendingCount() {
+        return timer.getQueue().size();
+    }
+
+    private void fire(long userId, String key, PendingTask task) {
+        boolean[] due = {false};
+        pendingByUser.computeIfPresent(userId, (id, tasks) -> {
+            due[0] = tasks.remove(key, task);
+            return tasks.isEmpty() ? null : tasks;
+        });
+        if (due[0]) {
+            run(userId, task.action);
+        }
+    }
+
+    private void run(long userId, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao executar limpeza agendada para usuário {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private String hookKey(InteractionHook hook) {
+        return "hook:" + hook.getInteraction().getId();
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+    }
+
+    private static final class PendingTask {
+        final Runnable action;
+        final boolean runOnFlush;
+        volatile ScheduledFuture<?> future;
+
+        PendingTask(Runnable action, boolean runOnFlush) {
+            this.action = action;
+            this.runOnFlush = runOnFlush;
+        }
+    }
+}
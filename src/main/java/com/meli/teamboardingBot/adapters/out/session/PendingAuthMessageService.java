@@ -3,16 +3,22 @@ package com.meli.teamboardingBot.adapters.out.session;
 import net.dv8tion.jda.api.entities.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
 @Service
 public class PendingAuthMessageService {
     
     private static final Logger logger = LoggerFactory.getLogger(PendingAuthMessageService.class);
-    private final Map<String, Message> pendingAuthMessages = new ConcurrentHashMap<>();
+    private final ExpiringMap<String, Message> pendingAuthMessages;
+
+    public PendingAuthMessageService(SessionExpiryRegistry sessionExpiryRegistry,
+                                     @Value("${session.ttl.pending-auth-message-seconds:1800}") long ttlSeconds,
+                                     @Value("${session.max-entries.pending-auth-message:2000}") long maxEntries) {
+        this.pendingAuthMessages = sessionExpiryRegistry.map("pending-auth-message", Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
 
     public void storePendingAuthMessage(String userId, Message message) {
         pendingAuthMessages.put(userId, message);
@@ -0,0 +1,60 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import com.meli.teamboardingBot.core.ports.session.SessionCachePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+@Component
+public class SessionCacheRegistry implements SessionCachePort {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BoundedCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public SessionCacheRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <K, V> BoundedCache<K, V> boundedCache(String name, long maxWeight, ToIntFunction<V> weigher, BiConsumer<K, V> onEvict) {
+        BoundedCache<K, V> cache = new BoundedCache<>(name, maxWeight, weigher, onEvict);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Cache de sessão já registrado: " + name);
+        }
+        Gauge.builder("teamboarding.session.cache.size", cache, BoundedCache::size).tag("map", name).register(meterRegistry);
+        Gauge.builder("teamboarding.session.cache.weight", cache, BoundedCache::getWeight).tag("map", name).register(meterRegistry);
+        FunctionCounter.builder("teamboarding.session.cache.evictions", cache, BoundedCache::getEvictions).tag("map", name).register(meterRegistry);
+        return cache;
+    }
+
+    @Override
+    public <K, V> BoundedCache<K, V> boundedCache(String name, long maxEntries, BiConsumer<K, V> onEvict) {
+        return boundedCache(name, maxEntries, value -> 1, onEvict);
+    }
+
+    public List<CacheFootprint> footprint() {
+        List<CacheFootprint> report = new ArrayList<>();
+        caches.values().forEach(cache -> report.add(measure(cache)));
+        report.sort((a, b) -> Long.compare(b.estimatedBytes(), a.estimatedBytes()));
+        return report;
+    }
+
+    private static CacheFootprint measure(BoundedCache<?, ?> cache) {
+        long[] bytes = {0};
+        cache.forEach((key, value) -> bytes[0] += FootprintEstimator.ENTRY_OVERHEAD
+                + FootprintEstimator.estimate(key) + FootprintEstimator.estimate(value));
+        return new CacheFootprint(cache.getName(), cache.size(), cache.getWeight(), cache.getMaxWeight(),
+                cache.getEvictions(), bytes[0]);
+    }
+
+    public record CacheFootprint(String name, int entries, long weight, long maxWeight, long evictions, long estimatedBytes) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import com.meli.teamboardingBot.core.ports.session.SessionExpiryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Component
+public class SessionExpiryRegistry implements SessionExpiryPort, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionExpiryRegistry.class);
+
+    private final MeterRegistry meterRegistry;
+    private final SessionCacheRegistry sessionCacheRegistry;
+    private final DelayQueue<Deadline> deadlines = new DelayQueue<>();
+    private final Thread sweeper;
+
+    public SessionExpiryRegistry(MeterRegistry meterRegistry, SessionCacheRegistry sessionCacheRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sessionCacheRegistry = sessionCacheRegistry;
+        this.sweeper = new Thread(this::sweep, "session-expiry");
+        this.sweeper.setDaemon(true);
+        this.sweeper.start();
+        meterRegistry.gaugeCollectionSize("teamboarding.session.deadlines", List.of(), deadlines);
+    }
+
+    @Override
+    public <K> ExpiryTracker<K> tracker(String name, Duration ttl, Consumer<K> onExpire) {
+        return new Tracker<>(name, ttl.toNanos(), onExpire);
+    }
+
+    public <K, V> ExpiringMap<K, V> map(String name, Duration ttl, long maxEntries) {
+        return new ExpiringMap<>(this, sessionCacheRegistry, name, ttl, maxEntries);
+    }
+
+    private void sweep() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                deadlines.take().expire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao expirar sessão: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.interrupt();
+    }
+
+    private final class Tracker<K> implements ExpiryTracker<K> {
+        private final String name;
+        private final long ttlNanos;
+        private final Consumer<K> onExpire;
+        private final Map<K, Slot<K>> slots = new ConcurrentHashMap<>();
+        private final Counter evictions;
+
+        Tracker(String name, long ttlNanos, Consumer<K> onExpire) {
+            this.name = name;
+            this.ttlNanos = ttlNanos;
+            this.onExpire = onExpire;
+            this.evictions = meterRegistry.counter("teamboarding.session.evictions", "map", name);
+            meterRegistry.gaugeMapSize("teamboarding.session.active", Tags.of("map", name), slots);
+        }
+
+        @Override
+        public void touch(K key) {
+            long now = System.nanoTime();
+            slots.compute(key, (k, slot) -> {
+                if (slot == null) {
+                    slot = new Slot<>(k, now);
+                    deadlines.offer(new Deadline(this, slot, now + ttlNanos));
+                } else {
+                    slot.touchedAt = now;
+                }
+                return slot;
+            });
+        }
+
+        @Override
+        public void forget(K key) {
+            slots.remove(key);
+        }
+
+        void expire(Slot<?> expired) {
+            @SuppressWarnings("unchecked")
+            Slot<K> target = (Slot<K>) expired;
+            slots.computeIfPresent(target.key, (key, slot) -> {
+                if (slot != target) {
+                    return slot;
+                }
+                long deadline = slot.touchedAt + ttlNanos;
+                if (deadline - System.nanoTime() > 0) {
+                    deadlines.offer(new Deadline(this, slot, deadline));
+                    return slot;
+                }
+                evictions.increment();
+                try {
+                    onExpire.accept(key);
+                } catch (RuntimeException e) {
+                    logger.warn("Falha ao remover sessão expirada de {} ({}): {}", name, key, e.getMessage());
+                }
+                return null;
+            });
+        }
+    }
+
+    private static final class Slot<K> {
+        final K key;
+        volatile long touchedAt;
+
+        Slot(K key, long touchedAt) {
+            this.key = key;
+            this.touchedAt = touchedAt;
+        }
+    }
+
+    private static final class Deadline implements Delayed {
+        private final Tracker<?> tracker;
+        private final Slot<?> slot;
+        private final long deadline;
+
+        Deadline(Tracker<?> tracker, Slot<?> slot, long deadline) {
+            this.tracker = tracker;
+            this.slot = slot;
+            this.deadline = deadline;
+        }
+
+        void expire() {
+            tracker.expire(slot);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Deadline deadlineOther) {
+                return Long.compare(deadline - deadlineOther.deadline, 0);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
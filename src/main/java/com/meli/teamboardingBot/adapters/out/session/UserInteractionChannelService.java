@@ -1,43 +1,52 @@
 package com.meli.teamboardingBot.adapters.out.session;
 
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Service
 public class UserInteractionChannelService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserInteractionChannelService.class);
     
-    private final Map<String, String> userChannels = new ConcurrentHashMap<>();
-    
-    private final Map<String, String> userMessages = new ConcurrentHashMap<>();
+    private final UserSessionPort sessions;
+
+    public UserInteractionChannelService(UserSessionPort sessions) {
+        this.sessions = sessions;
+    }
 
     public void registerUserChannel(String discordUserId, String channelId, String messageId) {
-        userChannels.put(discordUserId, channelId);
-        userMessages.put(discordUserId, messageId);
+        UserSession.Channel channel = new UserSession.Channel(channelId, messageId);
+        sessions.update(Long.parseLong(discordUserId), session -> session.setChannel(channel));
         logger.info("📍 Canal registrado para usuário {}: canal={}, mensagem={}", 
             discordUserId, channelId, messageId);
     }
     
     public String getUserChannelId(String discordUserId) {
-        return userChannels.get(discordUserId);
+        UserSession.Channel channel = findChannel(discordUserId);
+        return channel != null ? channel.channelId() : null;
     }
     
     public String getUserMessageId(String discordUserId) {
-        return userMessages.get(discordUserId);
+        UserSession.Channel channel = findChannel(discordUserId);
+        return channel != null ? channel.messageId() : null;
     }
     
     public void clearUserChannel(String discordUserId) {
-        userChannels.remove(discordUserId);
-        userMessages.remove(discordUserId);
+        if (sessions.find(Long.parseLong(discordUserId)) != null) {
+            sessions.update(Long.parseLong(discordUserId), session -> session.setChannel(null));
+        }
         logger.info("🧹 Canal removido para usuário {}", discordUserId);
     }
     
     public boolean hasUserChannel(String discordUserId) {
-        return userChannels.containsKey(discordUserId);
+        return findChannel(discordUserId) != null;
+    }
+
+    private UserSession.Channel findChannel(String discordUserId) {
+        UserSession session = sessions.find(Long.parseLong(discordUserId));
+        return session != null ? session.getChannel() : null;
     }
 }
@@ -0,0 +1,186 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Component
+public class UserSessionRegistry implements UserSessionPort, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSessionRegistry.class);
+    private static final String NAME = "user-session";
+
+    private final ConcurrentLongMap<UserSession> sessions;
+    private final List<Consumer<UserSession>> evictionListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final ReentrantLock capacityLock = new ReentrantLock();
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final long sweepIntervalSeconds;
+    private final Counter evictions;
+    private final ScheduledExecutorService sweeper;
+
+    public UserSessionRegistry(MeterRegistry meterRegistry,
+                               @Value("${session.ttl.user-session-seconds:86400}") long ttlSeconds,
+                               @Value("${session.max-entries.user-session:50000}") long maxSessions,
+                               @Value("${session.max-entries.batch-rows:50000}") long maxBatchRows,
+                               @Value("${session.sweep-interval-seconds:30}") long sweepIntervalSeconds) {
+        this.sessions = new ConcurrentLongMap<>((int) Math.min(maxSessions, 1 << 16));
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxWeight = maxSessions + maxBatchRows;
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+        this.evictions = meterRegistry.counter("teamboarding.session.evictions", "map", NAME);
+        Gauge.builder("teamboarding.session.active", sessions, ConcurrentLongMap::size).tag("map", NAME).register(meterRegistry);
+        Gauge.builder("teamboarding.session.cache.weight", weight, AtomicLong::get).tag("map", NAME).register(meterRegistry);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public UserSession find(long userId) {
+        UserSession session = sessions.get(userId);
+        if (session == null || session.isRetired()) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (session.isExpired(now)) {
+            evict(session, true);
+            return null;
+        }
+        session.extendUntil(now + ttlNanos);
+        return session;
+    }
+
+    @Override
+    public UserSession update(long userId, Consumer<UserSession> mutation) {
+        while (true) {
+            UserSession session = sessions.computeIfAbsent(userId, UserSession::new);
+            synchronized (session) {
+                if (session.isRetired()) {
+                    continue;
+                }
+                mutation.accept(session);
+                session.extendUntil(System.nanoTime() + ttlNanos);
+                weight.addAndGet(session.reweigh());
+                if (session.isEmpty()) {
+                    session.retire();
+                    sessions.remove(userId, session);
+                    return session;
+                }
+            }
+            enforceCapacity(userId);
+            return session;
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<UserSession> action) {
+        sessions.forEach(session -> {
+            if (!session.isRetired()) {
+                action.accept(session);
+            }
+        });
+    }
+
+    @Override
+    public void onEviction(Consumer<UserSession> listener) {
+        evictionListeners.add(listener);
+    }
+
+    public SessionCacheRegistry.CacheFootprint footprint() {
+        long[] bytes = {0};
+        forEach(session -> bytes[0] += FootprintEstimator.ENTRY_OVERHEAD + FootprintEstimator.estimate(session));
+        return new SessionCacheRegistry.CacheFootprint(NAME, sessions.size(), weight.get(), maxWeight,
+                (long) evictions.count(), bytes[0]);
+    }
+
+    void sweep() {
+        long now = System.nanoTime();
+        int[] expired = {0};
+        sessions.forEach(session -> {
+            if (session.isExpired(now) && evict(session, true)) {
+                expired[0]++;
+            }
+        });
+        if (expired[0] > 0) {
+            logger.info("⏰ {} sessões de usuário expiradas removidas ({} ativas)", expired[0], sessions.size());
+        }
+    }
+
+    private void enforceCapacity(long currentUserId) {
+        if (weight.get() <= maxWeight || !capacityLock.tryLock()) {
+            return;
+        }
+        try {
+            List<EvictionCandidate> candidates = new ArrayList<>(sessions.size());
+            sessions.forEach(session -> candidates.add(new EvictionCandidate(session.getExpiresAt(), session)));
+            candidates.sort((a, b) -> Long.compare(a.expiresAt() - b.expiresAt(), 0));
+            long target = maxWeight - maxWeight / 10;
+            int evicted = 0;
+            for (EvictionCandidate candidate : candidates) {
+                if (weight.get() <= target) {
+                    break;
+                }
+                if (candidate.session().getUserId() != currentUserId && evict(candidate.session(), false)) {
+                    evicted++;
+                }
+            }
+            logger.info("Sessões de usuário acima do limite de memória: {} descartadas ({} ativas)", evicted, sessions.size());
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+
+    private boolean evict(UserSession session, boolean onlyIfExpired) {
+        synchronized (session) {
+            if (session.isRetired() || (onlyIfExpired && !session.isExpired(System.nanoTime()))) {
+                return false;
+            }
+            weight.addAndGet(-session.retire());
+            sessions.remove(session.getUserId(), session);
+        }
+        evictions.increment();
+        for (Consumer<UserSession> listener : evictionListeners) {
+            try {
+                listener.accept(session);
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao remover sessão de usuário {}: {}", session.getUserId(), e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+
+    private record EvictionCandidate(long expiresAt, UserSession session) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.meli.teamboardingBot.adapters.out.ui;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+@Component
+public class SignedComponentIds {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignedComponentIds.class);
+
+    public static final char SEPARATOR = ':';
+    public static final int MAX_LENGTH = 100;
+    private static final String VERSION = "1";
+    private static final String VALUE_SEPARATOR = "\u001F";
+    private static final int MAC_BYTES = 9;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec keySpec;
+    private final Mac prototype;
+
+    public SignedComponentIds(@Value("${component.id.secret:}") String secret) {
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            logger.warn("component.id.secret não configurado: ids de componentes assinados não sobrevivem a reinícios nem são aceitos por outras réplicas");
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.keySpec = new SecretKeySpec(key, "HmacSHA256");
+        this.prototype = initializedMac(keySpec);
+    }
+
+    public static String prefix(String base) {
+        return base + SEPARATOR;
+    }
+
+    public static String baseOf(String componentId) {
+        int separator = componentId.indexOf(SEPARATOR);
+        return separator < 0 ? componentId : componentId.substring(0, separator);
+    }
+
+    public String sign(String base, long userId, Object... values) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                joined.append(VALUE_SEPARATOR);
+            }
+            joined.append(values[i]);
+        }
+        String payload = ENCODER.encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+        String unsigned = base + SEPARATOR + VERSION + SEPARATOR + payload;
+        String componentId = unsigned + SEPARATOR + ENCODER.encodeToString(mac(unsigned, userId));
+        if (componentId.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Id de componente excede " + MAX_LENGTH + " caracteres: " + base);
+        }
+        return componentId;
+    }
+
+    public Decoded verify(String componentId, long userId) {
+        String[] parts = componentId.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 4 || !VERSION.equals(parts[1])) {
+            return null;
+        }
+        String unsigned = parts[0] + SEPARATOR + parts[1] + SEPARATOR + parts[2];
+        try {
+            byte[] expected = mac(unsigned, userId);
+            if (!MessageDigest.isEqual(expected, DECODER.decode(parts[3]))) {
+                logger.warn("Assinatura inválida para componente {} do usuário {}", parts[0], userId);
+                return null;
+            }
+            String joined = new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8);
+            return new Decoded(parts[0], joined.isEmpty() ? List.of() : List.of(joined.split(VALUE_SEPARATOR, -1)));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Id de componente malformado do usuário {}: {}", userId, componentId);
+            return null;
+        }
+    }
+
+    private byte[] mac(String unsigned, long userId) {
+        Mac instance = newMac();
+        instance.update(unsigned.getBytes(StandardCharsets.UTF_8));
+        instance.update((byte) SEPARATOR);
+        byte[] digest = instance.doFinal(Long.toString(userId).getBytes(StandardCharsets.UTF_8));
+        byte[] truncated = new byte[MAC_BYTES];
+        System.arraycopy(digest, 0, truncated, 0, MAC_BYTES);
+        return truncated;
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return initializedMac(keySpec);
+        }
+    }
+
+    private static Mac initializedMac(SecretKeySpec keySpec) {
+        try {
+            Mac instance = Mac.getInstance("HmacSHA256");
+            instance.init(keySpec);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+
+    public record Decoded(String base, List<String> values) {
+
+        public String value(int index) {
+            return values.get(index);
+        }
+
+        public int intValue(int index) {
+            return Integer.parseInt(values.get(index));
+        }
+    }
+}
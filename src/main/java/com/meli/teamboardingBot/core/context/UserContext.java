@@ -1,33 +1,94 @@
 package com.meli.teamboardingBot.core.context;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
-public class UserContext {
-    private static final Map<Long, String> userContextMap = new ConcurrentHashMap<>();
-    private static final ThreadLocal<Long> currentThreadId = new ThreadLocal<>();
+public record UserContext(String userId, Locale locale, String requestId) {
 
+    private static final ThreadLocal<UserContext> CURRENT = new ThreadLocal<>();
 
-    public static void setCurrentUserId(String userId) {
-        long threadId = Thread.currentThread().getId();
-        userContextMap.put(threadId, userId);
-        currentThreadId.set(threadId);
+    public static UserContext of(String userId, Locale locale, String requestId) {
+        return new UserContext(userId, locale, requestId != null ? requestId : newRequestId());
+    }
+
+    public static UserContext forUser(String userId) {
+        UserContext current = CURRENT.get();
+        if (current != null && current.userId.equals(userId)) {
+            return current;
+        }
+        return new UserContext(userId, null, newRequestId());
+    }
+
+    public static UserContext current() {
+        return CURRENT.get();
     }
 
     public static String getCurrentUserId() {
-        Long threadId = currentThreadId.get();
-        return threadId != null ? userContextMap.get(threadId) : null;
+        UserContext current = CURRENT.get();
+        return current != null ? current.userId : null;
+    }
+
+    public static Locale getCurrentLocale() {
+        UserContext current = CURRENT.get();
+        return current != null ? current.locale : null;
+    }
+
+    public static String getCurrentRequestId() {
+        UserContext current = CURRENT.get();
+        return current != null ? current.requestId : null;
+    }
+
+    public void run(Runnable operation) {
+        UserContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            operation.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public <T> T call(Supplier<T> operation) {
+        UserContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return operation.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static Runnable wrap(Runnable operation) {
+        UserContext captured = CURRENT.get();
+        return captured == null ? operation : () -> captured.run(operation);
+    }
+
+    public static <T> Supplier<T> wrap(Supplier<T> operation) {
+        UserContext captured = CURRENT.get();
+        return captured == null ? operation : () -> captured.call(operation);
+    }
+
+    public static <T, U> BiConsumer<T, U> wrap(BiConsumer<T, U> callback) {
+        UserContext captured = CURRENT.get();
+        return captured == null ? callback : (first, second) -> captured.run(() -> callback.accept(first, second));
+    }
+
+    public static Executor propagating(Executor delegate) {
+        return task -> delegate.execute(wrap(task));
     }
 
-    public static void clear() {
-        Long threadId = currentThreadId.get();
-        if (threadId != null) {
-            userContextMap.remove(threadId);
-            currentThreadId.remove();
+    private static void restore(UserContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
         }
     }
 
-    public static void clearForThread(long threadId) {
-        userContextMap.remove(threadId);
+    private static String newRequestId() {
+        return UUID.randomUUID().toString();
     }
 }
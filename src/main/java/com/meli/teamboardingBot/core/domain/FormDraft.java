@@ -0,0 +1,293 @@
+package com.meli.teamboardingBot.core.domain;
+
+import com.meli.teamboardingBot.core.domain.enums.FormStep;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+public class FormDraft {
+    private FormState base;
+    private FormStep step;
+    private boolean isCreating;
+    private boolean isEditing;
+    private String squadId;
+    private String squadName;
+    private String userId;
+    private String userName;
+    private String typeId;
+    private String typeName;
+    private List<String> categoryIds;
+    private List<String> categoryNames;
+    private String description;
+    private String startDate;
+    private String endDate;
+    private Long squadLogId;
+    private String language;
+    private Locale locale;
+    private int currentPage;
+    private int totalPages;
+
+    FormDraft(FormState base) {
+        load(base);
+    }
+
+    public FormState getBase() {
+        return base;
+    }
+
+    public long getVersion() {
+        return base.version();
+    }
+
+    public boolean isDirty() {
+        return !sameValues(base);
+    }
+
+    public FormState rebaseOnto(FormState latest, LocalDateTime now) {
+        FormState theirs = latest != null ? latest : base;
+        long version = Math.max(base.version(), theirs.version()) + 1;
+        return new FormState(version,
+                merge(step, base.step(), theirs.step()),
+                merge(isCreating, base.creating(), theirs.creating()),
+                merge(isEditing, base.editing(), theirs.editing()),
+                now,
+                merge(squadId, base.squadId(), theirs.squadId()),
+                merge(squadName, base.squadName(), theirs.squadName()),
+                merge(userId, base.userId(), theirs.userId()),
+                merge(userName, base.userName(), theirs.userName()),
+                merge(typeId, base.typeId(), theirs.typeId()),
+                merge(typeName, base.typeName(), theirs.typeName()),
+                merge(categoryIds, base.categoryIds(), theirs.categoryIds()),
+                merge(categoryNames, base.categoryNames(), theirs.categoryNames()),
+                merge(description, base.description(), theirs.description()),
+                merge(startDate, base.startDate(), theirs.startDate()),
+                merge(endDate, base.endDate(), theirs.endDate()),
+                merge(squadLogId, base.squadLogId(), theirs.squadLogId()),
+                merge(language, base.language(), theirs.language()),
+                merge(locale, base.locale(), theirs.locale()),
+                merge(currentPage, base.currentPage(), theirs.currentPage()),
+                merge(totalPages, base.totalPages(), theirs.totalPages()));
+    }
+
+    public void committed(FormState state) {
+        load(state);
+    }
+
+    public void reset() {
+        this.step = FormStep.INITIAL;
+        this.isCreating = false;
+        this.isEditing = false;
+        this.squadId = null;
+        this.squadName = null;
+        this.userId = null;
+        this.userName = null;
+        this.typeId = null;
+        this.typeName = null;
+        this.categoryIds.clear();
+        this.categoryNames.clear();
+        this.description = null;
+        this.startDate = null;
+        this.endDate = null;
+        this.squadLogId = null;
+        this.currentPage = 1;
+        this.totalPages = 1;
+    }
+
+    public FormStep getStep() {
+        return step;
+    }
+
+    public void setStep(FormStep step) {
+        this.step = step;
+    }
+
+    public boolean isCreating() {
+        return isCreating;
+    }
+
+    public void setCreating(boolean creating) {
+        isCreating = creating;
+    }
+
+    public boolean isEditing() {
+        return isEditing;
+    }
+
+    public void setEditing(boolean editing) {
+        isEditing = editing;
+    }
+
+    public LocalDateTime getLastActivity() {
+        return base.lastActivity();
+    }
+
+    public String getSquadId() {
+        return squadId;
+    }
+
+    public void setSquadId(String squadId) {
+        this.squadId = squadId;
+    }
+
+    public String getSquadName() {
+        return squadName;
+    }
+
+    public void setSquadName(String squadName) {
+        this.squadName = squadName;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public String getTypeId() {
+        return typeId;
+    }
+
+    public void setTypeId(String typeId) {
+        this.typeId = typeId;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public void setTypeName(String typeName) {
+        this.typeName = typeName;
+    }
+
+    public List<String> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public void setCategoryIds(List<String> categoryIds) {
+        this.categoryIds = categoryIds != null ? new ArrayList<>(categoryIds) : new ArrayList<>();
+    }
+
+    public List<String> getCategoryNames() {
+        return categoryNames;
+    }
+
+    public void setCategoryNames(List<String> categoryNames) {
+        this.categoryNames = categoryNames != null ? new ArrayList<>(categoryNames) : new ArrayList<>();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(String startDate) {
+        this.startDate = startDate;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(String endDate) {
+        this.endDate = endDate;
+    }
+
+    public Long getSquadLogId() {
+        return squadLogId;
+    }
+
+    public void setSquadLogId(Long squadLogId) {
+        this.squadLogId = squadLogId;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public void setCurrentPage(int currentPage) {
+        this.currentPage = currentPage;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    private void load(FormState state) {
+        this.base = state;
+        this.step = state.step();
+        this.isCreating = state.creating();
+        this.isEditing = state.editing();
+        this.squadId = state.squadId();
+        this.squadName = state.squadName();
+        this.userId = state.userId();
+        this.userName = state.userName();
+        this.typeId = state.typeId();
+        this.typeName = state.typeName();
+        this.categoryIds = new ArrayList<>(state.categoryIds());
+        this.categoryNames = new ArrayList<>(state.categoryNames());
+        this.description = state.description();
+        this.startDate = state.startDate();
+        this.endDate = state.endDate();
+        this.squadLogId = state.squadLogId();
+        this.language = state.language();
+        this.locale = state.locale();
+        this.currentPage = state.currentPage();
+        this.totalPages = state.totalPages();
+    }
+
+    private boolean sameValues(FormState state) {
+        return step == state.step() && isCreating == state.creating() && isEditing == state.editing()
+                && Objects.equals(squadId, state.squadId()) && Objects.equals(squadName, state.squadName())
+                && Objects.equals(userId, state.userId()) && Objects.equals(userName, state.userName())
+                && Objects.equals(typeId, state.typeId()) && Objects.equals(typeName, state.typeName())
+                && categoryIds.equals(state.categoryIds()) && categoryNames.equals(state.categoryNames())
+                && Objects.equals(description, state.description()) && Objects.equals(startDate, state.startDate())
+                && Objects.equals(endDate, state.endDate()) && Objects.equals(squadLogId, state.squadLogId())
+                && Objects.equals(language, state.language()) && Objects.equals(locale, state.locale())
+                && currentPage == state.currentPage() && totalPages == state.totalPages();
+    }
+
+    private static <T> T merge(T mine, T base, T theirs) {
+        return Objects.equals(mine, base) ? theirs : mine;
+    }
+}
@@ -0,0 +1,40 @@
+package com.meli.teamboardingBot.core.domain.batch;
+
+public class BatchLineDiagnostic {
+    private final int lineNumber;
+    private final String format;
+    private final boolean parsed;
+    private final String message;
+
+    private BatchLineDiagnostic(int lineNumber, String format, boolean parsed, String message) {
+        this.lineNumber = lineNumber;
+        this.format = format;
+        this.parsed = parsed;
+        this.message = message;
+    }
+
+    public static BatchLineDiagnostic parsed(int lineNumber, String format) {
+        return new BatchLineDiagnostic(lineNumber, format, true, null);
+    }
+
+    public static BatchLineDiagnostic failed(int lineNumber, String format, String message) {
+        return new BatchLineDiagnostic(lineNumber, format, false, message);
+    }
+
+    public int getLineNumber() { return lineNumber; }
+
+    public String getFormat() { return format; }
+
+    public boolean isParsed() { return parsed; }
+
+    public boolean isRecognized() { return format != null; }
+
+    public String getMessage() { return message; }
+
+    @Override
+    public String toString() {
+        return parsed
+                ? String.format("Linha %d: ok (%s)", lineNumber, format)
+                : String.format("Linha %d: %s", lineNumber, message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.meli.teamboardingBot.core.domain.batch;
+
+import java.util.List;
+
+public class BatchParseReport {
+    private final List<BatchLogEntry> entries;
+    private final List<BatchLineDiagnostic> diagnostics;
+
+    public BatchParseReport(List<BatchLogEntry> entries, List<BatchLineDiagnostic> diagnostics) {
+        this.entries = entries;
+        this.diagnostics = diagnostics;
+    }
+
+    public List<BatchLogEntry> getEntries() { return entries; }
+
+    public List<BatchLineDiagnostic> getDiagnostics() { return diagnostics; }
+
+    public List<BatchLineDiagnostic> getFailures() {
+        return diagnostics.stream().filter(diagnostic -> !diagnostic.isParsed()).toList();
+    }
+
+    public boolean hasRecognizedLines() {
+        return diagnostics.stream().anyMatch(BatchLineDiagnostic::isRecognized);
+    }
+}
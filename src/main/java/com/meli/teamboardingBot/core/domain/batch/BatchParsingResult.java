@@ -1,11 +1,14 @@
 package com.meli.teamboardingBot.core.domain.batch;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class BatchParsingResult {
     private List<BatchLogEntry> validEntries;
     private List<String> errors;
     private int totalProcessed;
+    private Map<String, Long> phaseTimingsMs = new LinkedHashMap<>();
 
     public BatchParsingResult() {}
 
@@ -24,6 +27,9 @@ public class BatchParsingResult {
     public int getTotalProcessed() { return totalProcessed; }
     public void setTotalProcessed(int totalProcessed) { this.totalProcessed = totalProcessed; }
 
+    public Map<String, Long> getPhaseTimingsMs() { return phaseTimingsMs; }
+    public void setPhaseTimingsMs(Map<String, Long> phaseTimingsMs) { this.phaseTimingsMs = phaseTimingsMs; }
+
     public boolean hasValidEntries() {
         return validEntries != null && !validEntries.isEmpty();
     }
@@ -0,0 +1,49 @@
+package com.meli.teamboardingBot.core.domain.batch;
+
+public class BatchSubmissionResult {
+    private final int index;
+    private final BatchLogEntry entry;
+    private final boolean success;
+    private final boolean duplicate;
+    private final boolean uncertain;
+    private final String response;
+    private final String errorMessage;
+    private final int attempts;
+
+    private BatchSubmissionResult(int index, BatchLogEntry entry, boolean success, boolean duplicate, boolean uncertain,
+                                  String response, String errorMessage, int attempts) {
+        this.index = index;
+        this.entry = entry;
+        this.success = success;
+        this.duplicate = duplicate;
+        this.uncertain = uncertain;
+        this.response = response;
+        this.errorMessage = errorMessage;
+        this.attempts = attempts;
+    }
+
+    public static BatchSubmissionResult success(int index, BatchLogEntry entry, String response, int attempts) {
+        return new BatchSubmissionResult(index, entry, true, false, false, response, null, attempts);
+    }
+
+    public static BatchSubmissionResult failure(int index, BatchLogEntry entry, String errorMessage, int attempts) {
+        return new BatchSubmissionResult(index, entry, false, false, false, null, errorMessage, attempts);
+    }
+
+    public static BatchSubmissionResult duplicate(int index, BatchLogEntry entry, String existingSquadLogId) {
+        return new BatchSubmissionResult(index, entry, true, true, false, existingSquadLogId, null, 0);
+    }
+
+    public static BatchSubmissionResult uncertain(int index, BatchLogEntry entry, String errorMessage, int attempts) {
+        return new BatchSubmissionResult(index, entry, false, false, true, null, errorMessage, attempts);
+    }
+
+    public int getIndex() { return index; }
+    public BatchLogEntry getEntry() { return entry; }
+    public boolean isSuccess() { return success; }
+    public boolean isDuplicate() { return duplicate; }
+    public boolean isUncertain() { return uncertain; }
+    public String getResponse() { return response; }
+    public String getErrorMessage() { return errorMessage; }
+    public int getAttempts() { return attempts; }
+}
@@ -0,0 +1,16 @@
+package com.meli.teamboardingBot.core.domain.batch;
+
+public enum BatchTextFormat {
+    DELIMITED("delimited"),
+    DASHED("dashed"),
+    NATURAL("natural"),
+    UNKNOWN("unknown");
+
+    private final String tag;
+
+    BatchTextFormat(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() { return tag; }
+}
@@ -0,0 +1,137 @@
+package com.meli.teamboardingBot.core.domain.session;
+
+import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+
+import java.util.List;
+
+public class UserSession {
+
+    private final long userId;
+    private volatile long expiresAt;
+    private volatile boolean retired;
+    private int weight;
+
+    private volatile FormState formState;
+    private volatile long formTouchedAt;
+    private volatile List<BatchLogEntry> batchEntries;
+    private volatile Integer batchCurrentIndex;
+    private volatile Auth auth;
+    private volatile FlowHook flowHook;
+    private volatile Channel channel;
+
+    public UserSession(long userId) {
+        this.userId = userId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void extendUntil(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt - now <= 0;
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    public int retire() {
+        retired = true;
+        int released = weight;
+        weight = 0;
+        return released;
+    }
+
+    public int reweigh() {
+        int current = isEmpty() ? 0 : 1 + (batchEntries != null ? batchEntries.size() : 0);
+        int delta = current - weight;
+        weight = current;
+        return delta;
+    }
+
+    public boolean isEmpty() {
+        return formState == null && batchEntries == null && batchCurrentIndex == null && auth == null
+                && flowHook == null && channel == null;
+    }
+
+    public FormState getFormState() {
+        return formState;
+    }
+
+    public void setFormState(FormState formState) {
+        this.formState = formState;
+        this.formTouchedAt = System.nanoTime();
+    }
+
+    public boolean isFormIdle(long now, long idleNanos) {
+        return formState != null && now - formTouchedAt >= idleNanos;
+    }
+
+    public List<BatchLogEntry> getBatchEntries() {
+        return batchEntries;
+    }
+
+    public void setBatchEntries(List<BatchLogEntry> batchEntries) {
+        this.batchEntries = batchEntries != null ? List.copyOf(batchEntries) : null;
+    }
+
+    public Integer getBatchCurrentIndex() {
+        return batchCurrentIndex;
+    }
+
+    public void setBatchCurrentIndex(Integer batchCurrentIndex) {
+        this.batchCurrentIndex = batchCurrentIndex;
+    }
+
+    public void clearBatch() {
+        this.batchEntries = null;
+        this.batchCurrentIndex = null;
+    }
+
+    public boolean hasBatch() {
+        return batchEntries != null || batchCurrentIndex != null;
+    }
+
+    public Auth getAuth() {
+        return auth;
+    }
+
+    public void setAuth(Auth auth) {
+        this.auth = auth;
+    }
+
+    public FlowHook getFlowHook() {
+        return flowHook;
+    }
+
+    public void setFlowHook(FlowHook flowHook) {
+        this.flowHook = flowHook;
+    }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    public void setChannel(Channel channel) {
+        this.channel = channel;
+    }
+
+    public record Auth(AuthTokenResponseDTO token, String authMethod, long expirationTime) {
+    }
+
+    public record FlowHook(Object hook, long registeredAt) {
+    }
+
+    public record Channel(String channelId, String messageId) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.meli.teamboardingBot.core.ports.auth.api;
+
+import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
+
+public interface RefreshApiTokenPort {
+    AuthTokenResponseDTO refreshAuthToken(String rejectedAccessToken);
+}
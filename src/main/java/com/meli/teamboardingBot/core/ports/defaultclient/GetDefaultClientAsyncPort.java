@@ -0,0 +1,8 @@
+package com.meli.teamboardingBot.core.ports.defaultclient;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface GetDefaultClientAsyncPort {
+    CompletableFuture<String> getAsync(String endpoint);
+    CompletableFuture<String> getAsync(String endpoint, String queryParams);
+}
@@ -0,0 +1,7 @@
+package com.meli.teamboardingBot.core.ports.defaultclient;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PostDefaultClientAsyncPort {
+    CompletableFuture<String> postAsync(String endpoint, String payload);
+}
@@ -0,0 +1,38 @@
+package com.meli.teamboardingBot.core.ports.formstate;
+
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public interface FormStateStore {
+
+    FormState getFormState(Long userId);
+
+    void putFormState(Long userId, FormState state);
+
+    boolean compareAndSetFormState(Long userId, FormState expected, FormState updated);
+
+    void removeFormState(Long userId);
+
+    void removeFormStatesIf(Predicate<FormState> predicate);
+
+    int removeFormStatesIdleFor(Duration idle);
+
+    Set<Long> formStateUserIds();
+
+    List<BatchLogEntry> getBatchEntries(Long userId);
+
+    void putBatchEntries(Long userId, List<BatchLogEntry> entries);
+
+    Integer getBatchCurrentIndex(Long userId);
+
+    void putBatchCurrentIndex(Long userId, int index);
+
+    void removeBatch(Long userId);
+
+    Set<Long> batchUserIds();
+}
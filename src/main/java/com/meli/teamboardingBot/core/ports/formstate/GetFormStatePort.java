@@ -1,7 +1,7 @@
 package com.meli.teamboardingBot.core.ports.formstate;
 
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 
 public interface GetFormStatePort {
-    FormState getState(Long userId);
+    FormDraft getState(Long userId);
 }
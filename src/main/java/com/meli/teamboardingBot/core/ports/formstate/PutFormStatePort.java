@@ -1,7 +1,14 @@
 package com.meli.teamboardingBot.core.ports.formstate;
 
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.domain.FormState;
 
+import java.util.function.Consumer;
+
 public interface PutFormStatePort {
-    void updateState(Long userId, FormState state);
+    void updateState(Long userId, FormDraft state);
+
+    void updateState(Long userId, FormDraft state, boolean recreateIfDeleted);
+
+    FormState updateState(Long userId, Consumer<FormDraft> mutation);
 }
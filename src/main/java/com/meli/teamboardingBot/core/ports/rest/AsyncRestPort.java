@@ -0,0 +1,13 @@
+package com.meli.teamboardingBot.core.ports.rest;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncRestPort {
+
+    CompletableFuture<String> getExchangeAsync (String url, String token);
+
+    CompletableFuture<String> postExchangeAsync (String url, String token, String payload);
+
+    CompletableFuture<String> putExchangeAsync (String url, String token, String payload);
+
+}
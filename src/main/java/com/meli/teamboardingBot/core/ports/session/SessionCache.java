@@ -0,0 +1,18 @@
+package com.meli.teamboardingBot.core.ports.session;
+
+import java.util.function.BiConsumer;
+
+public interface SessionCache<K, V> {
+
+    V get(K key);
+
+    V put(K key, V value);
+
+    V remove(K key);
+
+    boolean containsKey(K key);
+
+    int size();
+
+    void forEach(BiConsumer<? super K, ? super V> action);
+}
@@ -0,0 +1,13 @@
+package com.meli.teamboardingBot.core.ports.session;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+public interface SessionCachePort {
+
+    <K, V> SessionCache<K, V> boundedCache(String name, long maxWeight, ToIntFunction<V> weigher, BiConsumer<K, V> onEvict);
+
+    default <K, V> SessionCache<K, V> boundedCache(String name, long maxEntries, BiConsumer<K, V> onEvict) {
+        return boundedCache(name, maxEntries, value -> 1, onEvict);
+    }
+}
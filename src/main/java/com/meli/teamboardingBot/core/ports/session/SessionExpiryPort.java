@@ -0,0 +1,16 @@
+package com.meli.teamboardingBot.core.ports.session;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+public interface SessionExpiryPort {
+
+    <K> ExpiryTracker<K> tracker(String name, Duration ttl, Consumer<K> onExpire);
+
+    interface ExpiryTracker<K> {
+
+        void touch(K key);
+
+        void forget(K key);
+    }
+}
@@ -0,0 +1,16 @@
+package com.meli.teamboardingBot.core.ports.session;
+
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+
+import java.util.function.Consumer;
+
+public interface UserSessionPort {
+
+    UserSession find(long userId);
+
+    UserSession update(long userId, Consumer<UserSession> mutation);
+
+    void forEach(Consumer<UserSession> action);
+
+    void onEviction(Consumer<UserSession> listener);
+}
@@ -7,8 +7,11 @@ import com.meli.teamboardingBot.core.usecase.auth.oath.UserTokenManager;
 
 public class ManualAuthenticationUseCase extends ManualAuthenticationAbstract implements DiscordUserAuthenticationPort {
 
-    public ManualAuthenticationUseCase(LoggerApiPort loggerApiPort) {
+    private final UserTokenManager userTokenManager;
+
+    public ManualAuthenticationUseCase(LoggerApiPort loggerApiPort, UserTokenManager userTokenManager) {
         super(loggerApiPort);
+        this.userTokenManager = userTokenManager;
     }
 
     public AuthResponse authenticateUserWithToken(String discordUserId, String accessToken) {
@@ -18,7 +21,7 @@ public class ManualAuthenticationUseCase extends ManualAuthenticationAbstract im
 
             AuthTokenResponseDTO token = new AuthTokenResponseDTO(accessToken, "bearer", null);
             
-            UserTokenManager.storeUserToken(discordUserId, token, "google");
+            userTokenManager.storeUserToken(discordUserId, token, "google");
 
             loggerApiPort.info("✅ Autenticação Google bem-sucedida para usuário Discord: {}", discordUserId);
             return new AuthResponse(true, "✅ Login via Google realizado com sucesso!");
@@ -6,13 +6,15 @@ import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 public class GetIsUserAuthenticatedUseCase implements GetIsUserAuthenticatedPort {
 
     private final LoggerApiPort loggerApiPort;
+    private final UserTokenManager userTokenManager;
 
-    public GetIsUserAuthenticatedUseCase(LoggerApiPort logger) {
+    public GetIsUserAuthenticatedUseCase(LoggerApiPort logger, UserTokenManager userTokenManager) {
         this.loggerApiPort = logger;
+        this.userTokenManager = userTokenManager;
     }
 
     public boolean isUserAuthenticated(String discordUserId) {
-        UserTokenManager.UserAuthData authData = UserTokenManager.getUserToken(discordUserId);
+        UserTokenManager.UserAuthData authData = userTokenManager.getUserToken(discordUserId);
         if (authData == null) {
             loggerApiPort.info("Usuário não autenticado ou token expirado: {}", discordUserId);
             return false;
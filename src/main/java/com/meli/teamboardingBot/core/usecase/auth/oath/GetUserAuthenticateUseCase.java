@@ -9,10 +9,12 @@ public class GetUserAuthenticateUseCase implements GetUserAuthenticatePort {
 
     private final LoggerApiPort loggerApiPort;
     private final GetManualApiTokenPort getManualApiTokenPort;
+    private final UserTokenManager userTokenManager;
 
-    public GetUserAuthenticateUseCase(LoggerApiPort logger, GetManualApiTokenPort getManualApiTokenPort) {
+    public GetUserAuthenticateUseCase(LoggerApiPort logger, GetManualApiTokenPort getManualApiTokenPort, UserTokenManager userTokenManager) {
         this.loggerApiPort = logger;
         this.getManualApiTokenPort = getManualApiTokenPort;
+        this.userTokenManager = userTokenManager;
     }
 
     public UserTokenAbstract.AuthResponse authenticateUser(String discordUserId, String username, String password) {
@@ -20,7 +22,7 @@ public class GetUserAuthenticateUseCase implements GetUserAuthenticatePort {
             loggerApiPort.info("Tentando autenticar usuário Discord: {}", discordUserId);
             AuthTokenResponseDTO token = getManualApiTokenPort.getAuthManualToken(username, password);
             if (token != null && token.getAccessToken() != null) {
-                UserTokenManager.storeUserToken(discordUserId, token, "manual");
+                userTokenManager.storeUserToken(discordUserId, token, "manual");
 
                 loggerApiPort.info("Autenticação bem-sucedida para usuário Discord: {}", discordUserId);
                 return new UserTokenAbstract.AuthResponse(true, "✅ Login realizado com sucesso! Agora você pode usar o comando /squad-log.");
@@ -7,9 +7,11 @@ import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 public class GetUserAuthenticateWithTokenUseCase implements GetUserAuthenticateWithTokenPort {
 
     private final LoggerApiPort loggerApiPort;
+    private final UserTokenManager userTokenManager;
 
-    public GetUserAuthenticateWithTokenUseCase(LoggerApiPort loggerApiPort) {
+    public GetUserAuthenticateWithTokenUseCase(LoggerApiPort loggerApiPort, UserTokenManager userTokenManager) {
         this.loggerApiPort = loggerApiPort;
+        this.userTokenManager = userTokenManager;
     }
     @Override
     public UserTokenAbstract.AuthResponse authenticateUserWithToken(String discordUserId, String accessToken) {
@@ -20,7 +22,7 @@ public class GetUserAuthenticateWithTokenUseCase implements GetUserAuthenticateW
             AuthTokenResponseDTO token = new AuthTokenResponseDTO(accessToken, "bearer", null);
             loggerApiPort.info("   DTO criado, chamando UserTokenManager.storeUserToken...");
             
-            UserTokenManager.storeUserToken(discordUserId, token, "google");
+            userTokenManager.storeUserToken(discordUserId, token, "google");
             
             loggerApiPort.info("   UserTokenManager.storeUserToken executado com sucesso");
             loggerApiPort.info("✅ Autenticação Google bem-sucedida para usuário Discord: {}", discordUserId);
@@ -9,10 +9,12 @@ public class GetUserTokenUseCase implements GetUserTokenPort {
 
     private final LoggerApiPort loggerApiPort;
     private final GetIsUserAuthenticatedPort isUserAuthenticated;
+    private final UserTokenManager userTokenManager;
 
-    public GetUserTokenUseCase(LoggerApiPort logger, GetIsUserAuthenticatedPort isUserAuthenticated) {
+    public GetUserTokenUseCase(LoggerApiPort logger, GetIsUserAuthenticatedPort isUserAuthenticated, UserTokenManager userTokenManager) {
         this.loggerApiPort = logger;
         this.isUserAuthenticated = isUserAuthenticated;
+        this.userTokenManager = userTokenManager;
     }
 
     @Override
@@ -20,7 +22,7 @@ public class GetUserTokenUseCase implements GetUserTokenPort {
         if (!isUserAuthenticated.isUserAuthenticated(discordUserId)) {
             return null;
         }
-        UserTokenManager.UserAuthData authData = UserTokenManager.getUserToken(discordUserId);
+        UserTokenManager.UserAuthData authData = userTokenManager.getUserToken(discordUserId);
         return authData != null ? authData.token : null;
     }
 }
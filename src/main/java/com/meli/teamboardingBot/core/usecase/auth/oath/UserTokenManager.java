@@ -1,15 +1,22 @@
 package com.meli.teamboardingBot.core.usecase.auth.oath;
 
 import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
+import com.meli.teamboardingBot.core.domain.session.UserSession;
+import com.meli.teamboardingBot.core.ports.session.UserSessionPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+
+import java.time.Duration;
 
 public class UserTokenManager {
     private static final Logger logger = LoggerFactory.getLogger(UserTokenManager.class);
-    private static final Map<String, UserAuthData> userTokens = new ConcurrentHashMap<>();
-    private static final long TOKEN_EXPIRATION_TIME = 24 * 3600 * 1000L;
+    private final UserSessionPort sessions;
+    private final long tokenExpirationTime;
+
+    public UserTokenManager(UserSessionPort sessions, Duration ttl) {
+        this.sessions = sessions;
+        this.tokenExpirationTime = ttl.toMillis();
+    }
 
     public static class UserAuthData {
         final AuthTokenResponseDTO token;
@@ -21,68 +28,76 @@ public class UserTokenManager {
             this.expirationTime = expirationTime;
             this.authMethod = authMethod;
         }
+
+        public AuthTokenResponseDTO getToken() {
+            return token;
+        }
+
+        public String getAuthMethod() {
+            return authMethod;
+        }
     }
 
-    public static void storeUserToken(String discordUserId, AuthTokenResponseDTO token, String authMethod) {
+    public void storeUserToken(String discordUserId, AuthTokenResponseDTO token, String authMethod) {
         long currentTime = System.currentTimeMillis();
-        long expirationTime = currentTime + TOKEN_EXPIRATION_TIME;
+        long expirationTime = currentTime + tokenExpirationTime;
         
-        UserAuthData authData = new UserAuthData(
+        UserSession.Auth auth = new UserSession.Auth(
                 token,
-                expirationTime,
-                authMethod
+                authMethod,
+                expirationTime
         );
-        userTokens.put(discordUserId, authData);
+        sessions.update(Long.parseLong(discordUserId), session -> session.setAuth(auth));
         
         logger.info("🔐 Token armazenado para usuário: {}", discordUserId);
         logger.info("   Método: {}", authMethod);
         logger.info("   Tempo atual: {}", currentTime);
         logger.info("   Expira em: {}", expirationTime);
-        logger.info("   Duração: {} horas", TOKEN_EXPIRATION_TIME / (3600 * 1000));
-        logger.info("   Total de tokens armazenados: {}", userTokens.size());
+        logger.info("   Duração: {} horas", tokenExpirationTime / (3600 * 1000));
     }
 
-    public static UserAuthData getUserToken(String discordUserId) {
+    public UserAuthData getUserToken(String discordUserId) {
         long currentTime = System.currentTimeMillis();
-        UserAuthData authData = userTokens.get(discordUserId);
+        UserSession session = sessions.find(Long.parseLong(discordUserId));
+        UserSession.Auth auth = session != null ? session.getAuth() : null;
         
         logger.info("🔍 Buscando token para usuário: {}", discordUserId);
         logger.info("   Tempo atual: {}", currentTime);
         
-        if (authData == null) {
-            logger.warn("   ❌ Token NÃO ENCONTRADO no mapa (usuário nunca autenticou ou token foi removido)");
-            logger.info("   Total de tokens no mapa: {}", userTokens.size());
-            logger.info("   Usuários no mapa: {}", userTokens.keySet());
+        if (auth == null) {
+            logger.warn("   ❌ Token NÃO ENCONTRADO na sessão (usuário nunca autenticou ou token foi removido)");
             return null;
         }
+        if (auth.expirationTime() <= currentTime) {
+            sessions.update(session.getUserId(), current -> current.setAuth(null));
+            logger.info("⏰ Token expirado removido para usuário: {}", discordUserId);
+            return null;
+        }
+        UserAuthData authData = new UserAuthData(auth.token(), auth.expirationTime(), auth.authMethod());
         
-        logger.info("   ✅ Token ENCONTRADO no mapa");
+        logger.info("   ✅ Token ENCONTRADO na sessão");
         logger.info("   Método de autenticação: {}", authData.authMethod);
         logger.info("   Expira em: {}", authData.expirationTime);
         logger.info("   Tempo restante: {} ms", (authData.expirationTime - currentTime));
-        
-        if (currentTime > authData.expirationTime) {
-            logger.warn("   ⏰ Token EXPIRADO! Removendo...");
-            userTokens.remove(discordUserId);
-            return null;
-        }
-        
         logger.info("   ✅ Token VÁLIDO e não expirado");
         return authData;
     }
 
-    public static boolean isUserAuthenticated(String discordUserId) {
+    public boolean isUserAuthenticated(String discordUserId) {
         return getUserToken(discordUserId) != null;
     }
 
-    public static String getAuthMethod(String discordUserId) {
+    public String getAuthMethod(String discordUserId) {
         UserAuthData authData = getUserToken(discordUserId);
         return authData != null ? authData.authMethod : null;
     }
 
-    public static void removeUserToken(String discordUserId) {
-        UserAuthData removed = userTokens.remove(discordUserId);
-        if (removed != null) {
+    public void removeUserToken(String discordUserId) {
+        long userId = Long.parseLong(discordUserId);
+        UserSession session = sessions.find(userId);
+        boolean removed = session != null && session.getAuth() != null;
+        if (removed) {
+            sessions.update(userId, current -> current.setAuth(null));
             logger.info("🗑️ Token removido para usuário: {}", discordUserId);
         } else {
             logger.warn("⚠️ Tentativa de remover token inexistente para usuário: {}", discordUserId);
@@ -5,6 +5,7 @@ import com.meli.teamboardingBot.core.ports.auth.api.GetApiTokenPort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import com.meli.teamboardingBot.core.context.UserContext;
 import com.meli.teamboardingBot.adapters.dto.AuthTokenResponseDTO;
+import org.springframework.web.client.HttpStatusCodeException;
 
 public class DefaultClientAbstract {
 
@@ -19,16 +20,32 @@ public class DefaultClientAbstract {
     }
 
     protected String getAuthToken() {
-        String discordUserId = UserContext.getCurrentUserId();
-        if (discordUserId != null) {
-            AuthTokenResponseDTO token = userToken.getUserToken(discordUserId);
+        UserContext context = UserContext.current();
+        if (context != null) {
+            AuthTokenResponseDTO token = userToken.getUserToken(context.userId());
             if (token != null) {
-                logger.debug("Usando token do usuário Discord: {}", discordUserId);
+                logger.debug("Usando token do usuário Discord: {} (requisição {}, idioma {})",
+                        context.userId(), context.requestId(), context.locale());
                 return token.getAccessToken();
             }
         }
-        logger.debug("Usando token padrão (credenciais do application.properties)");
+        logger.debug("Usando token padrão (credenciais do application.properties), requisição {}",
+                UserContext.getCurrentRequestId());
         return apiToken.getAuthToken().getAccessToken();
     }
 
+    protected boolean isUsingApiToken() {
+        String discordUserId = UserContext.getCurrentUserId();
+        return discordUserId == null || userToken.getUserToken(discordUserId) == null;
+    }
+
+    protected boolean isUnauthorized(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException statusError && statusError.getStatusCode().value() == 401) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
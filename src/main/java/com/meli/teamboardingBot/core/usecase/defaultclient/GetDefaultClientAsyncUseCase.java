@@ -0,0 +1,75 @@
+package com.meli.teamboardingBot.core.usecase.defaultclient;
+
+import com.meli.teamboardingBot.core.ports.auth.GetUserTokenPort;
+import com.meli.teamboardingBot.core.ports.auth.api.GetApiTokenPort;
+import com.meli.teamboardingBot.core.ports.auth.api.RefreshApiTokenPort;
+import com.meli.teamboardingBot.core.ports.defaultclient.GetDefaultClientAsyncPort;
+import com.meli.teamboardingBot.core.ports.defaultclient.PostDefaultClientAsyncPort;
+import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
+import com.meli.teamboardingBot.core.ports.rest.AsyncRestPort;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class GetDefaultClientAsyncUseCase extends DefaultClientAbstract implements GetDefaultClientAsyncPort, PostDefaultClientAsyncPort {
+
+    private final String apiUrl;
+
+    private final AsyncRestPort asyncRestPort;
+
+    private final RefreshApiTokenPort refreshApiToken;
+
+    public GetDefaultClientAsyncUseCase(LoggerApiPort logger, GetApiTokenPort authService, RefreshApiTokenPort refreshApiToken, GetUserTokenPort getUserTokenPort, String apiUrl, AsyncRestPort asyncRestPort) {
+        super(logger, authService, getUserTokenPort);
+        this.apiUrl = apiUrl;
+        this.asyncRestPort = asyncRestPort;
+        this.refreshApiToken = refreshApiToken;
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(String endpoint) {
+        String fullUrl = apiUrl + endpoint;
+        logger.info("GET async request to: {}", fullUrl);
+        return exchangeWithTokenRetry(currentToken -> asyncRestPort.getExchangeAsync(fullUrl, currentToken))
+                .whenComplete((body, error) -> {
+                    if (error != null) {
+                        logger.error("GET async request failed: {}", error.getMessage());
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(String endpoint, String queryParams) {
+        return getAsync(endpoint + "?" + queryParams);
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(String endpoint, String payload) {
+        String fullUrl = apiUrl + endpoint;
+        logger.info("POST async request to: {}", fullUrl);
+        return exchangeWithTokenRetry(currentToken -> asyncRestPort.postExchangeAsync(fullUrl, currentToken, payload))
+                .whenComplete((body, error) -> {
+                    if (error != null) {
+                        logger.error("POST async request failed: {}", error.getMessage());
+                    }
+                });
+    }
+
+    private CompletableFuture<String> exchangeWithTokenRetry(Function<String, CompletableFuture<String>> exchange) {
+        String token;
+        boolean usingApiToken;
+        try {
+            token = getAuthToken();
+            usingApiToken = isUsingApiToken();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return exchange.apply(token).exceptionallyCompose(error -> {
+            if (!usingApiToken || !isUnauthorized(error)) {
+                return CompletableFuture.failedFuture(error);
+            }
+            logger.warn("Token padrão recusado (401), renovando e repetindo a requisição");
+            return exchange.apply(refreshApiToken.refreshAuthToken(token).getAccessToken());
+        });
+    }
+}
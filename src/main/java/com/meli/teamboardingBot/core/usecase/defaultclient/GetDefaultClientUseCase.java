@@ -2,6 +2,7 @@ package com.meli.teamboardingBot.core.usecase.defaultclient;
 
 import com.meli.teamboardingBot.core.ports.auth.GetUserTokenPort;
 import com.meli.teamboardingBot.core.ports.auth.api.GetApiTokenPort;
+import com.meli.teamboardingBot.core.ports.auth.api.RefreshApiTokenPort;
 import com.meli.teamboardingBot.core.ports.defaultclient.GetDefaultClientPort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import com.meli.teamboardingBot.core.ports.rest.RestPort;
@@ -9,16 +10,21 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 
+import java.util.function.UnaryOperator;
+
 public class GetDefaultClientUseCase extends DefaultClientAbstract implements GetDefaultClientPort {
 
     private String apiUrl;
 
     private RestPort restPort;
 
-    public GetDefaultClientUseCase(LoggerApiPort logger, GetApiTokenPort authService, GetUserTokenPort getUserTokenPort, String apiUrl, RestPort restPort) {
+    private RefreshApiTokenPort refreshApiToken;
+
+    public GetDefaultClientUseCase(LoggerApiPort logger, GetApiTokenPort authService, RefreshApiTokenPort refreshApiToken, GetUserTokenPort getUserTokenPort, String apiUrl, RestPort restPort) {
         super(logger, authService, getUserTokenPort);
         this.apiUrl = apiUrl;
         this.restPort = restPort;
+        this.refreshApiToken = refreshApiToken;
     }
 
     @Override
@@ -27,7 +33,7 @@ public class GetDefaultClientUseCase extends DefaultClientAbstract implements Ge
         String fullUrl = apiUrl + endpoint;
         logger.info("GET request to: {}", fullUrl);
         try {
-            return restPort.getExchangeWithStringType(fullUrl, token);
+            return exchangeWithTokenRetry(token, currentToken -> restPort.getExchangeWithStringType(fullUrl, currentToken));
         } catch (Exception e) {
             logger.error("GET request failed: {}", e.getMessage());
             throw e;
@@ -40,7 +46,7 @@ public class GetDefaultClientUseCase extends DefaultClientAbstract implements Ge
         String fullUrl = apiUrl + endpoint;
 
         try {
-            return restPort.postExchange(fullUrl, token, payload);
+            return exchangeWithTokenRetry(token, currentToken -> restPort.postExchange(fullUrl, currentToken, payload));
 
         } catch (Exception e) {
             logger.error("POST request failed: {}", e.getMessage());
@@ -52,7 +58,7 @@ public class GetDefaultClientUseCase extends DefaultClientAbstract implements Ge
         String token = getAuthToken();
         String fullUrl = apiUrl + endpoint;
         try {
-            return  restPort.putExchange(fullUrl, token, payload);
+            return exchangeWithTokenRetry(token, currentToken -> restPort.putExchange(fullUrl, currentToken, payload));
         } catch (Exception e) {
 
             throw e;
@@ -66,6 +72,19 @@ public class GetDefaultClientUseCase extends DefaultClientAbstract implements Ge
         return get(fullEndpoint);
     }
 
+    private String exchangeWithTokenRetry(String token, UnaryOperator<String> exchange) {
+        try {
+            return exchange.apply(token);
+        } catch (RuntimeException e) {
+            if (!isUnauthorized(e) || !isUsingApiToken()) {
+                throw e;
+            }
+            logger.warn("Token padrão recusado (401), renovando e repetindo a requisição");
+            String refreshedToken = refreshApiToken.refreshAuthToken(token).getAccessToken();
+            return exchange.apply(refreshedToken);
+        }
+    }
+
 
 
 
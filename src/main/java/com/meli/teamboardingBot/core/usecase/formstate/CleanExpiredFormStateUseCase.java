@@ -2,20 +2,59 @@ package com.meli.teamboardingBot.core.usecase.formstate;
 
 import com.meli.teamboardingBot.core.ports.formstate.CleanFormStatePort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @Component
-public class CleanExpiredFormStateUseCase implements CleanFormStatePort {
+public class CleanExpiredFormStateUseCase implements CleanFormStatePort, DisposableBean {
 
     private final LoggerApiPort loggerApiPort;
+    private final FormStateManager formStateManager;
+    private final long sweepIntervalSeconds;
+    private final ScheduledExecutorService sweeper;
 
-    public CleanExpiredFormStateUseCase(LoggerApiPort loggerApiPort) {
+    public CleanExpiredFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager,
+                                        @Value("${session.sweep-interval-seconds:30}") long sweepIntervalSeconds) {
         this.loggerApiPort = loggerApiPort;
+        this.formStateManager = formStateManager;
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "formstate-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
     }
 
     @Override
     public void cleanExpiredStates() {
-        FormStateManager.cleanExpiredStates();
-        loggerApiPort.info("Limpeza de estados expirados executada");
+        int removed = formStateManager.cleanExpiredStates();
+        loggerApiPort.info("Limpeza de estados expirados executada: {} removidos", removed);
+    }
+
+    private void sweep() {
+        try {
+            int removed = formStateManager.cleanExpiredStates();
+            if (removed > 0) {
+                loggerApiPort.info("⏰ {} estados de formulário expirados removidos", removed);
+            }
+        } catch (RuntimeException e) {
+            loggerApiPort.error("Falha na limpeza de estados expirados: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
     }
 }
@@ -6,14 +6,16 @@ import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 public class ClearBatchStateUseCase implements ClearBatchStatePort {
 
     private final LoggerApiPort loggerApiPort;
+    private final BatchStateManager batchStateManager;
 
-    public ClearBatchStateUseCase(LoggerApiPort loggerApiPort) {
+    public ClearBatchStateUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.batchStateManager = batchStateManager;
     }
 
     @Override
     public void clearBatchState(String userId) {
-        BatchStateManager.clearBatchState(userId);
+        batchStateManager.clearBatchState(userId);
         loggerApiPort.info("Batch state limpo para usuário: {}", userId);
     }
 }
@@ -8,14 +8,16 @@ import org.springframework.stereotype.Component;
 public class DeleteFormStateUseCase implements DeleteFormStatePort {
 
     private final LoggerApiPort loggerApiPort;
+    private final FormStateManager formStateManager;
 
-    public DeleteFormStateUseCase(LoggerApiPort loggerApiPort) {
+    public DeleteFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.formStateManager = formStateManager;
     }
 
     @Override
     public void removeState(Long userId) {
-        FormStateManager.deleteState(userId);
+        formStateManager.deleteState(userId);
         loggerApiPort.info("Estado removido para usuário: {}", userId);
     }
 
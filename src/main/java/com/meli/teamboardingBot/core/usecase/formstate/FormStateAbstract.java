@@ -22,6 +22,6 @@ public class FormStateAbstract {
     }
 
     protected boolean isExpired(FormState state) {
-        return state.getLastActivity().isBefore(LocalDateTime.now().minusHours(EXPIRATION_HOURS));
+        return state.isIdleSince(LocalDateTime.now().minusHours(EXPIRATION_HOURS));
     }
 }
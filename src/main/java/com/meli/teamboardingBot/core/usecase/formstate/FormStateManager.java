@@ -1,48 +1,103 @@
 package com.meli.teamboardingBot.core.usecase.formstate;
 
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.ports.formstate.FormStateStore;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
+import java.util.function.Consumer;
 
 public class FormStateManager {
-    
-    private static final Map<Long, FormState> userStates = new ConcurrentHashMap<>();
-    private static final int EXPIRATION_HOURS = 2;
-    
-    private FormStateManager() {
-    }
-    
-    public static FormState getState(Long userId) {
-        FormState state = userStates.get(userId);
-        if (state != null && isExpired(state)) {
-            userStates.remove(userId);
-            return null;
+
+    private final FormStateStore store;
+    private final Duration ttl;
+
+    public FormStateManager(FormStateStore store, Duration ttl) {
+        this.store = store;
+        this.ttl = ttl;
+    }
+
+    public FormState getState(Long userId) {
+        return store.getFormState(userId);
+    }
+
+    public FormState getOrCreateState(Long userId, Locale locale) {
+        while (true) {
+            FormState state = getState(userId);
+            if (state != null) {
+                return state;
+            }
+            FormState created = FormState.initial(locale);
+            if (store.compareAndSetFormState(userId, null, created)) {
+                return created;
+            }
         }
-        return state;
     }
-    
-    public static void updateState(Long userId, FormState state) {
-        if (state != null) {
-            state.setLastActivity(LocalDateTime.now());
-            userStates.put(userId, state);
+
+    public FormState commit(Long userId, FormDraft draft) {
+        return commit(userId, draft, false);
+    }
+
+    public FormState commit(Long userId, FormDraft draft, boolean recreateIfDeleted) {
+        if (!draft.isDirty()) {
+            FormState latest = store.getFormState(userId);
+            if (latest != null) {
+                draft.committed(latest);
+                return latest;
+            }
+            if (!recreateIfDeleted) {
+                return null;
+            }
+        }
+        FormState current = draft.getBase();
+        while (true) {
+            if (current == null && !recreateIfDeleted) {
+                return null;
+            }
+            FormState updated = draft.rebaseOnto(current, LocalDateTime.now());
+            if (store.compareAndSetFormState(userId, current, updated)) {
+                draft.committed(updated);
+                return updated;
+            }
+            current = store.getFormState(userId);
+        }
+    }
+
+    public FormState update(Long userId, Consumer<FormDraft> mutation) {
+        while (true) {
+            FormState current = getState(userId);
+            if (current == null) {
+                return null;
+            }
+            FormDraft draft = current.edit();
+            mutation.accept(draft);
+            if (!draft.isDirty()) {
+                return current;
+            }
+            FormState updated = draft.rebaseOnto(current, LocalDateTime.now());
+            if (store.compareAndSetFormState(userId, current, updated)) {
+                return updated;
+            }
         }
     }
-    
-    public static void deleteState(Long userId) {
-        userStates.remove(userId);
+
+    public void deleteState(Long userId) {
+        store.removeFormState(userId);
     }
-    
-    public static void resetState(Long userId) {
-        userStates.remove(userId);
+
+    public void resetState(Long userId) {
+        deleteState(userId);
     }
-    
-    public static void cleanExpiredStates() {
-        userStates.entrySet().removeIf(entry -> isExpired(entry.getValue()));
+
+    public int cleanExpiredStates() {
+        return store.removeFormStatesIdleFor(ttl);
     }
-    
-    private static boolean isExpired(FormState state) {
-        return state.getLastActivity().isBefore(LocalDateTime.now().minusHours(EXPIRATION_HOURS));
+
+    // Persisted states only carry wall-clock activity; the monotonic idle clock restarts with the process.
+    public void discardStatesExpiredBeforeStartup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        store.removeFormStatesIf(state -> state.isIdleSince(cutoff));
     }
 }
@@ -6,14 +6,16 @@ import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 public class GetBatchCurrentIndexUseCase implements GetBatchCurrentIndexPort {
 
     private final LoggerApiPort loggerApiPort;
+    private final BatchStateManager batchStateManager;
 
-    public GetBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort) {
+    public GetBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.batchStateManager = batchStateManager;
     }
 
     @Override
     public int getBatchCurrentIndex(String userId) {
-        Integer index = BatchStateManager.getBatchCurrentIndex(userId);
+        Integer index = batchStateManager.getBatchCurrentIndex(userId);
         return index != null ? index : 0;
     }
 
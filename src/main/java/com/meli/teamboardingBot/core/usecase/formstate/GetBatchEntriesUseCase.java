@@ -9,14 +9,16 @@ import java.util.List;
 public class GetBatchEntriesUseCase implements GetBatchEntriesPort {
 
     private final LoggerApiPort loggerApiPort;
+    private final BatchStateManager batchStateManager;
 
-    public GetBatchEntriesUseCase(LoggerApiPort loggerApiPort) {
+    public GetBatchEntriesUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.batchStateManager = batchStateManager;
     }
 
     @Override
     public List<BatchLogEntry> getBatchEntries(String userId) {
-        return BatchStateManager.getBatchEntries(userId);
+        return batchStateManager.getBatchEntries(userId);
     }
 
 }
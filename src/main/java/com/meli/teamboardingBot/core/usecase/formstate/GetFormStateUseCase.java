@@ -1,5 +1,6 @@
 package com.meli.teamboardingBot.core.usecase.formstate;
 
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.domain.FormState;
 import com.meli.teamboardingBot.core.ports.formstate.GetFormStatePort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
@@ -9,17 +10,20 @@ import org.springframework.stereotype.Component;
 public class GetFormStateUseCase implements GetFormStatePort {
 
     private final LoggerApiPort loggerApiPort;
+    private final FormStateManager formStateManager;
 
-    public GetFormStateUseCase(LoggerApiPort loggerApiPort) {
+    public GetFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.formStateManager = formStateManager;
     }
 
     @Override
-    public FormState getState(Long userId) {
-        FormState state = FormStateManager.getState(userId);
+    public FormDraft getState(Long userId) {
+        FormState state = formStateManager.getState(userId);
         if (state == null) {
             loggerApiPort.info("Estado não encontrado ou expirado para usuário: {}", userId);
+            return null;
         }
-        return state;
+        return state.edit();
     }
 }
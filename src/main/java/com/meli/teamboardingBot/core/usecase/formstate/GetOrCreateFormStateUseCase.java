@@ -1,5 +1,6 @@
 package com.meli.teamboardingBot.core.usecase.formstate;
 
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.domain.FormState;
 import com.meli.teamboardingBot.core.ports.formstate.GetOrCreateFormStatePort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
@@ -12,24 +13,22 @@ import java.util.Locale;
 public class GetOrCreateFormStateUseCase implements GetOrCreateFormStatePort {
 
     private final LoggerApiPort loggerApiPort;
+    private final FormStateManager formStateManager;
     private final UserLanguageService userLanguageService;
 
-    public GetOrCreateFormStateUseCase(LoggerApiPort loggerApiPort, UserLanguageService userLanguageService) {
+    public GetOrCreateFormStateUseCase(LoggerApiPort loggerApiPort, UserLanguageService userLanguageService, FormStateManager formStateManager) {
         this.loggerApiPort = loggerApiPort;
         this.userLanguageService = userLanguageService;
+        this.formStateManager = formStateManager;
     }
 
     @Override
-    public FormState getOrCreateState(Long userId) {
-        FormState state = FormStateManager.getState(userId);
+    public FormDraft getOrCreateState(Long userId) {
+        FormState state = formStateManager.getState(userId);
         if (state == null) {
-            state = new FormState();
             Locale userLocale = userLanguageService.getUserLanguagePreference(String.valueOf(userId));
-            if (userLocale != null) {
-                state.setLocale(userLocale);
-            }
-            FormStateManager.updateState(userId, state);
+            state = formStateManager.getOrCreateState(userId, userLocale);
         }
-        return state;
+        return state.edit();
     }
 }
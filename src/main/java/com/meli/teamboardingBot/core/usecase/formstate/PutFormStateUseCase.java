@@ -1,22 +1,51 @@
 package com.meli.teamboardingBot.core.usecase.formstate;
 
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.domain.FormState;
 import com.meli.teamboardingBot.core.ports.formstate.PutFormStatePort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Consumer;
+
 @Component
 public class PutFormStateUseCase implements PutFormStatePort {
 
     private final LoggerApiPort loggerApiPort;
+    private final FormStateManager formStateManager;
 
-    public PutFormStateUseCase(LoggerApiPort loggerApiPort) {
+    public PutFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.formStateManager = formStateManager;
+    }
+
+    @Override
+    public void updateState(Long userId, FormDraft state) {
+        updateState(userId, state, false);
+    }
+
+    @Override
+    public void updateState(Long userId, FormDraft state, boolean recreateIfDeleted) {
+        if (state == null) {
+            return;
+        }
+        long baseVersion = state.getVersion();
+        FormState committed = formStateManager.commit(userId, state, recreateIfDeleted);
+        if (committed == null) {
+            loggerApiPort.info("Estado removido durante a interação, nada a gravar para usuário: {}", userId);
+        } else if (committed.version() != baseVersion + 1) {
+            loggerApiPort.info("Estado atualizado para usuário: {} (conflito resolvido, versão {} -> {})", userId, baseVersion, committed.version());
+        } else {
+            loggerApiPort.info("Estado atualizado para usuário: {}", userId);
+        }
     }
 
     @Override
-    public void updateState(Long userId, FormState state) {
-        FormStateManager.updateState(userId, state);
-        loggerApiPort.info("Estado atualizado para usuário: {}", userId);
+    public FormState updateState(Long userId, Consumer<FormDraft> mutation) {
+        FormState committed = formStateManager.update(userId, mutation);
+        if (committed != null) {
+            loggerApiPort.info("Estado atualizado para usuário: {}", userId);
+        }
+        return committed;
     }
 }
@@ -1,6 +1,6 @@
 package com.meli.teamboardingBot.core.usecase.formstate;
 
-import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.FormDraft;
 import com.meli.teamboardingBot.core.ports.formstate.ResetFormStatePort;
 import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 import org.springframework.stereotype.Component;
@@ -9,17 +9,16 @@ import org.springframework.stereotype.Component;
 public class ResetFormStateUseCase implements ResetFormStatePort {
 
     private final LoggerApiPort loggerApiPort;
+    private final FormStateManager formStateManager;
 
-    public ResetFormStateUseCase(LoggerApiPort loggerApiPort) {
+    public ResetFormStateUseCase(LoggerApiPort loggerApiPort, FormStateManager formStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.formStateManager = formStateManager;
     }
 
     @Override
     public void resetState(Long userId) {
-        FormState state = FormStateManager.getState(userId);
-        if (state != null) {
-            state.reset();
-            FormStateManager.updateState(userId, state);
+        if (formStateManager.update(userId, FormDraft::reset) != null) {
             loggerApiPort.info("Estado resetado para usuário: {}", userId);
         }
     }
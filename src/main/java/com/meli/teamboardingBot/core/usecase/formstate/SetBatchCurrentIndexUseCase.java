@@ -6,14 +6,16 @@ import com.meli.teamboardingBot.core.ports.logger.LoggerApiPort;
 public class SetBatchCurrentIndexUseCase implements SetBatchCurrentIndexPort {
 
     private final LoggerApiPort loggerApiPort;
+    private final BatchStateManager batchStateManager;
 
-    public SetBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort) {
+    public SetBatchCurrentIndexUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.batchStateManager = batchStateManager;
     }
 
     @Override
     public void setBatchCurrentIndex(String userId, int index) {
-        BatchStateManager.setBatchCurrentIndex(userId, index);
+        batchStateManager.setBatchCurrentIndex(userId, index);
         loggerApiPort.info("Batch index atualizado para usuário: {} - index: {}", userId, index);
     }
 
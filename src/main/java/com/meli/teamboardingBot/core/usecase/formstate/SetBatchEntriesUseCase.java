@@ -9,14 +9,16 @@ import java.util.List;
 public class SetBatchEntriesUseCase implements SetBatchEntriesPort {
 
     private final LoggerApiPort loggerApiPort;
+    private final BatchStateManager batchStateManager;
 
-    public SetBatchEntriesUseCase(LoggerApiPort loggerApiPort) {
+    public SetBatchEntriesUseCase(LoggerApiPort loggerApiPort, BatchStateManager batchStateManager) {
         this.loggerApiPort = loggerApiPort;
+        this.batchStateManager = batchStateManager;
     }
 
     @Override
     public void setBatchEntries(String userId, List<BatchLogEntry> entries) {
-        BatchStateManager.setBatchEntries(userId, entries);
+        batchStateManager.setBatchEntries(userId, entries);
         loggerApiPort.info("Batch entries definidas para usuário: {} - {} entradas", userId, entries != null ? entries.size() : 0);
     }
 
@@ -0,0 +1,100 @@
+package com.meli.teamboardingBot.adapters.in.listener;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ComponentRouterTest {
+
+	@Test
+	void routesExactIds() {
+		ComponentRouter<String> router = ComponentRouter.<String>builder("button")
+				.exact("criar", "Crud", "create")
+				.exact("atualizar", "Crud", "update")
+				.build();
+
+		assertThat(router.route("criar")).isEqualTo("create");
+		assertThat(router.route("atualizar")).isEqualTo("update");
+		assertThat(router.route("criar-2")).isNull();
+		assertThat(router.route("")).isNull();
+		assertThat(router.size()).isEqualTo(2);
+	}
+
+	@Test
+	void routesByPrefix() {
+		ComponentRouter<String> router = ComponentRouter.<String>builder("button")
+				.prefix("voltar:", "Crud", "back")
+				.prefix("avancar:", "Crud", "next")
+				.build();
+
+		assertThat(router.route("voltar:1:abc:def")).isEqualTo("back");
+		assertThat(router.route("avancar:")).isEqualTo("next");
+		assertThat(router.route("voltar")).isNull();
+		assertThat(router.route("other")).isNull();
+		assertThat(router.size()).isEqualTo(2);
+	}
+
+	@Test
+	void exactIdWinsOverPrefixAndLongestPrefixWins() {
+		ComponentRouter<String> router = ComponentRouter.<String>builder("button")
+				.prefix("batch-", "Batch", "batch")
+				.prefix("batch-edit-", "Batch", "batch-edit")
+				.exact("batch-edit-squad", "Batch", "edit-squad")
+				.build();
+
+		assertThat(router.route("batch-edit-squad")).isEqualTo("edit-squad");
+		assertThat(router.route("batch-edit-type")).isEqualTo("batch-edit");
+		assertThat(router.route("batch-edit-")).isEqualTo("batch-edit");
+		assertThat(router.route("batch-edit")).isEqualTo("batch");
+		assertThat(router.route("batch-next:3")).isEqualTo("batch");
+		assertThat(router.route("batch")).isNull();
+	}
+
+	@Test
+	void rejectsDuplicateExactIds() {
+		ComponentRouter.Builder<String> builder = ComponentRouter.<String>builder("button")
+				.exact("sair", "Crud", "exit");
+
+		assertThatThrownBy(() -> builder.exact("sair", "Status", "close"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("sair")
+				.hasMessageContaining("Crud")
+				.hasMessageContaining("Status");
+	}
+
+	@Test
+	void rejectsDuplicateAndEmptyPrefixes() {
+		ComponentRouter.Builder<String> builder = ComponentRouter.<String>builder("button")
+				.prefix("lang-", "Language", "language");
+
+		assertThatThrownBy(() -> builder.prefix("lang-", "Language", "again"))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> builder.prefix("", "Language", "empty"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void rejectsOverlappingPrefixesFromDifferentOwners() {
+		ComponentRouter.Builder<String> builder = ComponentRouter.<String>builder("button")
+				.prefix("batch-", "Batch", "batch")
+				.prefix("batch-edit-", "Field", "field");
+
+		assertThatThrownBy(builder::build)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("batch-edit-")
+				.hasMessageContaining("Batch")
+				.hasMessageContaining("Field");
+	}
+
+	@Test
+	void rejectsExactIdShadowedByAnotherOwnersPrefix() {
+		ComponentRouter.Builder<String> builder = ComponentRouter.<String>builder("button")
+				.prefix("batch-", "Batch", "batch")
+				.exact("batch-help", "Help", "help");
+
+		assertThatThrownBy(builder::build)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("batch-help");
+	}
+}
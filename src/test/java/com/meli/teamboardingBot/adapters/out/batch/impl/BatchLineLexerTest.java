@@ -0,0 +1,59 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.impl.BatchLineLexer.Token;
+import com.meli.teamboardingBot.adapters.out.batch.impl.BatchLineLexer.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchLineLexerTest {
+
+	@Test
+	void splitsDashedLineIntoTrimmedTextDashAndDateTokens() {
+		String line = "Squad Ágil -  João Silva - Mentoria - Java, Spring - 01-02-2025";
+
+		List<Token> tokens = BatchLineLexer.tokenize(line);
+
+		assertThat(tokens).extracting(Token::type).containsExactly(
+				TokenType.TEXT, TokenType.DASH, TokenType.TEXT, TokenType.DASH, TokenType.TEXT,
+				TokenType.DASH, TokenType.TEXT, TokenType.DASH, TokenType.DATE);
+		assertThat(tokens).extracting(Token::text).containsExactly(
+				"Squad Ágil", "-", "João Silva", "-", "Mentoria", "-", "Java, Spring", "-", "01-02-2025");
+		Token person = tokens.get(2);
+		assertThat(line.substring(person.start(), person.end())).isEqualTo("João Silva");
+	}
+
+	@Test
+	void normalizesSlashDatesAndKeepsTheirHyphensOutOfDashTokens() {
+		List<Token> tokens = BatchLineLexer.tokenize("01/02/2025 a 15-02-2025");
+
+		assertThat(tokens).extracting(Token::type).containsExactly(TokenType.DATE, TokenType.TEXT, TokenType.DATE);
+		assertThat(tokens).extracting(Token::text).containsExactly("01-02-2025", "a", "15-02-2025");
+	}
+
+	@Test
+	void rejectsDatesGluedToOtherCharacters() {
+		assertThat(BatchLineLexer.isDateAt("01-02-2025", 0)).isTrue();
+		assertThat(BatchLineLexer.isDateAt("x01-02-2025", 1)).isFalse();
+		assertThat(BatchLineLexer.isDateAt("901-02-2025", 1)).isFalse();
+		assertThat(BatchLineLexer.isDateAt("01-02-20251", 0)).isFalse();
+		assertThat(BatchLineLexer.isDateAt("01-02-202", 0)).isFalse();
+		assertThat(BatchLineLexer.isDateAt("01.02.2025", 0)).isFalse();
+		assertThat(BatchLineLexer.isDateAt("(01-02-2025)", 1)).isTrue();
+	}
+
+	@Test
+	void keepsQuotesInsideTextButStillSplitsOnDashes() {
+		List<Token> tokens = BatchLineLexer.tokenize("\"Squad A\" - \"Ana-Paula\"");
+
+		assertThat(tokens).extracting(Token::text).containsExactly("\"Squad A\"", "-", "\"Ana", "-", "Paula\"");
+	}
+
+	@Test
+	void blankLineHasNoTokens() {
+		assertThat(BatchLineLexer.tokenize("")).isEmpty();
+		assertThat(BatchLineLexer.tokenize("   \t ")).isEmpty();
+	}
+}
@@ -0,0 +1,124 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.batch.TextParser;
+import com.meli.teamboardingBot.core.domain.batch.BatchLineDiagnostic;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
+import com.meli.teamboardingBot.core.domain.batch.BatchTextFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompositeTextParserTest {
+
+	private static final List<String> LINES = List.of("l1", "l2", "l3", "l4");
+
+	@Test
+	void prefersTheParserThatParsesMoreLines() {
+		StubParser partial = new StubParser(1, 4);
+		StubParser complete = new StubParser(4, 4);
+		CompositeTextParser parser = composite(partial, complete);
+
+		BatchParseReport report = parser.parseLines(LINES);
+
+		assertThat(report.getEntries()).hasSize(4);
+		assertThat(report.getFailures()).isEmpty();
+		assertThat(partial.calls.get()).isEqualTo(1);
+		assertThat(complete.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void stopsAtTheFirstParserWithoutFailures() {
+		StubParser complete = new StubParser(4, 4);
+		StubParser other = new StubParser(4, 4);
+		CompositeTextParser parser = composite(complete, other);
+
+		BatchParseReport report = parser.parseLines(LINES);
+
+		assertThat(report.getEntries()).hasSize(4);
+		assertThat(other.calls.get()).isZero();
+	}
+
+	@Test
+	void keepsRouteOrderOnTies() {
+		StubParser first = new StubParser(2, 4);
+		StubParser second = new StubParser(2, 4);
+		CompositeTextParser parser = composite(first, second);
+
+		BatchParseReport report = parser.parseLines(LINES);
+
+		assertThat(report).isSameAs(first.last);
+	}
+
+	@Test
+	void fallsBackToDiagnosticsWhenNothingParses() {
+		StubParser silent = new StubParser(0, 0);
+		StubParser diagnosing = new StubParser(0, 4);
+		CompositeTextParser parser = composite(silent, diagnosing);
+
+		BatchParseReport report = parser.parseLines(LINES);
+
+		assertThat(report.getEntries()).isEmpty();
+		assertThat(report.getFailures()).hasSize(4);
+	}
+
+	private static CompositeTextParser composite(TextParser... parsers) {
+		List<CompositeTextParser.Route> routes = new ArrayList<>();
+		for (int i = 0; i < parsers.length; i++) {
+			routes.add(CompositeTextParser.route("stub-" + i, parsers[i], BatchTextFormat.values()));
+		}
+		return new CompositeTextParser(new SimpleMeterRegistry(), routes);
+	}
+
+	private static final class StubParser implements TextParser {
+
+		private final int parsed;
+		private final int diagnosed;
+		private final AtomicInteger calls = new AtomicInteger();
+		private BatchParseReport last;
+
+		private StubParser(int parsed, int diagnosed) {
+			this.parsed = parsed;
+			this.diagnosed = diagnosed;
+		}
+
+		@Override
+		public BatchParseReport parseLines(List<String> lines) {
+			calls.incrementAndGet();
+			List<BatchLogEntry> entries = new ArrayList<>();
+			List<BatchLineDiagnostic> diagnostics = new ArrayList<>();
+			for (int line = 1; line <= diagnosed; line++) {
+				if (line <= parsed) {
+					BatchLogEntry entry = new BatchLogEntry();
+					entry.setLineNumber(line);
+					entries.add(entry);
+					diagnostics.add(BatchLineDiagnostic.parsed(line, "stub"));
+				} else {
+					diagnostics.add(BatchLineDiagnostic.failed(line, "stub", "falhou"));
+				}
+			}
+			last = new BatchParseReport(entries, diagnostics);
+			return last;
+		}
+
+		@Override
+		public List<BatchLogEntry> parseText(String inputText) {
+			return parseLines(List.of(inputText.split("\n"))).getEntries();
+		}
+
+		@Override
+		public boolean canParse(String inputText) {
+			return true;
+		}
+
+		@Override
+		public String getParserName() {
+			return "stub";
+		}
+	}
+}
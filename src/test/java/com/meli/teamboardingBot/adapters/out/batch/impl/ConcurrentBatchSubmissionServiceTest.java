@@ -0,0 +1,152 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.adapters.out.client.SquadLogService;
+import com.meli.teamboardingBot.core.context.UserContext;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchSubmissionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrentBatchSubmissionServiceTest {
+
+	private SquadLogService squadLogService;
+	private InMemorySubmissionLedger ledger;
+	private ConcurrentBatchSubmissionService service;
+
+	@BeforeEach
+	void setUp() {
+		squadLogService = mock(SquadLogService.class);
+		ledger = new InMemorySubmissionLedger(1440, 60);
+		ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasename("messages");
+		messageSource.setDefaultEncoding("UTF-8");
+		messageSource.setFallbackToSystemLocale(false);
+		service = new ConcurrentBatchSubmissionService(squadLogService, ledger, messageSource, 4, 2, 3, 1, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.destroy();
+	}
+
+	@Test
+	void classifiesWrappedStatusErrors() {
+		assertThat(ConcurrentBatchSubmissionService.neverReachedServer(wrapped(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)))).isTrue();
+		assertThat(ConcurrentBatchSubmissionService.neverReachedServer(wrapped(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)))).isTrue();
+		assertThat(ConcurrentBatchSubmissionService.neverReachedServer(new CompletionException(wrapped(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))))).isTrue();
+		assertThat(ConcurrentBatchSubmissionService.neverReachedServer(new ResourceAccessException("I/O", new ConnectException("refused")))).isTrue();
+
+		for (HttpStatus status : List.of(HttpStatus.BAD_REQUEST, HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN, HttpStatus.UNPROCESSABLE_ENTITY)) {
+			RuntimeException error = wrapped(new HttpClientErrorException(status));
+			assertThat(ConcurrentBatchSubmissionService.neverReachedServer(error)).as("%s", status).isFalse();
+			assertThat(ConcurrentBatchSubmissionService.rejectedByServer(error)).as("%s", status).isTrue();
+		}
+
+		RuntimeException serverError = wrapped(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+		assertThat(ConcurrentBatchSubmissionService.neverReachedServer(serverError)).isFalse();
+		assertThat(ConcurrentBatchSubmissionService.rejectedByServer(serverError)).isFalse();
+		assertThat(ConcurrentBatchSubmissionService.rejectedByServer(new IllegalStateException("timeout"))).isFalse();
+	}
+
+	@Test
+	void retriesWrappedServiceUnavailableAndTooManyRequests() {
+		when(squadLogService.createSquadLog(anyString()))
+				.thenThrow(wrapped(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)))
+				.thenThrow(wrapped(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)))
+				.thenReturn(ResponseEntity.ok("{\"id\": 77}"));
+		BatchLogEntry entry = entry(1);
+
+		BatchSubmissionResult result = submit(entry);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getAttempts()).isEqualTo(3);
+		assertThat(ledger.findCreated(ledger.fingerprint(entry))).contains("77");
+	}
+
+	@Test
+	void clientRejectionFailsOnceAndLeavesRowResubmittable() {
+		when(squadLogService.createSquadLog(anyString()))
+				.thenThrow(wrapped(new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY)));
+		BatchLogEntry entry = entry(2);
+
+		BatchSubmissionResult result = submit(entry);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.isUncertain()).isFalse();
+		assertThat(result.getAttempts()).isEqualTo(1);
+		assertThat(ledger.isUnknown(ledger.fingerprint(entry))).isFalse();
+		assertThat(ledger.reserve(ledger.fingerprint(entry))).isTrue();
+	}
+
+	@Test
+	void ambiguousErrorIsRecordedAndNotResent() {
+		when(squadLogService.createSquadLog(anyString()))
+				.thenThrow(wrapped(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)));
+		BatchLogEntry entry = entry(3);
+
+		BatchSubmissionResult first = submit(entry);
+		BatchSubmissionResult second = submit(entry);
+
+		assertThat(first.isUncertain()).isTrue();
+		assertThat(first.getAttempts()).isEqualTo(1);
+		assertThat(second.isUncertain()).isTrue();
+		assertThat(second.getAttempts()).isZero();
+		assertThat(second.getErrorMessage()).startsWith("envio anterior sem confirmação");
+		verify(squadLogService, times(1)).createSquadLog(anyString());
+	}
+
+	@Test
+	void successfulRowIsReportedAsDuplicateOnResubmission() {
+		when(squadLogService.createSquadLog(anyString())).thenReturn(ResponseEntity.ok("{\"id\": 5}"));
+		BatchLogEntry entry = entry(4);
+
+		submit(entry);
+		BatchSubmissionResult again = submit(entry);
+
+		assertThat(again.isDuplicate()).isTrue();
+		assertThat(again.getResponse()).isEqualTo("5");
+		verify(squadLogService, times(1)).createSquadLog(anyString());
+	}
+
+	private BatchSubmissionResult submit(BatchLogEntry entry) {
+		List<BatchSubmissionResult> results = UserContext.of("42", Locale.forLanguageTag("pt-BR"), null)
+				.call(() -> service.submitAll("42", List.of(entry), ignored -> "{}", null).join());
+		assertThat(results).hasSize(1);
+		return results.get(0);
+	}
+
+	private static RuntimeException wrapped(HttpStatusCodeException e) {
+		return new RuntimeException("HTTP Error " + e.getStatusCode() + ": " + e.getResponseBodyAsString(), e);
+	}
+
+	private static BatchLogEntry entry(int line) {
+		BatchLogEntry entry = new BatchLogEntry("Core", "Ana", "Pair", List.of("Java"), "desc " + line,
+				LocalDate.of(2025, 1, line), null, line);
+		entry.setSquadId(1L);
+		entry.setUserId(2L);
+		entry.setTypeId(3L);
+		entry.setCategoryIds(List.of(4L));
+		return entry;
+	}
+}
@@ -0,0 +1,108 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import com.meli.teamboardingBot.core.domain.batch.BatchLineDiagnostic;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.batch.BatchParseReport;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntelligentTextParsingServiceTest {
+
+	private final IntelligentTextParsingService parser = new IntelligentTextParsingService();
+
+	@Test
+	void parsesDashedLineWithRangeAndDescriptionContainingDashes() {
+		BatchParseReport report = parser.parseWithDiagnostics(
+				"squad ágil - joão  silva - mentoria - Java, Spring e Docker - 01/02/2025 até 15-02-2025 - revisão - parte 2");
+
+		assertThat(report.getFailures()).isEmpty();
+		assertThat(report.getEntries()).hasSize(1);
+		BatchLogEntry entry = report.getEntries().get(0);
+		assertThat(entry.getSquadName()).isEqualTo("Squad Agil");
+		assertThat(entry.getPersonName()).isEqualTo("Joao Silva");
+		assertThat(entry.getLogType()).isEqualTo("Mentoria");
+		assertThat(entry.getCategories()).containsExactly("Java", "Spring", "Docker");
+		assertThat(entry.getStartDate()).isEqualTo(LocalDate.of(2025, 2, 1));
+		assertThat(entry.getEndDate()).isEqualTo(LocalDate.of(2025, 2, 15));
+		assertThat(entry.getDescription()).isEqualTo("revisão - parte 2");
+		assertThat(entry.getLineNumber()).isEqualTo(1);
+	}
+
+	@Test
+	void parsesNaturalLine() {
+		BatchParseReport report = parser.parseWithDiagnostics(
+				"Maria Souza da squad Core fazendo Pair Programming sobre Java; Kafka em 03-03-2025 a 04-03-2025");
+
+		assertThat(report.getEntries()).hasSize(1);
+		BatchLogEntry entry = report.getEntries().get(0);
+		assertThat(entry.getPersonName()).isEqualTo("Maria Souza");
+		assertThat(entry.getSquadName()).isEqualTo("Core");
+		assertThat(entry.getLogType()).isEqualTo("Pair Programming");
+		assertThat(entry.getCategories()).containsExactly("Java", "Kafka");
+		assertThat(entry.getStartDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+		assertThat(entry.getEndDate()).isEqualTo(LocalDate.of(2025, 3, 4));
+		assertThat(entry.getDescription()).isEqualTo("Log de Pair Programming para Maria Souza");
+	}
+
+	@Test
+	void reportsWhichFieldIsMissing() {
+		BatchParseReport report = parser.parseWithDiagnostics(String.join("\n",
+				"Squad -  - Tipo - Cat - 01-02-2025",
+				"",
+				"Squad - Pessoa - Tipo - Cat - 2025",
+				"texto livre sem data"));
+
+		assertThat(report.getEntries()).isEmpty();
+		assertThat(report.getDiagnostics()).extracting(BatchLineDiagnostic::getLineNumber).containsExactly(1, 3, 4);
+		assertThat(report.getFailures()).extracting(BatchLineDiagnostic::getMessage).containsExactly(
+				"campo 'pessoa' vazio",
+				"data de início ausente ou fora do formato dd-MM-aaaa",
+				"formato não reconhecido (use 'Squad - Pessoa - Tipo - Categorias - dd-MM-aaaa')");
+		assertThat(report.getDiagnostics().get(2).isRecognized()).isFalse();
+	}
+
+	@Test
+	void parallelPathKeepsLineOrderAndMatchesSequentialResults() {
+		List<String> lines = new ArrayList<>();
+		for (int i = 1; i <= 450; i++) {
+			lines.add(i % 7 == 0
+					? "linha inválida " + i
+					: "Squad " + i + " - Pessoa " + i + " - Tipo - Cat - " + String.format("%02d-01-2025", i % 28 + 1));
+		}
+
+		BatchParseReport parallel = parser.parseLines(lines);
+
+		assertThat(parallel.getDiagnostics()).hasSize(450);
+		assertThat(parallel.getDiagnostics()).extracting(BatchLineDiagnostic::getLineNumber).isSorted();
+		assertThat(parallel.getEntries()).extracting(BatchLogEntry::getLineNumber).isSorted();
+		assertThat(parallel.getFailures()).hasSize(450 / 7);
+		int next = 0;
+		for (int i = 0; i < lines.size(); i++) {
+			BatchParseReport single = parser.parseLines(List.of(lines.get(i)));
+			assertThat(parallel.getDiagnostics().get(i).isParsed()).isEqualTo(single.getFailures().isEmpty());
+			if (single.getEntries().isEmpty()) {
+				continue;
+			}
+			BatchLogEntry expected = single.getEntries().get(0);
+			BatchLogEntry actual = parallel.getEntries().get(next++);
+			assertThat(actual.getLineNumber()).isEqualTo(i + 1);
+			assertThat(actual.getSquadName()).isEqualTo(expected.getSquadName());
+			assertThat(actual.getPersonName()).isEqualTo(expected.getPersonName());
+			assertThat(actual.getStartDate()).isEqualTo(expected.getStartDate());
+		}
+		assertThat(next).isEqualTo(parallel.getEntries().size());
+	}
+
+	@Test
+	void canParseRecognizesEitherFormat() {
+		assertThat(parser.canParse("a - b - c - d - 01-01-2025")).isTrue();
+		assertThat(parser.canParse("Ana da squad X fazendo Y sobre Z em 01/01/2025")).isTrue();
+		assertThat(parser.canParse("a - b - c")).isFalse();
+		assertThat(parser.canParse("  \n ")).isFalse();
+	}
+}
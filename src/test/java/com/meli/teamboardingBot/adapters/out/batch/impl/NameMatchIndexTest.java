@@ -0,0 +1,192 @@
+package com.meli.teamboardingBot.adapters.out.batch.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameMatchIndexTest {
+
+	private static final String[] SYLLABLES = {"an", "ana", "jo", "joão", "ma", "ria", "pe", "dro", "lu", "íz", "ca", "rol", "a", "b", "ão"};
+
+	@Test
+	void boundedDistanceMatchesFullLevenshteinInsideTheBand() {
+		Random random = new Random(11);
+		for (int round = 0; round < 5_000; round++) {
+			String source = randomWord(random);
+			String target = randomWord(random);
+			int[] previousRow = new int[target.length() + 1];
+			int[] currentRow = new int[target.length() + 1];
+			int expected = levenshtein(source, target);
+			int limit = random.nextInt(expected + 3);
+
+			int actual = NameMatchIndex.boundedDistance(source, target, limit, previousRow, currentRow);
+
+			if (expected <= limit) {
+				assertThat(actual).as("%s -> %s (limite %d)", source, target, limit).isEqualTo(expected);
+			} else {
+				assertThat(actual).as("%s -> %s (limite %d)", source, target, limit).isGreaterThan(limit);
+			}
+		}
+	}
+
+	@Test
+	void boundedDistanceHandlesEmptyAndExactBoundaries() {
+		int[] previousRow = new int[8];
+		int[] currentRow = new int[8];
+
+		assertThat(NameMatchIndex.boundedDistance("", "", 0, previousRow, currentRow)).isZero();
+		assertThat(NameMatchIndex.boundedDistance("", "abc", 3, previousRow, currentRow)).isEqualTo(3);
+		assertThat(NameMatchIndex.boundedDistance("", "abc", 2, previousRow, currentRow)).isGreaterThan(2);
+		assertThat(NameMatchIndex.boundedDistance("kitten", "sitting", 3, previousRow, currentRow)).isEqualTo(3);
+		assertThat(NameMatchIndex.boundedDistance("kitten", "sitting", 2, previousRow, currentRow)).isGreaterThan(2);
+		assertThat(NameMatchIndex.boundedDistance("abc", "abc", 0, previousRow, currentRow)).isZero();
+	}
+
+	@Test
+	void findBestMatchAgreesWithTheLinearMatcher() {
+		Random random = new Random(7);
+		for (int round = 0; round < 500; round++) {
+			Map<String, Long> source = randomKeys(random);
+			NameMatchIndex<Long> index = new NameMatchIndex<>(source);
+			for (int query = 0; query < 20; query++) {
+				String input = randomQuery(random, source);
+
+				assertThat(index.findBestMatch(input))
+						.as("consulta '%s' em %s", input, source.keySet())
+						.isEqualTo(referenceBestMatch(input, source));
+			}
+		}
+	}
+
+	@Test
+	void findTokenPrefixMatchesAgreesWithTheLinearMatcher() {
+		Random random = new Random(13);
+		for (int round = 0; round < 500; round++) {
+			Map<String, Long> source = randomKeys(random);
+			NameMatchIndex<Long> index = new NameMatchIndex<>(source);
+			for (int query = 0; query < 20; query++) {
+				String input = randomQuery(random, source);
+
+				assertThat(index.findTokenPrefixMatches(input))
+						.as("consulta '%s' em %s", input, source.keySet())
+						.isEqualTo(referenceTokenPrefixMatches(input, source));
+			}
+		}
+	}
+
+	@Test
+	void tiesResolveToTheFirstKeyInSourceOrder() {
+		Map<String, Long> source = new LinkedHashMap<>();
+		source.put("Ana Paula", 1L);
+		source.put("Ana Pauli", 2L);
+		source.put("ANA", 3L);
+		source.put("Âna", 4L);
+		NameMatchIndex<Long> index = new NameMatchIndex<>(source);
+
+		assertThat(index.findBestMatch("ana")).isEqualTo("ANA");
+		assertThat(index.findBestMatch("ana paul")).isEqualTo("Ana Paula");
+		assertThat(index.findBestMatch("na")).isEqualTo("ANA");
+		assertThat(index.findTokenPrefixMatches("an")).containsExactly("Ana Paula", "Ana Pauli", "ANA", "Âna");
+	}
+
+	private static Map<String, Long> randomKeys(Random random) {
+		Map<String, Long> source = new LinkedHashMap<>();
+		int size = random.nextInt(12);
+		for (int i = 0; i < size; i++) {
+			String key = randomWord(random);
+			if (random.nextBoolean()) {
+				key = key + " " + randomWord(random);
+			}
+			if (random.nextInt(4) == 0) {
+				key = key.toUpperCase();
+			}
+			source.put(key, (long) i);
+		}
+		return source;
+	}
+
+	private static String randomQuery(Random random, Map<String, Long> source) {
+		List<String> keys = new ArrayList<>(source.keySet());
+		if (keys.isEmpty() || random.nextInt(3) == 0) {
+			return randomWord(random);
+		}
+		String key = keys.get(random.nextInt(keys.size()));
+		int from = random.nextInt(key.length() + 1);
+		int to = from + random.nextInt(key.length() - from + 1);
+		String fragment = key.substring(from, to);
+		return random.nextBoolean() ? "  " + fragment + " " : fragment;
+	}
+
+	private static String randomWord(Random random) {
+		StringBuilder word = new StringBuilder();
+		int syllables = random.nextInt(4);
+		for (int i = 0; i < syllables; i++) {
+			word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+		}
+		return word.toString();
+	}
+
+	private static String referenceBestMatch(String input, Map<String, ?> cache) {
+		String normalizedInput = NameMatchIndex.normalize(input);
+		String exactMatch = cache.keySet().stream()
+				.filter(key -> NameMatchIndex.normalize(key).equals(normalizedInput))
+				.findFirst()
+				.orElse(null);
+		if (exactMatch != null) {
+			return exactMatch;
+		}
+		return cache.keySet().stream()
+				.filter(key -> {
+					String normalizedKey = NameMatchIndex.normalize(key);
+					return normalizedKey.contains(normalizedInput) || normalizedInput.contains(normalizedKey);
+				})
+				.min((a, b) -> Integer.compare(
+						levenshtein(normalizedInput, NameMatchIndex.normalize(a)),
+						levenshtein(normalizedInput, NameMatchIndex.normalize(b))))
+				.orElse(null);
+	}
+
+	private static List<String> referenceTokenPrefixMatches(String input, Map<String, ?> cache) {
+		String normalizedInput = NameMatchIndex.normalize(input);
+		return cache.keySet().stream()
+				.filter(key -> {
+					String normalizedKey = NameMatchIndex.normalize(key);
+					if (normalizedKey.equals(normalizedInput)) {
+						return true;
+					}
+					for (String part : normalizedKey.split("\\s+")) {
+						if (part.startsWith(normalizedInput)) {
+							return true;
+						}
+					}
+					return false;
+				})
+				.toList();
+	}
+
+	private static int levenshtein(String s1, String s2) {
+		int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+		for (int i = 0; i <= s1.length(); i++) {
+			dp[i][0] = i;
+		}
+		for (int j = 0; j <= s2.length(); j++) {
+			dp[0][j] = j;
+		}
+		for (int i = 1; i <= s1.length(); i++) {
+			for (int j = 1; j <= s2.length(); j++) {
+				if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
+					dp[i][j] = dp[i - 1][j - 1];
+				} else {
+					dp[i][j] = 1 + Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]);
+				}
+			}
+		}
+		return dp[s1.length()][s2.length()];
+	}
+}
@@ -0,0 +1,103 @@
+package com.meli.teamboardingBot.adapters.out.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceDataCacheTest {
+
+	private final ManualExecutor refreshes = new ManualExecutor();
+	private final ReferenceDataCache cache =
+			new ReferenceDataCache(new SimpleMeterRegistry(), 300, 0.0, 3600, 100, 300, refreshes);
+
+	@Test
+	void refreshAheadReplacesTheEntry() {
+		cache.get("/types", () -> "v1");
+
+		assertThat(cache.get("/types", () -> "v2")).isEqualTo("v1");
+		refreshes.runPending();
+
+		assertThat(cache.get("/types", () -> "v3")).isEqualTo("v2");
+	}
+
+	@Test
+	void onlyOneRefreshIsScheduledPerKey() {
+		cache.get("/types", () -> "v1");
+
+		cache.get("/types", () -> "v2");
+		cache.get("/types", () -> "v2");
+
+		assertThat(refreshes.tasks).hasSize(1);
+	}
+
+	@Test
+	void refreshInProgressIsDroppedAfterInvalidate() {
+		cache.get("/types", () -> "v1");
+		cache.get("/types", () -> "before-invalidate");
+
+		cache.invalidate("/types");
+		refreshes.runPending();
+
+		assertThat(cache.isFresh("/types")).isFalse();
+		assertThat(cache.get("/types", () -> "after-invalidate")).isEqualTo("after-invalidate");
+	}
+
+	@Test
+	void refreshInProgressDoesNotOverwriteNewerLoad() {
+		cache.get("/types", () -> "v1");
+		cache.get("/types", () -> "before-invalidate");
+
+		cache.invalidate("/types");
+		assertThat(cache.get("/types", () -> "reloaded")).isEqualTo("reloaded");
+		refreshes.runPending();
+
+		assertThat(cache.get("/types", () -> "ignored")).isEqualTo("reloaded");
+	}
+
+	private static final class ManualExecutor extends AbstractExecutorService {
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+
+		void runPending() {
+			Runnable task;
+			while ((task = tasks.poll()) != null) {
+				task.run();
+			}
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		@Override
+		public void shutdown() {
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return List.copyOf(tasks);
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.meli.teamboardingBot.adapters.out.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceDataDecoderTest {
+
+	private final ReferenceDataDecoder decoder = new ReferenceDataDecoder();
+
+	@Test
+	void decodesLogTypesIntoImmutableItems() {
+		List<ReferenceItem> types = decoder.decodeLogTypes("[{\"id\":1,\"name\":\"Onboarding\",\"extra\":{\"a\":1}},{\"id\":\"2\",\"name\":\"Offboarding\"}]");
+
+		assertThat(types).containsExactly(new ReferenceItem(1L, "Onboarding"), new ReferenceItem(2L, "Offboarding"));
+		assertThatThrownBy(() -> types.add(new ReferenceItem(3L, "x"))).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void nonArrayCategoriesDecodeToEmptyList() {
+		assertThat(decoder.decodeCategories("{\"error\":\"x\"}")).isEmpty();
+	}
+}
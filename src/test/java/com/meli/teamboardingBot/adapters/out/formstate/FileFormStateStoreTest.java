@@ -0,0 +1,189 @@
+package com.meli.teamboardingBot.adapters.out.formstate;
+
+import com.meli.teamboardingBot.adapters.out.session.UserSessionRegistry;
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileFormStateStoreTest {
+
+	private static final int MAGIC = 0x54424653;
+
+	@TempDir
+	Path directory;
+
+	private final List<FileFormStateStore> stores = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		stores.forEach(FileFormStateStore::destroy);
+	}
+
+	@Test
+	void replaysAppendedRecordsAfterRestart() {
+		FileFormStateStore first = open();
+		FormState state = FormStateCodecTest.sampleState(3);
+		first.putFormState(1L, FormStateCodecTest.sampleState(2));
+		first.putFormState(1L, state);
+		first.putFormState(2L, FormStateCodecTest.sampleState(1));
+		first.removeFormState(2L);
+		first.putBatchEntries(1L, List.of(entry("Core", 1), entry("Infra", 2)));
+		first.putBatchCurrentIndex(1L, 1);
+		first.putBatchEntries(3L, List.of(entry("Data", 1)));
+		first.removeBatch(3L);
+
+		FileFormStateStore second = open();
+
+		assertThat(second.getFormState(1L)).isEqualTo(state);
+		assertThat(second.getFormState(2L)).isNull();
+		assertThat(second.getBatchEntries(1L)).extracting(BatchLogEntry::getSquadName).containsExactly("Core", "Infra");
+		assertThat(second.getBatchCurrentIndex(1L)).isEqualTo(1);
+		assertThat(second.getBatchEntries(3L)).isNull();
+		assertThat(second.formStateUserIds()).containsExactly(1L);
+	}
+
+	@Test
+	void replaysVersionOneLog() throws IOException {
+		ByteArrayOutputStream v2 = new ByteArrayOutputStream();
+		FormStateCodec.writeFormState(new DataOutputStream(v2), FormStateCodecTest.sampleState(9));
+		byte[] legacyState = Arrays.copyOfRange(v2.toByteArray(), Long.BYTES, v2.size());
+
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(payload);
+		data.writeByte(1);
+		data.writeLong(7L);
+		data.write(legacyState);
+		writeLog(1, payload.toByteArray());
+
+		FileFormStateStore store = open();
+
+		FormState restored = store.getFormState(7L);
+		assertThat(restored).isNotNull();
+		assertThat(restored.version()).isZero();
+		assertThat(restored.userName()).isEqualTo("João Silva");
+	}
+
+	@Test
+	void replaysVersionTwoStringKeyedBatchRecords() throws IOException {
+		ByteArrayOutputStream batch = new ByteArrayOutputStream();
+		DataOutputStream batchData = new DataOutputStream(batch);
+		batchData.writeByte(3);
+		FormStateCodec.writeString(batchData, "7");
+		FormStateCodec.writeBatchEntries(batchData, List.of(entry("Core", 1)));
+
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		DataOutputStream indexData = new DataOutputStream(index);
+		indexData.writeByte(4);
+		FormStateCodec.writeString(indexData, "7");
+		FormStateCodec.writeVarInt(indexData, 0);
+		writeLog(2, batch.toByteArray(), index.toByteArray());
+
+		FileFormStateStore store = open();
+
+		assertThat(store.getBatchEntries(7L)).extracting(BatchLogEntry::getSquadName).containsExactly("Core");
+		assertThat(store.getBatchCurrentIndex(7L)).isZero();
+	}
+
+	@Test
+	void lateEvictionDoesNotDropStateWrittenAfterIt() {
+		FileFormStateStore first = open();
+		first.putFormState(1L, FormStateCodecTest.sampleState(4));
+		first.removeFormState(1L);
+		FormState recreated = FormStateCodecTest.sampleState(1);
+		first.putFormState(1L, recreated);
+		first.onFormStateEvicted(1L);
+		first.putBatchEntries(1L, List.of(entry("Core", 1)));
+		first.onBatchEvicted(1L);
+
+		FileFormStateStore second = open();
+
+		assertThat(second.getFormState(1L)).isEqualTo(recreated);
+		assertThat(second.getBatchEntries(1L)).extracting(BatchLogEntry::getSquadName).containsExactly("Core");
+	}
+
+	@Test
+	void sweptStatesStayRemovedAfterRestart() {
+		FileFormStateStore first = open();
+		first.putFormState(1L, FormStateCodecTest.sampleState(2));
+
+		assertThat(first.removeFormStatesIdleFor(Duration.ZERO)).isEqualTo(1);
+
+		assertThat(open().getFormState(1L)).isNull();
+	}
+
+	@Test
+	void restoresLatestStateAfterCompaction() throws IOException {
+		FileFormStateStore first = open();
+		for (int version = 1; version <= 50; version++) {
+			first.putFormState(1L, FormStateCodecTest.sampleState(version));
+		}
+		first.putBatchEntries(1L, List.of(entry("Core", 1)));
+		long beforeCompaction = Files.size(directory.resolve("formstate.log"));
+
+		first.compact();
+
+		assertThat(Files.size(directory.resolve("formstate.log"))).isLessThan(beforeCompaction);
+		first.putBatchCurrentIndex(1L, 0);
+		FileFormStateStore second = open();
+		assertThat(second.getFormState(1L).version()).isEqualTo(50);
+		assertThat(second.getBatchEntries(1L)).extracting(BatchLogEntry::getSquadName).containsExactly("Core");
+		assertThat(second.getBatchCurrentIndex(1L)).isZero();
+	}
+
+	@Test
+	void ignoresCorruptedTail() throws IOException {
+		FileFormStateStore first = open();
+		first.putFormState(1L, FormStateCodecTest.sampleState(1));
+		Files.write(directory.resolve("formstate.log"), new byte[] {0, 0, 0, 8, 1, 2, 3, 4, 9, 9}, StandardOpenOption.APPEND);
+
+		FileFormStateStore second = open();
+
+		assertThat(second.getFormState(1L)).isEqualTo(FormStateCodecTest.sampleState(1));
+	}
+
+	private FileFormStateStore open() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		UserSessionRegistry sessions = new UserSessionRegistry(meterRegistry, 3600, 1000, 1000, 30);
+		FileFormStateStore store = new FileFormStateStore(directory, 3600, meterRegistry, sessions);
+		store.start();
+		stores.add(store);
+		return store;
+	}
+
+	private void writeLog(int format, byte[]... payloads) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		out.writeInt(MAGIC);
+		out.writeByte(format);
+		for (byte[] payload : payloads) {
+			CRC32 crc = new CRC32();
+			crc.update(payload);
+			out.writeInt(payload.length);
+			out.writeInt((int) crc.getValue());
+			out.write(payload);
+		}
+		Files.write(directory.resolve("formstate.log"), buffer.toByteArray());
+	}
+
+	private static BatchLogEntry entry(String squad, int line) {
+		return new BatchLogEntry(squad, "Ana", "Pair", List.of("Java"), "desc", LocalDate.of(2025, 1, line), null, line);
+	}
+}
@@ -0,0 +1,110 @@
+package com.meli.teamboardingBot.adapters.out.formstate;
+
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.batch.BatchLogEntry;
+import com.meli.teamboardingBot.core.domain.enums.FormStep;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormStateCodecTest {
+
+	static FormState sampleState(long version) {
+		return new FormState(version, FormStep.SUMMARY, true, false, LocalDateTime.of(2025, 3, 10, 14, 30, 15, 123_000_000),
+				"12", "Squad Ágil", "34", "João Silva", "5", "Mentoria", List.of("7", "8"), List.of("Java", "Spring"),
+				"descrição com acentos ✓", "10-03-2025", null, 99L, "pt-BR", Locale.forLanguageTag("pt-BR"), 3, 200);
+	}
+
+	@Test
+	void formStateRoundTrip() throws IOException {
+		FormState state = sampleState(42);
+
+		FormState read = FormStateCodec.readFormState(input(write(state)), 2);
+
+		assertThat(read).isEqualTo(state);
+	}
+
+	@Test
+	void formStateWithNullsRoundTrip() throws IOException {
+		FormState state = new FormState(1, null, false, true, LocalDateTime.of(2025, 1, 1, 0, 0),
+				null, null, null, null, null, null, null, List.of(), null, null, null, null, null, null, 0, 0);
+
+		FormState read = FormStateCodec.readFormState(input(write(state)), 2);
+
+		assertThat(read).isEqualTo(state);
+		assertThat(read.categoryIds()).isEmpty();
+	}
+
+	@Test
+	void readsVersionOneRecordsWithoutVersionField() throws IOException {
+		byte[] current = write(sampleState(42));
+		byte[] legacy = Arrays.copyOfRange(current, Long.BYTES, current.length);
+
+		FormState read = FormStateCodec.readFormState(input(legacy), 1);
+
+		assertThat(read.version()).isZero();
+		assertThat(read.squadName()).isEqualTo("Squad Ágil");
+		assertThat(read.totalPages()).isEqualTo(200);
+	}
+
+	@Test
+	void batchEntriesRoundTrip() throws IOException {
+		BatchLogEntry full = new BatchLogEntry("Core", "Ana", "Pair", List.of("Java", "Kafka"), "desc",
+				LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 3), 4);
+		full.setSquadId(1L);
+		full.setUserId(2L);
+		full.setTypeId(3L);
+		full.setCategoryIds(List.of(10L, 11L));
+		full.addModifiedField("squad");
+		BatchLogEntry sparse = new BatchLogEntry();
+		sparse.setCategoryIds(List.of());
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		FormStateCodec.writeBatchEntries(new DataOutputStream(buffer), List.of(full, sparse, new BatchLogEntry()));
+		List<BatchLogEntry> read = FormStateCodec.readBatchEntries(input(buffer.toByteArray()));
+
+		assertThat(read).hasSize(3);
+		assertThat(read.get(0)).usingRecursiveComparison().isEqualTo(full);
+		assertThat(read.get(1).getCategoryIds()).isEmpty();
+		assertThat(read.get(1).getStartDate()).isNull();
+		assertThat(read.get(2).getCategoryIds()).isNull();
+		assertThat(read.get(2).getCategories()).isNull();
+	}
+
+	@Test
+	void varIntRoundTripAtByteBoundaries() throws IOException {
+		int[] values = {0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, Integer.MAX_VALUE, -1};
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		for (int value : values) {
+			FormStateCodec.writeVarInt(out, value);
+		}
+
+		DataInputStream in = input(buffer.toByteArray());
+		for (int value : values) {
+			assertThat(FormStateCodec.readVarInt(in)).isEqualTo(value);
+		}
+		assertThat(in.available()).isZero();
+	}
+
+	private static byte[] write(FormState state) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		FormStateCodec.writeFormState(new DataOutputStream(buffer), state);
+		return buffer.toByteArray();
+	}
+
+	private static DataInputStream input(byte[] bytes) {
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+}
@@ -0,0 +1,120 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+	@Test
+	void putGetRemoveTrackWeight() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 100, String::length, (key, value) -> { });
+
+		assertThat(cache.put("a", "xxx")).isNull();
+		assertThat(cache.put("a", "xxxxx")).isEqualTo("xxx");
+		cache.put("b", "yy");
+
+		assertThat(cache.get("a")).isEqualTo("xxxxx");
+		assertThat(cache.getWeight()).isEqualTo(7);
+		assertThat(cache.remove("a")).isEqualTo("xxxxx");
+		assertThat(cache.remove("a")).isNull();
+		assertThat(cache.getWeight()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.containsKey("b")).isTrue();
+	}
+
+	@Test
+	void evictsUnreferencedEntriesFirst() {
+		List<String> evicted = new ArrayList<>();
+		BoundedCache<String, Integer> cache = new BoundedCache<>("test", 3, value -> 1, (key, value) -> evicted.add(key));
+
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		cache.get("a");
+		cache.put("d", 4);
+
+		assertThat(evicted).containsExactly("b");
+		assertThat(cache.containsKey("a")).isTrue();
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.getEvictions()).isEqualTo(1);
+	}
+
+	@Test
+	void reweighsGrownValuesOnRead() {
+		List<String> evicted = new ArrayList<>();
+		BoundedCache<String, List<Integer>> cache = new BoundedCache<>("test", 5, List::size, (key, value) -> evicted.add(key));
+		List<Integer> growing = new ArrayList<>(List.of(1));
+		cache.put("growing", growing);
+		cache.put("other", List.of(1, 2));
+
+		growing.addAll(List.of(2, 3, 4));
+		cache.get("growing");
+
+		assertThat(evicted).containsExactly("other");
+		assertThat(cache.getWeight()).isEqualTo(4);
+	}
+
+	@Test
+	void purgesDeadNodesLeftByRemovals() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>("test", 1_000, value -> 1, (key, value) -> { });
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		for (int i = 0; i < 90; i++) {
+			cache.remove(i);
+		}
+		cache.put(1_000, 1_000);
+
+		assertThat(cache.deadNodeCount()).isLessThanOrEqualTo(cache.size());
+		assertThat(cache.queuedNodeCount()).isEqualTo(cache.size() + cache.deadNodeCount());
+	}
+
+	@Test
+	void deadNodeAccountingSurvivesConcurrentRemovalDuringEviction() throws Exception {
+		int threads = 8;
+		Map<Integer, AtomicInteger> evictedByKey = new ConcurrentHashMap<>();
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>("test", 16, value -> 1,
+				(key, value) -> evictedByKey.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int i = 0; i < 50_000; i++) {
+					int key = random.nextInt(32);
+					switch (random.nextInt(3)) {
+						case 0 -> cache.put(key, i);
+						case 1 -> cache.remove(key);
+						default -> cache.get(key);
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertThat(cache.queuedNodeCount()).isEqualTo(cache.size() + cache.deadNodeCount());
+		assertThat(cache.deadNodeCount()).isBetween(0, cache.size() + threads);
+		assertThat(cache.getWeight()).isEqualTo(cache.size());
+		assertThat(cache.size()).isLessThanOrEqualTo(16);
+	}
+}
@@ -0,0 +1,162 @@
+package com.meli.teamboardingBot.adapters.out.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentLongMapTest {
+
+	@Test
+	void computeIfAbsentCreatesOnceAndGetFindsValue() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>(0);
+		AtomicInteger created = new AtomicInteger();
+
+		String first = map.computeIfAbsent(42L, key -> "v" + created.incrementAndGet());
+		String second = map.computeIfAbsent(42L, key -> "v" + created.incrementAndGet());
+
+		assertThat(first).isEqualTo("v1");
+		assertThat(second).isSameAs(first);
+		assertThat(map.get(42L)).isSameAs(first);
+		assertThat(map.get(43L)).isNull();
+		assertThat(map.size()).isEqualTo(1);
+	}
+
+	@Test
+	void removeOnlyMatchesExpectedValue() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>(0);
+		String value = map.computeIfAbsent(7L, key -> "seven");
+
+		assertThat(map.remove(7L, new String("seven"))).isFalse();
+		assertThat(map.remove(8L, value)).isFalse();
+		assertThat(map.remove(7L, value)).isTrue();
+		assertThat(map.get(7L)).isNull();
+		assertThat(map.size()).isZero();
+	}
+
+	@Test
+	void rejectsZeroKey() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>(0);
+
+		assertThatThrownBy(() -> map.get(0L)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void growsPastInitialCapacity() {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(0);
+		for (long key = 1; key <= 20_000; key++) {
+			map.computeIfAbsent(key, Long::valueOf);
+		}
+
+		assertThat(map.size()).isEqualTo(20_000);
+		for (long key = 1; key <= 20_000; key++) {
+			assertThat(map.get(key)).isEqualTo(key);
+		}
+		List<Long> values = new ArrayList<>();
+		map.forEach(values::add);
+		assertThat(values).hasSize(20_000).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void backwardShiftDeleteKeepsProbeChainsReachable() {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(0);
+		Map<Long, Long> model = new HashMap<>();
+		Random random = new Random(20241018L);
+
+		for (int step = 0; step < 200_000; step++) {
+			long key = 1 + random.nextInt(2_000);
+			if (random.nextInt(3) == 0) {
+				Long current = map.get(key);
+				boolean removed = current != null && map.remove(key, current);
+				assertThat(removed).isEqualTo(model.remove(key) != null);
+			} else {
+				Long value = map.computeIfAbsent(key, Long::valueOf);
+				model.putIfAbsent(key, value);
+				assertThat(value).isSameAs(model.get(key));
+			}
+		}
+
+		assertThat(map.size()).isEqualTo(model.size());
+		for (long key = 1; key <= 2_000; key++) {
+			assertThat(map.get(key)).isEqualTo(model.get(key));
+		}
+	}
+
+	@Test
+	void optimisticReadsSeeEveryPublishedKeyDuringResizeAndRemoval() throws Exception {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(0);
+		int writers = 4;
+		int keysPerWriter = 25_000;
+		long stableKeys = 1_000;
+		for (long key = 1; key <= stableKeys; key++) {
+			map.computeIfAbsent(key, Long::valueOf);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(writers + 2);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> writes = new ArrayList<>();
+			for (int w = 0; w < writers; w++) {
+				long offset = stableKeys + 1 + (long) w * keysPerWriter;
+				writes.add(pool.submit(() -> {
+					start.await();
+					for (long key = offset; key < offset + keysPerWriter; key++) {
+						Long value = map.computeIfAbsent(key, Long::valueOf);
+						if (key % 2 == 0) {
+							map.remove(key, value);
+						}
+					}
+					return null;
+				}));
+			}
+			List<Future<Integer>> reads = new ArrayList<>();
+			for (int r = 0; r < 2; r++) {
+				reads.add(pool.submit(() -> {
+					start.await();
+					int misses = 0;
+					Random random = new Random();
+					while (writing.get()) {
+						long key = 1 + random.nextInt((int) stableKeys);
+						if (!Long.valueOf(key).equals(map.get(key))) {
+							misses++;
+						}
+					}
+					return misses;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> write : writes) {
+				write.get(30, TimeUnit.SECONDS);
+			}
+			writing.set(false);
+			for (Future<Integer> read : reads) {
+				assertThat(read.get(30, TimeUnit.SECONDS)).isZero();
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(map.size()).isEqualTo((int) stableKeys + writers * keysPerWriter / 2);
+		for (int w = 0; w < writers; w++) {
+			long offset = stableKeys + 1 + (long) w * keysPerWriter;
+			for (long key = offset; key < offset + keysPerWriter; key++) {
+				assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : key);
+			}
+		}
+	}
+}
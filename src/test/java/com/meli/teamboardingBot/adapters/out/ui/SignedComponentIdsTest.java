@@ -0,0 +1,103 @@
+package com.meli.teamboardingBot.adapters.out.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SignedComponentIdsTest {
+
+	private static final long USER = 123456789012345678L;
+
+	private final SignedComponentIds ids = new SignedComponentIds("test-secret");
+
+	@Test
+	void roundTripsBaseAndValues() {
+		String id = ids.sign("avancar", USER, 3, "pt-BR");
+
+		SignedComponentIds.Decoded decoded = ids.verify(id, USER);
+
+		assertThat(id).startsWith(SignedComponentIds.prefix("avancar"));
+		assertThat(SignedComponentIds.baseOf(id)).isEqualTo("avancar");
+		assertThat(decoded.base()).isEqualTo("avancar");
+		assertThat(decoded.intValue(0)).isEqualTo(3);
+		assertThat(decoded.value(1)).isEqualTo("pt-BR");
+	}
+
+	@Test
+	void roundTripsEmptyAndSeparatorLikeValues() {
+		assertThat(ids.verify(ids.sign("batch-next", USER), USER).values()).isEmpty();
+		assertThat(ids.verify(ids.sign("user-select", USER, "a:b", ""), USER).values()).containsExactly("a:b", "");
+	}
+
+	@Test
+	void isStableAcrossInstancesWithTheSameSecret() {
+		String id = ids.sign("voltar", USER, 2);
+
+		assertThat(new SignedComponentIds("test-secret").verify(id, USER)).isNotNull();
+		assertThat(new SignedComponentIds("other-secret").verify(id, USER)).isNull();
+	}
+
+	@Test
+	void rejectsAnotherUser() {
+		String id = ids.sign("voltar", USER, 2);
+
+		assertThat(ids.verify(id, USER + 1)).isNull();
+	}
+
+	@Test
+	void rejectsTamperedMacPayloadAndBase() {
+		String id = ids.sign("avancar", USER, 3);
+		String[] parts = id.split(":");
+
+		String otherPayload = ids.sign("avancar", USER, 4).split(":")[2];
+		String flippedMac = parts[3].substring(0, parts[3].length() - 1)
+				+ (parts[3].endsWith("A") ? "B" : "A");
+
+		assertThat(ids.verify(String.join(":", parts[0], parts[1], parts[2], flippedMac), USER)).isNull();
+		assertThat(ids.verify(String.join(":", parts[0], parts[1], otherPayload, parts[3]), USER)).isNull();
+		assertThat(ids.verify(String.join(":", "voltar", parts[1], parts[2], parts[3]), USER)).isNull();
+		assertThat(ids.verify(String.join(":", parts[0], "2", parts[2], parts[3]), USER)).isNull();
+	}
+
+	@Test
+	void rejectsMalformedIds() {
+		assertThat(ids.verify("avancar", USER)).isNull();
+		assertThat(ids.verify("avancar:1:Mw", USER)).isNull();
+		assertThat(ids.verify("avancar:1:Mw:***", USER)).isNull();
+		assertThat(ids.verify("avancar:1:Mw:abc:extra", USER)).isNull();
+	}
+
+	@Test
+	void enforcesDiscordLengthLimit() {
+		String id = ids.sign("x", USER, "v".repeat(40));
+		assertThat(id.length()).isLessThanOrEqualTo(SignedComponentIds.MAX_LENGTH);
+
+		assertThatThrownBy(() -> ids.sign("x", USER, "v".repeat(80)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining(String.valueOf(SignedComponentIds.MAX_LENGTH));
+	}
+
+	@Test
+	void signsConsistentlyFromManyThreads() throws Exception {
+		String expected = ids.sign("avancar", USER, 7);
+		ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				results.add(pool.submit(() -> expected.equals(ids.sign("avancar", USER, 7)) && ids.verify(expected, USER) != null));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
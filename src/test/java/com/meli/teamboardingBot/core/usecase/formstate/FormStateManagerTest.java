@@ -0,0 +1,141 @@
+package com.meli.teamboardingBot.core.usecase.formstate;
+
+import com.meli.teamboardingBot.adapters.out.formstate.InMemoryFormStateStore;
+import com.meli.teamboardingBot.adapters.out.session.UserSessionRegistry;
+import com.meli.teamboardingBot.core.domain.FormDraft;
+import com.meli.teamboardingBot.core.domain.FormState;
+import com.meli.teamboardingBot.core.domain.enums.FormStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormStateManagerTest {
+
+	private static final Long USER = 1L;
+
+	private InMemoryFormStateStore store;
+	private FormStateManager manager;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryFormStateStore(new UserSessionRegistry(new SimpleMeterRegistry(), 3600, 100, 100, 30));
+		store.start();
+		manager = new FormStateManager(store, Duration.ofHours(2));
+	}
+
+	@Test
+	void commitDoesNotRecreateStateDeletedMidInteraction() {
+		FormDraft draft = manager.getOrCreateState(USER, Locale.ROOT).edit();
+		draft.setSquadId("12");
+		manager.deleteState(USER);
+
+		assertThat(manager.commit(USER, draft)).isNull();
+		assertThat(manager.getState(USER)).isNull();
+	}
+
+	@Test
+	void commitRecreatesDeletedStateWhenAsked() {
+		FormDraft draft = manager.getOrCreateState(USER, Locale.ROOT).edit();
+		draft.setStep(FormStep.SQUAD_SELECTION);
+		manager.deleteState(USER);
+
+		FormState committed = manager.commit(USER, draft, true);
+
+		assertThat(committed).isNotNull();
+		assertThat(manager.getState(USER)).isSameAs(committed);
+		assertThat(committed.step()).isEqualTo(FormStep.SQUAD_SELECTION);
+	}
+
+	@Test
+	void commitRebasesOntoConcurrentWriter() {
+		FormState base = manager.getOrCreateState(USER, Locale.ROOT);
+		FormDraft mine = base.edit();
+		mine.setSquadId("12");
+		manager.update(USER, other -> other.setTypeId("5"));
+
+		FormState committed = manager.commit(USER, mine);
+
+		assertThat(committed.squadId()).isEqualTo("12");
+		assertThat(committed.typeId()).isEqualTo("5");
+		assertThat(committed.version()).isEqualTo(base.version() + 2);
+	}
+
+	@Test
+	void updateDoesNotRecreateDeletedState() {
+		manager.getOrCreateState(USER, Locale.ROOT);
+		manager.deleteState(USER);
+
+		assertThat(manager.update(USER, draft -> draft.setSquadId("12"))).isNull();
+		assertThat(manager.getState(USER)).isNull();
+	}
+
+	@Test
+	void cleanCommitDoesNotWrite() {
+		FormState base = manager.getOrCreateState(USER, Locale.ROOT);
+		manager.update(USER, other -> other.setTypeId("5"));
+		FormState latest = manager.getState(USER);
+		FormDraft draft = base.edit();
+
+		assertThat(manager.commit(USER, draft)).isSameAs(latest);
+		assertThat(manager.getState(USER)).isSameAs(latest);
+		assertThat(draft.getBase()).isSameAs(latest);
+	}
+
+	@Test
+	void cleanCommitStillRecreatesDeletedStateWhenAsked() {
+		FormDraft draft = manager.getOrCreateState(USER, Locale.ROOT).edit();
+		manager.deleteState(USER);
+
+		assertThat(manager.commit(USER, draft)).isNull();
+		assertThat(manager.commit(USER, draft, true)).isNotNull();
+		assertThat(manager.getState(USER)).isNotNull();
+	}
+
+	@Test
+	void noOpUpdateDoesNotWrite() {
+		FormState current = manager.getOrCreateState(USER, Locale.ROOT);
+
+		assertThat(manager.update(USER, draft -> draft.setSquadId(current.squadId()))).isSameAs(current);
+		assertThat(manager.getState(USER)).isSameAs(current);
+	}
+
+	@Test
+	void startupHookDiscardsStatesPersistedBeforeTheTtl() {
+		FormState stale = new FormState(1, FormStep.INITIAL, false, false, LocalDateTime.now().minusHours(3),
+				null, null, null, null, null, null, List.of(), List.of(), null, null, null, null, null, null, 1, 1);
+		store.putFormState(USER, stale);
+
+		FormStateManager fresh = new FormStateManager(store, Duration.ofHours(2));
+
+		assertThat(store.getFormState(USER)).isSameAs(stale);
+		fresh.discardStatesExpiredBeforeStartup();
+		assertThat(store.getFormState(USER)).isNull();
+	}
+
+	@Test
+	void readsDoNotExpireStatesOnTheWallClock() {
+		FormState stale = new FormState(1, FormStep.INITIAL, false, false, LocalDateTime.now().minusHours(3),
+				null, null, null, null, null, null, List.of(), List.of(), null, null, null, null, null, null, 1, 1);
+		store.putFormState(USER, stale);
+
+		assertThat(manager.getState(USER)).isSameAs(stale);
+		assertThat(manager.cleanExpiredStates()).isZero();
+		assertThat(manager.getState(USER)).isSameAs(stale);
+	}
+
+	@Test
+	void sweepRemovesStatesIdleOnTheMonotonicClock() {
+		manager.getOrCreateState(USER, Locale.ROOT);
+		FormStateManager immediate = new FormStateManager(store, Duration.ZERO);
+
+		assertThat(immediate.cleanExpiredStates()).isEqualTo(1);
+		assertThat(manager.getState(USER)).isNull();
+	}
+}